@@ -0,0 +1,84 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * An annotation processor that generates a codec for each class annotated with
+ * {@link org.bson.codecs.pojo.annotations.BsonGeneratedCodec}.
+ *
+ * <p>The processor is registered as a service, so it runs whenever the {@code bson-codec-processor} artifact is on the annotation
+ * processor path of the compiler.  Classes that it cannot generate a codec for are reported as compile errors.</p>
+ *
+ * @since 5.2
+ */
+@SupportedAnnotationTypes("org.bson.codecs.pojo.annotations.BsonGeneratedCodec")
+public final class BsonCodecProcessor extends AbstractProcessor {
+
+    /**
+     * Construct a new instance
+     */
+    public BsonCodecProcessor() {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                try {
+                    generateCodec(PojoDescriptor.describe((TypeElement) element, processingEnv.getElementUtils(),
+                            processingEnv.getTypeUtils()));
+                } catch (InvalidPojoException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            format("Cannot generate a codec for '%s': %s", element, e.getMessage()), e.getElement());
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generateCodec(final PojoDescriptor descriptor) {
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(descriptor.getCodecQualifiedName(),
+                    descriptor.getType());
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(new CodecSourceWriter(descriptor).write());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    format("Cannot write the codec for '%s': %s", descriptor.getType(), e.getMessage()), descriptor.getType());
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the source of the codec for a POJO.
+ *
+ * <p>The codec looks up the codec of each property once, when it is constructed, and then accesses the properties through direct getter,
+ * setter and field calls.  It encodes and decodes exactly as {@code PojoCodecImpl} does with the default conventions: the id property
+ * is encoded first, null properties are not encoded, and unknown fields are skipped when decoding.  All the names in the source are
+ * fully qualified, so that they cannot clash with the names of the package of the POJO.</p>
+ */
+final class CodecSourceWriter {
+    private static final String CODEC = "org.bson.codecs.Codec";
+    private static final String CODEC_CONFIGURATION_EXCEPTION = "org.bson.codecs.configuration.CodecConfigurationException";
+
+    private final PojoDescriptor descriptor;
+    private final String typeName;
+    private final String simpleName;
+    private final StringBuilder builder = new StringBuilder();
+
+    CodecSourceWriter(final PojoDescriptor descriptor) {
+        this.descriptor = descriptor;
+        this.typeName = descriptor.getType().getQualifiedName().toString();
+        this.simpleName = descriptor.getType().getSimpleName().toString();
+    }
+
+    String write() {
+        line(0, "// Generated by %s, do not edit.", BsonCodecProcessor.class.getName());
+        if (!descriptor.getPackageName().isEmpty()) {
+            line(0, "package %s;", descriptor.getPackageName());
+            line(0, "");
+        }
+        line(0, "public final class %s implements %s<%s> {", descriptor.getCodecSimpleName(), CODEC, typeName);
+        writeFields();
+        writeConstructor();
+        writeEncode();
+        writeDecode();
+        writeMethods();
+        line(0, "}");
+        return builder.toString();
+    }
+
+    private void writeFields() {
+        for (PropertyDescriptor property : descriptor.getProperties()) {
+            if (property.isReadable() && hasEncodedName(property)) {
+                line(1, "private static final org.bson.BsonName %s = new org.bson.BsonName(%s);", nameField(property),
+                        literal(property.getReadName()));
+            }
+        }
+        line(1, "private final org.bson.codecs.configuration.CodecRegistry registry;");
+        for (PropertyDescriptor property : descriptor.getProperties()) {
+            if (property.isReadable() || property.isWritable()) {
+                line(1, "private final %s<%s> %s;", CODEC, boxedName(property.getType()), codecField(property));
+            }
+        }
+        line(0, "");
+    }
+
+    private void writeConstructor() {
+        line(1, "@SuppressWarnings(\"unchecked\")");
+        line(1, "public %s(final org.bson.codecs.configuration.CodecRegistry registry) {", descriptor.getCodecSimpleName());
+        line(2, "this.registry = registry;");
+        for (PropertyDescriptor property : descriptor.getProperties()) {
+            if (!property.isReadable() && !property.isWritable()) {
+                continue;
+            }
+            TypeMirror type = property.getType();
+            List<? extends TypeMirror> typeArguments = type instanceof DeclaredType
+                    ? ((DeclaredType) type).getTypeArguments() : Collections.<TypeMirror>emptyList();
+            if (typeArguments.isEmpty()) {
+                line(2, "this.%s = registry.get(%s);", codecField(property), classLiteral(type));
+            } else {
+                StringBuilder classLiterals = new StringBuilder();
+                for (TypeMirror typeArgument : typeArguments) {
+                    classLiterals.append(classLiterals.length() == 0 ? "" : ", ").append(classLiteral(typeArgument));
+                }
+                line(2, "this.%s = (%s<%s>) (%s<?>) registry.get(%s,", codecField(property), CODEC, sourceName(type), CODEC,
+                        classLiteral(type));
+                line(4, "java.util.Arrays.<java.lang.reflect.Type>asList(%s));", classLiterals);
+            }
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeEncode() {
+        PropertyDescriptor idProperty = descriptor.getIdProperty();
+        line(1, "@Override");
+        line(1, "@SuppressWarnings(\"unchecked\")");
+        line(1, "public void encode(final org.bson.BsonWriter writer, final %s value,", typeName);
+        line(3, "final org.bson.codecs.EncoderContext encoderContext) {");
+        line(2, "if (value.getClass() != %s.class) {", typeName);
+        line(3, "((%s<%s>) registry.get(value.getClass())).encode(writer, value, encoderContext);", CODEC, typeName);
+        line(3, "return;");
+        line(2, "}");
+        line(2, "writer.writeStartDocument();");
+        if (idProperty != null && idProperty.isReadable()) {
+            writeEncodeProperty(idProperty);
+        }
+        for (PropertyDescriptor property : descriptor.getProperties()) {
+            if (property != idProperty && property.isReadable()) {
+                writeEncodeProperty(property);
+            }
+        }
+        line(2, "writer.writeEndDocument();");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeEncodeProperty(final PropertyDescriptor property) {
+        boolean primitive = property.getType().getKind().isPrimitive();
+        line(2, "try {");
+        line(3, "%s propertyValue = %s;", sourceName(property.getType()), readExpression(property));
+        if (property == descriptor.getIdProperty() && isGeneratedId(property)) {
+            line(3, "if (propertyValue == null && encoderContext.isEncodingCollectibleDocument()) {");
+            line(4, "propertyValue = new %s();", sourceName(property.getType()));
+            if (property.isDeserializable()) {
+                line(4, "%s;", writeStatement(property, "value", "propertyValue"));
+            }
+            line(3, "}");
+        }
+        int indent = 3;
+        if (!primitive) {
+            line(indent++, "if (propertyValue != null) {");
+        }
+        line(indent, "writer.writeName(%s);", hasEncodedName(property) ? nameField(property) : literal(property.getReadName()));
+        line(indent, "encoderContext.encodeWithChildContext(%s, writer, propertyValue);", codecField(property));
+        if (!primitive) {
+            line(3, "}");
+        }
+        line(2, "} catch (%s e) {", CODEC_CONFIGURATION_EXCEPTION);
+        line(3, "throw failure(\"encode\", %s, e);", literal(property.getReadName()));
+        line(2, "}");
+    }
+
+    private void writeDecode() {
+        line(1, "@Override");
+        line(1, "public %s decode(final org.bson.BsonReader reader, final org.bson.codecs.DecoderContext decoderContext) {", typeName);
+        line(2, "%s instance = new %s();", typeName, typeName);
+        line(2, "reader.readStartDocument();");
+        line(2, "while (reader.readBsonType() != org.bson.BsonType.END_OF_DOCUMENT) {");
+        line(3, "switch (reader.readName()) {");
+        for (PropertyDescriptor property : descriptor.getProperties()) {
+            if (!property.isWritable()) {
+                continue;
+            }
+            line(4, "case %s:", literal(property.getWriteName()));
+            line(5, "try {");
+            line(6, "if (reader.getCurrentBsonType() == org.bson.BsonType.NULL) {");
+            line(7, "reader.readNull();");
+            if (property.getType().getKind().isPrimitive()) {
+                line(7, "throw new %s(\"A null value cannot be set to a primitive property\");", CODEC_CONFIGURATION_EXCEPTION);
+            } else {
+                line(7, "%s;", writeStatement(property, "instance", "null"));
+            }
+            line(6, "} else {");
+            line(7, "%s;", writeStatement(property, "instance",
+                    format("decoderContext.decodeWithChildContext(%s, reader)", codecField(property))));
+            line(6, "}");
+            line(5, "} catch (org.bson.BsonInvalidOperationException | %s e) {", CODEC_CONFIGURATION_EXCEPTION);
+            line(6, "throw failure(\"decode\", %s, e);", literal(property.getName()));
+            line(5, "}");
+            line(5, "break;");
+        }
+        line(4, "default:");
+        line(5, "reader.skipValue();");
+        line(3, "}");
+        line(2, "}");
+        line(2, "reader.readEndDocument();");
+        line(2, "return instance;");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeMethods() {
+        line(1, "@Override");
+        line(1, "public java.lang.Class<%s> getEncoderClass() {", typeName);
+        line(2, "return %s.class;", typeName);
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public java.lang.String toString() {");
+        line(2, "return %s;", literal(format("GeneratedCodec<%s>", simpleName)));
+        line(1, "}");
+        line(0, "");
+        line(1, "private static %s failure(final java.lang.String operation, final java.lang.String propertyName,",
+                CODEC_CONFIGURATION_EXCEPTION);
+        line(3, "final java.lang.RuntimeException e) {");
+        line(2, "return new %s(java.lang.String.format(\"Failed to %%s '%%s'. %%s '%%s' errored with: %%s\", operation, %s,",
+                CODEC_CONFIGURATION_EXCEPTION, literal(simpleName));
+        line(4, "operation.equals(\"encode\") ? \"Encoding\" : \"Decoding\", propertyName, e.getMessage()), e);");
+        line(1, "}");
+    }
+
+    private static boolean isGeneratedId(final PropertyDescriptor property) {
+        String name = sourceName(property.getType());
+        return name.equals("org.bson.types.ObjectId") || name.equals("org.bson.BsonObjectId");
+    }
+
+    private static String readExpression(final PropertyDescriptor property) {
+        return property.getGetter() != null
+                ? format("value.%s()", property.getGetter().getSimpleName())
+                : format("value.%s", property.getName());
+    }
+
+    private static String writeStatement(final PropertyDescriptor property, final String target, final String expression) {
+        return property.getSetter() != null
+                ? format("%s.%s(%s)", target, property.getSetter().getSimpleName(), expression)
+                : format("%s.%s = %s", target, property.getName(), expression);
+    }
+
+    private static String codecField(final PropertyDescriptor property) {
+        return property.getName() + "Codec";
+    }
+
+    private static String nameField(final PropertyDescriptor property) {
+        return property.getName() + "Name";
+    }
+
+    /**
+     * Returns whether the name of the property is written from a {@code BsonName} constant.  A name that contains a null character can
+     * not be encoded, and is written as a string so that encoding fails as it does for the reflective codec.
+     */
+    private static boolean hasEncodedName(final PropertyDescriptor property) {
+        return property.getReadName().indexOf('\0') < 0;
+    }
+
+    private static String classLiteral(final TypeMirror type) {
+        if (type instanceof DeclaredType) {
+            return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName() + ".class";
+        }
+        return boxedName(type) + ".class";
+    }
+
+    private static String boxedName(final TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "java.lang.Boolean";
+            case BYTE:
+                return "java.lang.Byte";
+            case SHORT:
+                return "java.lang.Short";
+            case INT:
+                return "java.lang.Integer";
+            case LONG:
+                return "java.lang.Long";
+            case CHAR:
+                return "java.lang.Character";
+            case FLOAT:
+                return "java.lang.Float";
+            case DOUBLE:
+                return "java.lang.Double";
+            default:
+                return sourceName(type);
+        }
+    }
+
+    /**
+     * Returns the name of a type as it is written in source, without any type annotations.
+     */
+    private static String sourceName(final TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return sourceName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                StringBuilder name = new StringBuilder(((TypeElement) declaredType.asElement()).getQualifiedName());
+                List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+                for (int i = 0; i < typeArguments.size(); i++) {
+                    name.append(i == 0 ? "<" : ", ").append(sourceName(typeArguments.get(i)));
+                }
+                return typeArguments.isEmpty() ? name.toString() : name.append('>').toString();
+            default:
+                return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static String literal(final String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < ' ' || c > '~') {
+                literal.append(format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void line(final int indent, final String format, final Object... args) {
+        for (int i = 0; i < indent; i++) {
+            builder.append("    ");
+        }
+        builder.append(format(format, args)).append('\n');
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Signals that a codec cannot be generated for a class, and the element to report the error on.
+ */
+final class InvalidPojoException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Element element;
+
+    InvalidPojoException(final String message, final Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    Element getElement() {
+        return element;
+    }
+}
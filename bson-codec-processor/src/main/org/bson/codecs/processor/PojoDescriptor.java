@@ -0,0 +1,412 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import org.bson.codecs.pojo.annotations.BsonCreator;
+import org.bson.codecs.pojo.annotations.BsonDiscriminator;
+import org.bson.codecs.pojo.annotations.BsonExtraElements;
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.codecs.pojo.annotations.BsonIgnore;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.codecs.pojo.annotations.BsonRepresentation;
+
+import javax.annotation.Nullable;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.lang.String.format;
+
+/**
+ * The properties of a POJO annotated with {@code BsonGeneratedCodec}, mapped as the default conventions map them at runtime: properties
+ * are sorted by name, a property named {@code _id} or {@code id} or annotated with {@code BsonId} is the id, and {@code BsonProperty} and
+ * {@code BsonIgnore} rename and ignore properties.
+ */
+final class PojoDescriptor {
+    private static final String ID_PROPERTY_NAME = "_id";
+
+    private final TypeElement type;
+    private final String packageName;
+    private final String codecSimpleName;
+    private final List<PropertyDescriptor> properties;
+    @Nullable
+    private final PropertyDescriptor idProperty;
+
+    private PojoDescriptor(final TypeElement type, final String packageName, final String codecSimpleName,
+                           final List<PropertyDescriptor> properties, @Nullable final PropertyDescriptor idProperty) {
+        this.type = type;
+        this.packageName = packageName;
+        this.codecSimpleName = codecSimpleName;
+        this.properties = properties;
+        this.idProperty = idProperty;
+    }
+
+    /**
+     * Describes the given class.
+     *
+     * @throws InvalidPojoException if a codec cannot be generated for the class
+     */
+    static PojoDescriptor describe(final TypeElement type, final Elements elements, final Types types) {
+        validateClass(type);
+        Map<String, PropertyDescriptor> propertiesByName = new HashMap<>();
+        Set<String> propertyNames = new TreeSet<>();
+        TypeElement currentType = type;
+        while (currentType != null && !currentType.getQualifiedName().contentEquals(Object.class.getName())) {
+            if (getAnnotation(currentType, BsonDiscriminator.class) != null) {
+                throw new InvalidPojoException("Classes with a discriminator are not supported", currentType);
+            }
+            addProperties(currentType, propertiesByName, propertyNames, types);
+            currentType = currentType.getSuperclass().getKind() == TypeKind.DECLARED
+                    ? (TypeElement) types.asElement(currentType.getSuperclass()) : null;
+        }
+
+        List<PropertyDescriptor> properties = new ArrayList<>();
+        for (String propertyName : propertyNames) {
+            PropertyDescriptor property = propertiesByName.get(propertyName);
+            if (property.isSerializable() || property.isDeserializable()) {
+                properties.add(property);
+            }
+        }
+        PropertyDescriptor idProperty = applyConventions(properties);
+        validateProperties(type, properties, types);
+
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        return new PojoDescriptor(type, packageName, getCodecSimpleName(type), properties, idProperty);
+    }
+
+    TypeElement getType() {
+        return type;
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getCodecSimpleName() {
+        return codecSimpleName;
+    }
+
+    String getCodecQualifiedName() {
+        return packageName.isEmpty() ? codecSimpleName : packageName + "." + codecSimpleName;
+    }
+
+    List<PropertyDescriptor> getProperties() {
+        return properties;
+    }
+
+    @Nullable
+    PropertyDescriptor getIdProperty() {
+        return idProperty;
+    }
+
+    private static void validateClass(final TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new InvalidPojoException("Only concrete classes are supported", type);
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidPojoException("Classes with type parameters are not supported", type);
+        }
+        Element element = type;
+        while (element.getKind() != ElementKind.PACKAGE) {
+            TypeElement typeElement = (TypeElement) element;
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)
+                    || (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC))
+                    || typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                throw new InvalidPojoException("The class must be accessible from the other classes of its package", type);
+            }
+            element = element.getEnclosingElement();
+        }
+        boolean hasNoArgsConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (getAnnotation(constructor, BsonCreator.class) != null) {
+                throw new InvalidPojoException("Classes with a @BsonCreator are not supported", constructor);
+            }
+            if (constructor.getParameters().isEmpty() && (constructor.getModifiers().contains(Modifier.PUBLIC)
+                    || constructor.getModifiers().contains(Modifier.PROTECTED))) {
+                hasNoArgsConstructor = true;
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (getAnnotation(method, BsonCreator.class) != null) {
+                throw new InvalidPojoException("Classes with a @BsonCreator are not supported", method);
+            }
+        }
+        if (!hasNoArgsConstructor) {
+            throw new InvalidPojoException("The class must have a public or protected constructor without parameters", type);
+        }
+    }
+
+    private static void addProperties(final TypeElement currentType, final Map<String, PropertyDescriptor> propertiesByName,
+                                      final Set<String> propertyNames, final Types types) {
+        List<ExecutableElement> getters = new ArrayList<>();
+        List<ExecutableElement> setters = new ArrayList<>();
+        for (TypeMirror interfaceType : currentType.getInterfaces()) {
+            for (ExecutableElement method : ElementFilter.methodsIn(types.asElement(interfaceType).getEnclosedElements())) {
+                if (method.getModifiers().contains(Modifier.DEFAULT)) {
+                    addPropertyMethod(method, getters, setters);
+                }
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(currentType.getEnclosedElements())) {
+            addPropertyMethod(method, getters, setters);
+        }
+
+        // as at runtime, setters are processed before getters and getters of subclasses take precedence over overridden getters
+        for (ExecutableElement setter : setters) {
+            String propertyName = toPropertyName(setter);
+            propertyNames.add(propertyName);
+            PropertyDescriptor property = getOrCreateProperty(propertyName, setter.getParameters().get(0).asType(), setter,
+                    propertiesByName, types);
+            if (property.getSetter() == null) {
+                property.setSetter(setter);
+            }
+        }
+        for (ExecutableElement getter : getters) {
+            String propertyName = toPropertyName(getter);
+            propertyNames.add(propertyName);
+            PropertyDescriptor property = propertiesByName.get(propertyName);
+            if (property != null && property.getGetter() != null) {
+                continue;
+            }
+            property = getOrCreateProperty(propertyName, getter.getReturnType(), getter, propertiesByName, types);
+            if (property.getGetter() == null) {
+                property.setGetter(getter);
+            }
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+            String propertyName = field.getSimpleName().toString();
+            propertyNames.add(propertyName);
+            PropertyDescriptor property = propertiesByName.get(propertyName);
+            if (property == null) {
+                property = new PropertyDescriptor(propertyName, field.asType());
+                propertiesByName.put(propertyName, property);
+            } else if (!types.isSameType(property.getType(), field.asType())) {
+                // as at runtime, a field of another type is an implementation detail of the property
+                continue;
+            }
+            if (property.getField() == null) {
+                property.setField(field);
+            }
+        }
+    }
+
+    private static void addPropertyMethod(final ExecutableElement method, final List<ExecutableElement> getters,
+                                          final List<ExecutableElement> setters) {
+        Set<Modifier> modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+            return;
+        }
+        String name = method.getSimpleName().toString();
+        if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID
+                && (hasPropertyPrefix(name, "get") || hasPropertyPrefix(name, "is"))) {
+            getters.add(method);
+        } else if (method.getParameters().size() == 1 && hasPropertyPrefix(name, "set")) {
+            setters.add(method);
+        }
+    }
+
+    private static boolean hasPropertyPrefix(final String name, final String prefix) {
+        return name.startsWith(prefix) && name.length() > prefix.length() && Character.isUpperCase(name.charAt(prefix.length()));
+    }
+
+    private static String toPropertyName(final ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        String propertyName = name.substring(name.startsWith("is") ? 2 : 3);
+        return Character.toLowerCase(propertyName.charAt(0)) + propertyName.substring(1);
+    }
+
+    private static PropertyDescriptor getOrCreateProperty(final String propertyName, final TypeMirror type, final Element element,
+                                                          final Map<String, PropertyDescriptor> propertiesByName, final Types types) {
+        PropertyDescriptor property = propertiesByName.get(propertyName);
+        if (property == null) {
+            property = new PropertyDescriptor(propertyName, type);
+            propertiesByName.put(propertyName, property);
+        } else if (!types.isSameType(property.getType(), type)) {
+            throw new InvalidPojoException(format("Property '%s' has differing types: %s and %s", propertyName, property.getType(), type),
+                    element);
+        }
+        return property;
+    }
+
+    /**
+     * Applies the annotation convention and returns the id property, as {@code ConventionDefaultsImpl} and {@code ConventionAnnotationImpl}
+     * do at runtime.
+     */
+    @Nullable
+    private static PropertyDescriptor applyConventions(final List<PropertyDescriptor> properties) {
+        String idPropertyName = null;
+        for (PropertyDescriptor property : properties) {
+            if (idPropertyName == null && (property.getName().equals("_id") || property.getName().equals("id"))) {
+                idPropertyName = property.getName();
+            }
+        }
+        for (PropertyDescriptor property : properties) {
+            for (AnnotationMirror annotation : property.getReadAnnotations()) {
+                if (isAnnotation(annotation, BsonProperty.class)) {
+                    String value = (String) getAnnotationValue(annotation, "value");
+                    if (!value.isEmpty()) {
+                        property.setReadName(value);
+                    }
+                    if ((Boolean) getAnnotationValue(annotation, "useDiscriminator")) {
+                        throw new InvalidPojoException("Properties that use a discriminator are not supported", property.getGetter() != null
+                                ? property.getGetter() : property.getField());
+                    }
+                    if (property.getName().equals(idPropertyName)) {
+                        idPropertyName = null;
+                    }
+                } else if (isAnnotation(annotation, BsonId.class)) {
+                    idPropertyName = property.getName();
+                } else if (isAnnotation(annotation, BsonIgnore.class)) {
+                    property.setReadName(null);
+                } else if (isAnnotation(annotation, BsonRepresentation.class) || isAnnotation(annotation, BsonExtraElements.class)) {
+                    throw new InvalidPojoException(format("Properties annotated with @%s are not supported",
+                            annotation.getAnnotationType().asElement().getSimpleName()), annotation.getAnnotationType().asElement());
+                }
+            }
+            for (AnnotationMirror annotation : property.getWriteAnnotations()) {
+                if (isAnnotation(annotation, BsonProperty.class)) {
+                    String value = (String) getAnnotationValue(annotation, "value");
+                    if (!value.isEmpty()) {
+                        property.setWriteName(value);
+                    }
+                } else if (isAnnotation(annotation, BsonIgnore.class)) {
+                    property.setWriteName(null);
+                }
+            }
+        }
+        PropertyDescriptor idProperty = null;
+        for (PropertyDescriptor property : properties) {
+            if (property.getName().equals(idPropertyName)) {
+                property.setReadName(ID_PROPERTY_NAME);
+                property.setWriteName(ID_PROPERTY_NAME);
+                idProperty = property;
+            }
+        }
+        return idProperty;
+    }
+
+    private static void validateProperties(final TypeElement type, final List<PropertyDescriptor> properties, final Types types) {
+        Set<String> readNames = new HashSet<>();
+        Set<String> writeNames = new HashSet<>();
+        for (PropertyDescriptor property : properties) {
+            if (property.isReadable() && !readNames.add(property.getReadName())) {
+                throw new InvalidPojoException(format("Duplicate read property named '%s'", property.getReadName()), type);
+            }
+            if (property.isWritable() && !writeNames.add(property.getWriteName())) {
+                throw new InvalidPojoException(format("Duplicate write property named '%s'", property.getWriteName()), type);
+            }
+            if ((property.isReadable() || property.isWritable()) && !isSupportedType(property.getType(), true, types)) {
+                throw new InvalidPojoException(format("The type of property '%s' is not supported: %s", property.getName(),
+                        property.getType()), type);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a codec for the type can be looked up with a class and, for a parameterized type, with a list of classes.
+     */
+    private static boolean isSupportedType(final TypeMirror type, final boolean allowTypeArguments, final Types types) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            case ARRAY:
+                TypeMirror componentType = ((ArrayType) type).getComponentType();
+                return isSupportedType(componentType, false, types);
+            case DECLARED:
+                List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+                if (typeArguments.isEmpty()) {
+                    return true;
+                } else if (!allowTypeArguments) {
+                    return false;
+                }
+                for (TypeMirror typeArgument : typeArguments) {
+                    if (!isSupportedType(typeArgument, false, types) || typeArgument.getKind().isPrimitive()) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static String getCodecSimpleName(final TypeElement type) {
+        StringBuilder builder = new StringBuilder(type.getSimpleName());
+        Element element = type.getEnclosingElement();
+        while (!(element instanceof PackageElement)) {
+            builder.insert(0, '_').insert(0, element.getSimpleName());
+            element = element.getEnclosingElement();
+        }
+        return builder.append("_BsonCodec").toString();
+    }
+
+    @Nullable
+    private static AnnotationMirror getAnnotation(final Element element, final Class<?> annotationClass) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (isAnnotation(annotation, annotationClass)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAnnotation(final AnnotationMirror annotation, final Class<?> annotationClass) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationClass.getName());
+    }
+
+    private static Object getAnnotationValue(final AnnotationMirror annotation, final String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(annotation.getAnnotationType().asElement().getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(name) && method.getDefaultValue() != null) {
+                return method.getDefaultValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import javax.annotation.Nullable;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A property of a POJO, discovered from its getters, setters and fields as {@code PojoBuilderHelper} discovers them at runtime.
+ */
+final class PropertyDescriptor {
+    private final String name;
+    private final TypeMirror type;
+    @Nullable
+    private ExecutableElement getter;
+    @Nullable
+    private ExecutableElement setter;
+    @Nullable
+    private VariableElement field;
+    private final List<AnnotationMirror> readAnnotations = new ArrayList<>();
+    private final List<AnnotationMirror> writeAnnotations = new ArrayList<>();
+    @Nullable
+    private String readName;
+    @Nullable
+    private String writeName;
+
+    PropertyDescriptor(final String name, final TypeMirror type) {
+        this.name = name;
+        this.type = type;
+        this.readName = name;
+        this.writeName = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    TypeMirror getType() {
+        return type;
+    }
+
+    @Nullable
+    ExecutableElement getGetter() {
+        return getter;
+    }
+
+    void setGetter(final ExecutableElement getter) {
+        this.getter = getter;
+        readAnnotations.addAll(getter.getAnnotationMirrors());
+    }
+
+    @Nullable
+    ExecutableElement getSetter() {
+        return setter;
+    }
+
+    void setSetter(final ExecutableElement setter) {
+        this.setter = setter;
+        writeAnnotations.addAll(setter.getAnnotationMirrors());
+    }
+
+    @Nullable
+    VariableElement getField() {
+        return field;
+    }
+
+    void setField(final VariableElement field) {
+        this.field = field;
+        readAnnotations.addAll(field.getAnnotationMirrors());
+        writeAnnotations.addAll(field.getAnnotationMirrors());
+    }
+
+    List<AnnotationMirror> getReadAnnotations() {
+        return readAnnotations;
+    }
+
+    List<AnnotationMirror> getWriteAnnotations() {
+        return writeAnnotations;
+    }
+
+    /**
+     * @return the name of the field the property is encoded to, or null if it is not
+     */
+    @Nullable
+    String getReadName() {
+        return readName;
+    }
+
+    void setReadName(@Nullable final String readName) {
+        this.readName = readName;
+    }
+
+    /**
+     * @return the name of the field the property is decoded from, or null if it is not
+     */
+    @Nullable
+    String getWriteName() {
+        return writeName;
+    }
+
+    void setWriteName(@Nullable final String writeName) {
+        this.writeName = writeName;
+    }
+
+    boolean isSerializable() {
+        if (getter != null) {
+            return field == null || notStaticOrTransient(field.getModifiers());
+        }
+        return field != null && isPublicAndNotStaticOrTransient(field.getModifiers());
+    }
+
+    boolean isDeserializable() {
+        if (setter != null) {
+            return field == null || !field.getModifiers().contains(Modifier.FINAL) && notStaticOrTransient(field.getModifiers());
+        }
+        return field != null && !field.getModifiers().contains(Modifier.FINAL) && isPublicAndNotStaticOrTransient(field.getModifiers());
+    }
+
+    boolean isReadable() {
+        return readName != null && isSerializable();
+    }
+
+    boolean isWritable() {
+        return writeName != null && isDeserializable();
+    }
+
+    private static boolean notStaticOrTransient(final Set<Modifier> modifiers) {
+        return !modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT);
+    }
+
+    private static boolean isPublicAndNotStaticOrTransient(final Set<Modifier> modifiers) {
+        return modifiers.contains(Modifier.PUBLIC) && notStaticOrTransient(modifiers);
+    }
+}
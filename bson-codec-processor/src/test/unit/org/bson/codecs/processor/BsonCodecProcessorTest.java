@@ -0,0 +1,231 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.BsonValueCodecProvider;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectionCodecProvider;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.ValueCodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.ClassModel;
+import org.bson.codecs.pojo.Conventions;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BsonCodecProcessorTest {
+    private static final String PERSON_SOURCE = String.join("\n",
+            "package samples;",
+            "import java.util.List;",
+            "import org.bson.codecs.pojo.annotations.BsonGeneratedCodec;",
+            "import org.bson.codecs.pojo.annotations.BsonIgnore;",
+            "import org.bson.codecs.pojo.annotations.BsonProperty;",
+            "import org.bson.types.ObjectId;",
+            "@BsonGeneratedCodec",
+            "public class Person {",
+            "    private ObjectId id;",
+            "    private String name;",
+            "    private int age;",
+            "    private boolean active;",
+            "    private List<String> tags;",
+            "    private Address address;",
+            "    @BsonProperty(\"e\")",
+            "    public String email;",
+            "    @BsonIgnore",
+            "    private String password;",
+            "    public ObjectId getId() { return id; }",
+            "    public void setId(ObjectId id) { this.id = id; }",
+            "    public String getName() { return name; }",
+            "    public void setName(String name) { this.name = name; }",
+            "    public int getAge() { return age; }",
+            "    public void setAge(int age) { this.age = age; }",
+            "    public boolean isActive() { return active; }",
+            "    public void setActive(boolean active) { this.active = active; }",
+            "    public List<String> getTags() { return tags; }",
+            "    public void setTags(List<String> tags) { this.tags = tags; }",
+            "    public Address getAddress() { return address; }",
+            "    public void setAddress(Address address) { this.address = address; }",
+            "    public String getPassword() { return password; }",
+            "    public void setPassword(String password) { this.password = password; }",
+            "    @BsonGeneratedCodec",
+            "    public static class Address {",
+            "        public String city;",
+            "    }",
+            "}");
+    private static final String ADDRESS_CODEC_CLASS_NAME = "samples.Person_Address_BsonCodec";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldGenerateCodecsThatMapPropertiesAsThePojoCodec() throws Exception {
+        Class<?> personClass = compile(PERSON_SOURCE).loadClass("samples.Person");
+        BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                .append("active", BsonBoolean.TRUE)
+                .append("address", new BsonDocument("city", new BsonString("Paris")))
+                .append("age", new BsonInt32(42))
+                .append("e", new BsonString("ada@example.com"))
+                .append("name", new BsonString("Ada"))
+                .append("tags", new BsonArray(asList(new BsonString("a"), new BsonString("b"))));
+
+        Codec<Object> generatedCodec = getCodec(personClass, generatedCodecRegistry());
+        Codec<Object> reflectionCodec = getCodec(personClass, reflectionCodecRegistry(personClass));
+
+        assertEquals(personClass.getName() + "_BsonCodec", generatedCodec.getClass().getName());
+        assertEquals(document, encode(generatedCodec, decode(reflectionCodec, document)));
+        assertEquals(document, encode(reflectionCodec, decode(generatedCodec, document)));
+        assertEquals(document, encode(generatedCodec, decode(generatedCodec, document.clone().append("unknown", BsonBoolean.TRUE))));
+    }
+
+    @Test
+    public void shouldSkipNullPropertiesAndGenerateTheIdOfCollectibleDocuments() throws Exception {
+        Class<?> personClass = compile(PERSON_SOURCE).loadClass("samples.Person");
+        Codec<Object> codec = getCodec(personClass, generatedCodecRegistry());
+        Object person = personClass.getConstructor().newInstance();
+
+        assertEquals(new BsonDocument("active", BsonBoolean.FALSE).append("age", new BsonInt32(0)), encode(codec, person));
+
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), person, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+
+        assertTrue(document.isObjectId("_id"));
+        assertEquals(document.getObjectId("_id").getValue(), personClass.getMethod("getId").invoke(person));
+    }
+
+    @Test
+    public void shouldOnlyBeUsedByThePojoCodecProviderWithTheDefaultMapping() throws Exception {
+        ClassLoader classLoader = compile(PERSON_SOURCE);
+        Class<?> personClass = classLoader.loadClass("samples.Person");
+        Class<?> addressClass = classLoader.loadClass("samples.Person$Address");
+
+        assertEquals(ADDRESS_CODEC_CLASS_NAME, generatedCodecRegistry().get(addressClass).getClass().getName());
+        assertEquals(ADDRESS_CODEC_CLASS_NAME, fromProviders(new ValueCodecProvider(), PojoCodecProvider.builder().register(addressClass)
+                .build()).get(addressClass).getClass().getName());
+        assertFalse(reflectionCodecRegistry(personClass).get(addressClass).getClass().getName().endsWith("_BsonCodec"));
+        assertFalse(fromProviders(new ValueCodecProvider(), PojoCodecProvider.builder().automatic(true)
+                .conventions(singletonList(Conventions.ANNOTATION_CONVENTION)).build()).get(addressClass).getClass().getName()
+                .endsWith("_BsonCodec"));
+    }
+
+    @Test
+    public void shouldReportUnsupportedClassesAsCompileErrors() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        compile(diagnostics, String.join("\n",
+                "package samples;",
+                "import org.bson.codecs.pojo.annotations.BsonGeneratedCodec;",
+                "@BsonGeneratedCodec",
+                "public class Box<T> {",
+                "    public T value;",
+                "}"));
+
+        assertEquals(1, diagnostics.getDiagnostics().size());
+        Diagnostic<? extends JavaFileObject> diagnostic = diagnostics.getDiagnostics().get(0);
+        assertEquals(Diagnostic.Kind.ERROR, diagnostic.getKind());
+        assertEquals("Cannot generate a codec for 'samples.Box': Classes with type parameters are not supported",
+                diagnostic.getMessage(null));
+    }
+
+    private ClassLoader compile(final String source) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        ClassLoader classLoader = compile(diagnostics, source);
+        assertEquals(emptyList(), diagnostics.getDiagnostics());
+        return classLoader;
+    }
+
+    private ClassLoader compile(final DiagnosticCollector<JavaFileObject> diagnostics, final String source) throws IOException {
+        String className = source.substring(source.indexOf("public class ") + 13).split("[ <]")[0];
+        Path sourceFile = tempDir.resolve("src").resolve("samples").resolve(className + ".java");
+        Path classesDirectory = tempDir.resolve("classes");
+        Files.createDirectories(sourceFile.getParent());
+        Files.createDirectories(classesDirectory);
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler);
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = new ArrayList<>(asList("-classpath", System.getProperty("java.class.path"),
+                    "-d", classesDirectory.toString(), "-s", classesDirectory.toString()));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(sourceFile.toFile()));
+            task.setProcessors(singletonList(new BsonCodecProcessor()));
+            task.call();
+        }
+        return new URLClassLoader(new URL[]{classesDirectory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static CodecRegistry generatedCodecRegistry() {
+        return fromProviders(new ValueCodecProvider(), new CollectionCodecProvider(), new BsonValueCodecProvider(),
+                PojoCodecProvider.builder().automatic(true).build());
+    }
+
+    private static CodecRegistry reflectionCodecRegistry(final Class<?> personClass) throws ClassNotFoundException {
+        Class<?> addressClass = personClass.getClassLoader().loadClass(personClass.getName() + "$Address");
+        return fromProviders(new ValueCodecProvider(), new CollectionCodecProvider(), new BsonValueCodecProvider(),
+                PojoCodecProvider.builder().register(ClassModel.builder(personClass).build(), ClassModel.builder(addressClass).build())
+                        .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<Object> getCodec(final Class<?> clazz, final CodecRegistry registry) {
+        return (Codec<Object>) registry.get(clazz);
+    }
+
+    private static BsonDocument encode(final Codec<Object> codec, final Object value) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+
+    private static Object decode(final Codec<Object> codec, final BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
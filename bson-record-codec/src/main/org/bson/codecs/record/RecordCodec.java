@@ -17,7 +17,9 @@
 package org.bson.codecs.record;
 
 import org.bson.BsonInvalidOperationException;
+import org.bson.BsonName;
 import org.bson.BsonReader;
+import org.bson.BsonSerializationException;
 import org.bson.BsonType;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
@@ -35,11 +37,12 @@ import org.bson.codecs.pojo.annotations.BsonProperty;
 import org.bson.codecs.pojo.annotations.BsonRepresentation;
 import org.bson.diagnostics.Logger;
 import org.bson.diagnostics.Loggers;
+import org.bson.internal.MethodHandleHelper;
 
 import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.RecordComponent;
 import java.lang.reflect.Type;
@@ -58,37 +61,58 @@ final class RecordCodec<T extends Record> implements Codec<T> {
     private static final Logger LOGGER = Loggers.getLogger("RecordCodec");
     private final Class<T> clazz;
     private final Constructor<?> canonicalConstructor;
+    @Nullable
+    private final MethodHandle canonicalConstructorHandle;
     private final List<ComponentModel> componentModels;
     private final ComponentModel componentModelForId;
     private final Map<String, ComponentModel> fieldNameToComponentModel;
 
     private static final class ComponentModel {
         private final RecordComponent component;
+        @Nullable
+        private final MethodHandle accessorHandle;
         private final Codec<?> codec;
         private final int index;
         private final String fieldName;
+        @Nullable
+        private final BsonName encodedFieldName;
         private final boolean isNullable;
 
         private ComponentModel(final List<Type> typeParameters, final RecordComponent component, final CodecRegistry codecRegistry,
                 final int index) {
             validateAnnotations(component, index);
             this.component = component;
+            this.accessorHandle = MethodHandleHelper.bindGetter(component.getAccessor());
             this.codec = computeCodec(typeParameters, component, codecRegistry);
             this.index = index;
             this.fieldName = computeFieldName(component);
+            this.encodedFieldName = encodeFieldName(fieldName);
             this.isNullable = !component.getType().isPrimitive();
         }
 
-        String getComponentName() {
-            return component.getName();
-        }
-
         String getFieldName() {
             return fieldName;
         }
 
-        Object getValue(final Record record) throws InvocationTargetException, IllegalAccessException {
-            return component.getAccessor().invoke(record);
+        void writeFieldName(final BsonWriter writer) {
+            if (encodedFieldName != null) {
+                writer.writeName(encodedFieldName);
+            } else {
+                writer.writeName(fieldName);
+            }
+        }
+
+        Object getValue(final Record record) {
+            try {
+                return accessorHandle != null
+                        ? (Object) accessorHandle.invokeExact((Object) record)
+                        : component.getAccessor().invoke(record);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new CodecConfigurationException(format("Unable to access value of component %s for record %s", component.getName(),
+                        component.getDeclaringRecord().getName()), t);
+            }
         }
 
         private static Codec<?> computeCodec(final List<Type> typeParameters, final RecordComponent component,
@@ -155,6 +179,16 @@ final class RecordCodec<T extends Record> implements Codec<T> {
             return component.getName();
         }
 
+        @Nullable
+        private static BsonName encodeFieldName(final String fieldName) {
+            try {
+                return new BsonName(fieldName);
+            } catch (BsonSerializationException e) {
+                // written as a string instead, which fails when the component is encoded
+                return null;
+            }
+        }
+
         private static <T extends Annotation> boolean isAnnotationPresentOnField(final RecordComponent component,
                 final Class<T> annotation) {
             try {
@@ -254,6 +288,7 @@ final class RecordCodec<T extends Record> implements Codec<T> {
         }
         this.clazz = notNull("class", clazz);
         canonicalConstructor = notNull("canonicalConstructor", getCanonicalConstructor(clazz));
+        canonicalConstructorHandle = MethodHandleHelper.bindCreator(canonicalConstructor);
         componentModels = getComponentModels(clazz, codecRegistry, types);
         fieldNameToComponentModel = componentModels.stream()
                 .collect(Collectors.toMap(ComponentModel::getFieldName, Function.identity()));
@@ -286,9 +321,13 @@ final class RecordCodec<T extends Record> implements Codec<T> {
         reader.readEndDocument();
 
         try {
-            return (T) canonicalConstructor.newInstance(constructorArguments);
-        } catch (ReflectiveOperationException e) {
-            throw new CodecConfigurationException(format("Unable to invoke canonical constructor of record class %s", clazz.getName()), e);
+            return canonicalConstructorHandle != null
+                    ? (T) (Object) canonicalConstructorHandle.invokeExact(constructorArguments)
+                    : (T) canonicalConstructor.newInstance(constructorArguments);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new CodecConfigurationException(format("Unable to invoke canonical constructor of record class %s", clazz.getName()), t);
         }
     }
 
@@ -315,15 +354,10 @@ final class RecordCodec<T extends Record> implements Codec<T> {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void writeComponent(final BsonWriter writer, final T record, final ComponentModel componentModel) {
-        try {
-            Object componentValue = componentModel.getValue(record);
-            if (componentValue != null) {
-                writer.writeName(componentModel.getFieldName());
-                ((Codec) componentModel.codec).encode(writer, componentValue, EncoderContext.builder().build());
-            }
-        } catch (ReflectiveOperationException e) {
-            throw new CodecConfigurationException(
-                    format("Unable to access value of component %s for record %s", componentModel.getComponentName(), clazz.getName()), e);
+        Object componentValue = componentModel.getValue(record);
+        if (componentValue != null) {
+            componentModel.writeFieldName(writer);
+            ((Codec) componentModel.codec).encode(writer, componentValue, EncoderContext.builder().build());
         }
     }
 
@@ -19,6 +19,7 @@ package org.bson;
 import org.bson.io.BsonInput;
 import org.bson.io.BsonInputMark;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
@@ -45,6 +46,18 @@ public class BsonBinaryReader extends AbstractBsonReader {
         this(new ByteBufferBsonInput(new ByteBufNIO(notNull("byteBuffer", byteBuffer))));
     }
 
+    /**
+     * Construct an instance that looks up field names in the given cache.
+     *
+     * @param byteBuffer the input for this reader
+     * @param fieldNameCache the field name cache
+     * @see ByteBufferBsonInput#ByteBufferBsonInput(ByteBuf, FieldNameCache)
+     * @since 5.2
+     */
+    public BsonBinaryReader(final ByteBuffer byteBuffer, final FieldNameCache fieldNameCache) {
+        this(new ByteBufferBsonInput(new ByteBufNIO(notNull("byteBuffer", byteBuffer)), notNull("fieldNameCache", fieldNameCache)));
+    }
+
     /**
      * Construct an instance.
      *
@@ -149,7 +162,8 @@ public class BsonBinaryReader extends AbstractBsonReader {
 
     @Override
     protected byte doPeekBinarySubType() {
-        Mark mark = new Mark();
+        // only the position moves, so a reader mark, which would stop the current contexts being reused, is not needed
+        BsonInputMark mark = bsonInput.getMark(5);
         readSize();
         byte type = bsonInput.readByte();
         mark.reset();
@@ -158,7 +172,7 @@ public class BsonBinaryReader extends AbstractBsonReader {
 
     @Override
     protected int doPeekBinarySize() {
-        Mark mark = new Mark();
+        BsonInputMark mark = bsonInput.getMark(4);
         int size = readSize();
         mark.reset();
         return size;
@@ -263,7 +277,7 @@ public class BsonBinaryReader extends AbstractBsonReader {
     public void doReadStartArray() {
         int startPosition = bsonInput.getPosition(); // position of size field
         int size = readSize();
-        setContext(new Context(getContext(), BsonContextType.ARRAY, startPosition, size));
+        pushContext(BsonContextType.ARRAY, startPosition, size);
     }
 
     @Override
@@ -272,7 +286,7 @@ public class BsonBinaryReader extends AbstractBsonReader {
                 ? BsonContextType.SCOPE_DOCUMENT : BsonContextType.DOCUMENT;
         int startPosition = bsonInput.getPosition(); // position of size field
         int size = readSize();
-        setContext(new Context(getContext(), contextType, startPosition, size));
+        pushContext(contextType, startPosition, size);
     }
 
     @Override
@@ -389,6 +403,22 @@ public class BsonBinaryReader extends AbstractBsonReader {
         return (Context) super.getContext();
     }
 
+    /**
+     * Enters a document or array context.  The context that was last used for a child of the same type of the current context is reused,
+     * unless a mark refers to it, so that reading nested documents and arrays does not allocate once they have been read at least once.
+     */
+    private void pushContext(final BsonContextType contextType, final int startPosition, final int size) {
+        Context parentContext = getContext();
+        Context context = parentContext.getChildContext(contextType);
+        if (context == null || context.marked) {
+            context = new Context(parentContext, contextType, startPosition, size);
+            parentContext.setChildContext(context);
+        } else {
+            context.reuse(startPosition, size);
+        }
+        setContext(context);
+    }
+
     @Override
     public BsonReaderMark getMark() {
         return new Mark();
@@ -409,6 +439,9 @@ public class BsonBinaryReader extends AbstractBsonReader {
             startPosition = BsonBinaryReader.this.getContext().startPosition;
             size = BsonBinaryReader.this.getContext().size;
             bsonInputMark = BsonBinaryReader.this.bsonInput.getMark(Integer.MAX_VALUE);
+            for (Context context = BsonBinaryReader.this.getContext(); context != null; context = context.getParentContext()) {
+                context.marked = true;
+            }
         }
 
         @Override
@@ -423,8 +456,11 @@ public class BsonBinaryReader extends AbstractBsonReader {
      * An implementation of {@code AbstractBsonReader.Context}.
      */
     protected class Context extends AbstractBsonReader.Context {
-        private final int startPosition;
-        private final int size;
+        private int startPosition;
+        private int size;
+        private Context documentContext; // the last child context of type document, for reuse
+        private Context arrayContext; // the last child context of type array, for reuse
+        private boolean marked; // whether a mark refers to this context, which must then not be reused
 
         Context(final Context parentContext, final BsonContextType contextType, final int startPosition, final int size) {
             super(parentContext, contextType);
@@ -444,5 +480,28 @@ public class BsonBinaryReader extends AbstractBsonReader {
         protected Context getParentContext() {
             return (Context) super.getParentContext();
         }
+
+        private Context getChildContext(final BsonContextType contextType) {
+            if (contextType == BsonContextType.DOCUMENT) {
+                return documentContext;
+            } else if (contextType == BsonContextType.ARRAY) {
+                return arrayContext;
+            } else {
+                return null;
+            }
+        }
+
+        private void setChildContext(final Context context) {
+            if (context.getContextType() == BsonContextType.DOCUMENT) {
+                documentContext = context;
+            } else if (context.getContextType() == BsonContextType.ARRAY) {
+                arrayContext = context;
+            }
+        }
+
+        private void reuse(final int startPosition, final int size) {
+            this.startPosition = startPosition;
+            this.size = size;
+        }
     }
 }
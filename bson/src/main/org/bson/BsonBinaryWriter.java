@@ -21,8 +21,9 @@ import org.bson.io.BsonOutput;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.util.Arrays;
+import java.util.EmptyStackException;
 import java.util.List;
-import java.util.Stack;
 
 import static java.lang.String.format;
 import static org.bson.assertions.Assertions.notNull;
@@ -36,7 +37,10 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     private final BsonBinaryWriterSettings binaryWriterSettings;
 
     private final BsonOutput bsonOutput;
-    private final Stack<Integer> maxDocumentSizeStack = new Stack<>();
+    private int[] maxDocumentSizeStack = new int[4];
+    private int maxDocumentSizeStackSize;
+    private Context topLevelContext;
+    private BsonName encodedName;
     private Mark mark;
 
     /**
@@ -83,7 +87,7 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
         super(settings, validator);
         this.binaryWriterSettings = binaryWriterSettings;
         this.bsonOutput = bsonOutput;
-        maxDocumentSizeStack.push(binaryWriterSettings.getMaxDocumentSize());
+        pushMaxDocumentSize(binaryWriterSettings.getMaxDocumentSize());
     }
 
     @Override
@@ -112,6 +116,26 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     public void flush() {
     }
 
+    @Override
+    public void writeName(final String name) {
+        super.writeName(name);
+        encodedName = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The encoding of the name held by the given instance is copied into the output when the value of the element is written.</p>
+     *
+     * @since 5.2
+     */
+    @Override
+    public void writeName(final BsonName name) {
+        notNull("name", name);
+        super.writeName(name.getValue());
+        encodedName = name;
+    }
+
     @Override
     protected Context getContext() {
         return (Context) super.getContext();
@@ -123,7 +147,7 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
             bsonOutput.writeByte(BsonType.DOCUMENT.getValue());
             writeCurrentName();
         }
-        setContext(new Context(getContext(), BsonContextType.DOCUMENT, bsonOutput.getPosition()));
+        pushContext(BsonContextType.DOCUMENT, bsonOutput.getPosition());
         bsonOutput.writeInt32(0); // reserve space for size
     }
 
@@ -143,7 +167,7 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     protected void doWriteStartArray() {
         bsonOutput.writeByte(BsonType.ARRAY.getValue());
         writeCurrentName();
-        setContext(new Context(getContext(), BsonContextType.ARRAY, bsonOutput.getPosition()));
+        pushContext(BsonContextType.ARRAY, bsonOutput.getPosition());
         bsonOutput.writeInt32(0); // reserve space for size
     }
 
@@ -336,7 +360,7 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
 
             if (extraElements != null) {
                 bsonOutput.truncateToPosition(bsonOutput.getPosition() - 1);
-                setContext(new Context(getContext(), BsonContextType.DOCUMENT, pipedDocumentStartPosition));
+                pushContext(BsonContextType.DOCUMENT, pipedDocumentStartPosition);
                 setState(State.NAME);
                 pipeExtraElements(extraElements);
                 bsonOutput.writeByte(0);
@@ -368,14 +392,18 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
      * @param maxDocumentSize the maximum document size.
      */
     public void pushMaxDocumentSize(final int maxDocumentSize) {
-        maxDocumentSizeStack.push(maxDocumentSize);
+        if (maxDocumentSizeStackSize == maxDocumentSizeStack.length) {
+            maxDocumentSizeStack = Arrays.copyOf(maxDocumentSizeStack, maxDocumentSizeStackSize * 2);
+        }
+        maxDocumentSizeStack[maxDocumentSizeStackSize++] = maxDocumentSize;
     }
 
     /**
      * Reset the maximum document size to its previous value.
      */
     public void popMaxDocumentSize() {
-        maxDocumentSizeStack.pop();
+        peekMaxDocumentSize();
+        maxDocumentSizeStackSize--;
     }
 
     /**
@@ -397,11 +425,43 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
 
         mark.reset();
         mark = null;
+        encodedName = null;
+    }
+
+    private int peekMaxDocumentSize() {
+        if (maxDocumentSizeStackSize == 0) {
+            throw new EmptyStackException();
+        }
+        return maxDocumentSizeStack[maxDocumentSizeStackSize - 1];
+    }
+
+    /**
+     * Enters a document or array context.  The context that was last used for a child of the same type of the current context is reused,
+     * unless a mark refers to it, so that writing nested documents and arrays does not allocate once they have been written at least
+     * once.
+     */
+    private void pushContext(final BsonContextType contextType, final int startPosition) {
+        Context parentContext = getContext();
+        Context context = parentContext == null ? topLevelContext : parentContext.getChildContext(contextType);
+        if (context == null || context.marked) {
+            context = new Context(parentContext, contextType, startPosition);
+            if (parentContext == null) {
+                topLevelContext = context;
+            } else {
+                parentContext.setChildContext(context);
+            }
+        } else {
+            context.reuse(startPosition);
+        }
+        setContext(context);
     }
 
     private void writeCurrentName() {
         if (getContext().getContextType() == BsonContextType.ARRAY) {
             bsonOutput.writeCString(Integer.toString(getContext().index++));
+        } else if (encodedName != null) {
+            bsonOutput.writeBytes(encodedName.getEncoded());
+            encodedName = null;
         } else {
             bsonOutput.writeCString(getName());
         }
@@ -414,9 +474,10 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     }
 
     private void validateSize(final int size) {
-        if (size > maxDocumentSizeStack.peek()) {
+        int maxDocumentSize = peekMaxDocumentSize();
+        if (size > maxDocumentSize) {
             throw new BsonMaximumSizeExceededException(format("Document size of %d is larger than maximum of %d.", size,
-                    maxDocumentSizeStack.peek()));
+                    maxDocumentSize));
         }
     }
 
@@ -424,8 +485,11 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
      * An implementation of {@code AbstractBsonWriter.Context}.
      */
     protected class Context extends AbstractBsonWriter.Context {
-        private final int startPosition;
+        private int startPosition;
         private int index; // used when contextType is an array
+        private Context documentContext; // the last child context of type document, for reuse
+        private Context arrayContext; // the last child context of type array, for reuse
+        private boolean marked; // whether a mark refers to this context, which must then not be reused
 
         /**
          * Creates a new instance
@@ -459,6 +523,30 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
         public Context copy() {
             return new Context(this);
         }
+
+        private Context getChildContext(final BsonContextType contextType) {
+            if (contextType == BsonContextType.DOCUMENT) {
+                return documentContext;
+            } else if (contextType == BsonContextType.ARRAY) {
+                return arrayContext;
+            } else {
+                return null;
+            }
+        }
+
+        private void setChildContext(final Context context) {
+            if (context.getContextType() == BsonContextType.DOCUMENT) {
+                documentContext = context;
+            } else if (context.getContextType() == BsonContextType.ARRAY) {
+                arrayContext = context;
+            }
+        }
+
+        private void reuse(final int startPosition) {
+            clearName();
+            this.startPosition = startPosition;
+            index = 0;
+        }
     }
 
     /**
@@ -472,6 +560,9 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
          */
         protected Mark() {
             this.position = bsonOutput.getPosition();
+            for (Context context = getContext(); context != null; context = context.getParentContext()) {
+                context.marked = true;
+            }
         }
 
         @Override
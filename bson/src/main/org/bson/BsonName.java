@@ -0,0 +1,90 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.io.BasicOutputBuffer;
+
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * The name of an element, together with its encoding as a BSON cstring.
+ *
+ * <p>A codec that writes the same names for every value that it encodes can create an instance for each name once, and write it with
+ * {@link BsonWriter#writeName(BsonName)}.  A {@link BsonBinaryWriter} then copies the encoded bytes into its output instead of encoding
+ * the name again, which saves most of the cost of writing the names of wide documents with long field names.  The name is still
+ * validated by the writer's field name validator, as any other name is.  Other writers write the name as a string.</p>
+ *
+ * @see BsonWriter#writeName(BsonName)
+ * @since 5.2
+ */
+public final class BsonName {
+    private final String value;
+    private final byte[] encoded;
+
+    /**
+     * Construct an instance.
+     *
+     * @param value the name
+     * @throws BsonSerializationException if the name contains a null character, which a BSON cstring can not contain
+     */
+    public BsonName(final String value) {
+        this.value = notNull("value", value);
+        BasicOutputBuffer buffer = new BasicOutputBuffer(value.length() + 1);
+        buffer.writeCString(value);
+        this.encoded = buffer.toByteArray();
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the UTF-8 encoding of the name, followed by a null terminator.  The array must not be modified.
+     */
+    byte[] getEncoded() {
+        return encoded;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BsonName bsonName = (BsonName) o;
+        return value.equals(bsonName.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BsonName{"
+               + "value='" + value + '\''
+               + '}';
+    }
+}
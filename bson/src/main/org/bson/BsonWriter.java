@@ -223,6 +223,17 @@ public interface BsonWriter {
      */
     void writeName(String name);
 
+    /**
+     * Writes the name of an element to the writer.  Writers that can make use of the encoding of the name held by the given instance
+     * write it without encoding the name again.
+     *
+     * @param name The name of the element.
+     * @since 5.2
+     */
+    default void writeName(final BsonName name) {
+        writeName(name.getValue());
+    }
+
     /**
      * Writes a BSON null to the writer.
      */
@@ -136,6 +136,34 @@ public interface ByteBuf  {
      */
     byte[] array();
 
+    /**
+     * <p>States whether this buffer is backed by an accessible byte array.</p>
+     *
+     * <p>If this method returns {@code true} then the {@link #array()} and {@link #arrayOffset()} methods may safely be invoked.</p>
+     *
+     * @return {@code true} if, and only if, this buffer is backed by an array and is not read-only
+     * @since 5.2
+     */
+    default boolean hasArray() {
+        return false;
+    }
+
+    /**
+     * <p>Returns the offset within this buffer's backing array of the first element of the buffer <em>(optional operation)</em>.</p>
+     *
+     * <p>If this buffer is backed by an array then buffer position <i>p</i> corresponds to array index <i>p</i>&nbsp;+&nbsp;{@code
+     * arrayOffset()}.</p>
+     *
+     * @return The offset within this buffer's array of the first element of the buffer
+     * @throws java.nio.ReadOnlyBufferException If this buffer is backed by an array but is read-only
+     * @throws UnsupportedOperationException    If this buffer is not backed by an accessible array
+     * @see #hasArray()
+     * @since 5.2
+     */
+    default int arrayOffset() {
+        throw new UnsupportedOperationException("Not backed by an accessible array");
+    }
+
     /**
      * Returns this buffer's limit.
      *
@@ -18,6 +18,7 @@ package org.bson.codecs;
 
 import org.bson.BsonDocument;
 import org.bson.BsonElement;
+import org.bson.BsonName;
 import org.bson.BsonObjectId;
 import org.bson.BsonReader;
 import org.bson.BsonType;
@@ -41,6 +42,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
  */
 public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
     private static final String ID_FIELD_NAME = "_id";
+    private static final BsonName ID_NAME = new BsonName(ID_FIELD_NAME);
     private static final CodecRegistry DEFAULT_REGISTRY = fromProviders(new BsonValueCodecProvider());
     private static final BsonTypeCodecMap DEFAULT_BSON_TYPE_CODEC_MAP = new BsonTypeCodecMap(getBsonTypeClassMap(), DEFAULT_REGISTRY);
 
@@ -123,7 +125,7 @@ public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
 
     private void beforeFields(final BsonWriter bsonWriter, final EncoderContext encoderContext, final BsonDocument value) {
         if (encoderContext.isEncodingCollectibleDocument() && value.containsKey(ID_FIELD_NAME)) {
-            bsonWriter.writeName(ID_FIELD_NAME);
+            bsonWriter.writeName(ID_NAME);
             writeValue(bsonWriter, encoderContext, value.get(ID_FIELD_NAME));
         }
     }
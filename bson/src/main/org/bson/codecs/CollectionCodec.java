@@ -47,6 +47,7 @@ final class CollectionCodec<C extends Collection<Object>> extends AbstractCollec
         implements OverridableUuidRepresentationCodec<C> {
 
     private final CodecRegistry registry;
+    private final ValueCodecCache valueCodecs;
     private final BsonTypeCodecMap bsonTypeCodecMap;
     private final Transformer valueTransformer;
     private final UuidRepresentation uuidRepresentation;
@@ -68,6 +69,7 @@ final class CollectionCodec<C extends Collection<Object>> extends AbstractCollec
                             final Class<C> clazz, final UuidRepresentation uuidRepresentation) {
         super(clazz);
         this.registry = notNull("registry", registry);
+        this.valueCodecs = new ValueCodecCache(registry);
         this.bsonTypeCodecMap = bsonTypeCodecMap;
         this.valueTransformer = valueTransformer != null ? valueTransformer : (value) -> value;
         this.uuidRepresentation = uuidRepresentation;
@@ -89,7 +91,7 @@ final class CollectionCodec<C extends Collection<Object>> extends AbstractCollec
     @SuppressWarnings("unchecked")
     @Override
     void writeValue(final BsonWriter writer, final Object value, final EncoderContext encoderContext) {
-        Codec codec = registry.get(value.getClass());
+        Codec codec = valueCodecs.get(value.getClass());
         encoderContext.encodeWithChildContext(codec, writer, value);
     }
 }
@@ -18,6 +18,7 @@ package org.bson.codecs;
 
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentWriter;
+import org.bson.BsonName;
 import org.bson.BsonReader;
 import org.bson.BsonType;
 import org.bson.BsonValue;
@@ -44,6 +45,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 public class DocumentCodec implements CollectibleCodec<Document>, OverridableUuidRepresentationCodec<Document> {
 
     private static final String ID_FIELD_NAME = "_id";
+    private static final BsonName ID_NAME = new BsonName(ID_FIELD_NAME);
     private static final CodecRegistry DEFAULT_REGISTRY = fromProviders(asList(new ValueCodecProvider(),
             new CollectionCodecProvider(), new IterableCodecProvider(),
             new BsonValueCodecProvider(), new DocumentCodecProvider(), new MapCodecProvider()));
@@ -52,6 +54,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
 
     private final BsonTypeCodecMap bsonTypeCodecMap;
     private final CodecRegistry registry;
+    private final ValueCodecCache valueCodecs;
     private final IdGenerator idGenerator;
     private final Transformer valueTransformer;
     private final UuidRepresentation uuidRepresentation;
@@ -103,6 +106,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
     private DocumentCodec(final CodecRegistry registry, final BsonTypeCodecMap bsonTypeCodecMap, final IdGenerator idGenerator,
                           final Transformer valueTransformer, final UuidRepresentation uuidRepresentation) {
         this.registry = notNull("registry", registry);
+        this.valueCodecs = new ValueCodecCache(registry);
         this.bsonTypeCodecMap = bsonTypeCodecMap;
         this.idGenerator = idGenerator;
         this.valueTransformer = valueTransformer != null ? valueTransformer : value -> value;
@@ -188,7 +192,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
 
     private void beforeFields(final BsonWriter bsonWriter, final EncoderContext encoderContext, final Map<String, Object> document) {
         if (encoderContext.isEncodingCollectibleDocument() && document.containsKey(ID_FIELD_NAME)) {
-            bsonWriter.writeName(ID_FIELD_NAME);
+            bsonWriter.writeName(ID_NAME);
             writeValue(bsonWriter, encoderContext, document.get(ID_FIELD_NAME));
         }
     }
@@ -202,7 +206,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
         if (value == null) {
             writer.writeNull();
         } else {
-            Codec codec = registry.get(value.getClass());
+            Codec codec = valueCodecs.get(value.getClass());
             encoderContext.encodeWithChildContext(codec, writer, value);
         }
     }
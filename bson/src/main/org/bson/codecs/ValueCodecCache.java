@@ -0,0 +1,67 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.Arrays;
+
+/**
+ * Memoizes the codecs that a container codec looks up in its registry for the classes of the values that it encodes, so that encoding
+ * a value of a class that the container has already encoded does not go through the registry.
+ *
+ * <p>Containers hold values of only a handful of classes, so the codecs are kept in a small array that is searched by identity and
+ * replaced, rather than updated, whenever a codec is added.  Threads that race to add a codec may lose each other's additions, which
+ * only means that the codec is looked up in the registry again.</p>
+ */
+final class ValueCodecCache {
+    private static final int MAX_SIZE = 16;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final CodecRegistry registry;
+    private volatile Entry[] entries = NO_ENTRIES;
+
+    ValueCodecCache(final CodecRegistry registry) {
+        this.registry = registry;
+    }
+
+    Codec<?> get(final Class<?> clazz) {
+        Entry[] currentEntries = entries;
+        for (Entry entry : currentEntries) {
+            if (entry.clazz == clazz) {
+                return entry.codec;
+            }
+        }
+        Codec<?> codec = registry.get(clazz);
+        if (currentEntries.length < MAX_SIZE) {
+            Entry[] newEntries = Arrays.copyOf(currentEntries, currentEntries.length + 1);
+            newEntries[currentEntries.length] = new Entry(clazz, codec);
+            entries = newEntries;
+        }
+        return codec;
+    }
+
+    private static final class Entry {
+        private final Class<?> clazz;
+        private final Codec<?> codec;
+
+        Entry(final Class<?> clazz, final Codec<?> codec) {
+            this.clazz = clazz;
+            this.codec = codec;
+        }
+    }
+}
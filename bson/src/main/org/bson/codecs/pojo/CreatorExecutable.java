@@ -19,8 +19,11 @@ package org.bson.codecs.pojo;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.pojo.annotations.BsonId;
 import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.internal.MethodHandleHelper;
 
+import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
@@ -31,9 +34,12 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 
 final class CreatorExecutable<T> {
+    private static final Object[] NO_ARGUMENTS = new Object[0];
     private final Class<T> clazz;
     private final Constructor<T> constructor;
     private final Method method;
+    @Nullable
+    private final MethodHandle creatorHandle;
     private final List<BsonProperty> properties = new ArrayList<>();
     private final Integer idPropertyIndex;
     private final List<Class<?>> parameterTypes = new ArrayList<>();
@@ -51,6 +57,8 @@ final class CreatorExecutable<T> {
         this.clazz = clazz;
         this.constructor = constructor;
         this.method = method;
+        this.creatorHandle = constructor != null ? MethodHandleHelper.bindCreator(constructor)
+                : method != null ? MethodHandleHelper.bindCreator(method) : null;
         Integer idPropertyIndex = null;
 
         if (constructor != null || method != null) {
@@ -102,31 +110,25 @@ final class CreatorExecutable<T> {
         return parameterGenericTypes;
     }
 
-    @SuppressWarnings("unchecked")
     T getInstance() {
-        checkHasAnExecutable();
-        try {
-            if (constructor != null) {
-                return constructor.newInstance();
-            } else {
-                return (T) method.invoke(clazz);
-            }
-        } catch (Exception e) {
-            throw new CodecConfigurationException(e.getMessage(), e);
-        }
+        return getInstance(NO_ARGUMENTS);
     }
 
     @SuppressWarnings("unchecked")
     T getInstance(final Object[] params) {
         checkHasAnExecutable();
         try {
-            if (constructor != null) {
+            if (creatorHandle != null) {
+                return (T) creatorHandle.invokeExact(params);
+            } else if (constructor != null) {
                 return constructor.newInstance(params);
             } else {
                 return (T) method.invoke(clazz, params);
             }
-        } catch (Exception e) {
-            throw new CodecConfigurationException(e.getMessage(), e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new CodecConfigurationException(t.getMessage(), t);
         }
     }
 
@@ -19,6 +19,7 @@ import org.bson.BsonDocument;
 import org.bson.BsonDocumentReader;
 import org.bson.BsonDocumentWrapper;
 import org.bson.BsonInvalidOperationException;
+import org.bson.BsonName;
 import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
 import org.bson.BsonType;
@@ -160,7 +161,12 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
                         });
                     }
                 } else {
-                    writer.writeName(propertyModel.getReadName());
+                    BsonName encodedReadName = propertyModel.getEncodedReadName();
+                    if (encodedReadName != null) {
+                        writer.writeName(encodedReadName);
+                    } else {
+                        writer.writeName(propertyModel.getReadName());
+                    }
                     if (propertyValue == null) {
                         writer.writeNull();
                     } else {
@@ -16,11 +16,14 @@
 package org.bson.codecs.pojo;
 
 import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.annotations.BsonGeneratedCodec;
 import org.bson.diagnostics.Logger;
 import org.bson.diagnostics.Loggers;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,17 +43,21 @@ import static org.bson.assertions.Assertions.notNull;
  */
 public final class PojoCodecProvider implements CodecProvider {
     static final Logger LOGGER = Loggers.getLogger("codecs.pojo");
+    static final String GENERATED_CODEC_SUFFIX = "_BsonCodec";
     private final boolean automatic;
     private final Map<Class<?>, ClassModel<?>> classModels;
+    private final Set<Class<?>> registeredClassModelTypes;
     private final Set<String> packages;
     private final List<Convention> conventions;
     private final DiscriminatorLookup discriminatorLookup;
     private final List<PropertyCodecProvider> propertyCodecProviders;
 
-    private PojoCodecProvider(final boolean automatic, final Map<Class<?>, ClassModel<?>> classModels, final Set<String> packages,
+    private PojoCodecProvider(final boolean automatic, final Map<Class<?>, ClassModel<?>> classModels,
+                              final Set<Class<?>> registeredClassModelTypes, final Set<String> packages,
                               final List<Convention> conventions, final List<PropertyCodecProvider> propertyCodecProviders) {
         this.automatic = automatic;
         this.classModels = classModels;
+        this.registeredClassModelTypes = registeredClassModelTypes;
         this.packages = packages;
         this.conventions = conventions;
         this.discriminatorLookup = new DiscriminatorLookup(classModels, packages);
@@ -69,7 +76,44 @@ public final class PojoCodecProvider implements CodecProvider {
 
     @Override
     public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
-        return createCodec(clazz, registry);
+        Codec<T> generatedCodec = getGeneratedCodec(clazz, registry);
+        return generatedCodec != null ? generatedCodec : createCodec(clazz, registry);
+    }
+
+    /**
+     * Returns the codec generated for a class annotated with {@link BsonGeneratedCodec}, if this provider handles the class, maps it with
+     * the default conventions and no property codec providers, and the codec has been generated.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> Codec<T> getGeneratedCodec(final Class<T> clazz, final CodecRegistry registry) {
+        if (!clazz.isAnnotationPresent(BsonGeneratedCodec.class) || registeredClassModelTypes.contains(clazz)
+                || (conventions != null && !conventions.equals(Conventions.DEFAULT_CONVENTIONS)) || !propertyCodecProviders.isEmpty()
+                || !(classModels.containsKey(clazz) || automatic
+                        || (clazz.getPackage() != null && packages.contains(clazz.getPackage().getName())))) {
+            return null;
+        }
+        String codecClassName = getGeneratedCodecClassName(clazz);
+        try {
+            Class<?> codecClass = Class.forName(codecClassName, true, clazz.getClassLoader());
+            return (Codec<T>) codecClass.getConstructor(CodecRegistry.class).newInstance(registry);
+        } catch (ClassNotFoundException e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("No generated codec '%s' found for '%s', using reflection instead.", codecClassName,
+                        clazz.getSimpleName()));
+            }
+            return null;
+        } catch (ReflectiveOperationException | CodecConfigurationException e) {
+            LOGGER.warn(format("Cannot use the generated codec '%s' for '%s', using reflection instead.", codecClassName,
+                    clazz.getSimpleName()), e);
+            return null;
+        }
+    }
+
+    static String getGeneratedCodecClassName(final Class<?> clazz) {
+        String name = clazz.getName();
+        int packageEnd = name.lastIndexOf('.') + 1;
+        return name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_') + GENERATED_CODEC_SUFFIX;
     }
 
     @SuppressWarnings("unchecked")
@@ -121,12 +165,14 @@ public final class PojoCodecProvider implements CodecProvider {
             List<Convention> immutableConventions = conventions != null
                     ? Collections.unmodifiableList(new ArrayList<>(conventions))
                     : null;
+            Set<Class<?>> registeredClassModelTypes = new HashSet<>(classModels.keySet());
             for (Class<?> clazz : clazzes) {
                 if (!classModels.containsKey(clazz)) {
                     register(createClassModel(clazz, immutableConventions));
                 }
             }
-            return new PojoCodecProvider(automatic, classModels, packages, immutableConventions, propertyCodecProviders);
+            return new PojoCodecProvider(automatic, classModels, registeredClassModelTypes, packages, immutableConventions,
+                    propertyCodecProviders);
         }
 
         /**
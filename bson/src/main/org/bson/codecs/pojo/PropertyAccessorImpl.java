@@ -17,15 +17,25 @@
 package org.bson.codecs.pojo;
 
 import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.internal.MethodHandleHelper;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
 
 import static java.lang.String.format;
 
 final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
 
     private final PropertyMetadata<T> propertyMetadata;
+    @Nullable
+    private final MethodHandle getterHandle;
+    @Nullable
+    private final MethodHandle setterHandle;
 
     PropertyAccessorImpl(final PropertyMetadata<T> propertyMetadata) {
         this.propertyMetadata = propertyMetadata;
+        this.getterHandle = propertyMetadata.isSerializable() ? bindGetter(propertyMetadata) : null;
+        this.setterHandle = propertyMetadata.isDeserializable() ? bindSetter(propertyMetadata) : null;
     }
 
     @Override
@@ -33,7 +43,9 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
     public <S> T get(final S instance) {
         try {
             if (propertyMetadata.isSerializable()) {
-                if (propertyMetadata.getGetter() != null) {
+                if (getterHandle != null) {
+                    return (T) getterHandle.invokeExact((Object) instance);
+                } else if (propertyMetadata.getGetter() != null) {
                     return (T) propertyMetadata.getGetter().invoke(instance);
                 } else {
                     return (T) propertyMetadata.getField().get(instance);
@@ -41,8 +53,10 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
             } else {
                 throw getError(null);
             }
-        } catch (Exception e) {
-            throw getError(e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw getError(t);
         }
     }
 
@@ -50,14 +64,18 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
     public <S> void set(final S instance, final T value) {
         try {
             if (propertyMetadata.isDeserializable()) {
-                if (propertyMetadata.getSetter() != null) {
+                if (setterHandle != null) {
+                    setterHandle.invokeExact((Object) instance, (Object) value);
+                } else if (propertyMetadata.getSetter() != null) {
                     propertyMetadata.getSetter().invoke(instance, value);
                 } else {
                     propertyMetadata.getField().set(instance, value);
                 }
             }
-        } catch (Exception e) {
-            throw setError(e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw setError(t);
         }
     }
 
@@ -65,12 +83,26 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
         return propertyMetadata;
     }
 
-    private CodecConfigurationException getError(final Exception cause) {
+    @Nullable
+    private static MethodHandle bindGetter(final PropertyMetadata<?> propertyMetadata) {
+        return propertyMetadata.getGetter() != null
+                ? MethodHandleHelper.bindGetter(propertyMetadata.getGetter())
+                : MethodHandleHelper.bindGetter(propertyMetadata.getField());
+    }
+
+    @Nullable
+    private static MethodHandle bindSetter(final PropertyMetadata<?> propertyMetadata) {
+        return propertyMetadata.getSetter() != null
+                ? MethodHandleHelper.bindSetter(propertyMetadata.getSetter())
+                : MethodHandleHelper.bindSetter(propertyMetadata.getField());
+    }
+
+    private CodecConfigurationException getError(@Nullable final Throwable cause) {
         return new CodecConfigurationException(format("Unable to get value for property '%s' in %s", propertyMetadata.getName(),
                 propertyMetadata.getDeclaringClassName()), cause);
     }
 
-    private CodecConfigurationException setError(final Exception cause) {
+    private CodecConfigurationException setError(final Throwable cause) {
         return new CodecConfigurationException(format("Unable to set value for property '%s' in %s", propertyMetadata.getName(),
                 propertyMetadata.getDeclaringClassName()), cause);
     }
@@ -16,6 +16,8 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.BsonName;
+import org.bson.BsonSerializationException;
 import org.bson.BsonType;
 import org.bson.codecs.Codec;
 
@@ -30,6 +32,7 @@ import java.util.Objects;
 public final class PropertyModel<T> {
     private final String name;
     private final String readName;
+    private final BsonName encodedReadName;
     private final String writeName;
     private final TypeData<T> typeData;
     private final Codec<T> codec;
@@ -45,6 +48,7 @@ public final class PropertyModel<T> {
                   final PropertyAccessor<T> propertyAccessor, final String error, final BsonType bsonRepresentation) {
         this.name = name;
         this.readName = readName;
+        this.encodedReadName = encodeName(readName);
         this.writeName = writeName;
         this.typeData = typeData;
         this.codec = codec;
@@ -86,6 +90,14 @@ public final class PropertyModel<T> {
         return readName;
     }
 
+    /**
+     * @return the encoded name of the property to use as the key when serializing into BSON, or null if it has none or can not be
+     * encoded
+     */
+    BsonName getEncodedReadName() {
+        return encodedReadName;
+    }
+
     /**
      * Property is writable.
      *
@@ -161,6 +173,18 @@ public final class PropertyModel<T> {
                 + "}";
     }
 
+    private static BsonName encodeName(final String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return new BsonName(name);
+        } catch (BsonSerializationException e) {
+            // written as a string instead, which fails when the property is encoded
+            return null;
+        }
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
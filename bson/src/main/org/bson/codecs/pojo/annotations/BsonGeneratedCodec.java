@@ -0,0 +1,44 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that requests a codec for a POJO to be generated at compile time by the annotation processor of the
+ * {@code bson-codec-processor} artifact, instead of being built by reflection at runtime.
+ *
+ * <p>The generated codec is named after the class, with the names of any enclosing classes joined by an underscore, and the suffix
+ * {@code _BsonCodec}, in the same package.  It accesses properties through direct getter, setter and field calls, and maps them as
+ * the {@link org.bson.codecs.pojo.Conventions#DEFAULT_CONVENTIONS} would.  The {@link org.bson.codecs.pojo.PojoCodecProvider} uses
+ * it automatically for the classes it handles, unless it has been configured with other conventions, with property codec providers or
+ * with a {@link org.bson.codecs.pojo.ClassModel} for the class.  The codecs of the properties are looked up in the codec registry.</p>
+ *
+ * <p>Classes that need a discriminator, a {@link BsonCreator}, {@link BsonExtraElements} or {@link BsonRepresentation}, or that have
+ * type parameters, are not supported and are reported as compile errors.</p>
+ *
+ * @since 5.2
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface BsonGeneratedCodec {
+}
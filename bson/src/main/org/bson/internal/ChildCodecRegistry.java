@@ -20,6 +20,7 @@ package org.bson.internal;
 import org.bson.codecs.Codec;
 import org.bson.codecs.configuration.CodecRegistry;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.List;
@@ -60,9 +61,18 @@ class ChildCodecRegistry<T> implements CodecRegistry {
         return Optional.ofNullable(types);
     }
 
+    @Nullable
+    List<Type> getTypeArguments() {
+        return types;
+    }
+
     // Gets a Codec, but if it detects a cyclic dependency, return a LazyCodec which breaks the chain.
+    // A codec that has already been created cannot be part of a cycle, so it is returned without creating a child context.
     public <U> Codec<U> get(final Class<U> clazz) {
-        if (hasCycles(clazz)) {
+        Codec<U> cachedCodec = registry.getIfCached(clazz);
+        if (cachedCodec != null) {
+            return cachedCodec;
+        } else if (hasCycles(clazz)) {
             return new LazyCodec<>(registry, clazz, null);
         } else {
             return registry.get(new ChildCodecRegistry<>(this, clazz, null));
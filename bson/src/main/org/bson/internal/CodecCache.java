@@ -18,6 +18,7 @@ package org.bson.internal;
 
 import org.bson.codecs.Codec;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Objects;
@@ -65,6 +66,8 @@ final class CodecCache {
     }
 
     private final ConcurrentMap<CodecCacheKey, Codec<?>> codecCache = new ConcurrentHashMap<>();
+    // codecs for classes without type arguments, which are looked up by the class itself so that a hit allocates nothing
+    private final ConcurrentMap<Class<?>, Codec<?>> classCodecCache = new ConcurrentHashMap<>();
 
     public <T> Codec<T> putIfAbsent(final CodecCacheKey codecCacheKey, final Codec<T> codec) {
         assertNotNull(codec);
@@ -78,4 +81,18 @@ final class CodecCache {
         Codec<T> codec = (Codec<T>) codecCache.get(codecCacheKey);
         return Optional.ofNullable(codec);
     }
+
+    public <T> Codec<T> putIfAbsent(final Class<T> clazz, final Codec<T> codec) {
+        assertNotNull(codec);
+        @SuppressWarnings("unchecked")
+        Codec<T> prevCodec = (Codec<T>) classCodecCache.putIfAbsent(clazz, codec);
+        return prevCodec == null ? codec : prevCodec;
+    }
+
+    @Nullable
+    public <T> Codec<T> get(final Class<T> clazz) {
+        @SuppressWarnings("unchecked")
+        Codec<T> codec = (Codec<T>) classCodecCache.get(clazz);
+        return codec;
+    }
 }
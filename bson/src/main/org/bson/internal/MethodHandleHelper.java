@@ -0,0 +1,145 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Utilities for binding the reflective members used by codecs into method handles once, so that they can be invoked without the access
+ * checks and argument arrays of reflection, and inlined by the JIT compiler.
+ *
+ * <p>Binding is enabled by default and is disabled by setting the {@value #METHOD_HANDLES_PROPERTY} system property to {@code false}.
+ * When it is disabled, or when a member cannot be bound, for example because a security manager or the module system forbids it, the
+ * methods return null and the caller falls back to reflection.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class MethodHandleHelper {
+
+    /**
+     * The system property that enables or disables binding.
+     */
+    public static final String METHOD_HANDLES_PROPERTY = "org.bson.codecs.methodHandles";
+
+    /**
+     * Binds a getter method.
+     *
+     * @param getter the getter, which takes no parameters
+     * @return a handle of type {@code (Object)Object}, or null if the getter cannot be bound
+     */
+    @Nullable
+    public static MethodHandle bindGetter(final Method getter) {
+        return bind(getter, methodType(Object.class, Object.class));
+    }
+
+    /**
+     * Binds the read access of a field.
+     *
+     * @param field the instance field
+     * @return a handle of type {@code (Object)Object}, or null if the field cannot be bound
+     */
+    @Nullable
+    public static MethodHandle bindGetter(final Field field) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflectGetter(field).asType(methodType(Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Binds a setter method.
+     *
+     * @param setter the setter, which takes one parameter
+     * @return a handle of type {@code (Object,Object)void}, or null if the setter cannot be bound
+     */
+    @Nullable
+    public static MethodHandle bindSetter(final Method setter) {
+        return bind(setter, methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * Binds the write access of a field.
+     *
+     * @param field the instance field, which must not be final
+     * @return a handle of type {@code (Object,Object)void}, or null if the field cannot be bound
+     */
+    @Nullable
+    public static MethodHandle bindSetter(final Field field) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Binds a constructor or a static factory method.
+     *
+     * @param creator the constructor or static method
+     * @return a handle of type {@code (Object[])Object} that takes the arguments as an array, or null if the creator cannot be bound
+     */
+    @Nullable
+    public static MethodHandle bindCreator(final Executable creator) {
+        int parameterCount = creator.getParameterCount();
+        MethodHandle handle = bind(creator, genericMethodType(parameterCount));
+        return handle == null ? null : handle.asSpreader(Object[].class, parameterCount);
+    }
+
+    @Nullable
+    private static MethodHandle bind(final Executable executable, final MethodType type) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = executable instanceof Constructor
+                    ? lookup.unreflectConstructor((Constructor<?>) executable)
+                    : lookup.unreflect((Method) executable);
+            return handle.asType(type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isEnabled() {
+        try {
+            return Boolean.parseBoolean(System.getProperty(METHOD_HANDLES_PROPERTY, "true"));
+        } catch (SecurityException e) {
+            return true;
+        }
+    }
+
+    private MethodHandleHelper() {
+    }
+}
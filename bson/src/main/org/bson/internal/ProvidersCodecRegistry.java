@@ -22,6 +22,7 @@ import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.internal.CodecCache.CodecCacheKey;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -46,7 +47,8 @@ public final class ProvidersCodecRegistry implements CycleDetectingCodecRegistry
 
     @Override
     public <T> Codec<T> get(final Class<T> clazz) {
-        return get(new ChildCodecRegistry<>(this, clazz, null));
+        Codec<T> cachedCodec = codecCache.get(clazz);
+        return cachedCodec != null ? cachedCodec : get(new ChildCodecRegistry<>(this, clazz, null));
     }
 
     @Override
@@ -75,16 +77,30 @@ public final class ProvidersCodecRegistry implements CycleDetectingCodecRegistry
     }
 
     public <T> Codec<T> get(final ChildCodecRegistry<T> context) {
-        CodecCacheKey codecCacheKey = new CodecCacheKey(context.getCodecClass(), context.getTypes().orElse(null));
-        return codecCache.<T>get(codecCacheKey).orElseGet(() -> {
-            for (CodecProvider provider : codecProviders) {
-                Codec<T> codec = provider.get(context.getCodecClass(), context.getTypes().orElse(emptyList()), context);
-                if (codec != null) {
-                    return codecCache.putIfAbsent(codecCacheKey, codec);
-                }
+        List<Type> typeArguments = context.getTypeArguments();
+        if (typeArguments == null) {
+            Codec<T> cachedCodec = codecCache.get(context.getCodecClass());
+            return cachedCodec != null ? cachedCodec : codecCache.putIfAbsent(context.getCodecClass(), createCodec(context, emptyList()));
+        }
+        CodecCacheKey codecCacheKey = new CodecCacheKey(context.getCodecClass(), typeArguments);
+        return codecCache.<T>get(codecCacheKey).orElseGet(() -> codecCache.putIfAbsent(codecCacheKey, createCodec(context, typeArguments)));
+    }
+
+    @Override
+    @Nullable
+    public <T> Codec<T> getIfCached(final Class<T> clazz) {
+        return codecCache.get(clazz);
+    }
+
+    private <T> Codec<T> createCodec(final ChildCodecRegistry<T> context, final List<Type> typeArguments) {
+        for (CodecProvider provider : codecProviders) {
+            Codec<T> codec = provider.get(context.getCodecClass(), typeArguments, context);
+            if (codec != null) {
+                return codec;
             }
-            throw new CodecConfigurationException(format("Can't find a codec for %s.", codecCacheKey));
-        });
+        }
+        throw new CodecConfigurationException(format("Can't find a codec for %s.",
+                new CodecCacheKey(context.getCodecClass(), context.getTypeArguments())));
     }
 
     @Override
@@ -84,6 +84,27 @@ public class BasicOutputBuffer extends OutputBuffer {
         buffer[position++] = (byte) (0xFF & value);
     }
 
+    @Override
+    protected int writeAsciiCharacters(final String str, final int start, final boolean checkForNullCharacters) {
+        ensureOpen();
+
+        int len = str.length();
+        // no character is encoded in fewer bytes than it has chars, so this never reserves more than the whole string needs
+        ensure(len - start);
+        byte[] localBuffer = buffer;
+        int localPosition = position;
+        int i = start;
+        for (; i < len; i++) {
+            char c = str.charAt(i);
+            if (c >= 0x80 || (checkForNullCharacters && c == 0)) {
+                break;
+            }
+            localBuffer[localPosition++] = (byte) c;
+        }
+        position = localPosition;
+        return i;
+    }
+
     @Override
     protected void write(final int absolutePosition, final int value) {
         ensureOpen();
@@ -20,6 +20,7 @@ import org.bson.BsonSerializationException;
 import org.bson.ByteBuf;
 import org.bson.types.ObjectId;
 
+import javax.annotation.Nullable;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 
@@ -40,7 +41,12 @@ public class ByteBufferBsonInput implements BsonInput {
         }
     }
 
+    private static final int INITIAL_SCRATCH_BUFFER_SIZE = 128;
+    private static final int MAX_SCRATCH_BUFFER_SIZE = 16 * 1024;
+
+    private final FieldNameCache fieldNameCache;
     private ByteBuf buffer;
+    private byte[] scratchBuffer;
 
     /**
      * Construct an instance with the given byte buffer.  The stream takes over ownership of the buffer and closes it when this instance is
@@ -49,10 +55,26 @@ public class ByteBufferBsonInput implements BsonInput {
      * @param buffer the byte buffer
      */
     public ByteBufferBsonInput(final ByteBuf buffer) {
+        this(buffer, null);
+    }
+
+    /**
+     * Construct an instance with the given byte buffer and field name cache.  The stream takes over ownership of the buffer and closes it
+     * when this instance is closed.
+     *
+     * <p>Every cstring read by {@link #readCString()}, which includes every field name, is first looked up in the cache, so the same
+     * cache should only be shared between inputs whose documents have similar field names.</p>
+     *
+     * @param buffer the byte buffer
+     * @param fieldNameCache the field name cache, which may be null
+     * @since 5.2
+     */
+    public ByteBufferBsonInput(final ByteBuf buffer, @Nullable final FieldNameCache fieldNameCache) {
         if (buffer == null) {
             throw new IllegalArgumentException("buffer can not be null");
         }
         this.buffer = buffer;
+        this.fieldNameCache = fieldNameCache;
         buffer.order(ByteOrder.LITTLE_ENDIAN);
     }
 
@@ -127,14 +149,49 @@ public class ByteBufferBsonInput implements BsonInput {
 
     @Override
     public String readCString() {
-        int mark = buffer.position();
-        skipCString();
-        int size = buffer.position() - mark;
-        buffer.position(mark);
-        return readString(size);
+        ensureOpen();
+        int position = buffer.position();
+        int limit = buffer.limit();
+        boolean ascii = true;
+        int hash = 0;
+        int index = position;
+        byte b;
+        do {
+            if (index == limit) {
+                throw new BsonSerializationException("Found a BSON string that is not null-terminated");
+            }
+            b = buffer.get(index++);
+            ascii &= b >= 0;
+            hash = FieldNameCache.hash(hash, b);
+        } while (b != 0);
+
+        int length = index - position - 1;
+        if (fieldNameCache == null || length > FieldNameCache.MAX_NAME_LENGTH) {
+            return readString(length + 1, ascii);
+        }
+        String name = fieldNameCache.get(buffer, position, length, hash);
+        if (name != null) {
+            buffer.position(index);
+            return name;
+        }
+        name = readString(length + 1, ascii);
+        fieldNameCache.put(buffer, position, length, hash, name);
+        return name;
     }
 
     private String readString(final int size) {
+        return readString(size, false);
+    }
+
+    /**
+     * Decodes a string of the given size, including its null terminator, starting at the current position.  The bytes are decoded in
+     * place when the buffer exposes its backing array, and otherwise are first copied into a scratch array that is reused across calls.
+     *
+     * @param size the size of the string in bytes, including the null terminator
+     * @param ascii true if the caller has already established that every byte of the string is in the ASCII range
+     * @return the decoded string
+     */
+    private String readString(final int size, final boolean ascii) {
         if (size == 2) {
             byte asciiByte = buffer.get();               // if only one byte in the string, it must be ascii.
             byte nullByte = buffer.get();                // read null terminator
@@ -146,14 +203,37 @@ public class ByteBufferBsonInput implements BsonInput {
             }
             return ONE_BYTE_ASCII_STRINGS[asciiByte];  // this will throw if asciiByte is negative
         } else {
-            byte[] bytes = new byte[size - 1];
-            buffer.get(bytes);
-            byte nullByte = buffer.get();
-            if (nullByte != 0) {
+            int length = size - 1;
+            int position = buffer.position();
+            if (buffer.get(position + length) != 0) {
                 throw new BsonSerializationException("Found a BSON string that is not null-terminated");
             }
-            return new String(bytes, StandardCharsets.UTF_8);
+            byte[] bytes;
+            int offset;
+            if (buffer.hasArray()) {
+                bytes = buffer.array();
+                offset = buffer.arrayOffset() + position;
+                buffer.position(position + size);
+            } else {
+                bytes = getScratchBuffer(length);
+                offset = 0;
+                buffer.get(bytes, 0, length);
+                buffer.get();
+            }
+            // ISO-8859-1 maps every byte to the char of the same value, so for ASCII it is a plain copy without UTF-8 validation
+            return new String(bytes, offset, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+        }
+    }
+
+    private byte[] getScratchBuffer(final int length) {
+        if (length > MAX_SCRATCH_BUFFER_SIZE) {
+            return new byte[length];
+        }
+        if (scratchBuffer == null || scratchBuffer.length < length) {
+            scratchBuffer = new byte[Math.max(length, Math.min(MAX_SCRATCH_BUFFER_SIZE,
+                    scratchBuffer == null ? INITIAL_SCRATCH_BUFFER_SIZE : scratchBuffer.length * 2))];
         }
+        return scratchBuffer;
     }
 
     @Override
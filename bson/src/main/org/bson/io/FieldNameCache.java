@@ -0,0 +1,202 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.io;
+
+import org.bson.ByteBuf;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+
+/**
+ * A bounded, thread-safe cache of decoded BSON field names, keyed on their UTF-8 encoded bytes.
+ *
+ * <p>The set of field names in a collection is usually small, and the same names are decoded again for every document.  When a
+ * {@link ByteBufferBsonInput} is created with a cache, a cstring whose bytes are in the cache is returned as the cached {@code String}
+ * instance, without allocating or decoding anything.  An instance is intended to be shared by every reader of the same kind of
+ * documents, for example all the connections of a {@code MongoClient}.</p>
+ *
+ * <p>The cache is direct-mapped: each name hashes to a single slot, and a newly decoded name replaces whatever was in its slot.  So the
+ * cache never holds more than {@link #getMaxSize()} names, but two frequently used names that hash to the same slot will keep evicting
+ * each other.  Names longer than {@value #MAX_NAME_LENGTH} bytes are never cached.</p>
+ *
+ * @see ByteBufferBsonInput#ByteBufferBsonInput(ByteBuf, FieldNameCache)
+ * @since 5.2
+ */
+public final class FieldNameCache {
+
+    /**
+     * The maximum length in bytes, excluding the null terminator, of a field name that will be cached.
+     */
+    public static final int MAX_NAME_LENGTH = 128;
+
+    private static final int DEFAULT_MAX_SIZE = 1024;
+    private static final int MAXIMUM_MAX_SIZE = 1 << 20;
+
+    private final Entry[] entries;
+    private final int mask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Construct an instance that holds up to 1024 field names.
+     */
+    public FieldNameCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param maxSize the maximum number of field names to hold, which is rounded up to the next power of two
+     */
+    public FieldNameCache(final int maxSize) {
+        isTrueArgument("maxSize > 0 and <= " + MAXIMUM_MAX_SIZE, maxSize > 0 && maxSize <= MAXIMUM_MAX_SIZE);
+        int size = maxSize == 1 ? 1 : Integer.highestOneBit(maxSize - 1) << 1;
+        entries = new Entry[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Gets the maximum number of field names that this cache holds.
+     *
+     * @return the maximum number of field names
+     */
+    public int getMaxSize() {
+        return entries.length;
+    }
+
+    /**
+     * Gets the number of lookups that found the field name in the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of lookups that did not find the field name in the cache, and so had to decode it.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the proportion of lookups that found the field name in the cache.
+     *
+     * @return the hit rate, between 0 and 1, or 0 if there have been no lookups
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Looks up the name whose encoded bytes start at the given index of the buffer.
+     *
+     * @param buffer the buffer
+     * @param index the absolute index in the buffer of the first byte of the name
+     * @param length the length in bytes of the name, excluding the null terminator
+     * @param hash the hash of the bytes of the name, as computed by {@link #hash(int, byte)}
+     * @return the cached name, or null if the name is not in the cache
+     */
+    @Nullable
+    String get(final ByteBuf buffer, final int index, final int length, final int hash) {
+        Entry entry = entries[indexFor(hash)];
+        if (entry != null && entry.hash == hash && entry.matches(buffer, index, length)) {
+            hitCount.increment();
+            return entry.name;
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * Adds a decoded name to the cache, replacing any name that occupies the same slot.
+     *
+     * @param buffer the buffer
+     * @param index the absolute index in the buffer of the first byte of the name
+     * @param length the length in bytes of the name, excluding the null terminator
+     * @param hash the hash of the bytes of the name, as computed by {@link #hash(int, byte)}
+     * @param name the decoded name
+     */
+    void put(final ByteBuf buffer, final int index, final int length, final int hash, final String name) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(index + i);
+        }
+        // Entries are immutable, so a racing reader sees either the old entry or a fully constructed new one
+        entries[indexFor(hash)] = new Entry(bytes, hash, name);
+    }
+
+    static int hash(final int hash, final byte b) {
+        return 31 * hash + b;
+    }
+
+    private int indexFor(final int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldNameCache{"
+                + "maxSize=" + getMaxSize()
+                + ", hitCount=" + getHitCount()
+                + ", missCount=" + getMissCount()
+                + '}';
+    }
+
+    private static final class Entry {
+        private final byte[] bytes;
+        private final int hash;
+        private final String name;
+
+        Entry(final byte[] bytes, final int hash, final String name) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.name = name;
+        }
+
+        boolean matches(final ByteBuf buffer, final int index, final int length) {
+            if (bytes.length != length) {
+                return false;
+            }
+            if (buffer.hasArray()) {
+                byte[] array = buffer.array();
+                int offset = buffer.arrayOffset() + index;
+                for (int i = 0; i < length; i++) {
+                    if (array[offset + i] != bytes[i]) {
+                        return false;
+                    }
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    if (buffer.get(index + i) != bytes[i]) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
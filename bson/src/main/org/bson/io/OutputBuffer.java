@@ -186,11 +186,34 @@ public abstract class OutputBuffer extends OutputStream implements BsonOutput {
         writeInt64(value);
     }
 
+    /**
+     * Writes a run of the characters of the given string, starting at the given index, for as long as they are ASCII characters, each of
+     * which is encoded in UTF-8 as a single byte of the same value.  This is the common case for the strings of most documents, so
+     * implementations that can copy such a run directly into their storage should override this method, which writes nothing.
+     *
+     * @param str the string
+     * @param start the index of the first character to write
+     * @param checkForNullCharacters whether to stop at a null character, which is not valid in a BSON cstring
+     * @return the index of the first character that was not written, which is the length of the string if every character from the
+     * start index was written
+     * @since 5.2
+     */
+    protected int writeAsciiCharacters(final String str, final int start, final boolean checkForNullCharacters) {
+        return start;
+    }
+
     private int writeCharacters(final String str, final boolean checkForNullCharacters) {
         int len = str.length();
         int total = 0;
 
         for (int i = 0; i < len;) {
+            int asciiEnd = writeAsciiCharacters(str, i, checkForNullCharacters);
+            total += asciiEnd - i;
+            i = asciiEnd;
+            if (i == len) {
+                break;
+            }
+
             int c = Character.codePointAt(str, i);
 
             if (checkForNullCharacters && c == 0x0) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A buffer that reads from the stream in chunks rather than a character at a time, unlike {@link JsonStreamBuffer}.  It therefore
+ * reads ahead of the current position, so it is only used when the whole stream is to be consumed.
+ */
+class JsonChunkedStreamBuffer implements JsonBuffer {
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final Reader reader;
+    private final List<Integer> markedPositions = new ArrayList<>();
+    private char[] buffer;
+    private int bufferStartPos;
+    private int bufferCount;
+    private int position;
+    private boolean eof;
+
+    JsonChunkedStreamBuffer(final Reader reader) {
+        this(reader, DEFAULT_CHUNK_SIZE);
+    }
+
+    JsonChunkedStreamBuffer(final Reader reader, final int chunkSize) {
+        this.reader = reader;
+        this.buffer = new char[chunkSize];
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int read() {
+        if (eof) {
+            throw new JsonParseException("Trying to read past EOF.");
+        }
+        if (position - bufferStartPos == bufferCount && !fill()) {
+            eof = true;
+            return -1;
+        }
+        return buffer[position++ - bufferStartPos];
+    }
+
+    public void unread(final int c) {
+        eof = false;
+        if (c != -1 && position > bufferStartPos && buffer[position - 1 - bufferStartPos] == c) {
+            position--;
+        }
+    }
+
+    public int mark() {
+        markedPositions.add(position);
+        return position;
+    }
+
+    public void reset(final int markPos) {
+        if (markPos > position) {
+            throw new IllegalStateException("mark cannot reset ahead of position, only back");
+        }
+        int idx = markedPositions.indexOf(markPos);
+        if (idx == -1) {
+            throw new IllegalArgumentException("mark invalidated");
+        }
+        markedPositions.subList(idx, markedPositions.size()).clear();
+        position = markPos;
+    }
+
+    public void discard(final int markPos) {
+        int idx = markedPositions.indexOf(markPos);
+        if (idx == -1) {
+            return;
+        }
+        markedPositions.subList(idx, markedPositions.size()).clear();
+    }
+
+    private boolean fill() {
+        // keep the last character read, so that it can be unread, and everything from the earliest mark
+        int keepFromPos = Math.max(bufferStartPos, position - 1);
+        if (!markedPositions.isEmpty()) {
+            keepFromPos = Math.min(keepFromPos, markedPositions.get(0));
+        }
+        int keepCount = bufferCount - (keepFromPos - bufferStartPos);
+        if (keepCount == buffer.length) {
+            char[] newBuffer = new char[buffer.length * 2];
+            System.arraycopy(buffer, keepFromPos - bufferStartPos, newBuffer, 0, keepCount);
+            buffer = newBuffer;
+        } else {
+            System.arraycopy(buffer, keepFromPos - bufferStartPos, buffer, 0, keepCount);
+        }
+        bufferStartPos = keepFromPos;
+        bufferCount = keepCount;
+        try {
+            int charsRead;
+            do {
+                charsRead = reader.read(buffer, bufferCount, buffer.length - bufferCount);
+            } while (charsRead == 0);
+            if (charsRead == -1) {
+                return false;
+            }
+            bufferCount += charsRead;
+            return true;
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+}
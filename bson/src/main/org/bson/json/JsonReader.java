@@ -92,6 +92,10 @@ public class JsonReader extends AbstractBsonReader {
         this(new JsonScanner(reader));
     }
 
+    JsonReader(final JsonBuffer buffer) {
+        this(new JsonScanner(buffer));
+    }
+
     private JsonReader(final JsonScanner scanner) {
         this.scanner = scanner;
         setContext(new Context(null, BsonContextType.TOP_LEVEL));
@@ -96,7 +96,10 @@ class JsonStreamBuffer implements JsonBuffer {
     private void resetBuffer() {
         bufferStartPos = -1;
         bufferCount = 0;
-        buffer = new char[initialBufferSize];
+        // this is called for every character read while nothing is marked, so only allocate to shrink a buffer that a mark grew
+        if (buffer == null || buffer.length != initialBufferSize) {
+            buffer = new char[initialBufferSize];
+        }
     }
 
     public void unread(final int c) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+
+import javax.annotation.Nullable;
+import java.io.Reader;
+import java.util.Arrays;
+
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * Transcodes a sequence of JSON documents, such as the lines of a newline-delimited JSON file, to BSON.
+ *
+ * <p>The events of a {@link JsonReader} are piped directly to a {@link BsonWriter}, so no {@code BsonDocument} or {@code Document}
+ * is built for any of the documents.  The documents may be separated by any whitespace, and are read in MongoDB Extended JSON
+ * format.  For example, to transcode each line of a file:</p>
+ * <pre>
+ * try (Reader reader = Files.newBufferedReader(path)) {
+ *     JsonTranscoder transcoder = new JsonTranscoder(reader);
+ *     RawBsonDocument document;
+ *     while ((document = transcoder.nextRawDocument()) != null) {
+ *         process(document);
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @since 5.2
+ */
+public final class JsonTranscoder {
+    private final JsonReader reader;
+    private final BasicOutputBuffer buffer = new BasicOutputBuffer();
+    private boolean done;
+
+    /**
+     * Constructs a new instance that reads documents from the given {@code Reader}.
+     *
+     * <p>The characters are read in chunks, ahead of the document being transcoded, so the reader need not be buffered, and should not
+     * be read by the application while this is in use.  The application is responsible for closing the {@code Reader}.</p>
+     *
+     * @param reader the reader of the JSON documents
+     */
+    public JsonTranscoder(final Reader reader) {
+        this.reader = new JsonReader(new JsonChunkedStreamBuffer(notNull("reader", reader)));
+    }
+
+    /**
+     * Constructs a new instance that reads documents from the given string.
+     *
+     * @param json the JSON documents
+     */
+    public JsonTranscoder(final String json) {
+        this.reader = new JsonReader(notNull("json", json));
+    }
+
+    /**
+     * Transcodes the next document to the given writer.
+     *
+     * @param writer the writer
+     * @return false if there are no more documents, in which case nothing was written
+     * @throws JsonParseException if the JSON is invalid, or if the next value is not a document
+     */
+    public boolean transcodeNext(final BsonWriter writer) {
+        notNull("writer", writer);
+        if (!readNextDocumentType()) {
+            return false;
+        }
+        writer.pipe(reader);
+        return true;
+    }
+
+    /**
+     * Transcodes the next document to a {@code RawBsonDocument}.
+     *
+     * <p>The document is encoded into a buffer that is reused for every document, and then copied into a byte array of exactly its
+     * size.</p>
+     *
+     * @return the next document, or null if there are no more documents
+     * @throws JsonParseException if the JSON is invalid, or if the next value is not a document
+     */
+    @Nullable
+    public RawBsonDocument nextRawDocument() {
+        if (!readNextDocumentType()) {
+            return null;
+        }
+        buffer.truncateToPosition(0);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writer.pipe(reader);
+        }
+        return new RawBsonDocument(Arrays.copyOf(buffer.getInternalBuffer(), buffer.getPosition()));
+    }
+
+    private boolean readNextDocumentType() {
+        if (done) {
+            return false;
+        }
+        BsonType bsonType = reader.readBsonType();
+        if (bsonType == BsonType.END_OF_DOCUMENT) {
+            done = true;
+            return false;
+        }
+        if (bsonType != BsonType.DOCUMENT) {
+            throw new JsonParseException("JSON transcoder was expecting a document but found a value of type %s.", bsonType);
+        }
+        return true;
+    }
+}
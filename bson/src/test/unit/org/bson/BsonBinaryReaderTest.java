@@ -16,15 +16,19 @@
 
 package org.bson;
 
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.io.ByteBufferBsonInput;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
+import java.util.UUID;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class BsonBinaryReaderTest {
@@ -70,6 +74,84 @@ public class BsonBinaryReaderTest {
         }
     }
 
+    @Test
+    public void testResetToAMarkAfterLeavingTheMarkedContexts() {
+        BsonBinaryReader reader = createReaderForBytes(
+                RawBsonDocument.parse("{a: {b: {x: 1, z: 3}}, c: {d: [2, {y: 4}]}}").getByteBuffer().array());
+
+        reader.readStartDocument();
+        reader.readName("a");
+        reader.readStartDocument();
+        reader.readName("b");
+        reader.readStartDocument();
+        assertEquals(1, reader.readInt32("x"));
+        BsonReaderMark mark = reader.getMark();
+        assertEquals(3, reader.readInt32("z"));
+        reader.readEndDocument();
+        reader.readEndDocument();
+        reader.readName("c");
+        reader.readStartDocument();
+        reader.readName("d");
+        reader.readStartArray();
+        assertEquals(2, reader.readInt32());
+        reader.readStartDocument();
+        assertEquals(4, reader.readInt32("y"));
+        reader.readEndDocument();
+        reader.readEndArray();
+        reader.readEndDocument();
+        mark.reset();
+        assertEquals(3, reader.readInt32("z"));
+        reader.readEndDocument();
+        reader.readEndDocument();
+        reader.readName("c");
+        reader.readStartDocument();
+        reader.readName("d");
+        reader.readStartArray();
+        assertEquals(2, reader.readInt32());
+        reader.readStartDocument();
+        assertEquals(4, reader.readInt32("y"));
+        reader.readEndDocument();
+        reader.readEndArray();
+        reader.readEndDocument();
+        reader.readEndDocument();
+        reader.close();
+    }
+
+    @Test
+    public void testContextsAreReusedAfterPeekingAtABinaryValue() {
+        BsonDocument element = new BsonDocument("u", new BsonBinary(UUID.randomUUID(), UuidRepresentation.STANDARD))
+                .append("n", new BsonDocument("x", new BsonInt32(1)));
+        BsonBinaryReader reader = createReaderForBytes(
+                new RawBsonDocument(new BsonDocument("a", new BsonArray(asList(element, element))), new BsonDocumentCodec())
+                        .getByteBuffer().array());
+
+        reader.readStartDocument();
+        reader.readName("a");
+        reader.readStartArray();
+        BsonBinaryReader.Context[] elementContexts = new BsonBinaryReader.Context[2];
+        BsonBinaryReader.Context[] nestedContexts = new BsonBinaryReader.Context[2];
+        for (int i = 0; i < 2; i++) {
+            reader.readStartDocument();
+            elementContexts[i] = reader.getContext();
+            reader.readName("u");
+            assertEquals(BsonBinarySubType.UUID_STANDARD.getValue(), reader.peekBinarySubType());
+            assertEquals(16, reader.peekBinarySize());
+            assertEquals(16, reader.readBinaryData().getData().length);
+            reader.readName("n");
+            reader.readStartDocument();
+            nestedContexts[i] = reader.getContext();
+            assertEquals(1, reader.readInt32("x"));
+            reader.readEndDocument();
+            reader.readEndDocument();
+        }
+        reader.readEndArray();
+        reader.readEndDocument();
+
+        assertSame(elementContexts[0], elementContexts[1]);
+        assertSame(nestedContexts[0], nestedContexts[1]);
+        reader.close();
+    }
+
     private BsonBinaryReader createReaderForBytes(final byte[] bytes) {
         return new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes))));
     }
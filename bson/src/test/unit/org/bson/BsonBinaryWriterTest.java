@@ -16,6 +16,8 @@
 
 package org.bson;
 
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
 import org.bson.io.BasicOutputBuffer;
 import org.bson.io.ByteBufferBsonInput;
 import org.bson.types.ObjectId;
@@ -90,6 +92,122 @@ public class BsonBinaryWriterTest {
         writer.writeEndDocument();
     }
 
+    @Test
+    public void shouldRestoreEachPushedMaxDocumentSize() {
+        writer.writeStartDocument();
+        for (int i = 0; i < 10; i++) {
+            writer.pushMaxDocumentSize(100 - i);
+        }
+        for (int i = 0; i < 9; i++) {
+            writer.popMaxDocumentSize();
+        }
+        writer.writeStartDocument("doc");
+        writer.writeBinaryData("bin", new BsonBinary(new byte[100]));
+        BsonMaximumSizeExceededException e = assertThrows(BsonMaximumSizeExceededException.class, writer::writeEndDocument);
+        assertEquals("Document size of 115 is larger than maximum of 100.", e.getMessage());
+    }
+
+    @Test
+    public void shouldWriteTheSameBytesWhenReusingContexts() {
+        BsonDocument document = new BsonDocument("a", new BsonArray(asList(new BsonDocument("b", new BsonInt32(1)),
+                new BsonArray(asList(new BsonInt32(2), new BsonDocument())))))
+                .append("c", new BsonDocument("d", new BsonArray()));
+        BasicOutputBuffer expected = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(expected), document, EncoderContext.builder().build());
+
+        for (int i = 0; i < 3; i++) {
+            buffer.truncateToPosition(0);
+            new BsonDocumentCodec().encode(writer, document, EncoderContext.builder().build());
+            assertArrayEquals(expected.toByteArray(), buffer.toByteArray());
+        }
+    }
+
+    @Test
+    public void shouldResetToAMarkAfterLeavingTheMarkedContexts() {
+        writer.writeStartDocument();
+        writer.writeStartArray("a");
+        writer.writeStartArray();
+        writer.writeStartDocument();
+        writer.writeInt32("x", 1);
+        writer.mark();
+        writer.writeEndDocument();
+        writer.writeEndArray();
+        writer.writeStartArray();
+        writer.writeStartDocument();
+        writer.writeInt32("y", 2);
+        writer.writeEndDocument();
+        writer.writeEndArray();
+        writer.reset();
+        writer.writeInt32("z", 3);
+        writer.writeEndDocument();
+        writer.writeEndArray();
+        writer.writeEndArray();
+        writer.writeEndDocument();
+
+        assertEquals(BsonDocument.parse("{a: [[{x: 1, z: 3}]]}"), new RawBsonDocument(buffer.toByteArray()));
+    }
+
+    @Test
+    public void shouldWriteTheSameBytesForEncodedNames() {
+        BasicOutputBuffer expected = new BasicOutputBuffer();
+        try (BsonBinaryWriter stringWriter = new BsonBinaryWriter(expected)) {
+            stringWriter.writeStartDocument();
+            stringWriter.writeString("name", "a");
+            stringWriter.writeStartDocument("n\u00e4me");
+            stringWriter.writeInt32("\ud83d\ude00", 1);
+            stringWriter.writeEndDocument();
+            stringWriter.writeEndDocument();
+        }
+
+        writer.writeStartDocument();
+        writer.writeName(new BsonName("name"));
+        writer.writeString("a");
+        writer.writeName(new BsonName("n\u00e4me"));
+        writer.writeStartDocument();
+        writer.writeName(new BsonName("\ud83d\ude00"));
+        writer.writeInt32(1);
+        writer.writeEndDocument();
+        writer.writeEndDocument();
+
+        assertArrayEquals(expected.toByteArray(), buffer.toByteArray());
+    }
+
+    @Test
+    public void shouldWriteTheLastNameWritten() {
+        writer.writeStartDocument();
+        writer.writeName(new BsonName("a"));
+        writer.mark();
+        writer.writeInt32(1);
+        writer.reset();
+        writer.writeInt32(2);
+        writer.mark();
+        writer.writeName(new BsonName("b"));
+        writer.reset();
+        writer.writeName("c");
+        writer.writeInt32(3);
+        writer.writeEndDocument();
+
+        assertEquals(BsonDocument.parse("{a: 2, c: 3}"), new RawBsonDocument(buffer.toByteArray()));
+    }
+
+    @Test
+    public void shouldValidateEncodedNames() {
+        BsonBinaryWriter validatingWriter = new BsonBinaryWriter(buffer, new FieldNameValidator() {
+            @Override
+            public boolean validate(final String fieldName) {
+                return !fieldName.startsWith("$");
+            }
+
+            @Override
+            public FieldNameValidator getValidatorForField(final String fieldName) {
+                return this;
+            }
+        });
+        validatingWriter.writeStartDocument();
+
+        assertThrows(IllegalArgumentException.class, () -> validatingWriter.writeName(new BsonName("$set")));
+    }
+
     @Test
     public void testWriteAndReadBoolean() {
         writer.writeStartDocument();
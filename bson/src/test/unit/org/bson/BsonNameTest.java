@@ -0,0 +1,48 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BsonNameTest {
+
+    @Test
+    public void shouldEncodeTheNameAsACString() {
+        BsonName name = new BsonName("n\u00e4me");
+
+        assertEquals("n\u00e4me", name.getValue());
+        assertArrayEquals(new byte[]{'n', (byte) 0xc3, (byte) 0xa4, 'm', 'e', 0}, name.getEncoded());
+    }
+
+    @Test
+    public void shouldNotAcceptNamesThatAreNotValidCStrings() {
+        assertThrows(IllegalArgumentException.class, () -> new BsonName(null));
+        assertThrows(BsonSerializationException.class, () -> new BsonName("a\u0000b"));
+    }
+
+    @Test
+    public void shouldBeEqualToNamesWithTheSameValue() {
+        assertEquals(new BsonName("a"), new BsonName("a"));
+        assertEquals(new BsonName("a").hashCode(), new BsonName("a").hashCode());
+        assertNotEquals(new BsonName("a"), new BsonName("b"));
+        assertEquals("BsonName{value='a'}", new BsonName("a").toString());
+    }
+}
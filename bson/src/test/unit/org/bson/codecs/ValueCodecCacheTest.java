@@ -0,0 +1,71 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.codecs;
+
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class ValueCodecCacheTest {
+    private final List<Class<?>> lookups = new ArrayList<>();
+    private final CodecRegistry registry = fromProviders(new CodecProvider() {
+        @Override
+        public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
+            lookups.add(clazz);
+            return new ValueCodecProvider().get(clazz, registry);
+        }
+    });
+
+    @Test
+    void shouldLookUpEachClassInTheRegistryOnce() {
+        ValueCodecCache cache = new ValueCodecCache(registry);
+
+        Codec<?> stringCodec = cache.get(String.class);
+        Codec<?> objectIdCodec = cache.get(ObjectId.class);
+
+        assertSame(stringCodec, cache.get(String.class));
+        assertSame(objectIdCodec, cache.get(ObjectId.class));
+        assertEquals(String.class, stringCodec.getEncoderClass());
+        assertEquals(ObjectId.class, objectIdCodec.getEncoderClass());
+        assertEquals(asList(String.class, ObjectId.class), lookups);
+    }
+
+    @Test
+    void shouldReturnTheCodecsOfTheRegistry() {
+        ValueCodecCache cache = new ValueCodecCache(registry);
+
+        assertSame(registry.get(Integer.class), cache.get(Integer.class));
+    }
+
+    @Test
+    void shouldPropagateTheExceptionOfTheRegistry() {
+        ValueCodecCache cache = new ValueCodecCache(registry);
+
+        assertThrows(CodecConfigurationException.class, () -> cache.get(ValueCodecCacheTest.class));
+        assertThrows(CodecConfigurationException.class, () -> cache.get(ValueCodecCacheTest.class));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+
+import static org.bson.internal.MethodHandleHelper.METHOD_HANDLES_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+final class MethodHandleHelperTest {
+
+    @Test
+    public void shouldBindGettersAndSetters() throws Throwable {
+        Bean bean = new Bean();
+
+        MethodHandle setter = MethodHandleHelper.bindSetter(Bean.class.getMethod("setCount", int.class));
+        MethodHandle getter = MethodHandleHelper.bindGetter(Bean.class.getMethod("getCount"));
+        assertNotNull(setter);
+        assertNotNull(getter);
+        setter.invokeExact((Object) bean, (Object) 42);
+        assertEquals(42, (Object) getter.invokeExact((Object) bean));
+
+        MethodHandle fieldSetter = MethodHandleHelper.bindSetter(Bean.class.getField("name"));
+        MethodHandle fieldGetter = MethodHandleHelper.bindGetter(Bean.class.getField("name"));
+        assertNotNull(fieldSetter);
+        assertNotNull(fieldGetter);
+        fieldSetter.invokeExact((Object) bean, (Object) "Ada");
+        assertEquals("Ada", (Object) fieldGetter.invokeExact((Object) bean));
+    }
+
+    @Test
+    public void shouldBindCreators() throws Throwable {
+        MethodHandle constructor = MethodHandleHelper.bindCreator(Bean.class.getConstructor(String.class, int.class));
+        MethodHandle factoryMethod = MethodHandleHelper.bindCreator(Bean.class.getMethod("create", String.class));
+        assertNotNull(constructor);
+        assertNotNull(factoryMethod);
+
+        Bean bean = (Bean) (Object) constructor.invokeExact(new Object[]{"Ada", 42});
+        assertEquals("Ada", bean.name);
+        assertEquals(42, bean.getCount());
+        assertEquals("Grace", ((Bean) (Object) factoryMethod.invokeExact(new Object[]{"Grace"})).name);
+    }
+
+    @Test
+    public void shouldNotBindInaccessibleMembers() throws NoSuchMethodException {
+        assertNull(MethodHandleHelper.bindGetter(Bean.class.getDeclaredMethod("getSecret")));
+    }
+
+    @Test
+    public void shouldNotBindWhenDisabled() throws NoSuchMethodException {
+        System.setProperty(METHOD_HANDLES_PROPERTY, "false");
+        try {
+            assertNull(MethodHandleHelper.bindGetter(Bean.class.getMethod("getCount")));
+        } finally {
+            System.clearProperty(METHOD_HANDLES_PROPERTY);
+        }
+        assertNotNull(MethodHandleHelper.bindGetter(Bean.class.getMethod("getCount")));
+    }
+
+    public static final class Bean {
+        public String name;
+        private int count;
+
+        public Bean() {
+        }
+
+        public Bean(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        public static Bean create(final String name) {
+            return new Bean(name, 0);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(final int count) {
+            this.count = count;
+        }
+
+        private String getSecret() {
+            return "secret";
+        }
+    }
+}
@@ -137,6 +137,18 @@ class ProvidersCodecRegistrySpecification extends Specification {
         codecFromRegistry == codec
     }
 
+    def 'get should share the codecCache with the codecs that it creates'() {
+        given:
+        def registry = new ProvidersCodecRegistry([new ClassModelCodecProvider()])
+
+        when:
+        TopCodec topCodec = registry.get(Top)
+
+        then:
+        registry.get(Nested).is(topCodec.codecForNested)
+        registry.get(Top).is(topCodec)
+    }
+
     def 'get with codec registry should return the codec from the first source that has one'() {
         given:
         def provider = new ProvidersCodecRegistry([new ClassModelCodecProvider([Simple])])
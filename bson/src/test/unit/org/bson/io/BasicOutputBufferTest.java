@@ -16,6 +16,7 @@
 
 package org.bson.io;
 
+import org.bson.BsonSerializationException;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
@@ -24,6 +25,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 // for tests that are too slow to run in Groovy
 public class BasicOutputBufferTest {
@@ -47,6 +50,30 @@ public class BasicOutputBufferTest {
         }
     }
 
+    @Test
+    public void shouldEncodeStringsThatMixAsciiAndOtherCharacters() throws IOException {
+        String str = "ascii \u00e9\u0900\ud83d\ude00 ascii \ud83d\ude00";
+        BasicOutputBuffer bsonOutput = new BasicOutputBuffer(8);
+
+        bsonOutput.writeCString(str);
+        bsonOutput.writeString(str);
+
+        byte[] encoded = str.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = getBytes(bsonOutput);
+        assertArrayEquals(encoded, Arrays.copyOfRange(bytes, 0, encoded.length));
+        assertEquals(encoded.length + 1, bytes[encoded.length + 1]);
+        assertArrayEquals(encoded, Arrays.copyOfRange(bytes, encoded.length + 5, encoded.length * 2 + 5));
+        assertEquals(encoded.length * 2 + 6, bytes.length);
+    }
+
+    @Test
+    public void shouldReportTheIndexOfANullCharacterInACString() {
+        BasicOutputBuffer bsonOutput = new BasicOutputBuffer(8);
+
+        BsonSerializationException e = assertThrows(BsonSerializationException.class, () -> bsonOutput.writeCString("ab\u00e9c\u0000d"));
+        assertEquals("BSON cstring 'ab\u00e9c\u0000d' is not valid because it contains a null character at index 4", e.getMessage());
+    }
+
     byte[] getBytes(final BasicOutputBuffer basicOutputBuffer) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream(basicOutputBuffer.getSize());
 
@@ -22,6 +22,7 @@ import org.bson.types.ObjectId
 import spock.lang.Specification
 
 import java.nio.ByteBuffer
+import java.nio.ByteOrder
 import java.nio.charset.Charset
 
 class ByteBufferBsonInputSpecification extends Specification {
@@ -159,6 +160,49 @@ class ByteBufferBsonInputSpecification extends Specification {
         stream.position == 8
     }
 
+    def 'should read strings from buffers that are not backed by an accessible array'() {
+        given:
+        def bytes = [5, 0, 0, 0, 0x4a, 0x61, 0x76, 0x61, 0, 4, 0, 0, 0, 0xe0, 0xa4, 0x80, 0, 1, 0, 0, 0, 0] as byte[]
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(byteBuffer.put(bytes).flip() as ByteBuffer))
+
+        expect:
+        stream.readString() == 'Java'
+        stream.position == 9
+        stream.readString() == '\u0900'
+        stream.position == 17
+        stream.readString() == ''
+        stream.position == 22
+
+        where:
+        byteBuffer << [ByteBuffer.allocateDirect(22), ByteBuffer.allocate(22).asReadOnlyBuffer()]
+    }
+
+    def 'should read strings longer than the scratch buffer from buffers that are not backed by an accessible array'() {
+        given:
+        def string = 'a' * 20000 + '\u0900' * 10000
+        def encoded = string.getBytes(Charset.forName('UTF-8'))
+        def byteBuffer = ByteBuffer.allocateDirect(encoded.length * 2 + 9).order(ByteOrder.LITTLE_ENDIAN)
+        byteBuffer.putInt(encoded.length + 1).put(encoded).put((byte) 0).put(encoded).put((byte) 0).flip()
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(byteBuffer))
+
+        expect:
+        stream.readString() == string
+        stream.readCString() == string
+        !stream.hasRemaining()
+    }
+
+    def 'should read strings from a slice of an array'() {
+        given:
+        def bytes = [99, 99, 5, 0, 0, 0, 0x4a, 0x61, 0x76, 0x61, 0, 0xe0, 0xa4, 0x80, 0, 99] as byte[]
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes, 2, 13).slice()))
+
+        expect:
+        stream.readString() == 'Java'
+        stream.position == 9
+        stream.readCString() == '\u0900'
+        stream.position == 13
+    }
+
     def 'should read an empty CString'() {
         given:
         def stream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap([0] as byte[])))
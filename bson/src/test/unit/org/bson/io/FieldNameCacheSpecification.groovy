@@ -0,0 +1,135 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.io
+
+import org.bson.BsonBinaryReader
+import org.bson.BsonDocument
+import org.bson.ByteBufNIO
+import org.bson.RawBsonDocument
+import org.bson.codecs.BsonDocumentCodec
+import org.bson.codecs.DecoderContext
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class FieldNameCacheSpecification extends Specification {
+
+    def 'should round the maximum size up to a power of two'() {
+        expect:
+        new FieldNameCache(maxSize).maxSize == expectedMaxSize
+
+        where:
+        maxSize | expectedMaxSize
+        1       | 1
+        2       | 2
+        3       | 4
+        1000    | 1024
+        1024    | 1024
+    }
+
+    def 'should throw if the maximum size is invalid'() {
+        when:
+        new FieldNameCache(maxSize)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        maxSize << [0, -1, (1 << 20) + 1]
+    }
+
+    def 'should return the cached instance for a repeated field name'() {
+        given:
+        def cache = new FieldNameCache()
+        def bytes = [0x6e, 0x61, 0x6d, 0x65, 0, 0x6e, 0x61, 0x6d, 0x65, 0] as byte[]
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(byteBuffer.put(bytes).flip() as ByteBuffer), cache)
+
+        when:
+        def first = stream.readCString()
+        def second = stream.readCString()
+
+        then:
+        first == 'name'
+        second.is(first)
+        stream.position == 10
+        cache.missCount == 1
+        cache.hitCount == 1
+        cache.hitRate == 0.5d
+
+        where:
+        byteBuffer << [ByteBuffer.allocate(10), ByteBuffer.allocateDirect(10), ByteBuffer.allocate(10).asReadOnlyBuffer()]
+    }
+
+    def 'should share the cache between inputs'() {
+        given:
+        def cache = new FieldNameCache()
+        def bytes = [0xe0, 0xa4, 0x80, 0] as byte[]
+
+        when:
+        def first = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), cache).readCString()
+        def second = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes.clone())), cache).readCString()
+
+        then:
+        first == '\u0900'
+        second.is(first)
+        cache.hitCount == 1
+    }
+
+    def 'should not return a different name that hashes to the same slot'() {
+        given:
+        def cache = new FieldNameCache(1)
+        def bytes = [0x61, 0, 0x62, 0, 0x61, 0] as byte[]
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), cache)
+
+        expect:
+        stream.readCString() == 'a'
+        stream.readCString() == 'b'
+        stream.readCString() == 'a'
+        cache.hitCount == 0
+        cache.missCount == 3
+    }
+
+    def 'should not cache names longer than the maximum name length'() {
+        given:
+        def cache = new FieldNameCache()
+        def name = 'a' * (FieldNameCache.MAX_NAME_LENGTH + 1)
+        def bytes = (name + '\u0000' + name + '\u0000').getBytes('UTF-8')
+        def stream = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)), cache)
+
+        expect:
+        stream.readCString() == name
+        stream.readCString() == name
+        cache.hitCount == 0
+        cache.missCount == 0
+    }
+
+    def 'should decode documents using the cache'() {
+        given:
+        def cache = new FieldNameCache()
+        def document = BsonDocument.parse('{_id: 1, status: "active", nested: {status: "inactive", tags: ["a", "b"]}}')
+        def bytes = new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer().asNIO()
+
+        when:
+        def decoded = new BsonDocumentCodec().decode(new BsonBinaryReader(bytes, cache), DecoderContext.builder().build())
+
+        then:
+        decoded == document
+        cache.hitCount == 1
+        cache.missCount == 4
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonChunkedStreamBufferTest {
+
+    @Test
+    public void testRead() {
+        JsonChunkedStreamBuffer buffer = new JsonChunkedStreamBuffer(new StringReader("ABC"), 2);
+        assertEquals('A', buffer.read());
+        assertEquals('B', buffer.read());
+        assertEquals('C', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testUnReadAcrossChunks() {
+        JsonChunkedStreamBuffer buffer = new JsonChunkedStreamBuffer(new StringReader("AB"), 1);
+        assertEquals('A', buffer.read());
+        assertEquals('B', buffer.read());
+        buffer.unread('B');
+        assertEquals('B', buffer.read());
+        buffer.unread(buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testPosition() {
+        JsonChunkedStreamBuffer buffer = new JsonChunkedStreamBuffer(new StringReader("ABC"), 1);
+
+        buffer.read();
+        buffer.read();
+        assertEquals(2, buffer.getPosition());
+    }
+
+    @Test
+    public void testEOFCheck() {
+        JsonChunkedStreamBuffer buffer = new JsonChunkedStreamBuffer(new StringReader(""));
+
+        buffer.read();
+        assertThrows(JsonParseException.class, () -> buffer.read());
+    }
+
+    @Test
+    public void testMarkAndResetAcrossChunks() {
+        JsonChunkedStreamBuffer buffer = new JsonChunkedStreamBuffer(new StringReader("ABCDEFGHIJKLMNOPQRSTUPWXYZ"), 2);
+
+        buffer.read();
+        int pos = buffer.mark();
+        assertEquals(1, pos);
+        for (int i = 0; i < 10; i++) {
+            buffer.read();
+        }
+        int innerPos = buffer.mark();
+        buffer.read();
+        buffer.read();
+
+        buffer.reset(innerPos);
+        assertEquals('L', buffer.read());
+
+        buffer.reset(pos);
+        assertEquals('B', buffer.read());
+        for (int i = 0; i < 10; i++) {
+            buffer.read();
+        }
+        assertThrows(IllegalArgumentException.class, () -> buffer.reset(innerPos));
+
+        pos = buffer.mark();
+        buffer.discard(pos);
+        assertThrows(IllegalArgumentException.class, () -> buffer.reset(2));
+        assertEquals('M', buffer.read());
+    }
+
+    @Test
+    public void testReadingDocumentsWithAnyChunkSize() {
+        String json = "{\"_id\": {\"$oid\": \"5f3d8e3b2c4a1b0e9d7f6a51\"}, \"when\": {\"$date\": {\"$numberLong\": \"1\"}}, "
+                + "\"values\": [1, 2.5, {\"$numberDecimal\": \"3\"}, {\"$binary\": {\"base64\": \"AQID\", \"subType\": \"00\"}}], "
+                + "\"text\": \"a \\\"quoted\\\" string\"}";
+        BsonDocument expected = BsonDocument.parse(json);
+        for (int chunkSize = 1; chunkSize <= json.length() + 1; chunkSize++) {
+            JsonReader reader = new JsonReader(new JsonChunkedStreamBuffer(new StringReader(json), chunkSize));
+            assertEquals(expected, new BsonDocumentCodec().decode(reader, DecoderContext.builder().build()), "chunk size " + chunkSize);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonTranscoderTest {
+    private static final String FIRST = "{\"_id\": {\"$oid\": \"5f3d8e3b2c4a1b0e9d7f6a51\"}, \"name\": \"first\", "
+            + "\"tags\": [\"a\", {\"b\": [1, 2.5, {\"$numberLong\": \"3\"}]}], \"when\": {\"$date\": \"2024-01-01T00:00:00Z\"}}";
+    private static final String SECOND = "{\"name\": \"second\", \"nested\": {\"empty\": {}, \"none\": null, \"yes\": true}}";
+
+    @Test
+    public void shouldTranscodeEachDocumentToTheSameBytesAsTheDocumentTree() {
+        JsonTranscoder transcoder = new JsonTranscoder(new BufferedReader(new StringReader(FIRST + "\n" + SECOND + "\n")));
+
+        assertArrayEquals(encode(BsonDocument.parse(FIRST)), toBytes(transcoder.nextRawDocument()));
+        assertArrayEquals(encode(BsonDocument.parse(SECOND)), toBytes(transcoder.nextRawDocument()));
+        assertNull(transcoder.nextRawDocument());
+        assertNull(transcoder.nextRawDocument());
+    }
+
+    @Test
+    public void shouldTranscodeDocumentsToAWriter() {
+        JsonTranscoder transcoder = new JsonTranscoder(FIRST + "  " + SECOND);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        BsonBinaryWriter writer = new BsonBinaryWriter(buffer);
+
+        assertTrue(transcoder.transcodeNext(writer));
+        assertTrue(transcoder.transcodeNext(writer));
+        assertFalse(transcoder.transcodeNext(writer));
+
+        BasicOutputBuffer expected = new BasicOutputBuffer();
+        expected.write(encode(BsonDocument.parse(FIRST)));
+        expected.write(encode(BsonDocument.parse(SECOND)));
+        assertArrayEquals(expected.toByteArray(), buffer.toByteArray());
+    }
+
+    @Test
+    public void shouldReturnNoDocumentsForBlankInput() {
+        assertNull(new JsonTranscoder("").nextRawDocument());
+        assertNull(new JsonTranscoder(new StringReader(" \n\n ")).nextRawDocument());
+    }
+
+    @Test
+    public void shouldNotRetainTheBufferInTheDocuments() {
+        JsonTranscoder transcoder = new JsonTranscoder(SECOND + FIRST);
+
+        RawBsonDocument second = transcoder.nextRawDocument();
+        RawBsonDocument first = transcoder.nextRawDocument();
+
+        assertEquals(BsonDocument.parse(SECOND), second);
+        assertEquals(BsonDocument.parse(FIRST), first);
+        assertEquals(second.getByteBuffer().remaining(), second.getByteBuffer().array().length);
+    }
+
+    @Test
+    public void shouldThrowIfAValueIsNotADocument() {
+        JsonTranscoder transcoder = new JsonTranscoder(SECOND + "\n[1, 2]");
+
+        assertEquals(BsonDocument.parse(SECOND), transcoder.nextRawDocument());
+        assertThrows(JsonParseException.class, transcoder::nextRawDocument);
+    }
+
+    private static byte[] encode(final BsonDocument document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private static byte[] toBytes(final RawBsonDocument document) {
+        byte[] bytes = new byte[document.getByteBuffer().remaining()];
+        document.getByteBuffer().get(bytes);
+        return bytes;
+    }
+}
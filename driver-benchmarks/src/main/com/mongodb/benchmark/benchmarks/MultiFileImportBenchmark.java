@@ -24,9 +24,7 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.InsertManyOptions;
 import org.bson.RawBsonDocument;
-import org.bson.codecs.DecoderContext;
-import org.bson.codecs.RawBsonDocumentCodec;
-import org.bson.json.JsonReader;
+import org.bson.json.JsonTranscoder;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -95,14 +93,13 @@ public class MultiFileImportBenchmark extends AbstractMongoBenchmark {
     }
 
     private Runnable importJsonFile(final CountDownLatch latch, final int fileId) {
-        RawBsonDocumentCodec codec = new RawBsonDocumentCodec();
         return () -> {
             String resourcePath = "parallel/ldjson_multi/ldjson" + String.format("%03d", fileId) + ".txt";
             try (BufferedReader reader = new BufferedReader(readFromRelativePath(resourcePath), 1024 * 64)) {
-                String json;
+                JsonTranscoder transcoder = new JsonTranscoder(reader);
+                RawBsonDocument document;
                 List<RawBsonDocument> documents = new ArrayList<>(1000);
-                while ((json = reader.readLine()) != null) {
-                    RawBsonDocument document = codec.decode(new JsonReader(json), DecoderContext.builder().build());
+                while ((document = transcoder.nextRawDocument()) != null) {
                     documents.add(document);
                     if (documents.size() == 1000) {
                         List<RawBsonDocument> documentsToInsert = documents;
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Synthetic documents shared by the JMH benchmarks.  The documents are generated in memory so that the benchmarks do not depend on
+ * the external data set used by {@link com.mongodb.benchmark.benchmarks.BenchmarkSuite}.
+ */
+public final class BenchmarkDocuments {
+
+    /**
+     * Creates a flat document of mostly short ASCII strings and numbers, similar in shape to a typical application document.
+     *
+     * @return the document
+     */
+    public static BsonDocument flatDocument() {
+        BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId("5a8e6c0f6cbbb35b1c5d1a2b")))
+                .append("createdAt", new BsonDateTime(1519283215000L))
+                .append("updatedAt", new BsonDateTime(1519283275000L))
+                .append("status", new BsonString("active"))
+                .append("type", new BsonString("customer"))
+                .append("name", new BsonString("Alice Liddell"))
+                .append("email", new BsonString("alice@example.com"))
+                .append("age", new BsonInt32(34))
+                .append("score", new BsonDouble(98.25))
+                .append("visits", new BsonInt64(1234567890123L))
+                .append("verified", BsonBoolean.TRUE)
+                .append("country", new BsonString("GB"))
+                .append("city", new BsonString("Oxford"))
+                .append("locale", new BsonString("en_GB"))
+                .append("timezone", new BsonString("Europe/London"))
+                .append("tags", new BsonArray(Arrays.asList(new BsonString("alpha"), new BsonString("beta"), new BsonString("gamma"))))
+                .append("description", new BsonString("Curiouser and curiouser! Down the rabbit hole and through the looking glass."));
+        for (int i = 0; i < 16; i++) {
+            document.append("field" + i, i % 2 == 0 ? new BsonInt32(i) : new BsonString("value" + i));
+        }
+        return document;
+    }
+
+    /**
+     * Creates a document nested to the given depth, where every level also carries a few scalar fields and a small array.
+     *
+     * @param depth the nesting depth
+     * @return the document
+     */
+    public static BsonDocument deepDocument(final int depth) {
+        BsonDocument document = new BsonDocument("level", new BsonInt32(depth))
+                .append("name", new BsonString("level" + depth))
+                .append("values", new BsonArray(Arrays.asList(new BsonInt32(1), new BsonInt32(2), new BsonInt32(3))));
+        if (depth > 0) {
+            document.append("child", deepDocument(depth - 1));
+        }
+        return document;
+    }
+
+    /**
+     * Creates a log entry whose size is dominated by a few long strings: a message of several kilobytes of ASCII text, a stack trace, and
+     * a shorter message that also contains non-ASCII characters.
+     *
+     * @return the document
+     */
+    public static BsonDocument longTextDocument() {
+        StringBuilder message = new StringBuilder();
+        StringBuilder stackTrace = new StringBuilder("java.lang.IllegalStateException: Request could not be completed");
+        for (int i = 0; i < 64; i++) {
+            message.append("Processed batch ").append(i).append(" of the nightly import from the upstream feed without errors. ");
+            stackTrace.append("\n\tat com.example.ingest.Pipeline.stage").append(i).append("(Pipeline.java:").append(100 + i).append(')');
+        }
+        return new BsonDocument("_id", new BsonObjectId(new ObjectId("5a8e6c0f6cbbb35b1c5d1a2b")))
+                .append("timestamp", new BsonDateTime(1519283215000L))
+                .append("level", new BsonString("ERROR"))
+                .append("logger", new BsonString("com.example.ingest.Pipeline"))
+                .append("message", new BsonString(message.toString()))
+                .append("stackTrace", new BsonString(stackTrace.toString()))
+                .append("localizedMessage", new BsonString("La requ\u00eate n'a pas pu \u00eatre trait\u00e9e \u2014 "
+                        + "\u8bf7\u6c42\u65e0\u6cd5\u5b8c\u6210, please retry the import of the nightly feed later."));
+    }
+
+    /**
+     * Creates the given number of small documents, each with an {@code _id}.
+     *
+     * @param count the number of documents
+     * @return the documents
+     */
+    public static List<BsonDocument> smallDocuments(final int count) {
+        List<BsonDocument> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(new BsonDocument("_id", new BsonInt32(i))
+                    .append("status", new BsonString(i % 3 == 0 ? "active" : "inactive"))
+                    .append("createdAt", new BsonDateTime(1519283215000L + i))
+                    .append("count", new BsonInt64(i * 31L)));
+        }
+        return documents;
+    }
+
+    /**
+     * Creates a POJO populated with representative values.
+     *
+     * @return the POJO
+     */
+    public static Person person() {
+        Person person = new Person();
+        person.setId(new ObjectId("5a8e6c0f6cbbb35b1c5d1a2b"));
+        person.setName("Alice Liddell");
+        person.setEmail("alice@example.com");
+        person.setAge(34);
+        person.setScore(98.25);
+        person.setVerified(true);
+        person.setCreatedAt(new Date(1519283215000L));
+        person.setTags(Arrays.asList("alpha", "beta", "gamma"));
+        Address address = new Address();
+        address.setStreet("2 Rabbit Hole Lane");
+        address.setCity("Oxford");
+        address.setCountry("GB");
+        person.setAddress(address);
+        return person;
+    }
+
+    /**
+     * Creates a record populated with the same values as {@link #person()}.
+     *
+     * @return the record
+     */
+    public static PersonRecord personRecord() {
+        return new PersonRecord(new ObjectId("5a8e6c0f6cbbb35b1c5d1a2b"), "Alice Liddell", "alice@example.com", 34, 98.25, true,
+                new Date(1519283215000L), Arrays.asList("alpha", "beta", "gamma"),
+                new AddressRecord("2 Rabbit Hole Lane", "Oxford", "GB"));
+    }
+
+    /**
+     * Encodes the document to its BSON representation.
+     *
+     * @param document the document
+     * @return the encoded bytes
+     */
+    public static byte[] toBson(final BsonDocument document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    /**
+     * A POJO used by the POJO codec benchmarks.
+     */
+    public static final class Person {
+        private ObjectId id;
+        private String name;
+        private String email;
+        private int age;
+        private double score;
+        private boolean verified;
+        private Date createdAt;
+        private List<String> tags;
+        private Address address;
+
+        public ObjectId getId() {
+            return id;
+        }
+
+        public void setId(final ObjectId id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(final String email) {
+            this.email = email;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(final int age) {
+            this.age = age;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(final double score) {
+            this.score = score;
+        }
+
+        public boolean isVerified() {
+            return verified;
+        }
+
+        public void setVerified(final boolean verified) {
+            this.verified = verified;
+        }
+
+        public Date getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(final Date createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(final List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(final Address address) {
+            this.address = address;
+        }
+    }
+
+    /**
+     * A nested POJO used by the POJO codec benchmarks.
+     */
+    public static final class Address {
+        private String street;
+        private String city;
+        private String country;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(final String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(final String city) {
+            this.city = city;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+
+        public void setCountry(final String country) {
+            this.country = country;
+        }
+    }
+
+    /**
+     * A record used by the record codec benchmarks.
+     */
+    public record PersonRecord(ObjectId id, String name, String email, int age, double score, boolean verified, Date createdAt,
+                               List<String> tags, AddressRecord address) {
+    }
+
+    /**
+     * A nested record used by the record codec benchmarks.
+     */
+    public record AddressRecord(String street, String city, String country) {
+    }
+
+    private BenchmarkDocuments() {
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh.bson;
+
+import com.mongodb.benchmark.jmh.BenchmarkDocuments;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.io.ByteBufferBsonInput;
+import org.bson.ByteBufNIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BsonBinaryReader}, both on its own, walking every element of a document, and combined with
+ * {@link BsonDocumentCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BsonBinaryReaderBenchmark {
+
+    @Param({"flat", "deep"})
+    private String shape;
+
+    private byte[] bytes;
+    private final BsonDocumentCodec codec = new BsonDocumentCodec();
+
+    @Setup
+    public void setup() {
+        BsonDocument document = shape.equals("flat") ? BenchmarkDocuments.flatDocument() : BenchmarkDocuments.deepDocument(8);
+        bytes = BenchmarkDocuments.toBson(document);
+    }
+
+    @Benchmark
+    public void readAllElements(final Blackhole blackhole) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes))))) {
+            readDocument(reader, blackhole);
+        }
+    }
+
+    @Benchmark
+    public BsonDocument decodeBsonDocument() {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            return codec.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    private static void readDocument(final BsonBinaryReader reader, final Blackhole blackhole) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            blackhole.consume(reader.readName());
+            readValue(reader, blackhole);
+        }
+        reader.readEndDocument();
+    }
+
+    private static void readArray(final BsonBinaryReader reader, final Blackhole blackhole) {
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            readValue(reader, blackhole);
+        }
+        reader.readEndArray();
+    }
+
+    private static void readValue(final BsonBinaryReader reader, final Blackhole blackhole) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                readDocument(reader, blackhole);
+                break;
+            case ARRAY:
+                readArray(reader, blackhole);
+                break;
+            case STRING:
+                blackhole.consume(reader.readString());
+                break;
+            case INT32:
+                blackhole.consume(reader.readInt32());
+                break;
+            case INT64:
+                blackhole.consume(reader.readInt64());
+                break;
+            case DOUBLE:
+                blackhole.consume(reader.readDouble());
+                break;
+            case BOOLEAN:
+                blackhole.consume(reader.readBoolean());
+                break;
+            case DATE_TIME:
+                blackhole.consume(reader.readDateTime());
+                break;
+            case OBJECT_ID:
+                blackhole.consume(reader.readObjectId());
+                break;
+            default:
+                reader.skipValue();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh.bson;
+
+import com.mongodb.benchmark.jmh.BenchmarkDocuments;
+import com.mongodb.internal.connection.ByteBufferBsonOutput;
+import com.mongodb.internal.connection.PowerOfTwoBufferPool;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BsonBinaryWriter}, both when encoding a {@link BsonDocument} and when piping already encoded BSON, against the
+ * {@link BasicOutputBuffer} and the pooled {@link ByteBufferBsonOutput} used on the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BsonBinaryWriterBenchmark {
+
+    @Param({"flat", "deep", "longText"})
+    private String shape;
+
+    private BsonDocument document;
+    private byte[] bytes;
+    private final BsonDocumentCodec codec = new BsonDocumentCodec();
+    private final PowerOfTwoBufferPool bufferPool = PowerOfTwoBufferPool.DEFAULT;
+
+    @Setup
+    public void setup() {
+        switch (shape) {
+            case "flat":
+                document = BenchmarkDocuments.flatDocument();
+                break;
+            case "deep":
+                document = BenchmarkDocuments.deepDocument(8);
+                break;
+            case "longText":
+                document = BenchmarkDocuments.longTextDocument();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+        bytes = BenchmarkDocuments.toBson(document);
+    }
+
+    @Benchmark
+    public int encodeToBasicOutputBuffer() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.getPosition();
+    }
+
+    @Benchmark
+    public int encodeToPooledOutput() {
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(bufferPool)) {
+            codec.encode(new BsonBinaryWriter(output), document, EncoderContext.builder().build());
+            return output.getPosition();
+        }
+    }
+
+    @Benchmark
+    public int pipe() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            new BsonBinaryWriter(buffer).pipe(reader);
+        }
+        return buffer.getPosition();
+    }
+}
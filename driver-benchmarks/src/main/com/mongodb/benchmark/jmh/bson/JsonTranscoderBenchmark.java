@@ -0,0 +1,106 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh.bson;
+
+import com.mongodb.benchmark.jmh.BenchmarkDocuments;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.json.JsonReader;
+import org.bson.json.JsonTranscoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading newline-delimited JSON into {@link RawBsonDocument}s: through a {@link BsonDocument} tree, through a
+ * {@link JsonReader} per line piped by {@link RawBsonDocumentCodec}, and through a single {@link JsonTranscoder} over the whole input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonTranscoderBenchmark {
+    private static final int DOCUMENT_COUNT = 1000;
+
+    @Param({"flat", "deep"})
+    private String shape;
+
+    private String json;
+    private final BsonDocumentCodec bsonDocumentCodec = new BsonDocumentCodec();
+    private final RawBsonDocumentCodec rawBsonDocumentCodec = new RawBsonDocumentCodec();
+
+    @Setup
+    public void setup() {
+        BsonDocument document = shape.equals("flat") ? BenchmarkDocuments.flatDocument() : BenchmarkDocuments.deepDocument(8);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            builder.append(document.toJson()).append('\n');
+        }
+        json = builder.toString();
+    }
+
+    @Benchmark
+    public void documentTree(final Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new StringReader(json))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                BsonDocument document = bsonDocumentCodec.decode(new JsonReader(line), DecoderContext.builder().build());
+                blackhole.consume(new RawBsonDocument(document, bsonDocumentCodec));
+            }
+        }
+    }
+
+    @Benchmark
+    public void readerPerLine(final Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new StringReader(json))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                blackhole.consume(rawBsonDocumentCodec.decode(new JsonReader(line), DecoderContext.builder().build()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void transcoder(final Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new StringReader(json))) {
+            JsonTranscoder transcoder = new JsonTranscoder(reader);
+            RawBsonDocument document;
+            while ((document = transcoder.nextRawDocument()) != null) {
+                blackhole.consume(document);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.mockserver;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records latencies without contention between recording threads: each thread appends to its own buffer, and the buffers are only
+ * merged by {@link #getPercentileNanos(double...)}, which must be called once all recording threads have finished.
+ */
+final class LatencyRecorder {
+    private final Queue<Samples> allSamples = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Samples> threadSamples = ThreadLocal.withInitial(() -> {
+        Samples samples = new Samples();
+        allSamples.add(samples);
+        return samples;
+    });
+
+    void record(final long elapsedNanos) {
+        threadSamples.get().add(elapsedNanos);
+    }
+
+    long getCount() {
+        long count = 0;
+        for (Samples samples : allSamples) {
+            count += samples.size;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the latencies at the given percentiles.
+     *
+     * @param percentiles the percentiles, each in the range (0, 100]
+     * @return the latency in nanoseconds at each of the percentiles, or -1 for each percentile if nothing was recorded
+     */
+    long[] getPercentileNanos(final double... percentiles) {
+        long[] merged = new long[(int) getCount()];
+        int position = 0;
+        for (Samples samples : allSamples) {
+            System.arraycopy(samples.values, 0, merged, position, samples.size);
+            position += samples.size;
+        }
+        Arrays.sort(merged);
+
+        long[] result = new long[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            result[i] = merged.length == 0 ? -1 : merged[Math.max(0, (int) Math.ceil(merged.length * percentiles[i] / 100.0) - 1)];
+        }
+        return result;
+    }
+
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.mockserver;
+
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-process server that speaks just enough of the MongoDB wire protocol to drive the driver's connection pool, connection, and
+ * cursor code without a real {@code mongod}.
+ *
+ * <p>It answers the handshake as a standalone server, serves every {@code find} from an in-memory result set of a configurable size,
+ * acknowledges {@code insert} commands with the number of documents sent, and replies {@code {ok: 1}} to any other command.  Replies are
+ * built from pre-encoded documents so that the server's own cost stays small compared to the driver's.</p>
+ */
+public final class MockMongoServer implements Closeable {
+    private static final int OP_REPLY = 1;
+    private static final int OP_QUERY = 2004;
+    private static final int OP_MSG = 2013;
+    private static final int MORE_TO_COME_FLAG = 1 << 1;
+    private static final int MAX_WIRE_VERSION = 21;
+    private static final int DEFAULT_BATCH_SIZE = 101;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory("MockMongoServer"));
+    private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<Long, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final AtomicLong nextCursorId = new AtomicLong(1);
+    private final AtomicInteger nextConnectionId = new AtomicInteger(1);
+    private final AtomicInteger nextRequestId = new AtomicInteger(1);
+    private final BsonDocumentCodec codec = new BsonDocumentCodec();
+    private final RawBsonDocument resultDocument;
+    private final int resultSetSize;
+    private volatile boolean closed;
+
+    /**
+     * Construct and start an instance listening on an ephemeral port of the loopback interface.
+     *
+     * @param resultDocument the document returned for every result of a {@code find}
+     * @param resultSetSize the number of documents returned by every {@code find}, across all batches
+     * @throws IOException if the server socket can not be opened
+     */
+    public MockMongoServer(final BsonDocument resultDocument, final int resultSetSize) throws IOException {
+        this.resultDocument = RawBsonDocument.parse(resultDocument.toJson());
+        this.resultSetSize = resultSetSize;
+        this.serverSocket = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptConnections);
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // ignore
+        }
+        for (Socket socket : sockets) {
+            closeQuietly(socket);
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptConnections() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                sockets.add(socket);
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    private void serve(final Socket socket) {
+        int connectionId = nextConnectionId.getAndIncrement();
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             OutputStream outputStream = new BufferedOutputStream(socket.getOutputStream())) {
+            byte[] header = new byte[16];
+            while (!closed) {
+                try {
+                    inputStream.readFully(header);
+                } catch (EOFException e) {
+                    return;
+                }
+                ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+                int messageLength = headerBuffer.getInt();
+                int requestId = headerBuffer.getInt();
+                headerBuffer.getInt(); // responseTo
+                int opCode = headerBuffer.getInt();
+
+                byte[] body = new byte[messageLength - header.length];
+                inputStream.readFully(body);
+                handleMessage(connectionId, requestId, opCode, ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN), outputStream);
+            }
+        } catch (SocketException e) {
+            // the client or the server closed the socket
+        } catch (IOException e) {
+            if (!closed) {
+                throw new RuntimeException(e);
+            }
+        } finally {
+            sockets.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    private void handleMessage(final int connectionId, final int requestId, final int opCode, final ByteBuffer body,
+                               final OutputStream outputStream) throws IOException {
+        if (opCode == OP_QUERY) {
+            body.getInt();                      // flags
+            skipCString(body);                  // full collection name
+            body.getInt();                      // numberToSkip
+            body.getInt();                      // numberToReturn
+            BsonDocument command = readDocument(body);
+            writeReply(outputStream, requestId, OP_REPLY, handleCommand(connectionId, command, 0));
+        } else if (opCode == OP_MSG) {
+            int flagBits = body.getInt();
+            BsonDocument command = null;
+            int documentSequenceCount = 0;
+            while (body.hasRemaining()) {
+                byte payloadType = body.get();
+                if (payloadType == 0) {
+                    command = readDocument(body);
+                } else {
+                    int sectionEnd = body.position() + body.getInt();
+                    skipCString(body);
+                    while (body.position() < sectionEnd) {
+                        body.position(body.position() + body.getInt(body.position()));
+                        documentSequenceCount++;
+                    }
+                }
+            }
+            if (command == null) {
+                throw new IllegalStateException("OP_MSG without a type 0 section");
+            }
+            BsonDocument reply = handleCommand(connectionId, command, documentSequenceCount);
+            if ((flagBits & MORE_TO_COME_FLAG) == 0) {
+                writeReply(outputStream, requestId, OP_MSG, reply);
+            }
+        } else {
+            throw new IllegalStateException("Unsupported opcode " + opCode);
+        }
+    }
+
+    private BsonDocument handleCommand(final int connectionId, final BsonDocument command, final int documentSequenceCount) {
+        String commandName = command.getFirstKey();
+        switch (commandName) {
+            case "hello":
+            case "isMaster":
+            case "ismaster":
+                return new BsonDocument("helloOk", BsonBoolean.TRUE)
+                        .append("ismaster", BsonBoolean.TRUE)
+                        .append("isWritablePrimary", BsonBoolean.TRUE)
+                        .append("maxBsonObjectSize", new BsonInt32(16 * 1024 * 1024))
+                        .append("maxMessageSizeBytes", new BsonInt32(48000000))
+                        .append("maxWriteBatchSize", new BsonInt32(100000))
+                        .append("localTime", new BsonDateTime(System.currentTimeMillis()))
+                        .append("logicalSessionTimeoutMinutes", new BsonInt32(30))
+                        .append("connectionId", new BsonInt32(connectionId))
+                        .append("minWireVersion", new BsonInt32(0))
+                        .append("maxWireVersion", new BsonInt32(MAX_WIRE_VERSION))
+                        .append("ok", new BsonDouble(1));
+            case "find":
+                return find(command);
+            case "getMore":
+                return getMore(command);
+            case "insert":
+                int count = documentSequenceCount + (command.isArray("documents") ? command.getArray("documents").size() : 0);
+                return new BsonDocument("n", new BsonInt32(count)).append("ok", new BsonDouble(1));
+            case "killCursors":
+                for (BsonValue cursorId : command.getArray("cursors", new BsonArray())) {
+                    cursors.remove(cursorId.asInt64().getValue());
+                }
+                return new BsonDocument("ok", new BsonDouble(1));
+            default:
+                return new BsonDocument("ok", new BsonDouble(1));
+        }
+    }
+
+    private BsonDocument find(final BsonDocument command) {
+        String namespace = command.getString("$db", new BsonString("test")).getValue() + "." + command.getString("find").getValue();
+        int batchSize = command.getNumber("batchSize", new BsonInt32(DEFAULT_BATCH_SIZE)).intValue();
+        int limit = command.getNumber("limit", new BsonInt32(0)).intValue();
+        int remaining = limit > 0 ? Math.min(limit, resultSetSize) : resultSetSize;
+        long cursorId = 0;
+        int batchCount = batchSize > 0 ? Math.min(batchSize, remaining) : remaining;
+        if (batchCount < remaining) {
+            cursorId = nextCursorId.getAndIncrement();
+            cursors.put(cursorId, new AtomicInteger(remaining - batchCount));
+        }
+        return cursorReply("firstBatch", namespace, cursorId, batchCount);
+    }
+
+    private BsonDocument getMore(final BsonDocument command) {
+        long cursorId = command.getInt64("getMore").getValue();
+        String namespace = command.getString("$db", new BsonString("test")).getValue() + "." + command.getString("collection").getValue();
+        AtomicInteger remaining = cursors.get(cursorId);
+        if (remaining == null) {
+            return new BsonDocument("ok", new BsonDouble(0))
+                    .append("errmsg", new BsonString("cursor id " + cursorId + " not found"))
+                    .append("code", new BsonInt32(43))
+                    .append("codeName", new BsonString("CursorNotFound"));
+        }
+        int batchSize = command.getNumber("batchSize", new BsonInt32(0)).intValue();
+        int batchCount = batchSize > 0 ? Math.min(batchSize, remaining.get()) : remaining.get();
+        if (remaining.addAndGet(-batchCount) <= 0) {
+            cursors.remove(cursorId);
+            cursorId = 0;
+        }
+        return cursorReply("nextBatch", namespace, cursorId, batchCount);
+    }
+
+    private BsonDocument cursorReply(final String batchFieldName, final String namespace, final long cursorId, final int batchCount) {
+        List<BsonValue> batch = new ArrayList<>(batchCount);
+        for (int i = 0; i < batchCount; i++) {
+            batch.add(resultDocument);
+        }
+        return new BsonDocument("cursor", new BsonDocument(batchFieldName, new BsonArray(batch))
+                .append("id", new BsonInt64(cursorId))
+                .append("ns", new BsonString(namespace)))
+                .append("ok", new BsonDouble(1));
+    }
+
+    private void writeReply(final OutputStream outputStream, final int responseTo, final int opCode, final BsonDocument reply)
+            throws IOException {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        buffer.writeInt32(0);  // length: back-patched below
+        buffer.writeInt32(nextRequestId.getAndIncrement());
+        buffer.writeInt32(responseTo);
+        buffer.writeInt32(opCode);
+        if (opCode == OP_REPLY) {
+            buffer.writeInt32(0);  // response flags
+            buffer.writeInt64(0);  // cursor id
+            buffer.writeInt32(0);  // starting from
+            buffer.writeInt32(1);  // number returned
+        } else {
+            buffer.writeInt32(0);  // flag bits
+            buffer.writeByte(0);   // payload type
+        }
+        codec.encode(new BsonBinaryWriter(buffer), reply, EncoderContext.builder().build());
+        buffer.writeInt32(0, buffer.getPosition());
+        buffer.pipe(outputStream);
+        outputStream.flush();
+    }
+
+    private BsonDocument readDocument(final ByteBuffer body) {
+        int documentLength = body.getInt(body.position());
+        ByteBuffer documentBuffer = body.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        documentBuffer.limit(body.position() + documentLength);
+        body.position(body.position() + documentLength);
+        try (BsonBinaryReader reader = new BsonBinaryReader(documentBuffer.slice())) {
+            return codec.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    private static void skipCString(final ByteBuffer body) {
+        while (body.get() != 0) {
+            // skip
+        }
+    }
+
+    private static void closeQuietly(final Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.mockserver;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Runs {@code FindManyBenchmark}, {@code InsertManyBenchmark} and {@code RunCommandBenchmark}-style workloads against a
+ * {@link MockMongoServer}, so that the measurements reflect driver overhead rather than server time.
+ *
+ * <p>Each workload is run with an increasing number of concurrent threads sharing one {@code MongoClient}.  For every run the suite
+ * reports operations per second together with the median and 99th percentile latency of</p>
+ * <ul>
+ *     <li>the whole operation,</li>
+ *     <li>connection checkout from the {@code DefaultConnectionPool}, as reported by {@link ConnectionCheckedOutEvent},</li>
+ *     <li>a command round trip through {@code InternalStreamConnection.sendAndReceive}, as reported by {@link CommandSucceededEvent},
+ *     and</li>
+ *     <li>a {@code getMore} issued by {@code CommandBatchCursor}.</li>
+ * </ul>
+ *
+ * <p>The following system properties are supported:</p>
+ * <ul>
+ *     <li>{@code org.mongodb.benchmarks.threads}: comma-separated thread counts, defaulting to {@value #DEFAULT_THREAD_COUNTS}</li>
+ *     <li>{@code org.mongodb.benchmarks.warmupSeconds}: warm-up time of each run, defaulting to {@value #DEFAULT_WARMUP_SECONDS}</li>
+ *     <li>{@code org.mongodb.benchmarks.durationSeconds}: measured time of each run, defaulting to {@value #DEFAULT_DURATION_SECONDS}</li>
+ *     <li>{@code org.mongodb.benchmarks.maxPoolSize}: the connection pool's maximum size, defaulting to the driver default</li>
+ * </ul>
+ */
+public final class MockServerBenchmarkSuite {
+    private static final String DEFAULT_THREAD_COUNTS = "1,2,4,8,16,32,64,128,256,512";
+    private static final int DEFAULT_WARMUP_SECONDS = 2;
+    private static final int DEFAULT_DURATION_SECONDS = 10;
+    private static final int FIND_RESULT_SET_SIZE = 1000;
+    private static final int FIND_BATCH_SIZE = 101;
+    private static final int INSERT_BATCH_SIZE = 100;
+    private static final double[] PERCENTILES = {50, 99};
+
+    private enum Workload {
+        FIND_MANY("Find many and empty the cursor") {
+            @Override
+            void execute(final MongoDatabase adminDatabase, final MongoCollection<Document> collection) {
+                try (MongoCursor<Document> cursor = collection.find().batchSize(FIND_BATCH_SIZE).iterator()) {
+                    while (cursor.hasNext()) {
+                        cursor.next();
+                    }
+                }
+            }
+        },
+        INSERT_MANY("Small doc bulk insert") {
+            private final List<Document> documents = createInsertDocuments();
+
+            @Override
+            void execute(final MongoDatabase adminDatabase, final MongoCollection<Document> collection) {
+                collection.insertMany(documents);
+            }
+        },
+        RUN_COMMAND("Run command") {
+            private final Document command = new Document("hello", true);
+
+            @Override
+            void execute(final MongoDatabase adminDatabase, final MongoCollection<Document> collection) {
+                adminDatabase.runCommand(command);
+            }
+        };
+
+        private final String description;
+
+        Workload(final String description) {
+            this.description = description;
+        }
+
+        abstract void execute(MongoDatabase adminDatabase, MongoCollection<Document> collection);
+    }
+
+    private final PrintStream out;
+    private final List<Integer> threadCounts;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final Integer maxPoolSize;
+
+    public static void main(final String[] args) throws Exception {
+        new MockServerBenchmarkSuite(System.out).run();
+    }
+
+    MockServerBenchmarkSuite(final PrintStream out) {
+        this.out = out;
+        this.threadCounts = Arrays.stream(System.getProperty("org.mongodb.benchmarks.threads", DEFAULT_THREAD_COUNTS).split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .collect(Collectors.toList());
+        this.warmupSeconds = Integer.getInteger("org.mongodb.benchmarks.warmupSeconds", DEFAULT_WARMUP_SECONDS);
+        this.durationSeconds = Integer.getInteger("org.mongodb.benchmarks.durationSeconds", DEFAULT_DURATION_SECONDS);
+        this.maxPoolSize = Integer.getInteger("org.mongodb.benchmarks.maxPoolSize");
+    }
+
+    void run() throws Exception {
+        try (MockMongoServer server = new MockMongoServer(createResultDocument(), FIND_RESULT_SET_SIZE)) {
+            out.printf("%-32s %7s %12s %22s %22s %22s %22s%n", "workload", "threads", "ops/sec", "operation p50/p99 us",
+                    "checkout p50/p99 us", "command p50/p99 us", "getMore p50/p99 us");
+            for (Workload workload : Workload.values()) {
+                for (int threadCount : threadCounts) {
+                    run(server, workload, threadCount);
+                }
+            }
+        }
+    }
+
+    private void run(final MockMongoServer server, final Workload workload, final int threadCount) throws Exception {
+        Metrics metrics = new Metrics();
+        MongoClientSettings.Builder settingsBuilder = MongoClientSettings.builder()
+                .applyToClusterSettings(builder -> builder
+                        .hosts(singletonList(new ServerAddress("127.0.0.1", server.getPort())))
+                        .mode(ClusterConnectionMode.SINGLE))
+                .applyToConnectionPoolSettings(builder -> {
+                    builder.addConnectionPoolListener(metrics);
+                    if (maxPoolSize != null) {
+                        builder.maxSize(maxPoolSize);
+                    }
+                })
+                .addCommandListener(metrics);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try (MongoClient client = MongoClients.create(settingsBuilder.build())) {
+            MongoDatabase adminDatabase = client.getDatabase("admin");
+            MongoCollection<Document> collection = client.getDatabase("perftest").getCollection("corpus");
+
+            long warmupEndNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long endNanos = warmupEndNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+            metrics.measure(warmupEndNanos, endNanos);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    long now = System.nanoTime();
+                    while (now < endNanos) {
+                        workload.execute(adminDatabase, collection);
+                        long finished = System.nanoTime();
+                        if (now >= warmupEndNanos && finished <= endNanos) {
+                            metrics.operations.record(finished - now);
+                        }
+                        now = finished;
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        out.printf("%-32s %7d %12.0f %22s %22s %22s %22s%n", workload.description, threadCount,
+                metrics.operations.getCount() / (double) durationSeconds, format(metrics.operations), format(metrics.checkouts),
+                format(metrics.commands), format(metrics.getMores));
+    }
+
+    private static String format(final LatencyRecorder recorder) {
+        long[] percentiles = recorder.getPercentileNanos(PERCENTILES);
+        if (percentiles[0] < 0) {
+            return "-";
+        }
+        return String.format("%.1f / %.1f", percentiles[0] / 1000.0, percentiles[1] / 1000.0);
+    }
+
+    static BsonDocument createResultDocument() {
+        return new BsonDocument("_id", new BsonString(new ObjectId().toHexString()))
+                .append("createdAt", new BsonDateTime(1519283215000L))
+                .append("status", new BsonString("active"))
+                .append("name", new BsonString("Alice Liddell"))
+                .append("email", new BsonString("alice@example.com"))
+                .append("age", new BsonInt32(34))
+                .append("score", new BsonDouble(98.25))
+                .append("verified", BsonBoolean.TRUE)
+                .append("tags", new BsonArray(Arrays.asList(new BsonString("alpha"), new BsonString("beta"))))
+                .append("text", new BsonString("Curiouser and curiouser! Down the rabbit hole and through the looking glass."));
+    }
+
+    private static List<Document> createInsertDocuments() {
+        List<Document> documents = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < INSERT_BATCH_SIZE; i++) {
+            // Assign the _id up front so that concurrent inserts of the same documents don't mutate them
+            documents.add(new Document("_id", new ObjectId())
+                    .append("status", "active")
+                    .append("count", i)
+                    .append("text", "Curiouser and curiouser!"));
+        }
+        return documents;
+    }
+
+    private static final class Metrics implements ConnectionPoolListener, CommandListener {
+        private final LatencyRecorder operations = new LatencyRecorder();
+        private final LatencyRecorder checkouts = new LatencyRecorder();
+        private final LatencyRecorder commands = new LatencyRecorder();
+        private final LatencyRecorder getMores = new LatencyRecorder();
+        private volatile long startNanos = Long.MAX_VALUE;
+        private volatile long endNanos = Long.MIN_VALUE;
+
+        void measure(final long startNanos, final long endNanos) {
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+        }
+
+        private boolean isRecording() {
+            long now = System.nanoTime();
+            return now >= startNanos && now <= endNanos;
+        }
+
+        @Override
+        public void connectionCheckedOut(final ConnectionCheckedOutEvent event) {
+            if (isRecording()) {
+                checkouts.record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+            }
+        }
+
+        @Override
+        public void commandSucceeded(final CommandSucceededEvent event) {
+            if (isRecording()) {
+                if (event.getCommandName().equals("getMore")) {
+                    getMores.record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+                } else {
+                    commands.record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+                }
+            }
+        }
+    }
+}
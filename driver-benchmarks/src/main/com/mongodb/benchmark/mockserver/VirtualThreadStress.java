@@ -0,0 +1,138 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.benchmark.mockserver;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.internal.thread.ThreadMode;
+import org.bson.Document;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Runs a {@code find} from each of a large number of concurrent virtual threads that share one {@code MongoClient}, which is itself
+ * configured with {@link MongoClientSettings.Builder#virtualThreads(boolean)}, against a {@link MockMongoServer}.
+ *
+ * <p>All the threads are started before any of them runs its {@code find}, so almost all of them block in connection checkout at the
+ * same time.  The run fails if any {@code find} fails, for example because checkout timed out.  It reports the elapsed time and the
+ * peak number of live platform threads, which stays small because neither the application threads nor the driver's own background
+ * threads are platform threads.  Run it with {@code -Djdk.tracePinnedThreads=short} to have the JVM report any place where the
+ * driver blocks while pinning a carrier thread.</p>
+ *
+ * <p>Virtual threads require Java 21 or later.  The following system properties are supported:</p>
+ * <ul>
+ *     <li>{@code org.mongodb.benchmarks.virtualThreads}: the number of virtual threads, defaulting to {@value #DEFAULT_THREAD_COUNT}</li>
+ *     <li>{@code org.mongodb.benchmarks.maxPoolSize}: the connection pool's maximum size, defaulting to the driver default</li>
+ * </ul>
+ */
+public final class VirtualThreadStress {
+    private static final int DEFAULT_THREAD_COUNT = 100_000;
+    private static final int FIND_RESULT_SET_SIZE = 10;
+    private static final long MAX_WAIT_TIME_MINUTES = 10;
+
+    private final PrintStream out;
+    private final int threadCount;
+    private final Integer maxPoolSize;
+
+    public static void main(final String[] args) throws Exception {
+        if (!new VirtualThreadStress(System.out).run()) {
+            System.exit(1);
+        }
+    }
+
+    VirtualThreadStress(final PrintStream out) {
+        this.out = out;
+        this.threadCount = Integer.getInteger("org.mongodb.benchmarks.virtualThreads", DEFAULT_THREAD_COUNT);
+        this.maxPoolSize = Integer.getInteger("org.mongodb.benchmarks.maxPoolSize");
+    }
+
+    boolean run() throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        threadMXBean.resetPeakThreadCount();
+        try (MockMongoServer server = new MockMongoServer(MockServerBenchmarkSuite.createResultDocument(), FIND_RESULT_SET_SIZE)) {
+            int platformThreadsBefore = threadMXBean.getThreadCount();
+            MongoClientSettings settings = MongoClientSettings.builder()
+                    .applyToClusterSettings(builder -> builder
+                            .hosts(singletonList(new ServerAddress("127.0.0.1", server.getPort())))
+                            .mode(ClusterConnectionMode.SINGLE))
+                    .applyToConnectionPoolSettings(builder -> {
+                        builder.maxWaitTime(MAX_WAIT_TIME_MINUTES, TimeUnit.MINUTES);
+                        if (maxPoolSize != null) {
+                            builder.maxSize(maxPoolSize);
+                        }
+                    })
+                    .virtualThreads(true)
+                    .build();
+
+            AtomicInteger succeeded = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+            long elapsedNanos;
+            try (MongoClient client = MongoClients.create(settings)) {
+                MongoCollection<Document> collection = client.getDatabase("perftest").getCollection("corpus");
+                CountDownLatch startLatch = new CountDownLatch(1);
+                List<Thread> threads = new ArrayList<>(threadCount);
+                for (int i = 0; i < threadCount; i++) {
+                    Thread thread = ThreadMode.VIRTUAL.newThread(() -> {
+                        try {
+                            startLatch.await();
+                            collection.find().into(new ArrayList<>());
+                            succeeded.incrementAndGet();
+                        } catch (Throwable t) {
+                            failed.incrementAndGet();
+                            firstFailure.compareAndSet(null, t);
+                        }
+                    }, "stress-" + i);
+                    thread.start();
+                    threads.add(thread);
+                }
+                long start = System.nanoTime();
+                startLatch.countDown();
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                elapsedNanos = System.nanoTime() - start;
+            }
+
+            out.printf("virtual threads: %d, succeeded: %d, failed: %d%n", threadCount, succeeded.get(), failed.get());
+            out.printf("elapsed: %d ms, finds/sec: %.0f%n", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    succeeded.get() / (elapsedNanos / 1e9));
+            out.printf("platform threads before: %d, peak: %d%n", platformThreadsBefore, threadMXBean.getPeakThreadCount());
+            Throwable failure = firstFailure.get();
+            if (failure != null) {
+                out.println("first failure:");
+                failure.printStackTrace(out);
+            }
+            return failed.get() == 0;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.benchmark.jmh.BenchmarkDocuments;
+import com.mongodb.internal.bulk.InsertRequest;
+import com.mongodb.internal.bulk.WriteRequestWithIndex;
+import com.mongodb.internal.validator.NoOpFieldNameValidator;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.ReadPreference.primary;
+import static com.mongodb.connection.ClusterConnectionMode.MULTIPLE;
+import static com.mongodb.connection.ServerType.REPLICA_SET_PRIMARY;
+import static com.mongodb.internal.operation.ServerVersionHelper.LATEST_WIRE_VERSION;
+
+/**
+ * Measures OP_MSG encoding of a {@link CommandMessage} into a pooled {@link ByteBufferBsonOutput}, both for a simple command and for
+ * an {@code insert} command with a type 1 document sequence.
+ *
+ * <p>This benchmark lives in the {@code com.mongodb.internal.connection} package because the message classes are package-private.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandMessageBenchmark {
+
+    private static final MongoNamespace NAMESPACE = new MongoNamespace("db", "coll");
+
+    @Param({"1", "100"})
+    private int insertCount;
+
+    private final MessageSettings messageSettings = MessageSettings.builder()
+            .maxWireVersion(LATEST_WIRE_VERSION)
+            .serverType(REPLICA_SET_PRIMARY)
+            .sessionSupported(true)
+            .build();
+    private final BsonDocument findCommand = new BsonDocument("find", new BsonString(NAMESPACE.getCollectionName()))
+            .append("filter", new BsonDocument("status", new BsonString("active")))
+            .append("batchSize", new BsonInt32(101));
+    private List<WriteRequestWithIndex> insertRequests;
+
+    @Setup
+    public void setup() {
+        insertRequests = new ArrayList<>(insertCount);
+        List<BsonDocument> documents = BenchmarkDocuments.smallDocuments(insertCount);
+        for (int i = 0; i < documents.size(); i++) {
+            insertRequests.add(new WriteRequestWithIndex(new InsertRequest(documents.get(i)), i));
+        }
+    }
+
+    @Benchmark
+    public int encodeCommand() {
+        CommandMessage message = new CommandMessage(NAMESPACE, findCommand, new NoOpFieldNameValidator(), primary(), messageSettings,
+                MULTIPLE, null);
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(PowerOfTwoBufferPool.DEFAULT)) {
+            message.encode(output, NoOpSessionContext.INSTANCE);
+            return output.getPosition();
+        }
+    }
+
+    @Benchmark
+    public int encodeInsertCommandWithPayload() {
+        BsonDocument insertCommand = new BsonDocument("insert", new BsonString(NAMESPACE.getCollectionName()))
+                .append("ordered", BsonBoolean.TRUE);
+        SplittablePayload payload = new SplittablePayload(SplittablePayload.Type.INSERT, insertRequests);
+        CommandMessage message = new CommandMessage(NAMESPACE, insertCommand, new NoOpFieldNameValidator(), primary(), messageSettings,
+                true, payload, new NoOpFieldNameValidator(), MULTIPLE, null);
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(PowerOfTwoBufferPool.DEFAULT)) {
+            message.encode(output, NoOpSessionContext.INSTANCE);
+            return output.getPosition();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.benchmark.jmh.BenchmarkDocuments;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link Compressor} implementations on a message body made of many small documents.
+ *
+ * <p>This benchmark lives in the {@code com.mongodb.internal.connection} package because the compressors are package-private.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressorBenchmark {
+
+    @Param({"zlib", "snappy", "zstd"})
+    private String compressorName;
+
+    @Param({"1024", "1048576"})
+    private int uncompressedSize;
+
+    private Compressor compressor;
+    private byte[] uncompressed;
+    private byte[] compressed;
+
+    @Setup
+    public void setup() {
+        switch (compressorName) {
+            case "zlib":
+                compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor());
+                break;
+            case "snappy":
+                compressor = new SnappyCompressor();
+                break;
+            case "zstd":
+                compressor = new ZstdCompressor();
+                break;
+            default:
+                throw new IllegalArgumentException(compressorName);
+        }
+
+        BasicOutputBuffer source = new BasicOutputBuffer(uncompressedSize);
+        byte[] documentBytes = BenchmarkDocuments.toBson(BenchmarkDocuments.flatDocument());
+        while (source.getPosition() < uncompressedSize) {
+            source.writeBytes(documentBytes, 0, Math.min(documentBytes.length, uncompressedSize - source.getPosition()));
+        }
+        uncompressed = source.toByteArray();
+
+        BasicOutputBuffer target = new BasicOutputBuffer();
+        compressor.compress(sourceBuffers(), target);
+        compressed = target.toByteArray();
+    }
+
+    @Benchmark
+    public int compress() {
+        try (ByteBufferBsonOutput target = new ByteBufferBsonOutput(PowerOfTwoBufferPool.DEFAULT)) {
+            compressor.compress(sourceBuffers(), target);
+            return target.getPosition();
+        }
+    }
+
+    @Benchmark
+    public int uncompress() {
+        ByteBuf target = PowerOfTwoBufferPool.DEFAULT.getBuffer(uncompressed.length);
+        try {
+            compressor.uncompress(new ByteBufNIO(ByteBuffer.wrap(compressed)), target);
+            return target.position();
+        } finally {
+            target.release();
+        }
+    }
+
+    private List<ByteBuf> sourceBuffers() {
+        return Collections.singletonList(new ByteBufNIO(ByteBuffer.wrap(uncompressed).order(ByteOrder.LITTLE_ENDIAN)));
+    }
+}
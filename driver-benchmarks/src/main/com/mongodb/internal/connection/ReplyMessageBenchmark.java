@@ -0,0 +1,109 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.benchmark.jmh.BenchmarkDocuments;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.ByteBufNIO;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.connection.ConnectionDescription.getDefaultMaxMessageSize;
+import static com.mongodb.internal.connection.MessageHeader.MESSAGE_HEADER_LENGTH;
+import static com.mongodb.internal.connection.OpCode.OP_MSG;
+
+/**
+ * Measures decoding of an OP_MSG {@link ReplyMessage} that carries a {@code find} cursor batch, either fully into a
+ * {@link BsonDocument} tree or as a {@code RawBsonDocument}.
+ *
+ * <p>This benchmark lives in the {@code com.mongodb.internal.connection} package because the message classes are package-private.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplyMessageBenchmark {
+
+    private static final int REQUEST_ID = 42;
+
+    @Param({"1", "101"})
+    private int batchSize;
+
+    @Param({"BsonDocument", "RawBsonDocument"})
+    private String decoderType;
+
+    private Decoder<? extends BsonDocument> decoder;
+    private byte[] replyBytes;
+
+    @Setup
+    public void setup() {
+        decoder = decoderType.equals("BsonDocument") ? new BsonDocumentCodec() : new RawBsonDocumentCodec();
+
+        BsonArray firstBatch = new BsonArray();
+        for (int i = 0; i < batchSize; i++) {
+            firstBatch.add(BenchmarkDocuments.flatDocument());
+        }
+        BsonDocument reply = new BsonDocument("cursor", new BsonDocument("firstBatch", firstBatch)
+                .append("id", new BsonInt64(0))
+                .append("ns", new BsonString("db.coll")))
+                .append("ok", new BsonDouble(1));
+        byte[] body = BenchmarkDocuments.toBson(reply);
+
+        ByteBuffer buffer = ByteBuffer.allocate(MESSAGE_HEADER_LENGTH + 5 + body.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(buffer.capacity());  // message length
+        buffer.putInt(1);                  // request id
+        buffer.putInt(REQUEST_ID);         // response to
+        buffer.putInt(OP_MSG.getValue());  // opcode
+        buffer.putInt(0);                  // flag bits
+        buffer.put((byte) 0);              // payload type
+        buffer.put(body);
+        replyBytes = buffer.array();
+    }
+
+    @Benchmark
+    public BsonDocument decodeReply() {
+        ByteBufNIO header = new ByteBufNIO(ByteBuffer.wrap(replyBytes, 0, MESSAGE_HEADER_LENGTH + 5).order(ByteOrder.LITTLE_ENDIAN));
+        ReplyHeader replyHeader = new ReplyHeader(header, new MessageHeader(header, getDefaultMaxMessageSize()));
+        ByteBufNIO body = new ByteBufNIO(ByteBuffer.wrap(replyBytes, MESSAGE_HEADER_LENGTH + 5,
+                replyBytes.length - MESSAGE_HEADER_LENGTH - 5).slice().order(ByteOrder.LITTLE_ENDIAN));
+        try (ResponseBuffers responseBuffers = new ResponseBuffers(replyHeader, body)) {
+            return new ReplyMessage<>(responseBuffers, decoder, REQUEST_ID).getDocument();
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb;
+
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.lang.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A policy that decides, message by message, whether a command sent to the server is worth compressing with the negotiated compressor.
+ *
+ * <p>Without a policy every command other than the security-sensitive ones is compressed.  With a policy, a command is sent
+ * uncompressed if</p>
+ * <ul>
+ *     <li>the encoded message is smaller than {@link #getMinimumMessageSize()} bytes, since compressing small messages such as
+ *     {@code getMore} or {@code hello} costs more than the few bytes it saves, or</li>
+ *     <li>the compression ratio measured for earlier commands with the same name is below {@link #getMinimumCompressionRatio()}.</li>
+ * </ul>
+ *
+ * <p>The ratio is the size of the uncompressed message divided by the size of the compressed message, and is kept per command name as
+ * a moving average.  Once a command name is bypassed, every {@link #getSampleInterval()}th message with that name is still compressed,
+ * so that the policy notices when the data becomes compressible again.</p>
+ *
+ * <p>An instance is shared by all the connections of a {@code MongoClient}, and the counters it exposes describe that client's
+ * traffic.  The counters and ratios are updated without locking, so they are approximate while commands are in flight.</p>
+ *
+ * @see MongoClientSettings.Builder#compressionPolicy(AdaptiveCompressionPolicy)
+ * @since 5.2
+ */
+@ThreadSafe
+public final class AdaptiveCompressionPolicy {
+    private static final int MAX_COMMAND_NAMES = 256;
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final int minimumMessageSize;
+    private final double minimumCompressionRatio;
+    private final int sampleInterval;
+    private final ConcurrentMap<String, CommandStatistics> commandStatistics = new ConcurrentHashMap<>();
+    private final LongAdder compressedMessageCount = new LongAdder();
+    private final LongAdder bytesBeforeCompression = new LongAdder();
+    private final LongAdder bytesAfterCompression = new LongAdder();
+    private final LongAdder belowMinimumSizeCount = new LongAdder();
+    private final LongAdder belowMinimumRatioCount = new LongAdder();
+
+    /**
+     * Gets a builder for an instance.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the size in bytes below which a message is sent uncompressed.
+     *
+     * <p>Default is 1024.</p>
+     *
+     * @return the minimum message size
+     */
+    public int getMinimumMessageSize() {
+        return minimumMessageSize;
+    }
+
+    /**
+     * Gets the compression ratio below which a command name is sent uncompressed.
+     *
+     * <p>Default is 1.1, in other words compression has to save at least about 10% of a message.</p>
+     *
+     * @return the minimum compression ratio
+     */
+    public double getMinimumCompressionRatio() {
+        return minimumCompressionRatio;
+    }
+
+    /**
+     * Gets how often a command name that is being sent uncompressed because of its ratio is compressed anyway, to measure the ratio
+     * again.
+     *
+     * <p>Default is 64, in other words one message in 64.</p>
+     *
+     * @return the sample interval
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Gets the number of messages that were compressed.
+     *
+     * @return the number of compressed messages
+     */
+    public long getCompressedMessageCount() {
+        return compressedMessageCount.sum();
+    }
+
+    /**
+     * Gets the total size in bytes of the compressed messages before they were compressed.
+     *
+     * @return the number of bytes
+     */
+    public long getBytesBeforeCompression() {
+        return bytesBeforeCompression.sum();
+    }
+
+    /**
+     * Gets the total size in bytes of the compressed messages after they were compressed.
+     *
+     * @return the number of bytes
+     */
+    public long getBytesAfterCompression() {
+        return bytesAfterCompression.sum();
+    }
+
+    /**
+     * Gets the number of messages that were sent uncompressed because they were smaller than the minimum message size.
+     *
+     * @return the number of messages
+     */
+    public long getBelowMinimumSizeCount() {
+        return belowMinimumSizeCount.sum();
+    }
+
+    /**
+     * Gets the number of messages that were sent uncompressed because of the compression ratio measured for their command name.
+     *
+     * @return the number of messages
+     */
+    public long getBelowMinimumRatioCount() {
+        return belowMinimumRatioCount.sum();
+    }
+
+    /**
+     * Gets the moving average of the compression ratio measured for the given command name.
+     *
+     * @param commandName the command name, for example {@code "insert"}
+     * @return the compression ratio, or null if no message with that command name has been compressed
+     */
+    @Nullable
+    public Double getCompressionRatio(final String commandName) {
+        CommandStatistics statistics = commandStatistics.get(notNull("commandName", commandName));
+        return statistics == null || Double.isNaN(statistics.ratio) ? null : statistics.ratio;
+    }
+
+    /**
+     * Decides whether a message should be compressed.  This method is called by the driver before sending each command that could be
+     * compressed, and is not intended to be called by applications.
+     *
+     * @param commandName the command name
+     * @param messageSize the size in bytes of the uncompressed message
+     * @return true if the message should be compressed
+     */
+    public boolean shouldCompress(final String commandName, final int messageSize) {
+        if (messageSize < minimumMessageSize) {
+            belowMinimumSizeCount.increment();
+            return false;
+        }
+        CommandStatistics statistics = commandStatistics.get(commandName);
+        if (statistics == null || !(statistics.ratio < minimumCompressionRatio)
+                || statistics.bypassedCount.incrementAndGet() % sampleInterval == 0) {
+            return true;
+        }
+        belowMinimumRatioCount.increment();
+        return false;
+    }
+
+    /**
+     * Records the outcome of compressing a message.  This method is called by the driver after compressing each message for which
+     * {@link #shouldCompress(String, int)} returned true, and is not intended to be called by applications.
+     *
+     * @param commandName the command name
+     * @param messageSize the size in bytes of the uncompressed message
+     * @param compressedMessageSize the size in bytes of the compressed message
+     */
+    public void messageCompressed(final String commandName, final int messageSize, final int compressedMessageSize) {
+        compressedMessageCount.increment();
+        bytesBeforeCompression.add(messageSize);
+        bytesAfterCompression.add(compressedMessageSize);
+
+        CommandStatistics statistics = commandStatistics.get(commandName);
+        if (statistics == null) {
+            // Applications can run commands with arbitrary names, so stop tracking new names once there are too many
+            if (commandStatistics.size() >= MAX_COMMAND_NAMES) {
+                return;
+            }
+            statistics = commandStatistics.computeIfAbsent(commandName, k -> new CommandStatistics());
+        }
+        statistics.update(messageSize / (double) compressedMessageSize);
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveCompressionPolicy{"
+                + "minimumMessageSize=" + minimumMessageSize
+                + ", minimumCompressionRatio=" + minimumCompressionRatio
+                + ", sampleInterval=" + sampleInterval
+                + '}';
+    }
+
+    private static final class CommandStatistics {
+        private final AtomicLong bypassedCount = new AtomicLong();
+        private volatile double ratio = Double.NaN;
+
+        // Concurrent updates may overwrite each other, which only loses a sample
+        void update(final double sample) {
+            double current = ratio;
+            ratio = Double.isNaN(current) ? sample : current + (sample - current) * SMOOTHING_FACTOR;
+        }
+    }
+
+    /**
+     * A builder for an {@link AdaptiveCompressionPolicy}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private int minimumMessageSize = 1024;
+        private double minimumCompressionRatio = 1.1;
+        private int sampleInterval = 64;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the size in bytes below which a message is sent uncompressed.
+         *
+         * @param minimumMessageSize the minimum message size, which may not be negative
+         * @return this
+         * @see #getMinimumMessageSize()
+         */
+        public Builder minimumMessageSize(final int minimumMessageSize) {
+            isTrueArgument("minimumMessageSize >= 0", minimumMessageSize >= 0);
+            this.minimumMessageSize = minimumMessageSize;
+            return this;
+        }
+
+        /**
+         * Sets the compression ratio below which a command name is sent uncompressed.
+         *
+         * @param minimumCompressionRatio the minimum compression ratio, which must be positive
+         * @return this
+         * @see #getMinimumCompressionRatio()
+         */
+        public Builder minimumCompressionRatio(final double minimumCompressionRatio) {
+            isTrueArgument("minimumCompressionRatio > 0", minimumCompressionRatio > 0);
+            this.minimumCompressionRatio = minimumCompressionRatio;
+            return this;
+        }
+
+        /**
+         * Sets how often a command name that is being sent uncompressed because of its ratio is compressed anyway.
+         *
+         * @param sampleInterval the sample interval, which must be positive
+         * @return this
+         * @see #getSampleInterval()
+         */
+        public Builder sampleInterval(final int sampleInterval) {
+            isTrueArgument("sampleInterval > 0", sampleInterval > 0);
+            this.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        /**
+         * Build an instance of {@code AdaptiveCompressionPolicy}.
+         *
+         * @return the policy
+         */
+        public AdaptiveCompressionPolicy build() {
+            return new AdaptiveCompressionPolicy(this);
+        }
+    }
+
+    private AdaptiveCompressionPolicy(final Builder builder) {
+        minimumMessageSize = builder.minimumMessageSize;
+        minimumCompressionRatio = builder.minimumCompressionRatio;
+        sampleInterval = builder.sampleInterval;
+    }
+}
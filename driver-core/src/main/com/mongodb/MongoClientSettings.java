@@ -43,6 +43,7 @@ import org.bson.codecs.MapCodecProvider;
 import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.jsr310.Jsr310CodecProvider;
+import org.bson.io.FieldNameCache;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -111,6 +112,9 @@ public final class MongoClientSettings {
     private final ContextProvider contextProvider;
     private final DnsClient dnsClient;
     private final InetAddressResolver inetAddressResolver;
+    private final FieldNameCache fieldNameCache;
+    private final AdaptiveCompressionPolicy compressionPolicy;
+    private final boolean virtualThreads;
 
     /**
      * Gets the default codec registry.  It includes the following providers:
@@ -195,6 +199,47 @@ public final class MongoClientSettings {
         return inetAddressResolver;
     }
 
+    /**
+     * Gets the cache of field names used when decoding replies from the server.
+     *
+     * <p>Default is null, in which case every field name is decoded.</p>
+     *
+     * @return the field name cache, which may be null
+     * @see Builder#fieldNameCache(FieldNameCache)
+     * @since 5.2
+     */
+    @Nullable
+    public FieldNameCache getFieldNameCache() {
+        return fieldNameCache;
+    }
+
+    /**
+     * Gets the policy that decides which messages to compress.
+     *
+     * <p>Default is null, in which case every message that can be compressed is compressed with the negotiated compressor.</p>
+     *
+     * @return the compression policy, which may be null
+     * @see Builder#compressionPolicy(AdaptiveCompressionPolicy)
+     * @since 5.2
+     */
+    @Nullable
+    public AdaptiveCompressionPolicy getCompressionPolicy() {
+        return compressionPolicy;
+    }
+
+    /**
+     * Gets whether the driver runs its background tasks on virtual threads.
+     *
+     * <p>Default is false.</p>
+     *
+     * @return true if the driver runs its background tasks on virtual threads
+     * @see Builder#virtualThreads(boolean)
+     * @since 5.2
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
     /**
      * A builder for {@code MongoClientSettings} so that {@code MongoClientSettings} can be immutable, and to support easier construction
      * through chaining.
@@ -230,6 +275,9 @@ public final class MongoClientSettings {
         private ContextProvider contextProvider;
         private DnsClient dnsClient;
         private InetAddressResolver inetAddressResolver;
+        private FieldNameCache fieldNameCache;
+        private AdaptiveCompressionPolicy compressionPolicy;
+        private boolean virtualThreads;
 
         private Builder() {
         }
@@ -250,6 +298,9 @@ public final class MongoClientSettings {
             serverApi = settings.getServerApi();
             dnsClient = settings.getDnsClient();
             inetAddressResolver = settings.getInetAddressResolver();
+            fieldNameCache = settings.getFieldNameCache();
+            compressionPolicy = settings.getCompressionPolicy();
+            virtualThreads = settings.isVirtualThreads();
             transportSettings = settings.getTransportSettings();
             autoEncryptionSettings = settings.getAutoEncryptionSettings();
             contextProvider = settings.getContextProvider();
@@ -666,6 +717,61 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Sets the cache of field names to use when decoding replies from the server.
+         *
+         * <p>If set, a field name that is already in the cache is returned as the cached {@code String} rather than being decoded
+         * again, which reduces allocation when reading many documents with the same field names.  The cache is shared by all
+         * connections of the client, and its hit rate is available from {@link FieldNameCache#getHitRate()}.</p>
+         *
+         * @param fieldNameCache the field name cache
+         * @return this
+         * @see #getFieldNameCache()
+         * @since 5.2
+         */
+        public Builder fieldNameCache(@Nullable final FieldNameCache fieldNameCache) {
+            this.fieldNameCache = fieldNameCache;
+            return this;
+        }
+
+        /**
+         * Sets the policy that decides which messages to compress.
+         *
+         * <p>The policy only applies once a compressor has been negotiated with the server, see {@link #compressorList(List)}.  It
+         * skips compression of small messages and of commands that do not compress well, and counts what it did, which is available
+         * from the policy instance.</p>
+         *
+         * @param compressionPolicy the compression policy
+         * @return this
+         * @see #getCompressionPolicy()
+         * @since 5.2
+         */
+        public Builder compressionPolicy(@Nullable final AdaptiveCompressionPolicy compressionPolicy) {
+            this.compressionPolicy = compressionPolicy;
+            return this;
+        }
+
+        /**
+         * Sets whether the driver runs its background tasks on virtual threads.
+         *
+         * <p>If true, the threads that monitor each server and that maintain each connection pool are virtual threads rather than
+         * platform threads, so that an application with many clients or servers does not need a platform thread for each of them.
+         * Independently of this setting, the driver's locks and waits do not pin the carrier thread of a virtual thread, so
+         * applications can use the synchronous API from a large number of virtual threads.  Virtual threads require Java 21 or later,
+         * and creating a client with this set to true on an earlier Java version fails with a {@link MongoClientException}.</p>
+         *
+         * <p>Default is false.</p>
+         *
+         * @param virtualThreads whether to run background tasks on virtual threads
+         * @return this
+         * @see #isVirtualThreads()
+         * @since 5.2
+         */
+        public Builder virtualThreads(final boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
         // Package-private to provide interop with MongoClientOptions
         Builder heartbeatConnectTimeoutMS(final int heartbeatConnectTimeoutMS) {
             this.heartbeatConnectTimeoutMS = heartbeatConnectTimeoutMS;
@@ -996,6 +1102,9 @@ public final class MongoClientSettings {
                 && Objects.equals(autoEncryptionSettings, that.autoEncryptionSettings)
                 && Objects.equals(dnsClient, that.dnsClient)
                 && Objects.equals(inetAddressResolver, that.inetAddressResolver)
+                && Objects.equals(fieldNameCache, that.fieldNameCache)
+                && Objects.equals(compressionPolicy, that.compressionPolicy)
+                && virtualThreads == that.virtualThreads
                 && Objects.equals(contextProvider, that.contextProvider);
     }
 
@@ -1005,7 +1114,8 @@ public final class MongoClientSettings {
                 commandListeners, codecRegistry, loggerSettings, clusterSettings, socketSettings,
                 heartbeatSocketSettings, connectionPoolSettings, serverSettings, sslSettings, applicationName, compressorList,
                 uuidRepresentation, serverApi, autoEncryptionSettings, heartbeatSocketTimeoutSetExplicitly,
-                heartbeatConnectTimeoutSetExplicitly, dnsClient, inetAddressResolver, contextProvider);
+                heartbeatConnectTimeoutSetExplicitly, dnsClient, inetAddressResolver, fieldNameCache, compressionPolicy,
+                virtualThreads, contextProvider);
     }
 
     @Override
@@ -1034,6 +1144,9 @@ public final class MongoClientSettings {
                 + ", autoEncryptionSettings=" + autoEncryptionSettings
                 + ", dnsClient=" + dnsClient
                 + ", inetAddressResolver=" + inetAddressResolver
+                + ", fieldNameCache=" + fieldNameCache
+                + ", compressionPolicy=" + compressionPolicy
+                + ", virtualThreads=" + virtualThreads
                 + ", contextProvider=" + contextProvider
                 + '}';
     }
@@ -1060,6 +1173,9 @@ public final class MongoClientSettings {
         serverApi = builder.serverApi;
         dnsClient = builder.dnsClient;
         inetAddressResolver = builder.inetAddressResolver;
+        fieldNameCache = builder.fieldNameCache;
+        compressionPolicy = builder.compressionPolicy;
+        virtualThreads = builder.virtualThreads;
         autoEncryptionSettings = builder.autoEncryptionSettings;
         heartbeatSocketSettings = SocketSettings.builder()
                 .readTimeout(builder.heartbeatSocketTimeoutMS == 0
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb;
+
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.internal.connection.ByteBufBsonDocument;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.Closeable;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * An immutable BSON document that is a view of the bytes of a document in a buffer, rather than a copy of them.
+ *
+ * <p>When decoded by {@link PooledRawBsonDocumentCodec} from the results of an operation, the buffer is the one into which the driver
+ * read the reply, usually taken from a pool.  The reply, including all the other documents in it, is not returned to its pool until
+ * every document that is a view of it has been released, so documents must be released as soon as they are no longer used, for
+ * example with a try-with-resources statement.  A document that is never released keeps the memory of the reply from being reused,
+ * though not from being garbage collected.</p>
+ *
+ * <p>A document must not be used after it has been released, except for {@link #close()}, which may be called more than once.  Any value
+ * that could outlive the document is copied: the documents and arrays returned by {@link #get(Object)}, {@link #values()} and
+ * {@link #entrySet()}, and the document returned by {@link #clone()} or {@link #toRawBsonDocument()}, or written by serialization,
+ * remain valid after this document has been released.  The buffer returned by {@link #getByteBuffer()} does not.</p>
+ *
+ * @since 5.2
+ */
+@NotThreadSafe
+public final class PooledRawBsonDocument extends BsonDocument implements Closeable {
+    private static final long serialVersionUID = 1L;
+
+    @Nullable
+    private transient ByteBuf byteBuf;
+    @Nullable
+    private transient ByteBufBsonDocument document;
+
+    /**
+     * Constructs a new instance, which takes ownership of the given buffer and releases it when it is itself released.
+     *
+     * @param byteBuf the buffer, which must contain exactly one BSON document between its position and its limit
+     */
+    public PooledRawBsonDocument(final ByteBuf byteBuf) {
+        this.byteBuf = notNull("byteBuf", byteBuf);
+        this.document = new ByteBufBsonDocument(byteBuf);
+    }
+
+    /**
+     * Returns whether this document has been released.
+     *
+     * @return true if this document has been released
+     */
+    public boolean isReleased() {
+        return byteBuf == null;
+    }
+
+    /**
+     * Releases the buffer of this document, if it has not already been released.
+     */
+    @Override
+    public void close() {
+        ByteBuf localByteBuf = byteBuf;
+        if (localByteBuf != null) {
+            byteBuf = null;
+            document = null;
+            localByteBuf.release();
+        }
+    }
+
+    /**
+     * Returns a read-only view of the bytes of this document, for example to write them somewhere else without copying them.  The view
+     * must not be used after this document has been released.
+     *
+     * @return a read-only buffer positioned at the start of the document and limited to its end
+     */
+    public ByteBuf getByteBuffer() {
+        return getByteBuf().asReadOnly();
+    }
+
+    /**
+     * Copies this document into a {@link RawBsonDocument}, which remains valid after this document has been released.
+     *
+     * @return the copy
+     */
+    public RawBsonDocument toRawBsonDocument() {
+        ByteBuf localByteBuf = getByteBuf();
+        byte[] bytes = new byte[localByteBuf.remaining()];
+        localByteBuf.get(localByteBuf.position(), bytes);
+        return new RawBsonDocument(bytes);
+    }
+
+    @Override
+    public BsonValue put(final String key, final BsonValue value) {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public BsonDocument append(final String key, final BsonValue value) {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends BsonValue> m) {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public BsonValue remove(final Object key) {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PooledRawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getDocument().isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return getDocument().size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return getDocument().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return getDocument().containsValue(value);
+    }
+
+    @Nullable
+    @Override
+    public BsonValue get(final Object key) {
+        BsonValue value = getDocument().get(key);
+        if (value == null) {
+            return null;
+        } else if (value.isDocument()) {
+            return value.asDocument().clone();
+        } else if (value.isArray()) {
+            return value.asArray().clone();
+        } else {
+            return value;
+        }
+    }
+
+    @Override
+    public String getFirstKey() {
+        return getDocument().getFirstKey();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return toRawBsonDocument().keySet();
+    }
+
+    @Override
+    public Collection<BsonValue> values() {
+        return toRawBsonDocument().values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, BsonValue>> entrySet() {
+        return toRawBsonDocument().entrySet();
+    }
+
+    @Override
+    public BsonBinaryReader asBsonReader() {
+        return getDocument().asBsonReader();
+    }
+
+    @Override
+    public String toJson() {
+        return getDocument().toJson();
+    }
+
+    @Override
+    public String toJson(final JsonWriterSettings settings) {
+        return getDocument().toJson(settings);
+    }
+
+    @SuppressWarnings("MethodDoesntCallSuperMethod")
+    @Override
+    public BsonDocument clone() {
+        return toRawBsonDocument();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return getDocument().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return getDocument().hashCode();
+    }
+
+    private ByteBuf getByteBuf() {
+        ByteBuf localByteBuf = byteBuf;
+        if (localByteBuf == null) {
+            throw new IllegalStateException("The document has been released");
+        }
+        return localByteBuf;
+    }
+
+    private ByteBufBsonDocument getDocument() {
+        ByteBufBsonDocument localDocument = document;
+        if (localDocument == null) {
+            throw new IllegalStateException("The document has been released");
+        }
+        return localDocument;
+    }
+
+    // see https://docs.oracle.com/javase/6/docs/platform/serialization/spec/output.html
+    private Object writeReplace() {
+        return toRawBsonDocument();
+    }
+
+    // see https://docs.oracle.com/javase/6/docs/platform/serialization/spec/input.html
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb;
+
+import com.mongodb.internal.connection.ReplyBsonInput;
+import org.bson.AbstractBsonReader.State;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.io.BsonInput;
+import org.bson.io.BsonInputMark;
+
+/**
+ * A codec for {@link PooledRawBsonDocument} instances.
+ *
+ * <p>Documents decoded from the results of an operation are views of the buffer into which the driver read the reply, so that they
+ * are not copied.  Documents decoded from anywhere else are copied.  For example, to read raw documents without copying them:</p>
+ * <pre>
+ * CodecRegistry registry = CodecRegistries.fromRegistries(CodecRegistries.fromCodecs(new PooledRawBsonDocumentCodec()),
+ *         MongoClientSettings.getDefaultCodecRegistry());
+ * MongoCollection&lt;PooledRawBsonDocument&gt; collection = database.getCollection("coll", PooledRawBsonDocument.class)
+ *         .withCodecRegistry(registry);
+ * collection.find().forEach(document -&gt; {
+ *     try {
+ *         forward(document.getByteBuffer());
+ *     } finally {
+ *         document.close();
+ *     }
+ * });
+ * </pre>
+ *
+ * @since 5.2
+ */
+public final class PooledRawBsonDocumentCodec implements Codec<PooledRawBsonDocument> {
+    private static final RawBsonDocumentCodec RAW_BSON_DOCUMENT_CODEC = new RawBsonDocumentCodec();
+
+    @Override
+    public void encode(final BsonWriter writer, final PooledRawBsonDocument value, final EncoderContext encoderContext) {
+        try (BsonBinaryReader reader = value.asBsonReader()) {
+            writer.pipe(reader);
+        }
+    }
+
+    @Override
+    public PooledRawBsonDocument decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader instanceof BsonBinaryReader) {
+            BsonBinaryReader binaryReader = (BsonBinaryReader) reader;
+            BsonInput bsonInput = binaryReader.getBsonInput();
+            if (bsonInput instanceof ReplyBsonInput && binaryReader.getState() == State.VALUE
+                    && binaryReader.getCurrentBsonType() == BsonType.DOCUMENT) {
+                BsonInputMark mark = bsonInput.getMark(4);
+                int size = bsonInput.readInt32();
+                mark.reset();
+                PooledRawBsonDocument document = new PooledRawBsonDocument(((ReplyBsonInput) bsonInput).retainSlice(size));
+                binaryReader.skipValue();
+                return document;
+            }
+        }
+        return new PooledRawBsonDocument(RAW_BSON_DOCUMENT_CODEC.decode(reader, decoderContext).getByteBuffer());
+    }
+
+    @Override
+    public Class<PooledRawBsonDocument> getEncoderClass() {
+        return PooledRawBsonDocument.class;
+    }
+}
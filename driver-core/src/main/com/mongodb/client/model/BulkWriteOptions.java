@@ -21,6 +21,8 @@ import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.conversions.Bson;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
 /**
  * The options to apply to a bulk write.
  *
@@ -31,6 +33,7 @@ public final class BulkWriteOptions {
     private Boolean bypassDocumentValidation;
     private BsonValue comment;
     private Bson variables;
+    private int parallelism = 1;
 
     /**
      * If true, then when a write fails, return without performing the remaining
@@ -147,6 +150,35 @@ public final class BulkWriteOptions {
         return this;
     }
 
+    /**
+     * Gets the maximum number of connections over which the writes are sent concurrently. The default is 1.
+     *
+     * @return the parallelism
+     * @see #parallelism(int)
+     * @since 5.2
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of connections over which the writes are sent concurrently.
+     *
+     * <p>This only applies to unordered writes that are not part of an explicit session.  The writes are divided into contiguous
+     * partitions, each of which is executed as a separate operation with its own implicit session, so each partition is retried
+     * independently when retryable writes are enabled.  Small requests are not partitioned.  Currently only the synchronous driver
+     * applies this option.</p>
+     *
+     * @param parallelism the parallelism, which must be positive
+     * @return this
+     * @since 5.2
+     */
+    public BulkWriteOptions parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "BulkWriteOptions{"
@@ -154,6 +186,7 @@ public final class BulkWriteOptions {
                 + ", bypassDocumentValidation=" + bypassDocumentValidation
                 + ", comment=" + comment
                 + ", let=" + variables
+                + ", parallelism=" + parallelism
                 + '}';
     }
 }
@@ -20,6 +20,8 @@ import com.mongodb.lang.Nullable;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
 /**
  * The options to apply to an operation that inserts multiple documents into a collection.
  *
@@ -31,6 +33,7 @@ public final class InsertManyOptions {
     private boolean ordered = true;
     private Boolean bypassDocumentValidation;
     private BsonValue comment;
+    private int parallelism = 1;
 
     /**
      * Gets whether the documents should be inserted in the order provided, stopping on the first failed insertion. The default is true.
@@ -120,12 +123,42 @@ public final class InsertManyOptions {
         return this;
     }
 
+    /**
+     * Gets the maximum number of connections over which the documents are sent concurrently. The default is 1.
+     *
+     * @return the parallelism
+     * @see #parallelism(int)
+     * @since 5.2
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of connections over which the documents are sent concurrently.
+     *
+     * <p>This only applies to unordered documents that are not part of an explicit session.  The documents are divided into contiguous
+     * partitions, each of which is executed as a separate operation with its own implicit session, so each partition is retried
+     * independently when retryable writes are enabled.  Small requests are not partitioned.  Currently only the synchronous driver
+     * applies this option.</p>
+     *
+     * @param parallelism the parallelism, which must be positive
+     * @return this
+     * @since 5.2
+     */
+    public InsertManyOptions parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "InsertManyOptions{"
                 + "ordered=" + ordered
                 + ", bypassDocumentValidation=" + bypassDocumentValidation
                 + ", comment=" + comment
+                + ", parallelism=" + parallelism
                 + '}';
     }
 }
@@ -53,6 +53,15 @@ public interface AsyncBatchCursor<T> extends Closeable {
      */
     int getBatchSize();
 
+    /**
+     * Gets the size of the last batch returned by {@link #next(SingleResultCallback)}, as it was encoded in the reply.
+     *
+     * @return the size in bytes, or -1 if it is unknown
+     */
+    default int getLastBatchSizeInBytes() {
+        return -1;
+    }
+
     /**
      * Implementations of {@link AsyncBatchCursor} are allowed to close themselves, see {@link #close()} for more details.
      *
@@ -28,21 +28,36 @@ import static com.mongodb.assertions.Assertions.notNull;
  * Factory to create a Stream that's an AsynchronousSocketChannelStream. Throws an exception if SSL is enabled.
  */
 public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
-    private final PowerOfTwoBufferPool bufferProvider = PowerOfTwoBufferPool.DEFAULT;
+    private final PowerOfTwoBufferPool bufferProvider;
     private final SocketSettings settings;
     private final InetAddressResolver inetAddressResolver;
 
     /**
-     * Create a new factory with the default {@code BufferProvider} and {@code AsynchronousChannelGroup}.
+     * Create a new factory with the default {@code BufferProvider} and {@code AsynchronousChannelGroup}.  The default
+     * {@code BufferProvider} is the {@linkplain PowerOfTwoBufferPool#getDirect() global direct buffer pool}, so that the channel does
+     * not have to copy each buffer to or from a temporary direct buffer.
      *
      * @param settings    the settings for the connection to a MongoDB server
      * @param sslSettings the settings for connecting via SSL
      */
     public AsynchronousSocketChannelStreamFactory(final InetAddressResolver inetAddressResolver, final SocketSettings settings,
             final SslSettings sslSettings) {
+        this(inetAddressResolver, settings, sslSettings, PowerOfTwoBufferPool.getDirect());
+    }
+
+    /**
+     * Create a new factory with the given {@code BufferProvider} and the default {@code AsynchronousChannelGroup}.
+     *
+     * @param settings       the settings for the connection to a MongoDB server
+     * @param sslSettings    the settings for connecting via SSL
+     * @param bufferProvider the buffer provider
+     */
+    public AsynchronousSocketChannelStreamFactory(final InetAddressResolver inetAddressResolver, final SocketSettings settings,
+            final SslSettings sslSettings, final PowerOfTwoBufferPool bufferProvider) {
         assertFalse(sslSettings.isEnabled());
         this.inetAddressResolver = inetAddressResolver;
         this.settings = notNull("settings", settings);
+        this.bufferProvider = notNull("bufferProvider", bufferProvider);
     }
 
     @Override
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoInternalException;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.bson.io.BsonOutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A compressor for libraries that compress or uncompress a whole message in a single call, either between two direct byte buffers or
+ * between two byte arrays.  Both directions work on the message's buffers in place, rather than streaming through scratch arrays.
+ */
+abstract class BlockCompressor extends Compressor {
+
+    abstract int getMaxCompressedLength(int uncompressedLength);
+
+    abstract int compressDirect(ByteBuffer source, ByteBuffer target) throws IOException;
+
+    abstract int compress(byte[] source, int sourceOffset, int sourceLength, byte[] target, int targetOffset, int targetLength)
+            throws IOException;
+
+    abstract int uncompressDirect(ByteBuffer source, ByteBuffer target) throws IOException;
+
+    abstract int uncompress(byte[] source, int sourceOffset, int sourceLength, byte[] target, int targetOffset, int targetLength)
+            throws IOException;
+
+    // The library needs the uncompressed message in a single buffer, so a message spanning several buffers is first gathered into one
+    // obtained from the target's buffer provider.  When the target is a ByteBufferBsonOutput the message is compressed straight into it.
+    @Override
+    void compress(final List<ByteBuf> source, final BsonOutput target) {
+        ByteBufferBsonOutput byteBufferBsonOutput = target instanceof ByteBufferBsonOutput ? (ByteBufferBsonOutput) target : null;
+        ByteBuf gatheredSource = null;
+        try {
+            ByteBuffer in;
+            if (source.size() == 1) {
+                in = source.get(0).asNIO().duplicate();
+            } else {
+                int uncompressedSize = getUncompressedSize(source);
+                gatheredSource = byteBufferBsonOutput == null
+                        ? new ByteBufNIO(ByteBuffer.allocate(uncompressedSize))
+                        : byteBufferBsonOutput.getBufferProvider().getBuffer(uncompressedSize);
+                in = gatheredSource.asNIO().duplicate();
+                for (ByteBuf cur : source) {
+                    in.put(cur.asNIO().duplicate());
+                }
+                in.flip();
+            }
+
+            int maxCompressedLength = getMaxCompressedLength(in.remaining());
+            if (byteBufferBsonOutput == null) {
+                byte[] out = new byte[maxCompressedLength];
+                int compressedSize = compress(in, ByteBuffer.wrap(out));
+                target.writeBytes(out, 0, compressedSize);
+            } else {
+                ByteBuf out = byteBufferBsonOutput.reserve(maxCompressedLength);
+                byteBufferBsonOutput.advance(compress(in, out.asNIO().duplicate()));
+            }
+        } catch (IOException e) {
+            throw new MongoInternalException("Unexpected IOException", e);
+        } finally {
+            if (gatheredSource != null) {
+                gatheredSource.release();
+            }
+        }
+    }
+
+    @Override
+    void uncompress(final ByteBuf source, final ByteBuf target) {
+        try {
+            int uncompressedSize = uncompress(source.asNIO().duplicate(), target.asNIO().duplicate());
+            source.position(source.limit());
+            target.position(target.position() + uncompressedSize);
+        } catch (IOException e) {
+            throw new MongoInternalException("Unexpected IOException", e);
+        }
+    }
+
+    private int compress(final ByteBuffer source, final ByteBuffer target) throws IOException {
+        if (source.isDirect() && target.isDirect()) {
+            return compressDirect(source, target);
+        } else if (source.hasArray() && target.hasArray()) {
+            return compress(source.array(), source.arrayOffset() + source.position(), source.remaining(),
+                    target.array(), target.arrayOffset() + target.position(), target.remaining());
+        } else {
+            byte[] in = toByteArray(source);
+            byte[] out = new byte[getMaxCompressedLength(in.length)];
+            int compressedSize = compress(in, 0, in.length, out, 0, out.length);
+            target.put(out, 0, compressedSize);
+            return compressedSize;
+        }
+    }
+
+    private int uncompress(final ByteBuffer source, final ByteBuffer target) throws IOException {
+        if (source.isDirect() && target.isDirect()) {
+            return uncompressDirect(source, target);
+        } else if (source.hasArray() && target.hasArray()) {
+            return uncompress(source.array(), source.arrayOffset() + source.position(), source.remaining(),
+                    target.array(), target.arrayOffset() + target.position(), target.remaining());
+        } else {
+            byte[] in = toByteArray(source);
+            byte[] out = new byte[target.remaining()];
+            int uncompressedSize = uncompress(in, 0, in.length, out, 0, out.length);
+            target.put(out, 0, uncompressedSize);
+            return uncompressedSize;
+        }
+    }
+
+    private static byte[] toByteArray(final ByteBuffer source) {
+        byte[] bytes = new byte[source.remaining()];
+        source.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static int getUncompressedSize(final List<ByteBuf> source) {
+        int uncompressedSize = 0;
+        for (ByteBuf cur : source) {
+            uncompressedSize += cur.remaining();
+        }
+        return uncompressedSize;
+    }
+}
@@ -48,7 +48,12 @@ import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.connection.ByteBufBsonHelper.readBsonValue;
 
-final class ByteBufBsonDocument extends BsonDocument {
+/**
+ * An immutable {@link BsonDocument} that reads its contents from a {@link ByteBuf} on demand.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class ByteBufBsonDocument extends BsonDocument {
     private static final long serialVersionUID = 2L;
 
     private final transient ByteBuf byteBuf;
@@ -151,7 +156,7 @@ final class ByteBufBsonDocument extends BsonDocument {
         }
     }
 
-    ByteBufBsonDocument(final ByteBuf byteBuf) {
+    public ByteBufBsonDocument(final ByteBuf byteBuf) {
         this.byteBuf = byteBuf;
     }
 
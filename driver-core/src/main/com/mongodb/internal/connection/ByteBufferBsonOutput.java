@@ -76,6 +76,47 @@ public class ByteBufferBsonOutput extends OutputBuffer {
         position++;
     }
 
+    @Override
+    protected int writeAsciiCharacters(final String str, final int start, final boolean checkForNullCharacters) {
+        ensureOpen();
+
+        int len = str.length();
+        int i = start;
+        while (i < len) {
+            ByteBuf buf = getCurrentByteBuffer();
+            int bufPosition = buf.position();
+            int end = Math.min(len, i + buf.remaining());
+            int runStart = i;
+            if (buf.hasArray()) {
+                byte[] array = buf.array();
+                int arrayIndex = buf.arrayOffset() + bufPosition;
+                for (; i < end; i++) {
+                    char c = str.charAt(i);
+                    if (c >= 0x80 || (checkForNullCharacters && c == 0)) {
+                        break;
+                    }
+                    array[arrayIndex++] = (byte) c;
+                }
+            } else {
+                int index = bufPosition;
+                for (; i < end; i++) {
+                    char c = str.charAt(i);
+                    if (c >= 0x80 || (checkForNullCharacters && c == 0)) {
+                        break;
+                    }
+                    buf.put(index++, (byte) c);
+                }
+            }
+            int written = i - runStart;
+            buf.position(bufPosition + written);
+            position += written;
+            if (i < end) {
+                break;
+            }
+        }
+        return i;
+    }
+
     private ByteBuf getCurrentByteBuffer() {
         ByteBuf curByteBuffer = getByteBufferAtIndex(curBufferIndex);
         if (curByteBuffer.hasRemaining()) {
@@ -95,6 +136,48 @@ public class ByteBufferBsonOutput extends OutputBuffer {
         return bufferList.get(index);
     }
 
+    /**
+     * Gets a buffer with at least the given number of bytes remaining, so that the caller can write directly into it from its current
+     * position, without moving that position.  The written bytes only become part of this output once their number is passed to
+     * {@link #advance(int)}.
+     *
+     * <p>If the current buffer has too little space left, a new buffer of at least the given size is added, and the unused end of the
+     * current buffer is skipped.</p>
+     *
+     * @param length the number of bytes the caller may write
+     * @return the buffer
+     */
+    ByteBuf reserve(final int length) {
+        ensureOpen();
+
+        ByteBuf curByteBuffer = getByteBufferAtIndex(curBufferIndex);
+        if (curByteBuffer.remaining() >= length) {
+            return curByteBuffer;
+        }
+
+        ByteBuf byteBuffer = bufferProvider.getBuffer(length);
+        bufferList.add(byteBuffer);
+        curBufferIndex++;
+        return byteBuffer;
+    }
+
+    /**
+     * Advances the position past bytes written directly into the buffer returned by {@link #reserve(int)}.
+     *
+     * @param length the number of bytes written
+     */
+    void advance(final int length) {
+        ensureOpen();
+
+        ByteBuf curByteBuffer = getByteBufferAtIndex(curBufferIndex);
+        curByteBuffer.position(curByteBuffer.position() + length);
+        position += length;
+    }
+
+    BufferProvider getBufferProvider() {
+        return bufferProvider;
+    }
+
     @Override
     public int getPosition() {
         ensureOpen();
@@ -186,13 +269,10 @@ public class ByteBufferBsonOutput extends OutputBuffer {
     private BufferPositionPair getBufferPositionPair(final int absolutePosition) {
         int positionInBuffer = absolutePosition;
         int bufferIndex = 0;
-        int bufferSize = INITIAL_BUFFER_SIZE;
-        int startPositionOfBuffer = 0;
-        while (startPositionOfBuffer + bufferSize <= absolutePosition) {
+        // a buffer followed by another one is not necessarily full (see reserve), so step over the bytes actually written to it
+        while (bufferIndex < bufferList.size() - 1 && positionInBuffer >= bufferList.get(bufferIndex).position()) {
+            positionInBuffer -= bufferList.get(bufferIndex).position();
             bufferIndex++;
-            startPositionOfBuffer += bufferSize;
-            positionInBuffer -= bufferSize;
-            bufferSize = bufferList.get(bufferIndex).limit();
         }
 
         return new BufferPositionPair(bufferIndex, positionInBuffer);
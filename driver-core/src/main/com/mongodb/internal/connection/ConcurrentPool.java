@@ -321,7 +321,15 @@ public class ConcurrentPool<T> implements Pool<T> {
         private volatile boolean paused;
         private volatile boolean closed;
         private final int maxPermits;
-        private volatile int permits;
+        /**
+         * Permits are taken and returned with compare-and-set rather than under the {@link #lock}, so that checking out a pooled item
+         * when no thread is waiting for a permit does not contend on the lock. A thread only takes the lock to wait for a permit,
+         * and a thread returning a permit only takes it to signal a waiter. To make sure that a waiter is not left waiting for a
+         * permit that was returned concurrently, a waiter increments {@link #waitersEstimate} before its last attempt to take a
+         * permit, and a returning thread increments {@link #permits} before checking {@link #waitersEstimate}: at least one of them
+         * observes the other.
+         */
+        private final AtomicInteger permits;
         /** When there are not enough available permits to serve all threads requesting a permit, threads are queued and wait on
          * {@link #permitAvailableOrClosedOrPausedCondition}. Because of this waiting, we want threads to acquire the lock fairly,
          * to avoid a situation when some threads are sitting in the queue for a long time while others barge in and acquire
@@ -362,25 +370,19 @@ public class ConcurrentPool<T> implements Pool<T> {
             paused = false;
             closed = false;
             this.maxPermits = maxPermits;
-            permits = maxPermits;
+            permits = new AtomicInteger(maxPermits);
             waitersEstimate = new AtomicInteger();
             causeSupplier = null;
         }
 
         int permits() {
-            return permits;
+            return permits.get();
         }
 
         boolean acquirePermitImmediateUnfair() {
             return withUnfairLock(lock, () -> {
                 throwIfClosedOrPaused();
-                if (permits > 0) {
-                    //noinspection NonAtomicOperationOnVolatileField
-                    permits--;
-                    return true;
-                } else {
-                    return false;
-                }
+                return tryAcquirePermit();
             });
         }
 
@@ -391,6 +393,10 @@ public class ConcurrentPool<T> implements Pool<T> {
          * @param timeout See {@link Timeout#started(long, TimeUnit, TimePoint)}.
          */
         boolean acquirePermit(final long timeout, final TimeUnit unit) throws MongoInterruptedException {
+            // The fast path must not jump the queue of waiting threads, and leaves throwing to the slow path
+            if (waitersEstimate.get() == 0 && !closed && !paused && !Thread.currentThread().isInterrupted() && tryAcquirePermit()) {
+                return true;
+            }
             long remainingNanos = unit.toNanos(timeout);
             if (waitersEstimate.get() == 0) {
                 lockInterruptiblyUnfair(lock);
@@ -398,11 +404,17 @@ public class ConcurrentPool<T> implements Pool<T> {
                 lockInterruptibly(lock);
             }
             try {
-                while (permits == 0
-                        // the absence of short-circuiting is of importance
-                        & !throwIfClosedOrPaused()) {
+                while (true) {
+                    throwIfClosedOrPaused();
+                    if (tryAcquirePermit()) {
+                        return true;
+                    }
                     try {
                         waitersEstimate.incrementAndGet();
+                        // a permit may have been returned before this thread became visible as a waiter, see the permits field
+                        if (tryAcquirePermit()) {
+                            return true;
+                        }
                         if (timeout < 0 || remainingNanos == Long.MAX_VALUE) {
                             permitAvailableOrClosedOrPausedCondition.await();
                         } else if (remainingNanos >= 0) {
@@ -416,22 +428,27 @@ public class ConcurrentPool<T> implements Pool<T> {
                         waitersEstimate.decrementAndGet();
                     }
                 }
-                assertTrue(permits > 0);
-                //noinspection NonAtomicOperationOnVolatileField
-                permits--;
-                return true;
             } finally {
                 lock.unlock();
             }
         }
 
         void releasePermit() {
-            withUnfairLock(lock, () -> {
-                assertTrue(permits < maxPermits);
-                //noinspection NonAtomicOperationOnVolatileField
-                permits++;
-                permitAvailableOrClosedOrPausedCondition.signal();
-            });
+            assertTrue(permits.incrementAndGet() <= maxPermits);
+            if (waitersEstimate.get() > 0) {
+                withUnfairLock(lock, permitAvailableOrClosedOrPausedCondition::signal);
+            }
+        }
+
+        private boolean tryAcquirePermit() {
+            int current = permits.get();
+            while (current > 0) {
+                if (permits.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+                current = permits.get();
+            }
+            return false;
         }
 
         void pause(final Supplier<MongoException> causeSupplier) {
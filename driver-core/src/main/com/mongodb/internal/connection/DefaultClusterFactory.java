@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.AdaptiveCompressionPolicy;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoCompressor;
 import com.mongodb.MongoCredential;
@@ -34,8 +35,10 @@ import com.mongodb.event.ServerMonitorListener;
 import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.DnsClient;
+import org.bson.io.FieldNameCache;
 
 import java.util.List;
 
@@ -67,7 +70,9 @@ public final class DefaultClusterFactory {
                                  @Nullable final String applicationName,
                                  @Nullable final MongoDriverInformation mongoDriverInformation,
                                  final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
-                                 @Nullable final DnsClient dnsClient) {
+                                 @Nullable final DnsClient dnsClient, @Nullable final FieldNameCache fieldNameCache,
+                                 @Nullable final AdaptiveCompressionPolicy compressionPolicy,
+                                 final ThreadMode threadMode) {
 
         detectAndLogClusterEnvironment(originalClusterSettings);
 
@@ -103,14 +108,15 @@ public final class DefaultClusterFactory {
             ClusterableServerFactory serverFactory = new LoadBalancedClusterableServerFactory(serverSettings,
                     connectionPoolSettings, internalConnectionPoolSettings, streamFactory, credential, loggerSettings, commandListener,
                     applicationName, mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build(),
-                    compressorList, serverApi);
+                    compressorList, serverApi, fieldNameCache, compressionPolicy, threadMode);
             return new LoadBalancedCluster(clusterId, clusterSettings, serverFactory, dnsSrvRecordMonitorFactory);
         } else {
             ClusterableServerFactory serverFactory = new DefaultClusterableServerFactory(serverSettings,
                     connectionPoolSettings, internalConnectionPoolSettings,
                     streamFactory, heartbeatStreamFactory, credential, loggerSettings, commandListener, applicationName,
                     mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build(), compressorList,
-                    serverApi, FaasEnvironment.getFaasEnvironment() != FaasEnvironment.UNKNOWN);
+                    serverApi, FaasEnvironment.getFaasEnvironment() != FaasEnvironment.UNKNOWN, fieldNameCache,
+                    compressionPolicy, threadMode);
 
             if (clusterSettings.getMode() == ClusterConnectionMode.SINGLE) {
                 return new SingleServerCluster(clusterId, clusterSettings, serverFactory);
@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.AdaptiveCompressionPolicy;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoCompressor;
 import com.mongodb.MongoCredential;
@@ -29,7 +30,9 @@ import com.mongodb.connection.ServerSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.event.ServerListener;
 import com.mongodb.internal.inject.SameObjectProvider;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.lang.Nullable;
+import org.bson.io.FieldNameCache;
 
 import java.util.List;
 
@@ -54,6 +57,11 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
     @Nullable
     private final ServerApi serverApi;
     private final boolean isFunctionAsAServiceEnvironment;
+    @Nullable
+    private final FieldNameCache fieldNameCache;
+    @Nullable
+    private final AdaptiveCompressionPolicy compressionPolicy;
+    private final ThreadMode threadMode;
 
     public DefaultClusterableServerFactory(
             final ServerSettings serverSettings, final ConnectionPoolSettings connectionPoolSettings,
@@ -63,7 +71,9 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
             final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
             @Nullable final String applicationName, @Nullable final MongoDriverInformation mongoDriverInformation,
-            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment) {
+            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment,
+            @Nullable final FieldNameCache fieldNameCache, @Nullable final AdaptiveCompressionPolicy compressionPolicy,
+            final ThreadMode threadMode) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -77,6 +87,9 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
         this.compressorList = compressorList;
         this.serverApi = serverApi;
         this.isFunctionAsAServiceEnvironment = isFunctionAsAServiceEnvironment;
+        this.fieldNameCache = fieldNameCache;
+        this.compressionPolicy = compressionPolicy;
+        this.threadMode = threadMode;
     }
 
     @Override
@@ -87,12 +100,13 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
         ServerMonitor serverMonitor = new DefaultServerMonitor(serverId, serverSettings,
                 // no credentials, compressor list, or command listener for the server monitor factory
                 new InternalStreamConnectionFactory(clusterMode, true, heartbeatStreamFactory, null, applicationName,
-                        mongoDriverInformation, emptyList(), loggerSettings, null, serverApi),
-                clusterMode, serverApi, isFunctionAsAServiceEnvironment, sdamProvider);
+                        mongoDriverInformation, emptyList(), loggerSettings, null, serverApi, null, null),
+                clusterMode, serverApi, isFunctionAsAServiceEnvironment, sdamProvider, threadMode);
         ConnectionPool connectionPool = new DefaultConnectionPool(serverId,
-                new InternalStreamConnectionFactory(clusterMode, streamFactory, credential, applicationName,
-                        mongoDriverInformation, compressorList, loggerSettings, commandListener, serverApi),
-                connectionPoolSettings, internalConnectionPoolSettings, sdamProvider);
+                new InternalStreamConnectionFactory(clusterMode, false, streamFactory, credential, applicationName,
+                        mongoDriverInformation, compressorList, loggerSettings, commandListener, serverApi, fieldNameCache,
+                        compressionPolicy),
+                connectionPoolSettings, internalConnectionPoolSettings, sdamProvider, threadMode);
         ServerListener serverListener = singleServerListener(serverSettings);
         SdamServerDescriptionManager sdam = new DefaultSdamServerDescriptionManager(cluster, serverId, serverListener, serverMonitor,
                 connectionPool, clusterMode);
@@ -54,6 +54,7 @@ import com.mongodb.internal.logging.LogMessage;
 import com.mongodb.internal.logging.StructuredLogger;
 import com.mongodb.internal.session.SessionContext;
 import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.internal.time.TimePoint;
 import com.mongodb.internal.time.Timeout;
 import com.mongodb.lang.NonNull;
@@ -142,6 +143,7 @@ final class DefaultConnectionPool implements ConnectionPool {
     private final OpenConcurrencyLimiter openConcurrencyLimiter;
     private final StateAndGeneration stateAndGeneration;
     private final OptionalProvider<SdamServerDescriptionManager> sdamProvider;
+    private final ThreadMode threadMode;
 
     @VisibleForTesting(otherwise = PRIVATE)
     DefaultConnectionPool(final ServerId serverId, final InternalConnectionFactory internalConnectionFactory,
@@ -149,6 +151,13 @@ final class DefaultConnectionPool implements ConnectionPool {
         this(serverId, internalConnectionFactory, settings, InternalConnectionPoolSettings.builder().build(), sdamProvider);
     }
 
+    @VisibleForTesting(otherwise = PRIVATE)
+    DefaultConnectionPool(final ServerId serverId, final InternalConnectionFactory internalConnectionFactory,
+            final ConnectionPoolSettings settings, final InternalConnectionPoolSettings internalSettings,
+            final OptionalProvider<SdamServerDescriptionManager> sdamProvider) {
+        this(serverId, internalConnectionFactory, settings, internalSettings, sdamProvider, ThreadMode.PLATFORM);
+    }
+
     /**
      * @param sdamProvider For handling exceptions via the
      *                     <a href="https://github.com/mongodb/specifications/blob/master/source/server-discovery-and-monitoring/server-discovery-and-monitoring.rst">
@@ -157,12 +166,14 @@ final class DefaultConnectionPool implements ConnectionPool {
      *                     here</a>.
      *                     Must provide an {@linkplain Optional#isPresent() empty} {@link Optional} if created in load-balanced mode,
      *                     otherwise must provide a non-empty {@link Optional}.
+     * @param threadMode The kind of thread on which the pool runs its background maintenance and asynchronous work.
      */
     DefaultConnectionPool(final ServerId serverId, final InternalConnectionFactory internalConnectionFactory,
             final ConnectionPoolSettings settings, final InternalConnectionPoolSettings internalSettings,
-            final OptionalProvider<SdamServerDescriptionManager> sdamProvider) {
+            final OptionalProvider<SdamServerDescriptionManager> sdamProvider, final ThreadMode threadMode) {
         this.serverId = notNull("serverId", serverId);
         this.settings = notNull("settings", settings);
+        this.threadMode = notNull("threadMode", threadMode);
         UsageTrackingInternalConnectionItemFactory connectionItemFactory =
                 new UsageTrackingInternalConnectionItemFactory(internalConnectionFactory);
         pool = new ConcurrentPool<>(maxSize(settings), connectionItemFactory, format("The server at %s is no longer available",
@@ -172,7 +183,7 @@ final class DefaultConnectionPool implements ConnectionPool {
         backgroundMaintenance = new BackgroundMaintenanceManager();
         connectionPoolCreated(connectionPoolListener, serverId, settings);
         openConcurrencyLimiter = new OpenConcurrencyLimiter(settings.getMaxConnecting());
-        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager());
+        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager(), threadMode);
         stateAndGeneration = new StateAndGeneration();
         connectionGenerationSupplier = new ConnectionGenerationSupplier() {
             @Override
@@ -893,6 +904,11 @@ final class DefaultConnectionPool implements ConnectionPool {
         private final int maxPermits;
         private int permits;
         private final Deque<MutableReference<PooledConnection>> desiredConnectionSlots;
+        /**
+         * The size of {@link #desiredConnectionSlots}, which is only modified while holding the {@link #lock}, but may be read without
+         * it by {@link #tryHandOverOrRelease(UsageTrackingInternalConnection)}.
+         */
+        private volatile int desiredConnectionSlotsCount;
 
         OpenConcurrencyLimiter(final int maxConnecting) {
             lock = new ReentrantLock(true);
@@ -1029,7 +1045,8 @@ final class DefaultConnectionPool implements ConnectionPool {
             lockInterruptibly(lock);
             try {
                 if (tryGetAvailable) {
-                    /* An attempt to get an available opened connection from the pool (must be done while holding the lock)
+                    /* An attempt to get an available opened connection from the pool (must be done while holding the lock,
+                     * and after expressing the desire to get a connection via the hand-over mechanism)
                      * happens here at most once to prevent the race condition in the following execution
                      * (actions are specified in the execution total order,
                      * which by definition exists if an execution is either sequentially consistent or linearizable):
@@ -1038,15 +1055,19 @@ final class DefaultConnectionPool implements ConnectionPool {
                      * 3. Thread#1 executes the current code. Expresses the desire to get a connection via the hand-over mechanism,
                      *   but thread#2 has already tried handing over and released its connection to the pool.
                      * As a result, thread#1 is waiting for a permit to open a connection despite one being available in the pool.
+                     * Expressing the desire before the attempt matters because thread#2 checks for desiring threads without the lock,
+                     * see tryHandOverOrRelease.
                      *
                      * This attempt should be unfair because the current thread (Thread#1) has already waited for its turn fairly.
                      * Waiting fairly again puts the current thread behind other threads, which is unfair to the current thread. */
+                    expressDesireToGetAvailableConnection();
+                    expressedDesireToGetAvailableConnection = true;
                     availableConnection = getPooledConnectionImmediateUnfair();
                     if (availableConnection != null) {
+                        // nothing can have been handed over to the slot while this thread holds the lock
+                        giveUpOnTryingToGetAvailableConnection();
                         return availableConnection;
                     }
-                    expressDesireToGetAvailableConnection();
-                    expressedDesireToGetAvailableConnection = true;
                 }
                 long remainingNanos = timeout.remainingOrInfinite(NANOSECONDS);
                 while (permits == 0
@@ -1084,6 +1105,7 @@ final class DefaultConnectionPool implements ConnectionPool {
 
         private void expressDesireToGetAvailableConnection() {
             desiredConnectionSlots.addLast(new MutableReference<>());
+            desiredConnectionSlotsCount = desiredConnectionSlots.size();
         }
 
         @Nullable
@@ -1092,6 +1114,7 @@ final class DefaultConnectionPool implements ConnectionPool {
             PooledConnection result = desiredConnectionSlots.peekFirst().reference;
             if (result != null) {
                 desiredConnectionSlots.removeFirst();
+                desiredConnectionSlotsCount = desiredConnectionSlots.size();
                 assertTrue(result.opened());
             }
             return result;
@@ -1100,6 +1123,7 @@ final class DefaultConnectionPool implements ConnectionPool {
         private void giveUpOnTryingToGetAvailableConnection() {
             assertFalse(desiredConnectionSlots.isEmpty());
             PooledConnection connection = desiredConnectionSlots.removeLast().reference;
+            desiredConnectionSlotsCount = desiredConnectionSlots.size();
             if (connection != null) {
                 connection.release();
             }
@@ -1108,8 +1132,35 @@ final class DefaultConnectionPool implements ConnectionPool {
         /**
          * The hand-over mechanism is needed to prevent other threads doing checkout from stealing newly released connections
          * from threads that are waiting for a permit to open a connection.
+         *
+         * <p>When no thread desires to get a connection, which is the common case, the connection is released to the pool without
+         * acquiring the {@link #lock}. A thread may express the desire concurrently, after this thread has checked for desiring threads
+         * but possibly before it could see the released connection in the pool. Such a thread expresses its desire before looking in the
+         * pool, and this thread checks for desiring threads again after releasing, so at least one of them observes the other.
+         * If this thread observes a desiring thread, it takes a connection back from the pool and hands it over.</p>
          */
         void tryHandOverOrRelease(final UsageTrackingInternalConnection openConnection) {
+            if (desiredConnectionSlotsCount == 0) {
+                pool.release(openConnection);
+                if (desiredConnectionSlotsCount == 0) {
+                    return;
+                }
+                PooledConnection availableConnection;
+                try {
+                    availableConnection = getPooledConnectionImmediateUnfair();
+                } catch (Exception e) {
+                    // the pool is closed or paused, and threads desiring to get a connection are signalled about that separately
+                    return;
+                }
+                if (availableConnection != null) {
+                    handOverOrRelease(availableConnection.wrapped);
+                }
+            } else {
+                handOverOrRelease(openConnection);
+            }
+        }
+
+        private void handOverOrRelease(final UsageTrackingInternalConnection openConnection) {
             boolean handedOver = withUnfairLock(lock, () -> {
                 for (//iterate from first (head) to last (tail)
                         MutableReference<PooledConnection> desiredConnectionSlot : desiredConnectionSlots) {
@@ -1278,10 +1329,12 @@ final class DefaultConnectionPool implements ConnectionPool {
         private volatile State state;
         private volatile BlockingQueue<Task> tasks;
         private final Lock lock;
+        private final ThreadMode threadMode;
         @Nullable
         private ExecutorService worker;
 
-        AsyncWorkManager(final boolean prestart) {
+        AsyncWorkManager(final boolean prestart, final ThreadMode threadMode) {
+            this.threadMode = threadMode;
             state = State.NEW;
             tasks = new LinkedBlockingQueue<>();
             lock = new StampedLock().asWriteLock();
@@ -1311,7 +1364,7 @@ final class DefaultConnectionPool implements ConnectionPool {
         private boolean initUnlessClosed() {
             boolean result = true;
             if (state == State.NEW) {
-                worker = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncGetter"));
+                worker = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncGetter", threadMode));
                 worker.submit(() -> runAndLogUncaught(this::workerRun));
                 state = State.INITIALIZED;
             } else if (state == State.CLOSED) {
@@ -1440,7 +1493,7 @@ final class DefaultConnectionPool implements ConnectionPool {
 
         private BackgroundMaintenanceManager() {
             maintainer = settings.getMaintenanceInitialDelay(NANOSECONDS) < Long.MAX_VALUE
-                    ? Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MaintenanceTimer"))
+                    ? Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MaintenanceTimer", threadMode))
                     : null;
             cancellationHandle = null;
             initialStart = true;
@@ -33,6 +33,7 @@ import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.inject.Provider;
 import com.mongodb.internal.session.SessionContext;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonBoolean;
@@ -79,6 +80,7 @@ class DefaultServerMonitor implements ServerMonitor {
     private final ServerApi serverApi;
     private final boolean isFunctionAsAServiceEnvironment;
     private final ServerSettings serverSettings;
+    private final ThreadMode threadMode;
     private final ServerMonitor monitor;
     /**
      * Must be guarded by {@link #lock}.
@@ -96,6 +98,17 @@ class DefaultServerMonitor implements ServerMonitor {
                          @Nullable final ServerApi serverApi,
                          final boolean isFunctionAsAServiceEnvironment,
                          final Provider<SdamServerDescriptionManager> sdamProvider) {
+        this(serverId, serverSettings, internalConnectionFactory, clusterConnectionMode, serverApi, isFunctionAsAServiceEnvironment,
+                sdamProvider, ThreadMode.PLATFORM);
+    }
+
+    DefaultServerMonitor(final ServerId serverId, final ServerSettings serverSettings,
+            final InternalConnectionFactory internalConnectionFactory,
+                         final ClusterConnectionMode clusterConnectionMode,
+                         @Nullable final ServerApi serverApi,
+                         final boolean isFunctionAsAServiceEnvironment,
+                         final Provider<SdamServerDescriptionManager> sdamProvider,
+                         final ThreadMode threadMode) {
         this.serverSettings = notNull("serverSettings", serverSettings);
         this.serverId = notNull("serverId", serverId);
         this.serverMonitorListener = singleServerMonitorListener(serverSettings);
@@ -104,6 +117,7 @@ class DefaultServerMonitor implements ServerMonitor {
         this.serverApi = serverApi;
         this.isFunctionAsAServiceEnvironment = isFunctionAsAServiceEnvironment;
         this.sdamProvider = sdamProvider;
+        this.threadMode = notNull("threadMode", threadMode);
         monitor = new ServerMonitor();
         roundTripTimeMonitor = null;
         isClosed = false;
@@ -146,18 +160,26 @@ class DefaultServerMonitor implements ServerMonitor {
         monitor.cancelCurrentCheck();
     }
 
-    class ServerMonitor extends Thread implements AutoCloseable {
+    class ServerMonitor implements Runnable, AutoCloseable {
+        private final Thread thread;
         private volatile InternalConnection connection = null;
         private volatile boolean currentCheckCancelled;
 
         ServerMonitor() {
-            super("cluster-" + serverId.getClusterId() + "-" + serverId.getAddress());
-            setDaemon(true);
+            thread = threadMode.newThread(this, "cluster-" + serverId.getClusterId() + "-" + serverId.getAddress());
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void join() throws InterruptedException {
+            thread.join();
         }
 
         @Override
         public void close() {
-            interrupt();
+            thread.interrupt();
             InternalConnection connection = this.connection;
             if (connection != null) {
                 connection.close();
@@ -423,17 +445,21 @@ class DefaultServerMonitor implements ServerMonitor {
     }
 
 
-    private class RoundTripTimeMonitor extends Thread implements AutoCloseable {
+    private class RoundTripTimeMonitor implements Runnable, AutoCloseable {
+        private final Thread thread;
         private volatile InternalConnection connection = null;
 
         RoundTripTimeMonitor() {
-            super("cluster-rtt-" + serverId.getClusterId() + "-" + serverId.getAddress());
-            setDaemon(true);
+            thread = threadMode.newThread(this, "cluster-rtt-" + serverId.getClusterId() + "-" + serverId.getAddress());
+        }
+
+        void start() {
+            thread.start();
         }
 
         @Override
         public void close() {
-            interrupt();
+            thread.interrupt();
             InternalConnection connection = this.connection;
             if (connection != null) {
                 connection.close();
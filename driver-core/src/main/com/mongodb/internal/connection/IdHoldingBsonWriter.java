@@ -30,6 +30,7 @@ import org.bson.BsonJavaScript;
 import org.bson.BsonJavaScriptWithScope;
 import org.bson.BsonMaxKey;
 import org.bson.BsonMinKey;
+import org.bson.BsonName;
 import org.bson.BsonNull;
 import org.bson.BsonObjectId;
 import org.bson.BsonReader;
@@ -307,6 +308,15 @@ public class IdHoldingBsonWriter extends LevelCountingBsonWriter {
         super.writeName(name);
     }
 
+    @Override
+    public void writeName(final BsonName name) {
+        setCurrentFieldName(name.getValue());
+        if (getIdBsonWriterCurrentLevel() >= 0) {
+            getIdBsonWriter().writeName(name);
+        }
+        super.writeName(name);
+    }
+
     @Override
     public void writeNull(final String name) {
         setCurrentFieldName(name);
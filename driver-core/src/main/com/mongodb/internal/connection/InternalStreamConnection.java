@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.AdaptiveCompressionPolicy;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoClientException;
 import com.mongodb.MongoCommandException;
@@ -55,6 +56,7 @@ import org.bson.ByteBuf;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Decoder;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
@@ -148,6 +150,10 @@ public class InternalStreamConnection implements InternalConnection {
     private final List<MongoCompressor> compressorList;
     private final LoggerSettings loggerSettings;
     private final CommandListener commandListener;
+    @Nullable
+    private final FieldNameCache fieldNameCache;
+    @Nullable
+    private final AdaptiveCompressionPolicy compressionPolicy;
     @Nullable private volatile Compressor sendCompressor;
     private final Map<Byte, Compressor> compressorMap;
     private volatile boolean hasMoreToCome;
@@ -170,7 +176,7 @@ public class InternalStreamConnection implements InternalConnection {
             final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
             final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer) {
         this(clusterConnectionMode, null, false, serverId, connectionGenerationSupplier, streamFactory, compressorList,
-                LoggerSettings.builder().build(), commandListener, connectionInitializer);
+                LoggerSettings.builder().build(), commandListener, connectionInitializer, null, null);
     }
 
     public InternalStreamConnection(final ClusterConnectionMode clusterConnectionMode,
@@ -180,7 +186,8 @@ public class InternalStreamConnection implements InternalConnection {
             final ConnectionGenerationSupplier connectionGenerationSupplier,
             final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings,
-            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer) {
+            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer,
+            @Nullable final FieldNameCache fieldNameCache, @Nullable final AdaptiveCompressionPolicy compressionPolicy) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.authenticator = authenticator;
         this.isMonitoringConnection = isMonitoringConnection;
@@ -192,6 +199,8 @@ public class InternalStreamConnection implements InternalConnection {
         this.loggerSettings = loggerSettings;
         this.commandListener = commandListener;
         this.connectionInitializer = notNull("connectionInitializer", connectionInitializer);
+        this.fieldNameCache = fieldNameCache;
+        this.compressionPolicy = compressionPolicy;
         description = new ConnectionDescription(serverId);
         initialServerDescription = ServerDescription.builder()
                 .address(serverId.getAddress())
@@ -474,7 +483,9 @@ public class InternalStreamConnection implements InternalConnection {
                                     final ByteBufferBsonOutput bsonOutput, final SessionContext sessionContext) {
 
         Compressor localSendCompressor = sendCompressor;
-        if (localSendCompressor == null || SECURITY_SENSITIVE_COMMANDS.contains(message.getCommandDocument(bsonOutput).getFirstKey())) {
+        String commandName = localSendCompressor == null ? null : message.getCommandDocument(bsonOutput).getFirstKey();
+        int messageSize = bsonOutput.getSize();
+        if (localSendCompressor == null || !shouldCompress(assertNotNull(commandName), messageSize)) {
             List<ByteBuf> byteBuffers = bsonOutput.getByteBuffers();
             try {
                 sendMessage(byteBuffers, message.getId());
@@ -490,6 +501,7 @@ public class InternalStreamConnection implements InternalConnection {
                         getMessageSettings(description));
                 compressedBsonOutput = new ByteBufferBsonOutput(this);
                 compressedMessage.encode(compressedBsonOutput, sessionContext);
+                messageCompressed(assertNotNull(commandName), messageSize, compressedBsonOutput.getSize());
             } finally {
                 ResourceUtil.release(byteBuffers);
                 bsonOutput.close();
@@ -505,6 +517,17 @@ public class InternalStreamConnection implements InternalConnection {
         responseTo = message.getId();
     }
 
+    private boolean shouldCompress(final String commandName, final int messageSize) {
+        return !SECURITY_SENSITIVE_COMMANDS.contains(commandName)
+                && (compressionPolicy == null || compressionPolicy.shouldCompress(commandName, messageSize));
+    }
+
+    private void messageCompressed(final String commandName, final int messageSize, final int compressedMessageSize) {
+        if (compressionPolicy != null) {
+            compressionPolicy.messageCompressed(commandName, messageSize, compressedMessageSize);
+        }
+    }
+
     private <T> T receiveCommandMessageResponse(final Decoder<T> decoder,
                                                 final CommandEventSender commandEventSender, final SessionContext sessionContext,
                                                 final int additionalTimeout) {
@@ -551,7 +574,9 @@ public class InternalStreamConnection implements InternalConnection {
             CommandEventSender commandEventSender = createCommandEventSender(message, bsonOutput, requestContext, operationContext);
             commandEventSender.sendStartedEvent();
             Compressor localSendCompressor = sendCompressor;
-            if (localSendCompressor == null || SECURITY_SENSITIVE_COMMANDS.contains(message.getCommandDocument(bsonOutput).getFirstKey())) {
+            String commandName = localSendCompressor == null ? null : message.getCommandDocument(bsonOutput).getFirstKey();
+            int messageSize = bsonOutput.getSize();
+            if (localSendCompressor == null || !shouldCompress(assertNotNull(commandName), messageSize)) {
                 sendCommandMessageAsync(message.getId(), decoder, sessionContext, callback, bsonOutput, commandEventSender,
                         message.isResponseExpected());
             } else {
@@ -560,6 +585,7 @@ public class InternalStreamConnection implements InternalConnection {
                     CompressedMessage compressedMessage = new CompressedMessage(message.getOpCode(), byteBuffers, localSendCompressor,
                             getMessageSettings(description));
                     compressedMessage.encode(compressedBsonOutput, sessionContext);
+                    messageCompressed(assertNotNull(commandName), messageSize, compressedBsonOutput.getSize());
                 } finally {
                     ResourceUtil.release(byteBuffers);
                     bsonOutput.close();
@@ -622,7 +648,7 @@ public class InternalStreamConnection implements InternalConnection {
     }
 
     private <T> T getCommandResult(final Decoder<T> decoder, final ResponseBuffers responseBuffers, final int messageId) {
-        T result = new ReplyMessage<>(responseBuffers, decoder, messageId).getDocument();
+        T result = new ReplyMessage<>(responseBuffers, decoder, messageId, fieldNameCache).getDocument();
         MongoException writeConcernBasedError = createSpecialWriteConcernException(responseBuffers, description.getServerAddress());
         if (writeConcernBasedError != null) {
             throw new MongoWriteConcernWithResponseException(writeConcernBasedError, result);
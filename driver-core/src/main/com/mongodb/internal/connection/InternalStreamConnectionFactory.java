@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.AdaptiveCompressionPolicy;
 import com.mongodb.AuthenticationMechanism;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoCompressor;
@@ -26,6 +27,7 @@ import com.mongodb.connection.ServerId;
 import com.mongodb.event.CommandListener;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonDocument;
+import org.bson.io.FieldNameCache;
 
 import java.util.List;
 
@@ -43,6 +45,10 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
     @Nullable
     private final ServerApi serverApi;
     private final MongoCredentialWithCache credential;
+    @Nullable
+    private final FieldNameCache fieldNameCache;
+    @Nullable
+    private final AdaptiveCompressionPolicy compressionPolicy;
 
     InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode,
             final StreamFactory streamFactory,
@@ -51,7 +57,7 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
             final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi) {
         this(clusterConnectionMode, false, streamFactory, credential, applicationName, mongoDriverInformation, compressorList,
-                loggerSettings, commandListener, serverApi);
+                loggerSettings, commandListener, serverApi, null, null);
     }
 
     InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode, final boolean isMonitoringConnection,
@@ -59,7 +65,8 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
             @Nullable final MongoCredentialWithCache credential,
             @Nullable final String applicationName, @Nullable final MongoDriverInformation mongoDriverInformation,
             final List<MongoCompressor> compressorList,
-            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi) {
+            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi,
+            @Nullable final FieldNameCache fieldNameCache, @Nullable final AdaptiveCompressionPolicy compressionPolicy) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.isMonitoringConnection = isMonitoringConnection;
         this.streamFactory = notNull("streamFactory", streamFactory);
@@ -69,6 +76,8 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
         this.serverApi = serverApi;
         this.clientMetadataDocument = createClientMetadataDocument(applicationName, mongoDriverInformation);
         this.credential = credential;
+        this.fieldNameCache = fieldNameCache;
+        this.compressionPolicy = compressionPolicy;
     }
 
     @Override
@@ -80,7 +89,7 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
                 clusterConnectionMode, authenticator,
                 isMonitoringConnection, serverId, connectionGenerationSupplier,
                 streamFactory, compressorList, loggerSettings, commandListener,
-                connectionInitializer);
+                connectionInitializer, fieldNameCache, compressionPolicy);
     }
 
     private Authenticator createAuthenticator(final MongoCredentialWithCache credential) {
@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.AdaptiveCompressionPolicy;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoCompressor;
 import com.mongodb.MongoCredential;
@@ -29,7 +30,9 @@ import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.internal.inject.EmptyProvider;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.lang.Nullable;
+import org.bson.io.FieldNameCache;
 
 import java.util.List;
 
@@ -51,6 +54,11 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
     private final MongoDriverInformation mongoDriverInformation;
     private final List<MongoCompressor> compressorList;
     private final ServerApi serverApi;
+    @Nullable
+    private final FieldNameCache fieldNameCache;
+    @Nullable
+    private final AdaptiveCompressionPolicy compressionPolicy;
+    private final ThreadMode threadMode;
 
     public LoadBalancedClusterableServerFactory(final ServerSettings serverSettings,
             final ConnectionPoolSettings connectionPoolSettings,
@@ -59,7 +67,9 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
             final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
             @Nullable final String applicationName, final MongoDriverInformation mongoDriverInformation,
-            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi) {
+            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
+            @Nullable final FieldNameCache fieldNameCache, @Nullable final AdaptiveCompressionPolicy compressionPolicy,
+            final ThreadMode threadMode) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -71,14 +81,18 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
         this.mongoDriverInformation = mongoDriverInformation;
         this.compressorList = compressorList;
         this.serverApi = serverApi;
+        this.fieldNameCache = fieldNameCache;
+        this.compressionPolicy = compressionPolicy;
+        this.threadMode = threadMode;
     }
 
     @Override
     public ClusterableServer create(final Cluster cluster, final ServerAddress serverAddress) {
         ConnectionPool connectionPool = new DefaultConnectionPool(new ServerId(cluster.getClusterId(), serverAddress),
-                new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, streamFactory, credential, applicationName,
-                        mongoDriverInformation, compressorList, loggerSettings, commandListener, serverApi),
-                connectionPoolSettings, internalConnectionPoolSettings, EmptyProvider.instance());
+                new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, false, streamFactory, credential,
+                        applicationName, mongoDriverInformation, compressorList, loggerSettings, commandListener, serverApi,
+                        fieldNameCache, compressionPolicy),
+                connectionPoolSettings, internalConnectionPoolSettings, EmptyProvider.instance(), threadMode);
         connectionPool.ready();
 
         return new LoadBalancedServer(new ServerId(cluster.getClusterId(), serverAddress), connectionPool, new DefaultConnectionFactory(),
@@ -17,20 +17,28 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
 import org.bson.ByteBuf;
 import org.bson.ByteBufNIO;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * A pool of buffers whose capacities are powers of two.
+ *
+ * <p>Each size class has a small number of stripes, each of which caches a few buffers in an array, in front of a shared deque.  A
+ * thread always uses the same stripe, so that in the common case a buffer is taken and released without contention and without
+ * allocating anything.  A stripe that is full or locked by another thread falls back to the shared deque.</p>
+ *
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class PowerOfTwoBufferPool implements BufferProvider {
@@ -40,6 +48,28 @@ public class PowerOfTwoBufferPool implements BufferProvider {
      */
     public static final PowerOfTwoBufferPool DEFAULT = new PowerOfTwoBufferPool().enablePruning();
 
+    private static final long DEFAULT_MAX_DIRECT_MEMORY = 64 * 1024 * 1024;
+    private static final int MAX_STRIPES = 64;
+    private static final int STRIPE_CAPACITY = 8;
+
+    private static final class DirectHolder {
+        private static final PowerOfTwoBufferPool INSTANCE = new PowerOfTwoBufferPool(24, 1, TimeUnit.MINUTES,
+                DEFAULT_MAX_DIRECT_MEMORY).enablePruning();
+    }
+
+    /**
+     * Gets the global pool of direct buffers, which is created on first use.  Pruning is enabled on this pool.  Idle buffers are pruned
+     * after one minute.
+     *
+     * <p>The pool allocates at most 64 MiB of direct memory, after which it falls back to heap buffers.  It is intended for streams
+     * that write to and read from NIO channels, which would otherwise copy heap buffers to and from temporary direct buffers.</p>
+     *
+     * @return the global direct buffer pool
+     */
+    public static PowerOfTwoBufferPool getDirect() {
+        return DirectHolder.INSTANCE;
+    }
+
     private static final class IdleTrackingByteBuffer {
         private final long lastUsedNanos;
         private final ByteBuffer buffer;
@@ -58,8 +88,14 @@ public class PowerOfTwoBufferPool implements BufferProvider {
         }
     }
 
-    private final Map<Integer, BufferPool> powerOfTwoToPoolMap = new HashMap<>();
+    private final BufferPool[] pools;
+    private final int stripeMask;
     private final long maxIdleTimeNanos;
+    private final long maxDirectMemory;
+    private final AtomicLong directMemoryUsed = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder prunedBytes = new LongAdder();
     private final ScheduledExecutorService pruner;
 
     /**
@@ -86,10 +122,30 @@ public class PowerOfTwoBufferPool implements BufferProvider {
      * @param timeUnit time unit of maxIdleTime
      */
     PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit) {
+        this(highestPowerOfTwo, maxIdleTime, timeUnit, 0);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * <p>If {@code maxDirectMemory} is positive then pooled buffers are allocated as direct buffers until the capacity of the direct
+     * buffers held by the pool or its clients reaches {@code maxDirectMemory}, after which heap buffers are allocated instead.  Buffers
+     * larger than the highest power of two are never pooled, and so are always heap buffers.</p>
+     *
+     * @param highestPowerOfTwo the highest power of two buffer size that will be pooled
+     * @param maxIdleTime max idle time when pruning is enabled
+     * @param timeUnit time unit of maxIdleTime
+     * @param maxDirectMemory the maximum total capacity in bytes of the direct buffers allocated by the pool, or 0 to only allocate
+     *                        heap buffers
+     */
+    PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit, final long maxDirectMemory) {
+        this.maxDirectMemory = maxDirectMemory;
+        stripeMask = Math.min(MAX_STRIPES, roundUpToNextHighestPowerOfTwo(Runtime.getRuntime().availableProcessors())) - 1;
+        pools = new BufferPool[highestPowerOfTwo + 1];
         int powerOfTwo = 1;
         for (int i = 0; i <= highestPowerOfTwo; i++) {
             int size = powerOfTwo;
-            powerOfTwoToPoolMap.put(i, new BufferPool(size));
+            pools[i] = new BufferPool(size);
             powerOfTwo = powerOfTwo << 1;
         }
         maxIdleTimeNanos = timeUnit.toNanos(maxIdleTime);
@@ -114,30 +170,109 @@ public class PowerOfTwoBufferPool implements BufferProvider {
     }
 
     public ByteBuffer getByteBuffer(final int size) {
-        BufferPool pool = powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(size)));
-        ByteBuffer byteBuffer = (pool == null) ? createNew(size) : pool.get().getBuffer();
+        BufferPool pool = getPool(size);
+        ByteBuffer byteBuffer = (pool == null) ? createNew(size) : pool.get();
 
         ((Buffer) byteBuffer).clear();
         ((Buffer) byteBuffer).limit(size);
         return byteBuffer;
     }
 
+    /**
+     * Gets the total capacity of the direct buffers that have been allocated by this pool and not yet pruned.
+     *
+     * @return the direct memory in bytes
+     */
+    public long getDirectMemoryUsed() {
+        return directMemoryUsed.get();
+    }
+
+    /**
+     * Gets the number of requests for a pooled size of buffer that were satisfied by a buffer already in the pool.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of requests for a pooled size of buffer that required a new buffer to be allocated.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the total capacity of the idle buffers that have been pruned from the pool.
+     *
+     * @return the pruned bytes
+     */
+    public long getPrunedBytes() {
+        return prunedBytes.sum();
+    }
+
+    @Nullable
+    private BufferPool getPool(final int size) {
+        int index = log2(roundUpToNextHighestPowerOfTwo(size));
+        return index >= 0 && index < pools.length ? pools[index] : null;
+    }
+
     private ByteBuffer createNew(final int size) {
         ByteBuffer buf = ByteBuffer.allocate(size);
         buf.order(ByteOrder.LITTLE_ENDIAN);
         return buf;
     }
 
+    private ByteBuffer createNewPooled(final int size) {
+        if (!reserveDirectMemory(size)) {
+            return createNew(size);
+        }
+        ByteBuffer buf;
+        try {
+            buf = ByteBuffer.allocateDirect(size);
+        } catch (OutOfMemoryError e) {
+            // the JVM's limit on direct memory is lower than ours, so make do with the heap
+            directMemoryUsed.addAndGet(-size);
+            return createNew(size);
+        }
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        return buf;
+    }
+
+    private boolean reserveDirectMemory(final int size) {
+        while (true) {
+            long used = directMemoryUsed.get();
+            if (used + size > maxDirectMemory) {
+                return false;
+            }
+            if (directMemoryUsed.compareAndSet(used, used + size)) {
+                return true;
+            }
+        }
+    }
+
+    private void discard(final ByteBuffer buffer) {
+        prunedBytes.add(buffer.capacity());
+        if (buffer.isDirect()) {
+            directMemoryUsed.addAndGet(-buffer.capacity());
+        }
+    }
+
     public void release(final ByteBuffer buffer) {
-        BufferPool pool =
-                powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(buffer.capacity())));
+        BufferPool pool = getPool(buffer.capacity());
         if (pool != null) {
-            pool.release(new IdleTrackingByteBuffer(buffer));
+            pool.release(buffer);
         }
     }
 
     private void prune() {
-        powerOfTwoToPoolMap.values().forEach(BufferPool::prune);
+        long now = System.nanoTime();
+        for (BufferPool pool : pools) {
+            pool.prune(now);
+        }
     }
 
     static int log2(final int powerOfTwo) {
@@ -174,27 +309,118 @@ public class PowerOfTwoBufferPool implements BufferProvider {
 
     private final class BufferPool {
         private final int bufferSize;
+        private final Stripe[] stripes;
         private final ConcurrentLinkedDeque<IdleTrackingByteBuffer> available = new ConcurrentLinkedDeque<>();
 
         BufferPool(final int bufferSize) {
             this.bufferSize = bufferSize;
+            stripes = new Stripe[stripeMask + 1];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe();
+            }
         }
 
-        IdleTrackingByteBuffer get() {
-            IdleTrackingByteBuffer buffer = available.pollLast();
+        ByteBuffer get() {
+            ByteBuffer buffer = getStripe().poll();
+            if (buffer == null) {
+                IdleTrackingByteBuffer idleBuffer = available.pollLast();
+                buffer = idleBuffer == null ? null : idleBuffer.getBuffer();
+            }
             if (buffer != null) {
+                hitCount.increment();
+                return buffer;
+            }
+            missCount.increment();
+            return createNewPooled(bufferSize);
+        }
+
+        void release(final ByteBuffer buffer) {
+            if (!getStripe().offer(buffer)) {
+                available.addLast(new IdleTrackingByteBuffer(buffer));
+            }
+        }
+
+        void prune(final long now) {
+            for (Stripe stripe : stripes) {
+                stripe.prune(now);
+            }
+            for (IdleTrackingByteBuffer cur : available) {
+                // only account for buffers that were actually removed, rather than taken by a concurrent get
+                if (now - cur.getLastUsedNanos() >= maxIdleTimeNanos && available.removeFirstOccurrence(cur)) {
+                    discard(cur.getBuffer());
+                }
+            }
+        }
+
+        private Stripe getStripe() {
+            return stripes[(int) Thread.currentThread().getId() & stripeMask];
+        }
+    }
+
+    /**
+     * A bounded stack of buffers.  Only {@link #prune(long)} waits for the lock: a thread that finds the stripe locked just uses the
+     * shared deque instead.
+     */
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ByteBuffer[] buffers = new ByteBuffer[STRIPE_CAPACITY];
+        private final long[] lastUsedNanos = new long[STRIPE_CAPACITY];
+        private int size;
+
+        @Nullable
+        ByteBuffer poll() {
+            if (!lock.tryLock()) {
+                return null;
+            }
+            try {
+                if (size == 0) {
+                    return null;
+                }
+                ByteBuffer buffer = buffers[--size];
+                buffers[size] = null;
                 return buffer;
+            } finally {
+                lock.unlock();
             }
-            return new IdleTrackingByteBuffer(createNew(bufferSize));
         }
 
-        void release(final IdleTrackingByteBuffer t) {
-            available.addLast(t);
+        boolean offer(final ByteBuffer buffer) {
+            if (!lock.tryLock()) {
+                return false;
+            }
+            try {
+                if (size == buffers.length) {
+                    return false;
+                }
+                buffers[size] = buffer;
+                lastUsedNanos[size] = System.nanoTime();
+                size++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
         }
 
-        void prune() {
-            long now = System.nanoTime();
-            available.removeIf(cur -> now - cur.getLastUsedNanos() >= maxIdleTimeNanos);
+        void prune(final long now) {
+            lock.lock();
+            try {
+                int retained = 0;
+                for (int i = 0; i < size; i++) {
+                    if (now - lastUsedNanos[i] >= maxIdleTimeNanos) {
+                        discard(buffers[i]);
+                    } else {
+                        buffers[retained] = buffers[i];
+                        lastUsedNanos[retained] = lastUsedNanos[i];
+                        retained++;
+                    }
+                }
+                for (int i = retained; i < size; i++) {
+                    buffers[i] = null;
+                }
+                size = retained;
+            } finally {
+                lock.unlock();
+            }
         }
     }
 }
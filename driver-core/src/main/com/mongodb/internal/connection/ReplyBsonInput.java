@@ -0,0 +1,80 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.lang.Nullable;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
+/**
+ * A {@link ByteBufferBsonInput} over the body of a reply, from which a decoder may take slices that outlive the reply.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class ReplyBsonInput extends ByteBufferBsonInput {
+    private final ResponseBuffers responseBuffers;
+    private final ByteBuf buffer;
+
+    ReplyBsonInput(final ResponseBuffers responseBuffers, @Nullable final FieldNameCache fieldNameCache) {
+        this(responseBuffers, responseBuffers.getBodyByteBuffer().duplicate(), fieldNameCache);
+    }
+
+    private ReplyBsonInput(final ResponseBuffers responseBuffers, final ByteBuf buffer, @Nullable final FieldNameCache fieldNameCache) {
+        super(buffer, fieldNameCache);
+        this.responseBuffers = responseBuffers;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Gets a slice of the next bytes, without advancing the position.  The slice shares the memory of the reply, which is not released,
+     * nor returned to its pool, until the slice is released.
+     *
+     * @param length the number of bytes to slice
+     * @return the slice, which the caller must release
+     */
+    public ByteBuf retainSlice(final int length) {
+        isTrueArgument("length <= remaining", length <= buffer.remaining());
+        // asNIO is positioned at the current position of the buffer, whatever its implementation
+        ByteBuffer byteBuffer = buffer.asNIO().duplicate();
+        ((Buffer) byteBuffer).limit(byteBuffer.position() + length);
+        return new RetainingByteBufNIO(byteBuffer.slice(), responseBuffers.retainBodyByteBuffer());
+    }
+
+    private static final class RetainingByteBufNIO extends ByteBufNIO {
+        private final ByteBuf retained;
+
+        RetainingByteBufNIO(final ByteBuffer buf, final ByteBuf retained) {
+            super(buf);
+            this.retained = retained;
+        }
+
+        @Override
+        public void release() {
+            super.release();
+            if (getReferenceCount() == 0) {
+                retained.release();
+            }
+        }
+    }
+}
@@ -17,11 +17,12 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
+import com.mongodb.lang.Nullable;
 import org.bson.BsonBinaryReader;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.io.BsonInput;
-import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 
 import static java.lang.String.format;
 
@@ -35,12 +36,17 @@ public class ReplyMessage<T> {
     private final T document;
 
     public ReplyMessage(final ResponseBuffers responseBuffers, final Decoder<T> decoder, final long requestId) {
+        this(responseBuffers, decoder, requestId, null);
+    }
+
+    public ReplyMessage(final ResponseBuffers responseBuffers, final Decoder<T> decoder, final long requestId,
+            @Nullable final FieldNameCache fieldNameCache) {
         if (requestId != responseBuffers.getReplyHeader().getResponseTo()) {
             throw new MongoInternalException(format("The responseTo (%d) in the response does not match the requestId (%d) in the "
                     + "request", responseBuffers.getReplyHeader().getResponseTo(), requestId));
         }
 
-        try (BsonInput bsonInput = new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer().duplicate())) {
+        try (BsonInput bsonInput = new ReplyBsonInput(responseBuffers, fieldNameCache)) {
             try (BsonBinaryReader reader = new BsonBinaryReader(bsonInput)) {
                 document = decoder.decode(reader, DecoderContext.builder().build());
             }
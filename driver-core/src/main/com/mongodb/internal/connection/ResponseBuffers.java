@@ -62,6 +62,16 @@ public class ResponseBuffers implements Closeable {
         return bodyByteBuffer.asReadOnly();
     }
 
+    /**
+     * Retains the buffer containing the response body, so that it remains valid after this instance has been closed, until the caller
+     * releases it.
+     *
+     * @return the retained buffer
+     */
+    ByteBuf retainBodyByteBuffer() {
+        return bodyByteBuffer.retain();
+    }
+
     public void reset() {
         bodyByteBuffer.position(bodyByteBufferStartPosition);
     }
@@ -17,16 +17,14 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
-import org.bson.ByteBuf;
-import org.bson.io.BsonOutput;
 import org.xerial.snappy.Snappy;
-import org.xerial.snappy.SnappyInputStream;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.List;
+import java.nio.ByteBuffer;
 
-class SnappyCompressor extends Compressor {
+// the server does not support the framing format so SnappyFramedOutputStream can't be used.  The entire source message must be in a
+// single buffer, which BlockCompressor takes care of.
+class SnappyCompressor extends BlockCompressor {
     @Override
     public String getName() {
         return "snappy";
@@ -37,43 +35,39 @@ class SnappyCompressor extends Compressor {
         return 1;
     }
 
-    // the server does not support the framing format so SnappyFramedOutputStream can't be used.  The entire source message must first
-    // be copied into a single byte array.  For that reason the compress method defined in the base class can't be used.
     @Override
-    public void compress(final List<ByteBuf> source, final BsonOutput target) {
-        int uncompressedSize = getUncompressedSize(source);
-
-        byte[] singleByteArraySource = new byte[uncompressedSize];
-        copy(source, singleByteArraySource);
+    int getMaxCompressedLength(final int uncompressedLength) {
+        return Snappy.maxCompressedLength(uncompressedLength);
+    }
 
-        try {
-            byte[] out = new byte[Snappy.maxCompressedLength(uncompressedSize)];
-            int compressedSize = Snappy.compress(singleByteArraySource, 0, singleByteArraySource.length, out, 0);
-            target.writeBytes(out, 0, compressedSize);
-        } catch (IOException e) {
-            throw new MongoInternalException("Unexpected IOException", e);
-        }
+    @Override
+    int compressDirect(final ByteBuffer source, final ByteBuffer target) throws IOException {
+        return Snappy.compress(source, target);
     }
 
-    private int getUncompressedSize(final List<ByteBuf> source) {
-        int uncompressedSize = 0;
-        for (ByteBuf cur : source) {
-            uncompressedSize += cur.remaining();
-        }
-        return uncompressedSize;
+    @Override
+    int compress(final byte[] source, final int sourceOffset, final int sourceLength, final byte[] target, final int targetOffset,
+                 final int targetLength) throws IOException {
+        return Snappy.compress(source, sourceOffset, sourceLength, target, targetOffset);
     }
 
-    private void copy(final List<ByteBuf> source, final byte[] in) {
-        int offset = 0;
-        for (ByteBuf cur : source) {
-            int remaining = cur.remaining();
-            cur.get(in, offset, remaining);
-            offset += remaining;
-        }
+    @Override
+    int uncompressDirect(final ByteBuffer source, final ByteBuffer target) throws IOException {
+        // the native call does not bound its writes by the remaining space in the target, so it must be checked first
+        checkUncompressedLength(Snappy.uncompressedLength(source), target.remaining());
+        return Snappy.uncompress(source, target);
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) throws IOException {
-        return new SnappyInputStream(source);
+    int uncompress(final byte[] source, final int sourceOffset, final int sourceLength, final byte[] target, final int targetOffset,
+                   final int targetLength) throws IOException {
+        checkUncompressedLength(Snappy.uncompressedLength(source, sourceOffset, sourceLength), targetLength);
+        return Snappy.uncompress(source, sourceOffset, sourceLength, target, targetOffset);
+    }
+
+    private static void checkUncompressedLength(final int uncompressedLength, final int targetLength) {
+        if (uncompressedLength > targetLength) {
+            throw new MongoInternalException("The uncompressed message is larger than the size given in its header");
+        }
     }
 }
@@ -17,16 +17,11 @@
 package com.mongodb.internal.connection;
 
 import com.github.luben.zstd.Zstd;
-import com.github.luben.zstd.ZstdInputStream;
 import com.mongodb.MongoInternalException;
-import org.bson.ByteBuf;
-import org.bson.io.BsonOutput;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.List;
+import java.nio.ByteBuffer;
 
-class ZstdCompressor extends Compressor {
+class ZstdCompressor extends BlockCompressor {
     @Override
     public String getName() {
         return "zstd";
@@ -38,40 +33,39 @@ class ZstdCompressor extends Compressor {
     }
 
     @Override
-    public void compress(final List<ByteBuf> source, final BsonOutput target) {
-        int uncompressedSize = getUncompressedSize(source);
-
-        byte[] singleByteArraySource = new byte[uncompressedSize];
-        copy(source, singleByteArraySource);
+    int getMaxCompressedLength(final int uncompressedLength) {
+        return (int) Zstd.compressBound(uncompressedLength);
+    }
 
-        try {
-            byte[] out = new byte[(int) Zstd.compressBound(uncompressedSize)];
-            int compressedSize = (int) Zstd.compress(out, singleByteArraySource, Zstd.defaultCompressionLevel());
-            target.writeBytes(out, 0, compressedSize);
-        } catch (Exception e) {
-            throw new MongoInternalException("Unexpected exception", e);
-        }
+    @Override
+    int compressDirect(final ByteBuffer source, final ByteBuffer target) {
+        return checkResult(Zstd.compressDirectByteBuffer(target, target.position(), target.remaining(),
+                source, source.position(), source.remaining(), Zstd.defaultCompressionLevel()));
     }
 
-    private int getUncompressedSize(final List<ByteBuf> source) {
-        int uncompressedSize = 0;
-        for (ByteBuf cur : source) {
-            uncompressedSize += cur.remaining();
-        }
-        return uncompressedSize;
+    @Override
+    int compress(final byte[] source, final int sourceOffset, final int sourceLength, final byte[] target, final int targetOffset,
+                 final int targetLength) {
+        return checkResult(Zstd.compressByteArray(target, targetOffset, targetLength, source, sourceOffset, sourceLength,
+                Zstd.defaultCompressionLevel()));
     }
 
-    private void copy(final List<ByteBuf> source, final byte[] in) {
-        int offset = 0;
-        for (ByteBuf cur : source) {
-            int remaining = cur.remaining();
-            cur.get(in, offset, remaining);
-            offset += remaining;
-        }
+    @Override
+    int uncompressDirect(final ByteBuffer source, final ByteBuffer target) {
+        return checkResult(Zstd.decompressDirectByteBuffer(target, target.position(), target.remaining(),
+                source, source.position(), source.remaining()));
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) throws IOException {
-        return new ZstdInputStream(source);
+    int uncompress(final byte[] source, final int sourceOffset, final int sourceLength, final byte[] target, final int targetOffset,
+                   final int targetLength) {
+        return checkResult(Zstd.decompressByteArray(target, targetOffset, targetLength, source, sourceOffset, sourceLength));
+    }
+
+    private static int checkResult(final long result) {
+        if (Zstd.isError(result)) {
+            throw new MongoInternalException("Unexpected zstd error: " + Zstd.getErrorName(result));
+        }
+        return (int) result;
     }
 }
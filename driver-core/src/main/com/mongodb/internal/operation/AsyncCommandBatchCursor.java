@@ -125,6 +125,11 @@ class AsyncCommandBatchCursor<T> implements AsyncAggregateResponseBatchCursor<T>
         return batchSize;
     }
 
+    @Override
+    public int getLastBatchSizeInBytes() {
+        return commandCursorResult.getResultsSizeInBytes();
+    }
+
     @Override
     public void close() {
         resourceManager.close();
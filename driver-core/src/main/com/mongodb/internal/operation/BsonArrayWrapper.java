@@ -30,15 +30,28 @@ import static org.bson.assertions.Assertions.notNull;
 class BsonArrayWrapper<T> extends BsonArray {
 
     private final List<T> wrappedArray;
+    private final int sizeInBytes;
 
     BsonArrayWrapper(final List<T> wrappedArray) {
+        this(wrappedArray, -1);
+    }
+
+    BsonArrayWrapper(final List<T> wrappedArray, final int sizeInBytes) {
         this.wrappedArray = notNull("wrappedArray", wrappedArray);
+        this.sizeInBytes = sizeInBytes;
     }
 
     public List<T> getWrappedArray() {
         return wrappedArray;
     }
 
+    /**
+     * @return the size of the array as it was encoded in the reply, or -1 if it is unknown
+     */
+    int getSizeInBytes() {
+        return sizeInBytes;
+    }
+
     @Override
     public List<BsonValue> getValues() {
         throw new UnsupportedOperationException();
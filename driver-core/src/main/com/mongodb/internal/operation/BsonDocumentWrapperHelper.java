@@ -28,6 +28,10 @@ final class BsonDocumentWrapperHelper {
         return ((BsonArrayWrapper<T>) result.getArray(fieldContainingWrappedArray)).getWrappedArray();
     }
 
+    static int getSizeInBytes(final BsonDocument result, final String fieldContainingWrappedArray) {
+        return ((BsonArrayWrapper<?>) result.getArray(fieldContainingWrappedArray)).getSizeInBytes();
+    }
+
     @SuppressWarnings("unchecked")
     static <T> T toDocument(final BsonDocument document) {
         if (document == null) {
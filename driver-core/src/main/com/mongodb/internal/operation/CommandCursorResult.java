@@ -39,6 +39,7 @@ public class CommandCursorResult<T> {
     private static final String OPERATION_TIME = "operationTime";
     private final ServerAddress serverAddress;
     private final List<T> results;
+    private final int resultsSizeInBytes;
     private final MongoNamespace namespace;
     private final long cursorId;
     @Nullable
@@ -54,6 +55,7 @@ public class CommandCursorResult<T> {
         this.serverAddress = serverAddress;
         BsonDocument cursorDocument = commandCursorDocument.getDocument(CURSOR);
         this.results = BsonDocumentWrapperHelper.toList(cursorDocument, fieldNameContainingBatch);
+        this.resultsSizeInBytes = BsonDocumentWrapperHelper.getSizeInBytes(cursorDocument, fieldNameContainingBatch);
         this.namespace = new MongoNamespace(cursorDocument.getString("ns").getValue());
         this.cursorId = cursorDocument.getNumber("id").longValue();
         this.operationTime = cursorDocument.getTimestamp(OPERATION_TIME, null);
@@ -88,6 +90,15 @@ public class CommandCursorResult<T> {
         return results;
     }
 
+    /**
+     * Gets the size of the results as they were encoded in the reply.
+     *
+     * @return the size in bytes, or -1 if it is unknown
+     */
+    public int getResultsSizeInBytes() {
+        return resultsSizeInBytes;
+    }
+
     /**
      * Gets the server address.
      *
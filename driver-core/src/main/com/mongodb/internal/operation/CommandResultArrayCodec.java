@@ -17,14 +17,19 @@
 package com.mongodb.internal.operation;
 
 import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonDocumentWrapper;
 import org.bson.BsonReader;
 import org.bson.BsonType;
 import org.bson.BsonValue;
+import org.bson.RawBsonArray;
 import org.bson.codecs.BsonArrayCodec;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BsonInput;
+import org.bson.io.BsonInputMark;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +46,10 @@ class CommandResultArrayCodec<T> extends BsonArrayCodec {
 
     @Override
     public BsonArray decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (decoder instanceof SlicingRawBsonDocumentCodec && reader instanceof BsonBinaryReader) {
+            return decodeRawDocuments((BsonBinaryReader) reader);
+        }
+        int start = reader instanceof BsonBinaryReader ? ((BsonBinaryReader) reader).getBsonInput().getPosition() : -1;
         reader.readStartArray();
 
         List<T> list = new ArrayList<>();
@@ -54,7 +63,28 @@ class CommandResultArrayCodec<T> extends BsonArrayCodec {
         }
         reader.readEndArray();
 
-        return new BsonArrayWrapper<>(list);
+        return new BsonArrayWrapper<>(list, start == -1 ? -1 : ((BsonBinaryReader) reader).getBsonInput().getPosition() - start);
+    }
+
+    /**
+     * Copies the whole array out of the reply at once, and slices each raw document out of the copy instead of copying the documents
+     * one at a time.  Each document therefore retains the whole batch.
+     */
+    @SuppressWarnings("unchecked")
+    private BsonArray decodeRawDocuments(final BsonBinaryReader reader) {
+        BsonInput bsonInput = reader.getBsonInput();
+        int start = bsonInput.getPosition();
+        BsonInputMark mark = bsonInput.getMark(Integer.MAX_VALUE);
+        reader.skipValue();
+        byte[] bytes = new byte[bsonInput.getPosition() - start];
+        mark.reset();
+        bsonInput.readBytes(bytes);
+
+        List<T> list = new ArrayList<>();
+        for (BsonValue value : new RawBsonArray(bytes)) {
+            list.add(value.isNull() ? null : (T) value.asDocument());
+        }
+        return new BsonArrayWrapper<>(list, bytes.length);
     }
 
     @Override
@@ -65,4 +95,11 @@ class CommandResultArrayCodec<T> extends BsonArrayCodec {
             return super.readValue(reader, decoderContext);
         }
     }
+
+    /**
+     * A raw document codec that has the documents of each batch sliced out of a single copy of the batch array.  As each document
+     * retains the whole batch, it is only used by the cursors that process each batch as a whole.
+     */
+    static final class SlicingRawBsonDocumentCodec extends RawBsonDocumentCodec {
+    }
 }
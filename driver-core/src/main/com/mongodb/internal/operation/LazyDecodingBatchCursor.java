@@ -0,0 +1,126 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.lang.Nullable;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A {@link BatchCursor} that keeps each batch of the wrapped cursor of raw documents in its encoded form, and decodes a document only
+ * when it is first accessed.  Documents that are never accessed, for example because the application stops iterating early or skips
+ * results, are never decoded.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class LazyDecodingBatchCursor<T> implements BatchCursor<T> {
+    private final BatchCursor<RawBsonDocument> wrapped;
+    private final Decoder<T> decoder;
+
+    public LazyDecodingBatchCursor(final BatchCursor<RawBsonDocument> wrapped, final Decoder<T> decoder) {
+        this.wrapped = notNull("wrapped", wrapped);
+        this.decoder = notNull("decoder", decoder);
+    }
+
+    @Override
+    public void close() {
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return wrapped.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+        return new LazyDecodingList<>(wrapped.next(), decoder);
+    }
+
+    @Override
+    public int available() {
+        return wrapped.available();
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        wrapped.setBatchSize(batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return wrapped.getBatchSize();
+    }
+
+    @Nullable
+    @Override
+    public List<T> tryNext() {
+        List<RawBsonDocument> batch = wrapped.tryNext();
+        return batch == null ? null : new LazyDecodingList<>(batch, decoder);
+    }
+
+    @Nullable
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    private static final class LazyDecodingList<T> extends AbstractList<T> implements RandomAccess {
+        private final List<RawBsonDocument> rawDocuments;
+        private final Decoder<T> decoder;
+        private final Object[] documents;
+
+        LazyDecodingList(final List<RawBsonDocument> rawDocuments, final Decoder<T> decoder) {
+            this.rawDocuments = rawDocuments;
+            this.decoder = decoder;
+            this.documents = new Object[rawDocuments.size()];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(final int index) {
+            Object document = documents[index];
+            if (document == null) {
+                RawBsonDocument rawDocument = rawDocuments.get(index);
+                if (rawDocument == null) {
+                    return null;
+                }
+                document = rawDocument.decode(decoder);
+                documents[index] = document;
+            }
+            return (T) document;
+        }
+
+        @Override
+        public int size() {
+            return documents.length;
+        }
+    }
+}
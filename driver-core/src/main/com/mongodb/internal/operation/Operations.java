@@ -70,6 +70,7 @@ import org.bson.BsonJavaScript;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.Decoder;
@@ -84,6 +85,7 @@ import java.util.stream.Collectors;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.operation.CommandResultArrayCodec.SlicingRawBsonDocumentCodec;
 import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -170,22 +172,26 @@ final class Operations<TDocument> {
 
     <TResult> FindOperation<TResult> findFirst(final Bson filter, final Class<TResult> resultClass,
                                                       final FindOptions options) {
-        return createFindOperation(assertNotNull(namespace), filter, resultClass, options).batchSize(0).limit(-1);
+        return createFindOperation(assertNotNull(namespace), filter, codecRegistry.get(resultClass), options).batchSize(0).limit(-1);
     }
 
     <TResult> FindOperation<TResult> find(final Bson filter, final Class<TResult> resultClass,
                                                  final FindOptions options) {
-        return createFindOperation(assertNotNull(namespace), filter, resultClass, options);
+        return createFindOperation(assertNotNull(namespace), filter, codecRegistry.get(resultClass), options);
+    }
+
+    FindOperation<RawBsonDocument> findRaw(final Bson filter, final FindOptions options) {
+        return createFindOperation(assertNotNull(namespace), filter, new SlicingRawBsonDocumentCodec(), options);
     }
 
     <TResult> FindOperation<TResult> find(final MongoNamespace findNamespace, @Nullable final Bson filter,
                                                  final Class<TResult> resultClass, final FindOptions options) {
-        return createFindOperation(findNamespace, filter, resultClass, options);
+        return createFindOperation(findNamespace, filter, codecRegistry.get(resultClass), options);
     }
 
     private <TResult> FindOperation<TResult> createFindOperation(final MongoNamespace findNamespace, @Nullable final Bson filter,
-                                                                 final Class<TResult> resultClass, final FindOptions options) {
-        FindOperation<TResult> operation = new FindOperation<>(findNamespace, codecRegistry.get(resultClass))
+                                                                 final Decoder<TResult> decoder, final FindOptions options) {
+        FindOperation<TResult> operation = new FindOperation<>(findNamespace, decoder)
                 .retryReads(retryReads)
                 .filter(filter == null ? new BsonDocument() : filter.toBsonDocument(documentClass, codecRegistry))
                 .batchSize(options.getBatchSize())
@@ -233,8 +239,25 @@ final class Operations<TDocument> {
                                                     final BsonValue comment,
                                                     final Bson variables, final Boolean allowDiskUse,
                                                     final AggregationLevel aggregationLevel) {
-        return new AggregateOperation<>(assertNotNull(namespace), assertNotNull(toBsonDocumentList(pipeline)),
-                codecRegistry.get(resultClass), aggregationLevel)
+        return createAggregateOperation(pipeline, codecRegistry.get(resultClass), maxTimeMS, maxAwaitTimeMS, batchSize, collation, hint,
+                hintString, comment, variables, allowDiskUse, aggregationLevel);
+    }
+
+    AggregateOperation<RawBsonDocument> aggregateRaw(final List<? extends Bson> pipeline, final long maxTimeMS,
+                                                     final long maxAwaitTimeMS, @Nullable final Integer batchSize,
+                                                     final Collation collation, @Nullable final Bson hint,
+                                                     @Nullable final String hintString, final BsonValue comment, final Bson variables,
+                                                     final Boolean allowDiskUse, final AggregationLevel aggregationLevel) {
+        return createAggregateOperation(pipeline, new SlicingRawBsonDocumentCodec(), maxTimeMS, maxAwaitTimeMS, batchSize, collation,
+                hint, hintString, comment, variables, allowDiskUse, aggregationLevel);
+    }
+
+    private <TResult> AggregateOperation<TResult> createAggregateOperation(final List<? extends Bson> pipeline,
+            final Decoder<TResult> decoder, final long maxTimeMS, final long maxAwaitTimeMS, @Nullable final Integer batchSize,
+            final Collation collation, @Nullable final Bson hint, @Nullable final String hintString, final BsonValue comment,
+            final Bson variables, final Boolean allowDiskUse, final AggregationLevel aggregationLevel) {
+        return new AggregateOperation<>(assertNotNull(namespace), assertNotNull(toBsonDocumentList(pipeline)), decoder,
+                aggregationLevel)
                 .retryReads(retryReads)
                 .maxTime(maxTimeMS, MILLISECONDS)
                 .maxAwaitTime(maxAwaitTimeMS, MILLISECONDS)
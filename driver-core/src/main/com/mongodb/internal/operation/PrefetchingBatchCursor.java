@@ -0,0 +1,313 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.operation.CommandBatchCursorHelper.MESSAGE_IF_CLOSED_AS_CURSOR;
+import static com.mongodb.internal.operation.CommandBatchCursorHelper.MESSAGE_IF_CLOSED_AS_ITERATOR;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@link BatchCursor} that fetches batches from the wrapped cursor in the background, so that the next {@code getMore} is in flight
+ * while the application consumes the current batch.
+ *
+ * <p>At most {@code maxPrefetchedBatches} batches are buffered, and no batch is fetched while the buffer is full.  The wrapped
+ * cursor is only used by the background task, except for {@link #close()}, which {@link BatchCursor} allows to be called concurrently.
+ * An exception thrown by the wrapped cursor is rethrown to the application once it has consumed the batches fetched before it.</p>
+ *
+ * <p>If the buffer stays full for longer than the idle timeout, the background task ends rather than keep a thread waiting for an
+ * application that may have abandoned the cursor, and it is started again once the application takes a batch.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class PrefetchingBatchCursor<T> implements BatchCursor<T> {
+    private static final long DEFAULT_IDLE_TIMEOUT_SECONDS = 1;
+
+    private final BatchCursor<T> wrapped;
+    private final int maxPrefetchedBatches;
+    private final Executor executor;
+    private final long idleTimeoutNanos;
+    private final ServerAddress serverAddress;
+    private final Lock lock = new ReentrantLock();
+    private final Condition batchesChanged = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private final Deque<List<T>> batches = new ArrayDeque<>();
+    /**
+     * The number of batches the background task has fetched, including empty ones.  Must be guarded by {@link #lock}.
+     */
+    private long fetchCount;
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private boolean exhausted;
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    @Nullable
+    private Throwable failure;
+    /**
+     * Whether the background task is scheduled or running.  Must be guarded by {@link #lock}.
+     */
+    private boolean prefetching;
+    private volatile boolean closed;
+
+    /**
+     * Starts fetching from {@code wrapped} in the background.
+     *
+     * @param wrapped the cursor to fetch batches from, which must not be used by the caller afterwards
+     * @param maxPrefetchedBatches the maximum number of batches to buffer, which must be positive
+     * @param executor the executor of the background task, which is owned by the client
+     */
+    public PrefetchingBatchCursor(final BatchCursor<T> wrapped, final int maxPrefetchedBatches, final Executor executor) {
+        this(wrapped, maxPrefetchedBatches, executor, DEFAULT_IDLE_TIMEOUT_SECONDS, SECONDS);
+    }
+
+    PrefetchingBatchCursor(final BatchCursor<T> wrapped, final int maxPrefetchedBatches, final Executor executor,
+            final long idleTimeout, final TimeUnit timeUnit) {
+        isTrueArgument("maxPrefetchedBatches > 0", maxPrefetchedBatches > 0);
+        this.wrapped = notNull("wrapped", wrapped);
+        this.maxPrefetchedBatches = maxPrefetchedBatches;
+        this.executor = notNull("executor", executor);
+        this.idleTimeoutNanos = timeUnit.toNanos(idleTimeout);
+        this.serverAddress = wrapped.getServerAddress();
+        withLock(lock, this::startPrefetching);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return withLock(lock, () -> {
+            while (true) {
+                throwIfClosed(MESSAGE_IF_CLOSED_AS_CURSOR);
+                if (!batches.isEmpty()) {
+                    return true;
+                }
+                throwIfFailed();
+                if (exhausted) {
+                    return false;
+                }
+                awaitBatchesChanged();
+            }
+        });
+    }
+
+    @Override
+    public List<T> next() {
+        return withLock(lock, () -> {
+            throwIfClosed(MESSAGE_IF_CLOSED_AS_ITERATOR);
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return takeBatch();
+        });
+    }
+
+    /**
+     * Returns a buffered batch if there is one, and otherwise waits for at most one more batch to be fetched, which is what the
+     * wrapped cursor would do.
+     */
+    @Nullable
+    @Override
+    public List<T> tryNext() {
+        return withLock(lock, () -> {
+            long fetchCountBefore = fetchCount;
+            while (true) {
+                throwIfClosed(MESSAGE_IF_CLOSED_AS_CURSOR);
+                if (!batches.isEmpty()) {
+                    return takeBatch();
+                }
+                throwIfFailed();
+                if (exhausted || fetchCount != fetchCountBefore) {
+                    return null;
+                }
+                awaitBatchesChanged();
+            }
+        });
+    }
+
+    @Override
+    public int available() {
+        return withLock(lock, () -> {
+            int available = 0;
+            if (!closed) {
+                for (List<T> batch : batches) {
+                    available += batch.size();
+                }
+            }
+            return available;
+        });
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        wrapped.setBatchSize(batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return wrapped.getBatchSize();
+    }
+
+    @Nullable
+    @Override
+    public ServerCursor getServerCursor() {
+        throwIfClosed(MESSAGE_IF_CLOSED_AS_ITERATOR);
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        throwIfClosed(MESSAGE_IF_CLOSED_AS_ITERATOR);
+        return serverAddress;
+    }
+
+    @Override
+    public void close() {
+        withLock(lock, () -> {
+            closed = true;
+            batches.clear();
+            batchesChanged.signalAll();
+            spaceAvailable.signalAll();
+        });
+        wrapped.close();
+    }
+
+    private void prefetch() {
+        try {
+            while (awaitSpace()) {
+                List<T> batch = wrapped.tryNext();
+                boolean lastBatch = wrapped.getServerCursor() == null;
+                withLock(lock, () -> {
+                    if (batch != null && !batch.isEmpty() && !closed) {
+                        batches.add(batch);
+                    }
+                    fetchCount++;
+                    exhausted = lastBatch;
+                    batchesChanged.signalAll();
+                });
+                if (lastBatch) {
+                    return;
+                }
+            }
+        } catch (Throwable t) {
+            withLock(lock, () -> {
+                failure = t;
+                batchesChanged.signalAll();
+            });
+        }
+    }
+
+    /**
+     * @return {@code false} iff closed, or the buffer has been full for longer than the idle timeout, in which case the background task
+     * must end.
+     */
+    private boolean awaitSpace() {
+        return withLock(lock, () -> {
+            long remainingNanos = idleTimeoutNanos;
+            while (!closed && batches.size() >= maxPrefetchedBatches) {
+                if (remainingNanos <= 0) {
+                    prefetching = false;
+                    return false;
+                }
+                try {
+                    remainingNanos = spaceAvailable.awaitNanos(remainingNanos);
+                } catch (InterruptedException e) {
+                    throw interruptAndCreateMongoInterruptedException("Interrupted while waiting to prefetch the next batch", e);
+                }
+            }
+            return !closed;
+        });
+    }
+
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private void startPrefetching() {
+        prefetching = true;
+        try {
+            executor.execute(this::prefetch);
+        } catch (RejectedExecutionException e) {
+            prefetching = false;
+            failure = e;
+        }
+    }
+
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private List<T> takeBatch() {
+        List<T> batch = assertNotNull(batches.poll());
+        if (prefetching) {
+            spaceAvailable.signal();
+        } else if (!exhausted && failure == null) {
+            startPrefetching();
+        }
+        return batch;
+    }
+
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private void awaitBatchesChanged() {
+        try {
+            batchesChanged.await();
+        } catch (InterruptedException e) {
+            throw interruptAndCreateMongoInterruptedException("Interrupted while waiting for the next batch", e);
+        }
+    }
+
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private void throwIfFailed() {
+        Throwable localFailure = failure;
+        if (localFailure instanceof RuntimeException) {
+            throw (RuntimeException) localFailure;
+        } else if (localFailure instanceof Error) {
+            throw (Error) localFailure;
+        } else if (localFailure != null) {
+            throw new IllegalStateException(localFailure);
+        }
+    }
+
+    private void throwIfClosed(final String message) {
+        if (closed) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -52,6 +52,7 @@ import com.mongodb.lang.Nullable;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
@@ -99,6 +100,14 @@ public final class SyncOperations<TDocument> {
         return operations.find(filter, resultClass, options);
     }
 
+    /**
+     * Finds raw documents, which are sliced out of a single copy of each batch rather than copied one at a time.  As each document
+     * retains its whole batch, the cursor should be used to process each batch as a whole.
+     */
+    public ReadOperation<BatchCursor<RawBsonDocument>> findRaw(final Bson filter, final FindOptions options) {
+        return operations.findRaw(filter, options);
+    }
+
     public <TResult> ReadOperation<BatchCursor<TResult>> find(final MongoNamespace findNamespace, final Bson filter,
                                                               final Class<TResult> resultClass, final FindOptions options) {
         return operations.find(findNamespace, filter, resultClass, options);
@@ -124,6 +133,18 @@ public final class SyncOperations<TDocument> {
                 variables, allowDiskUse, aggregationLevel);
     }
 
+    /**
+     * Aggregates raw documents, which are sliced out of a single copy of each batch, as for {@link #findRaw(Bson, FindOptions)}.
+     */
+    public ReadOperation<BatchCursor<RawBsonDocument>> aggregateRaw(final List<? extends Bson> pipeline, final long maxTimeMS,
+                                                                    final long maxAwaitTimeMS, @Nullable final Integer batchSize,
+                                                                    final Collation collation, final Bson hint, final String hintString,
+                                                                    final BsonValue comment, final Bson variables,
+                                                                    final Boolean allowDiskUse, final AggregationLevel aggregationLevel) {
+        return operations.aggregateRaw(pipeline, maxTimeMS, maxAwaitTimeMS, batchSize, collation, hint, hintString, comment, variables,
+                allowDiskUse, aggregationLevel);
+    }
+
     public ReadOperation<Void> aggregateToCollection(final List<? extends Bson> pipeline, final long maxTimeMS,
             final Boolean allowDiskUse, final Boolean bypassDocumentValidation,
             final Collation collation, final Bson hint, final String hintString, final BsonValue comment,
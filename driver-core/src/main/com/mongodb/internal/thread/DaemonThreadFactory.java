@@ -29,15 +29,19 @@ public class DaemonThreadFactory implements ThreadFactory {
     private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
     private final AtomicInteger threadNumber = new AtomicInteger(1);
     private final String namePrefix;
+    private final ThreadMode threadMode;
 
     public DaemonThreadFactory(final String prefix) {
+        this(prefix, ThreadMode.PLATFORM);
+    }
+
+    public DaemonThreadFactory(final String prefix, final ThreadMode threadMode) {
         namePrefix = prefix + "-" + POOL_NUMBER.getAndIncrement() + "-thread-";
+        this.threadMode = threadMode;
     }
 
     @Override
     public Thread newThread(final Runnable runnable) {
-        Thread t = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
-        t.setDaemon(true);
-        return t;
+        return threadMode.newThread(runnable, namePrefix + threadNumber.getAndIncrement());
     }
 }
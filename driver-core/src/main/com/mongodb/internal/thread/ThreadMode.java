@@ -0,0 +1,140 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import com.mongodb.MongoClientException;
+import com.mongodb.lang.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+
+/**
+ * The kind of thread on which the driver runs its own background tasks, such as server monitoring and connection pool maintenance.
+ *
+ * <p>Virtual threads are only available when running on Java 21 or later.  They are created reflectively, so that the driver can
+ * still be compiled for and run on older releases.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public enum ThreadMode {
+    /**
+     * Daemon platform threads.
+     */
+    PLATFORM {
+        @Override
+        public Thread newThread(final Runnable runnable, final String name) {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        }
+    },
+
+    /**
+     * Virtual threads, which are always daemon threads.
+     */
+    VIRTUAL {
+        @Override
+        public Thread newThread(final Runnable runnable, final String name) {
+            if (!isVirtualThreadSupported()) {
+                throw new UnsupportedOperationException("Virtual threads are not supported by this Java runtime");
+            }
+            try {
+                return VirtualThreadBuilder.newThread(runnable, name);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    };
+
+    /**
+     * Gets the thread mode to use for the given setting, failing if virtual threads are requested but not supported.
+     *
+     * @param virtualThreads whether virtual threads are requested
+     * @return the thread mode
+     * @throws MongoClientException if virtual threads are requested but not supported by this Java runtime
+     */
+    public static ThreadMode of(final boolean virtualThreads) {
+        if (!virtualThreads) {
+            return PLATFORM;
+        }
+        if (!isVirtualThreadSupported()) {
+            throw new MongoClientException("Virtual threads require Java 21 or later, but the current Java version is "
+                    + System.getProperty("java.version"));
+        }
+        return VIRTUAL;
+    }
+
+    /**
+     * Returns whether this Java runtime supports virtual threads.
+     *
+     * @return true if virtual threads are supported
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreadBuilder.UNSTARTED != null;
+    }
+
+    /**
+     * Creates a new, unstarted thread of this kind.
+     *
+     * @param runnable the task to run on the thread
+     * @param name the name of the thread
+     * @return the unstarted thread
+     */
+    public abstract Thread newThread(Runnable runnable, String name);
+
+    private static final class VirtualThreadBuilder {
+        @Nullable
+        private static final MethodHandle OF_VIRTUAL;
+        @Nullable
+        private static final MethodHandle NAME;
+        @Nullable
+        private static final MethodHandle UNSTARTED;
+
+        static {
+            MethodHandle ofVirtual = null;
+            MethodHandle name = null;
+            MethodHandle unstarted = null;
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+                        MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+                name = lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class));
+                unstarted = lookup.findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                unstarted = null;
+            }
+            OF_VIRTUAL = ofVirtual;
+            NAME = name;
+            UNSTARTED = unstarted;
+        }
+
+        static Thread newThread(final Runnable runnable, final String name) throws Throwable {
+            // Thread.ofVirtual().name(name).unstarted(runnable)
+            Object builder = assertNotNull(NAME).invoke(assertNotNull(OF_VIRTUAL).invoke(), name);
+            return (Thread) assertNotNull(UNSTARTED).invoke(builder, runnable);
+        }
+
+        private VirtualThreadBuilder() {
+        }
+    }
+}
@@ -63,6 +63,7 @@ import com.mongodb.internal.operation.CommandReadOperation;
 import com.mongodb.internal.operation.DropDatabaseOperation;
 import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.WriteOperation;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.lang.Nullable;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
@@ -403,7 +404,7 @@ public final class ClusterFixture {
                 ServerSettings.builder().build(),
                 ConnectionPoolSettings.builder().maxSize(1).build(), InternalConnectionPoolSettings.builder().build(),
                 streamFactory, streamFactory, credential, LoggerSettings.builder().build(), null, null, null,
-                Collections.emptyList(), getServerApi(), null);
+                Collections.emptyList(), getServerApi(), null, null, null, ThreadMode.PLATFORM);
     }
 
     private static Cluster createCluster(final ConnectionString connectionString, final StreamFactory streamFactory) {
@@ -416,7 +417,7 @@ public final class ClusterFixture {
                         getSslSettings(connectionString)),
                 connectionString.getCredential(),
                 LoggerSettings.builder().build(), null, null, null,
-                connectionString.getCompressorList(), getServerApi(), null);
+                connectionString.getCompressorList(), getServerApi(), null, null, null, ThreadMode.PLATFORM);
     }
 
     public static StreamFactory getStreamFactory() {
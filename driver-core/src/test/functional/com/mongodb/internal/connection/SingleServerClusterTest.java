@@ -28,6 +28,7 @@ import com.mongodb.connection.SocketSettings;
 import com.mongodb.internal.IgnorableRequestContext;
 import com.mongodb.internal.binding.StaticBindingContext;
 import com.mongodb.internal.selector.ServerAddressSelector;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import org.bson.BsonDocument;
 import org.bson.BsonDouble;
@@ -69,7 +70,7 @@ public class SingleServerClusterTest {
                         streamFactory, streamFactory, getCredential(),
 
                         LoggerSettings.builder().build(), null, null, null,
-                        Collections.emptyList(), getServerApi(), false));
+                        Collections.emptyList(), getServerApi(), false, null, null, ThreadMode.PLATFORM));
     }
 
     @After
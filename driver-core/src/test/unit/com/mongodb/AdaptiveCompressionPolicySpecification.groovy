@@ -0,0 +1,118 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb
+
+import spock.lang.Specification
+
+class AdaptiveCompressionPolicySpecification extends Specification {
+
+    def 'should have correct defaults'() {
+        when:
+        def policy = AdaptiveCompressionPolicy.builder().build()
+
+        then:
+        policy.minimumMessageSize == 1024
+        policy.minimumCompressionRatio == 1.1d
+        policy.sampleInterval == 64
+        policy.compressedMessageCount == 0
+        policy.bytesBeforeCompression == 0
+        policy.bytesAfterCompression == 0
+        policy.belowMinimumSizeCount == 0
+        policy.belowMinimumRatioCount == 0
+        policy.getCompressionRatio('insert') == null
+    }
+
+    def 'should apply builder settings'() {
+        when:
+        def policy = AdaptiveCompressionPolicy.builder()
+                .minimumMessageSize(0)
+                .minimumCompressionRatio(2)
+                .sampleInterval(1)
+                .build()
+
+        then:
+        policy.minimumMessageSize == 0
+        policy.minimumCompressionRatio == 2d
+        policy.sampleInterval == 1
+    }
+
+    def 'should throw on invalid builder settings'() {
+        when:
+        builderConfiguration.call(AdaptiveCompressionPolicy.builder())
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        builderConfiguration << [
+                { AdaptiveCompressionPolicy.Builder builder -> builder.minimumMessageSize(-1) },
+                { AdaptiveCompressionPolicy.Builder builder -> builder.minimumCompressionRatio(0) },
+                { AdaptiveCompressionPolicy.Builder builder -> builder.sampleInterval(0) }
+        ]
+    }
+
+    def 'should not compress messages smaller than the minimum size'() {
+        given:
+        def policy = AdaptiveCompressionPolicy.builder().minimumMessageSize(100).build()
+
+        expect:
+        !policy.shouldCompress('getMore', 99)
+        policy.shouldCompress('getMore', 100)
+        policy.belowMinimumSizeCount == 1
+    }
+
+    def 'should record compressed messages'() {
+        given:
+        def policy = AdaptiveCompressionPolicy.builder().build()
+
+        when:
+        policy.messageCompressed('insert', 4000, 1000)
+        policy.messageCompressed('insert', 4000, 2000)
+        policy.messageCompressed('find', 2000, 1000)
+
+        then:
+        policy.compressedMessageCount == 3
+        policy.bytesBeforeCompression == 10000
+        policy.bytesAfterCompression == 4000
+        Math.abs(policy.getCompressionRatio('insert') - 3.6d) < 1e-9
+        policy.getCompressionRatio('find') == 2
+        policy.getCompressionRatio('update') == null
+    }
+
+    def 'should bypass command names that do not compress well, except for a sample'() {
+        given:
+        def policy = AdaptiveCompressionPolicy.builder().minimumMessageSize(0).sampleInterval(4).build()
+        policy.messageCompressed('insert', 1000, 990)
+        policy.messageCompressed('find', 1000, 500)
+
+        when:
+        def decisions = (1..8).collect { policy.shouldCompress('insert', 1000) }
+
+        then:
+        decisions == [false, false, false, true, false, false, false, true]
+        policy.belowMinimumRatioCount == 6
+        policy.shouldCompress('find', 1000)
+        policy.shouldCompress('update', 1000)
+
+        when: 'a sample shows that the command compresses well again'
+        (1..10).each { policy.messageCompressed('insert', 1000, 100) }
+
+        then:
+        policy.shouldCompress('insert', 1000)
+    }
+}
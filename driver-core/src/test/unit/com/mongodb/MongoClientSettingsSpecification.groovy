@@ -29,6 +29,7 @@ import com.mongodb.spi.dns.DnsClient
 import com.mongodb.spi.dns.InetAddressResolver
 import org.bson.UuidRepresentation
 import org.bson.codecs.configuration.CodecRegistry
+import org.bson.io.FieldNameCache
 import spock.lang.Specification
 
 import java.util.concurrent.TimeUnit
@@ -64,6 +65,9 @@ class MongoClientSettingsSpecification extends Specification {
         settings.contextProvider == null
         settings.dnsClient == null
         settings.inetAddressResolver == null
+        settings.fieldNameCache == null
+        settings.compressionPolicy == null
+        !settings.virtualThreads
     }
 
     @SuppressWarnings('UnnecessaryObjectReferences')
@@ -127,6 +131,8 @@ class MongoClientSettingsSpecification extends Specification {
         def contextProvider = Stub(ContextProvider)
         def dnsClient = Stub(DnsClient)
         def inetAddressResolver = Stub(InetAddressResolver)
+        def fieldNameCache = new FieldNameCache()
+        def compressionPolicy = AdaptiveCompressionPolicy.builder().build()
 
         when:
         def settings = MongoClientSettings.builder()
@@ -151,6 +157,9 @@ class MongoClientSettingsSpecification extends Specification {
                 .contextProvider(contextProvider)
                 .dnsClient(dnsClient)
                 .inetAddressResolver(inetAddressResolver)
+                .fieldNameCache(fieldNameCache)
+                .compressionPolicy(compressionPolicy)
+                .virtualThreads(true)
                 .build()
 
         then:
@@ -172,6 +181,9 @@ class MongoClientSettingsSpecification extends Specification {
         settings.getContextProvider() == contextProvider
         settings.getDnsClient() == dnsClient
         settings.getInetAddressResolver() == inetAddressResolver
+        settings.getFieldNameCache() == fieldNameCache
+        settings.getCompressionPolicy() == compressionPolicy
+        settings.isVirtualThreads()
     }
 
     def 'should be easy to create new settings from existing'() {
@@ -189,6 +201,8 @@ class MongoClientSettingsSpecification extends Specification {
         def contextProvider = Stub(ContextProvider)
         def dnsClient = Stub(DnsClient)
         def inetAddressResolver = Stub(InetAddressResolver)
+        def fieldNameCache = new FieldNameCache()
+        def compressionPolicy = AdaptiveCompressionPolicy.builder().build()
 
         settings = MongoClientSettings.builder()
                 .heartbeatConnectTimeoutMS(24000)
@@ -213,6 +227,9 @@ class MongoClientSettingsSpecification extends Specification {
                 .contextProvider(contextProvider)
                 .dnsClient(dnsClient)
                 .inetAddressResolver(inetAddressResolver)
+                .fieldNameCache(fieldNameCache)
+                .compressionPolicy(compressionPolicy)
+                .virtualThreads(true)
                 .build()
 
         then:
@@ -521,11 +538,11 @@ class MongoClientSettingsSpecification extends Specification {
         // A regression test so that if anymore fields are added then the builder(final MongoClientSettings settings) should be updated
         def actual = MongoClientSettings.Builder.declaredFields.grep {  !it.synthetic } *.name.sort()
         def expected = ['applicationName', 'autoEncryptionSettings', 'clusterSettingsBuilder', 'codecRegistry', 'commandListeners',
-                        'compressorList', 'connectionPoolSettingsBuilder', 'contextProvider', 'credential', 'dnsClient',
-                        'heartbeatConnectTimeoutMS', 'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'loggerSettingsBuilder',
-                        'readConcern', 'readPreference', 'retryReads',
-                        'retryWrites', 'serverApi', 'serverSettingsBuilder', 'socketSettingsBuilder', 'sslSettingsBuilder',
-                        'transportSettings', 'uuidRepresentation', 'writeConcern']
+                        'compressionPolicy', 'compressorList', 'connectionPoolSettingsBuilder', 'contextProvider', 'credential',
+                        'dnsClient', 'fieldNameCache', 'heartbeatConnectTimeoutMS', 'heartbeatSocketTimeoutMS', 'inetAddressResolver',
+                        'loggerSettingsBuilder', 'readConcern', 'readPreference', 'retryReads', 'retryWrites', 'serverApi',
+                        'serverSettingsBuilder', 'socketSettingsBuilder', 'sslSettingsBuilder', 'transportSettings', 'uuidRepresentation',
+                        'virtualThreads', 'writeConcern']
 
         then:
         actual == expected
@@ -538,9 +555,10 @@ class MongoClientSettingsSpecification extends Specification {
         def expected = ['addCommandListener', 'applicationName', 'applyConnectionString', 'applyToClusterSettings',
                         'applyToConnectionPoolSettings', 'applyToLoggerSettings', 'applyToServerSettings', 'applyToSocketSettings',
                         'applyToSslSettings', 'autoEncryptionSettings', 'build', 'codecRegistry', 'commandListenerList',
-                        'compressorList', 'contextProvider', 'credential', 'dnsClient', 'heartbeatConnectTimeoutMS',
-                        'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'readConcern', 'readPreference', 'retryReads', 'retryWrites',
-                        'serverApi', 'transportSettings', 'uuidRepresentation', 'writeConcern']
+                        'compressionPolicy', 'compressorList', 'contextProvider', 'credential', 'dnsClient', 'fieldNameCache',
+                        'heartbeatConnectTimeoutMS', 'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'readConcern', 'readPreference',
+                        'retryReads', 'retryWrites', 'serverApi', 'transportSettings', 'uuidRepresentation', 'virtualThreads',
+                        'writeConcern']
         then:
         actual == expected
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.internal.connection
+
+import com.mongodb.MongoInternalException
+import org.bson.ByteBufNIO
+import org.bson.io.BasicOutputBuffer
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.util.concurrent.TimeUnit
+
+class BlockCompressorSpecification extends Specification {
+
+    def 'should compress and uncompress'() {
+        given:
+        def bytes = new byte[size]
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i % 7 == 0 ? i : 97)
+        }
+        def source = new ByteBufferBsonOutput(bufferProvider)
+        source.writeBytes(bytes)
+        def target = new ByteBufferBsonOutput(bufferProvider)
+        target.writeInt32(42)
+
+        when:
+        compressor.compress(source.byteBuffers, target)
+        def compressed = toBytes(target)
+
+        then:
+        compressed.length < bytes.length + 4
+
+        when:
+        def compressedBuffer = bufferProvider.getBuffer(compressed.length - 4)
+        compressedBuffer.put(compressed, 4, compressed.length - 4).flip()
+        def uncompressedBuffer = bufferProvider.getBuffer(size)
+        compressor.uncompress(compressedBuffer, uncompressedBuffer)
+        def uncompressed = new byte[size]
+        uncompressedBuffer.flip().get(uncompressed)
+
+        then:
+        !compressedBuffer.hasRemaining()
+        uncompressed == bytes
+
+        cleanup:
+        source?.close()
+        target?.close()
+
+        where:
+        [compressor, bufferProvider, size] << [
+                [new ZstdCompressor(), new SnappyCompressor()],
+                [new SimpleBufferProvider(), new PowerOfTwoBufferPool(24, 0, TimeUnit.MILLISECONDS, 1 << 26)],
+                [100, 5000, 100000]
+        ].combinations()
+    }
+
+    def 'should compress from heap buffers into a direct buffer'() {
+        given:
+        def bytes = new byte[5000]
+        Arrays.fill(bytes, (byte) 97)
+        def target = new ByteBufferBsonOutput({ size -> new ByteBufNIO(ByteBuffer.allocateDirect(size)) } as BufferProvider)
+
+        when:
+        compressor.compress([new ByteBufNIO(ByteBuffer.wrap(bytes, 0, 3000)), new ByteBufNIO(ByteBuffer.wrap(bytes, 3000, 2000))],
+                target)
+        def compressed = toBytes(target)
+        def uncompressedBuffer = new ByteBufNIO(ByteBuffer.allocate(5000))
+        compressor.uncompress(new ByteBufNIO(ByteBuffer.wrap(compressed)), uncompressedBuffer)
+
+        then:
+        compressed.length < bytes.length
+        uncompressedBuffer.array() == bytes
+
+        where:
+        compressor << [new ZstdCompressor(), new SnappyCompressor()]
+    }
+
+    def 'should compress into a BsonOutput that is not backed by a buffer provider'() {
+        given:
+        def bytes = new byte[5000]
+        Arrays.fill(bytes, (byte) 97)
+        def target = new BasicOutputBuffer()
+
+        when:
+        compressor.compress([new ByteBufNIO(ByteBuffer.wrap(bytes))], target)
+        def uncompressedBuffer = new ByteBufNIO(ByteBuffer.allocate(5000))
+        compressor.uncompress(new ByteBufNIO(ByteBuffer.wrap(target.toByteArray())), uncompressedBuffer)
+
+        then:
+        target.size < bytes.length
+        uncompressedBuffer.array() == bytes
+
+        where:
+        compressor << [new ZstdCompressor(), new SnappyCompressor()]
+    }
+
+    def 'should not uncompress into a target that is too small for the uncompressed message'() {
+        given:
+        def bytes = new byte[5000]
+        Arrays.fill(bytes, (byte) 97)
+        def compressed = new BasicOutputBuffer()
+        compressor.compress([new ByteBufNIO(ByteBuffer.wrap(bytes))], compressed)
+        def source = allocate(compressed.size)
+        source.put(compressed.toByteArray()).flip()
+        def target = allocate(bytes.length + 16)
+        target.limit(bytes.length - 1)
+
+        when:
+        compressor.uncompress(new ByteBufNIO(source), new ByteBufNIO(target))
+
+        then:
+        thrown(MongoInternalException)
+        target.clear()
+        (0..<target.capacity()).every { target.get(it) == (byte) 0 }
+
+        where:
+        [compressor, allocate] << [
+                [new ZstdCompressor(), new SnappyCompressor()],
+                [{ int size -> ByteBuffer.allocateDirect(size) }, { int size -> ByteBuffer.allocate(size) }]
+        ].combinations()
+    }
+
+    private static byte[] toBytes(final ByteBufferBsonOutput output) {
+        def baos = new ByteArrayOutputStream()
+        output.pipe(baos)
+        baos.toByteArray()
+    }
+}
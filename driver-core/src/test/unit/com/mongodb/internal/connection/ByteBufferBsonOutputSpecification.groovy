@@ -18,9 +18,12 @@ package com.mongodb.internal.connection
 
 import util.spock.annotations.Slow
 import org.bson.BsonSerializationException
+import org.bson.ByteBufNIO
 import org.bson.types.ObjectId
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
 import java.security.SecureRandom
 
 class ByteBufferBsonOutputSpecification extends Specification {
@@ -244,6 +247,28 @@ class ByteBufferBsonOutputSpecification extends Specification {
         getBytes(bsonOutput) == [4, 0, 0, 0, (byte) 'h', 0, (byte) 'i', 0] as byte[]
     }
 
+    def 'should write strings that span buffers'() {
+        given:
+        def bsonOutput = new ByteBufferBsonOutput(bufferProvider)
+        def str = ('a' * 1000) + '\u00e9\u0900' + ('b' * 2000) + '\ud83d\ude00' + ('c' * 100)
+        def encoded = str.getBytes(StandardCharsets.UTF_8)
+        bsonOutput.writeBytes(new byte[10])
+
+        when:
+        bsonOutput.writeString(str)
+        bsonOutput.writeCString(str)
+
+        then:
+        def bytes = getBytes(bsonOutput)
+        bytes[10..13] as byte[] == [encoded.length + 1, (encoded.length + 1) >> 8, 0, 0] as byte[]
+        bytes[14..<(14 + encoded.length)] as byte[] == encoded
+        bytes[15 + encoded.length..<(15 + encoded.length * 2)] as byte[] == encoded
+        bsonOutput.position == 16 + encoded.length * 2
+
+        where:
+        bufferProvider << [new SimpleBufferProvider(), { int size -> new ByteBufNIO(ByteBuffer.allocateDirect(size)) } as BufferProvider]
+    }
+
     def 'write Int32 at position should throw with invalid position'() {
         given:
         def bsonOutput = new ByteBufferBsonOutput(new SimpleBufferProvider())
@@ -342,6 +367,44 @@ class ByteBufferBsonOutputSpecification extends Specification {
         bsonOutput.size == 1027
     }
 
+    def 'should write directly into a reserved buffer'() {
+        given:
+        def bsonOutput = new ByteBufferBsonOutput(new SimpleBufferProvider())
+        bsonOutput.writeBytes([1, 2, 3, 4] as byte[])
+
+        when: 'the current buffer has room'
+        def buffer = bsonOutput.reserve(4)
+        buffer.put(buffer.position(), (byte) 5).put(buffer.position() + 1, (byte) 6)
+        bsonOutput.advance(2)
+        bsonOutput.writeInt32(0x1020304)
+
+        then:
+        getBytes(bsonOutput) == [1, 2, 3, 4, 5, 6, 4, 3, 2, 1] as byte[]
+        bsonOutput.position == 10
+        bsonOutput.byteBuffers.size() == 1
+
+        when: 'the current buffer does not have room'
+        def bytes = new byte[2000]
+        Arrays.fill(bytes, (byte) 7)
+        buffer = bsonOutput.reserve(2000)
+        bytes.eachWithIndex { b, i -> buffer.put(buffer.position() + i, b) }
+        bsonOutput.advance(2000)
+        bsonOutput.writeInt32(2, 0x1020304)
+        bsonOutput.writeByte(8)
+
+        then:
+        getBytes(bsonOutput) == [1, 2, 4, 3, 2, 1, 4, 3, 2, 1] + (bytes as List) + [8] as byte[]
+        bsonOutput.position == 2011
+        bsonOutput.byteBuffers*.remaining() == [10, 2000, 1]
+
+        when:
+        bsonOutput.truncateToPosition(9)
+
+        then:
+        getBytes(bsonOutput) == [1, 2, 4, 3, 2, 1, 4, 3, 2] as byte[]
+        bsonOutput.byteBuffers.size() == 1
+    }
+
     @Slow
     def 'should grow to maximum allowed size of byte buffer'() {
         given:
@@ -17,10 +17,19 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoServerUnavailableException;
 import com.mongodb.MongoTimeoutException;
 import org.junit.Test;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -220,6 +229,69 @@ public class ConcurrentPoolTest {
         assertFalse(t4.isClosed());
     }
 
+    @Test
+    public void testThatGetThrowsIfInterruptedEvenIfPermitAvailable() {
+        pool = new ConcurrentPool<>(3, new TestItemFactory());
+
+        Thread.currentThread().interrupt();
+        try {
+            pool.get();
+            fail();
+        } catch (MongoInterruptedException e) {
+            // all good
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(0, pool.getInUseCount());
+    }
+
+    @Test
+    public void testThatGetThrowsIfClosedEvenIfPermitAvailable() {
+        pool = new ConcurrentPool<>(3, new TestItemFactory());
+        pool.close();
+
+        try {
+            pool.get();
+            fail();
+        } catch (MongoServerUnavailableException e) {
+            // all good
+        }
+    }
+
+    @Test
+    public void testConcurrentGetAndRelease() throws Exception {
+        int maxSize = 4;
+        int numThreads = 16;
+        int numIterations = 2000;
+        pool = new ConcurrentPool<>(maxSize, new TestItemFactory());
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < numIterations; j++) {
+                        TestCloseable closeable = pool.get(10, TimeUnit.SECONDS);
+                        maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        inUse.decrementAndGet();
+                        pool.release(closeable);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxInUse.get() <= maxSize);
+        assertEquals(0, pool.getInUseCount());
+        assertTrue(pool.getAvailableCount() <= maxSize);
+    }
+
     class TestItemFactory implements ConcurrentPool.ItemFactory<TestCloseable> {
         private final boolean shouldThrowOnCreate;
 
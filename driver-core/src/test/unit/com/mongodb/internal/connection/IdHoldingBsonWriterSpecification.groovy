@@ -20,6 +20,8 @@ import org.bson.BsonArray
 import org.bson.BsonBinaryReader
 import org.bson.BsonBinaryWriter
 import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonName
 import org.bson.BsonObjectId
 import org.bson.codecs.BsonDocumentCodec
 import org.bson.codecs.DecoderContext
@@ -74,6 +76,25 @@ class IdHoldingBsonWriterSpecification extends Specification {
         id << getBsonValues()
     }
 
+    def 'should hold an _id written as an encoded name'() {
+        given:
+        def bsonBinaryWriter = new BsonBinaryWriter(new BasicOutputBuffer())
+        def idTrackingBsonWriter = new IdHoldingBsonWriter(bsonBinaryWriter)
+        def id = new BsonObjectId()
+
+        when:
+        idTrackingBsonWriter.writeStartDocument()
+        idTrackingBsonWriter.writeName(new BsonName('_id'))
+        idTrackingBsonWriter.writeObjectId(id.getValue())
+        idTrackingBsonWriter.writeName(new BsonName('a'))
+        idTrackingBsonWriter.writeInt32(1)
+        idTrackingBsonWriter.writeEndDocument()
+
+        then:
+        idTrackingBsonWriter.getId() == id
+        getEncodedDocument(bsonBinaryWriter.getBsonOutput()) == new BsonDocument('_id', id).append('a', new BsonInt32(1))
+    }
+
     def 'serialize document with list of documents that contain an _id field'() {
         def bsonBinaryWriter = new BsonBinaryWriter(new BasicOutputBuffer())
         def idTrackingBsonWriter = new IdHoldingBsonWriter(bsonBinaryWriter)
@@ -63,7 +63,7 @@ final class MessageHelper {
         return new ResponseBuffers(header, body);
     }
 
-    private static ReplyHeader buildReplyHeader(final int responseTo, final int documentsSize, final int responseFlags) {
+    static ReplyHeader buildReplyHeader(final int responseTo, final int documentsSize, final int responseFlags) {
         ByteBuffer headerByteBuffer = ByteBuffer.allocate(36);
         headerByteBuffer.order(ByteOrder.LITTLE_ENDIAN);
         headerByteBuffer.putInt(36 + documentsSize); // length
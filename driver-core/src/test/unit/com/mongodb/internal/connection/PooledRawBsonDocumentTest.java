@@ -0,0 +1,129 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection;
+
+import com.mongodb.PooledRawBsonDocument;
+import com.mongodb.PooledRawBsonDocumentCodec;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonInt32;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.junit.jupiter.api.Test;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.internal.connection.MessageHelper.buildReplyHeader;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledRawBsonDocumentTest {
+    private static final BsonDocument FIRST = BsonDocument.parse("{_id: 1, a: {b: [1, 2]}, s: 'x'}");
+    private static final BsonDocument SECOND = BsonDocument.parse("{_id: 2}");
+
+    @Test
+    public void shouldRetainTheReplyUntilEveryDocumentIsReleased() {
+        ByteBuf body = encode(new BsonDocument("batch", new BsonArray(asList(FIRST, SECOND)))
+                .append("ok", new BsonInt32(1)));
+        List<PooledRawBsonDocument> documents = decodeBatch(body);
+
+        assertEquals(2, body.getReferenceCount());
+        assertEquals(FIRST, documents.get(0));
+        assertEquals(SECOND, documents.get(1));
+
+        documents.get(0).close();
+        documents.get(0).close();
+        assertTrue(documents.get(0).isReleased());
+        assertEquals(1, body.getReferenceCount());
+        assertEquals(SECOND, documents.get(1));
+
+        documents.get(1).close();
+        assertEquals(0, body.getReferenceCount());
+    }
+
+    @Test
+    public void shouldCopyValuesThatEscapeTheDocument() {
+        ByteBuf body = encode(new BsonDocument("batch", new BsonArray(singletonList(FIRST)))
+                .append("ok", new BsonInt32(1)));
+        PooledRawBsonDocument document = decodeBatch(body).get(0);
+
+        BsonValue nested = document.get("a");
+        RawBsonDocument copy = document.toRawBsonDocument();
+        BsonDocument clone = document.clone();
+        document.close();
+
+        assertEquals(0, body.getReferenceCount());
+        assertEquals(FIRST.get("a"), nested);
+        assertEquals(FIRST, copy);
+        assertEquals(FIRST, clone);
+        assertThrows(IllegalStateException.class, () -> document.get("_id"));
+        assertThrows(IllegalStateException.class, document::getByteBuffer);
+    }
+
+    @Test
+    public void shouldCopyDocumentsThatAreNotReadFromAReply() {
+        PooledRawBsonDocument document = new PooledRawBsonDocumentCodec().decode(new BsonDocumentReader(FIRST),
+                DecoderContext.builder().build());
+
+        assertFalse(document.isReleased());
+        assertEquals(FIRST, document);
+        assertEquals(new RawBsonDocument(FIRST, new BsonDocumentCodec()).getByteBuffer().asNIO(), document.getByteBuffer().asNIO());
+        document.close();
+        assertTrue(document.isReleased());
+    }
+
+    private static List<PooledRawBsonDocument> decodeBatch(final ByteBuf body) {
+        PooledRawBsonDocumentCodec codec = new PooledRawBsonDocumentCodec();
+        Decoder<List<PooledRawBsonDocument>> decoder = (reader, decoderContext) -> {
+            List<PooledRawBsonDocument> documents = new ArrayList<>();
+            reader.readStartDocument();
+            reader.readName("batch");
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                documents.add(codec.decode(reader, decoderContext));
+            }
+            reader.readEndArray();
+            reader.readInt32("ok");
+            reader.readEndDocument();
+            return documents;
+        };
+        try (ResponseBuffers responseBuffers = new ResponseBuffers(buildReplyHeader(0, body.remaining(), 0), body)) {
+            return new ReplyMessage<>(responseBuffers, decoder, 0).getDocument();
+        }
+    }
+
+    private static ByteBuf encode(final BsonDocument document) {
+        RawBsonDocument rawDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+        ByteBuffer byteBuffer = ByteBuffer.allocate(rawDocument.getByteBuffer().remaining());
+        byteBuffer.put(rawDocument.getByteBuffer().asNIO());
+        ((Buffer) byteBuffer).flip();
+        return new ByteBufNIO(byteBuffer);
+    }
+}
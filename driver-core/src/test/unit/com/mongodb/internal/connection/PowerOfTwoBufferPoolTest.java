@@ -21,11 +21,19 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class PowerOfTwoBufferPoolTest {
     private PowerOfTwoBufferPool pool;
@@ -91,4 +99,106 @@ public class PowerOfTwoBufferPoolTest {
             pool.disablePruning();
         }
     }
+
+    @Test
+    public void testDirectBuffers() {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(10, 1, TimeUnit.MINUTES, 1024);
+        ByteBuf buf = pool.getBuffer(1000);
+        assertTrue(buf.asNIO().isDirect());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buf.asNIO().order());
+        assertEquals(1000, buf.limit());
+        assertEquals(1024, pool.getDirectMemoryUsed());
+
+        // the budget is exhausted, so fall back to the heap
+        ByteBuf heapBuf = pool.getBuffer(1000);
+        assertFalse(heapBuf.asNIO().isDirect());
+        assertEquals(1024, pool.getDirectMemoryUsed());
+
+        // buffers too large to be pooled are always heap buffers
+        assertFalse(pool.getBuffer(2048).asNIO().isDirect());
+
+        ByteBuffer directByteBuffer = buf.asNIO();
+        ByteBuffer heapByteBuffer = heapBuf.asNIO();
+        buf.release();
+        heapBuf.release();
+        assertSame(heapByteBuffer, pool.getBuffer(1024).asNIO());
+        assertSame(directByteBuffer, pool.getBuffer(1024).asNIO());
+        assertEquals(1024, pool.getDirectMemoryUsed());
+    }
+
+    @Test
+    public void testHeapBuffersWhenDirectMemoryIsDisabled() {
+        assertFalse(pool.getBuffer(1024).asNIO().isDirect());
+        assertEquals(0, pool.getDirectMemoryUsed());
+    }
+
+    // Racy test
+    @Test
+    public void testPruningReleasesDirectMemory() throws InterruptedException {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(10, 5, TimeUnit.MILLISECONDS, 1024)
+                .enablePruning();
+        try {
+            ByteBuf byteBuf = pool.getBuffer(256);
+            assertTrue(byteBuf.asNIO().isDirect());
+            assertEquals(256, pool.getDirectMemoryUsed());
+            byteBuf.release();
+            Thread.sleep(50);
+            assertEquals(0, pool.getDirectMemoryUsed());
+        } finally {
+            pool.disablePruning();
+        }
+    }
+
+    @Test
+    public void testMetrics() {
+        ByteBuf buf = pool.getBuffer(512);
+        assertEquals(0, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+
+        buf.release();
+        pool.getBuffer(500).release();
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+
+        // buffers too large to be pooled are neither hits nor misses
+        pool.getBuffer(2048).release();
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test
+    public void testReuseOfMoreBuffersThanAStripeHolds() {
+        List<ByteBuf> buffers = new ArrayList<>();
+        Set<ByteBuffer> byteBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 100; i++) {
+            ByteBuf buf = pool.getBuffer(128);
+            buffers.add(buf);
+            byteBuffers.add(buf.asNIO());
+        }
+        buffers.forEach(ByteBuf::release);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(byteBuffers.contains(pool.getBuffer(128).asNIO()));
+        }
+        assertEquals(100, pool.getHitCount());
+        assertEquals(100, pool.getMissCount());
+    }
+
+    // Racy test
+    @Test
+    public void testPrunedBytes() throws InterruptedException {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(10, 5, TimeUnit.MILLISECONDS)
+                .enablePruning();
+        try {
+            List<ByteBuf> buffers = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                buffers.add(pool.getBuffer(256));
+            }
+            buffers.forEach(ByteBuf::release);
+            Thread.sleep(50);
+            assertEquals(20 * 256, pool.getPrunedBytes());
+        } finally {
+            pool.disablePruning();
+        }
+    }
 }
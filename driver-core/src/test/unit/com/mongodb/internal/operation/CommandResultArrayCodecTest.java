@@ -0,0 +1,100 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.operation;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static com.mongodb.internal.operation.CommandResultArrayCodec.SlicingRawBsonDocumentCodec;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CommandResultArrayCodecTest {
+
+    @Test
+    @DisplayName("should slice raw documents out of a single copy of the batch when asked to")
+    void shouldSliceRawDocumentsOutOfASingleCopyOfTheBatchWhenAskedTo() {
+        List<RawBsonDocument> batch = decodeRawBatch(new SlicingRawBsonDocumentCodec());
+
+        assertBatch(batch);
+        assertSame(batch.get(0).getByteBuffer().array(), batch.get(1).getByteBuffer().array());
+    }
+
+    @Test
+    @DisplayName("should copy each raw document by default")
+    void shouldCopyEachRawDocumentByDefault() {
+        List<RawBsonDocument> batch = decodeRawBatch(new RawBsonDocumentCodec());
+
+        assertBatch(batch);
+        assertNotSame(batch.get(0).getByteBuffer().array(), batch.get(1).getByteBuffer().array());
+    }
+
+    @Test
+    @DisplayName("should record the encoded size of the batch")
+    void shouldRecordTheEncodedSizeOfTheBatch() {
+        BsonArray batch = new BsonArray(asList(BsonDocument.parse("{_id: 1, a: 'x'}"), BsonDocument.parse("{_id: 2, b: [1, 2]}")));
+        RawBsonDocument rawReply = RawBsonDocument.parse(new BsonDocument("cursor", new BsonDocument("firstBatch", batch)).toJson());
+        // the size of the document {a: batch} less the size of its length, the type and name of its field and its terminator
+        int expectedSize = RawBsonDocument.parse(new BsonDocument("a", batch).toJson()).getByteBuffer().remaining() - 8;
+
+        assertEquals(expectedSize, decodeBatchSizeInBytes(rawReply, new SlicingRawBsonDocumentCodec()));
+        assertEquals(expectedSize, decodeBatchSizeInBytes(rawReply, new RawBsonDocumentCodec()));
+        assertEquals(expectedSize, decodeBatchSizeInBytes(rawReply, new BsonDocumentCodec()));
+    }
+
+    private static List<RawBsonDocument> decodeRawBatch(final RawBsonDocumentCodec decoder) {
+        BsonDocument reply = new BsonDocument("cursor", new BsonDocument("firstBatch",
+                new BsonArray(asList(BsonDocument.parse("{_id: 1, a: 'x'}"), BsonDocument.parse("{_id: 2, b: [1, 2]}"), BsonNull.VALUE)))
+                .append("postBatchResumeToken", BsonDocument.parse("{v: 1}")));
+        RawBsonDocument rawReply = RawBsonDocument.parse(reply.toJson());
+
+        BsonDocument result;
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(rawReply.getByteBuffer().array()))) {
+            result = CommandResultDocumentCodec.create(decoder, "firstBatch").decode(reader, DecoderContext.builder().build());
+        }
+        assertEquals(BsonDocument.parse("{v: 1}"), result.getDocument("cursor").getDocument("postBatchResumeToken"));
+        return BsonDocumentWrapperHelper.toList(result.getDocument("cursor"), "firstBatch");
+    }
+
+    private static void assertBatch(final List<RawBsonDocument> batch) {
+        assertEquals(3, batch.size());
+        assertEquals(BsonDocument.parse("{_id: 1, a: 'x'}"), batch.get(0));
+        assertEquals(BsonDocument.parse("{_id: 2, b: [1, 2]}"), batch.get(1));
+        assertNull(batch.get(2));
+    }
+
+    private static int decodeBatchSizeInBytes(final RawBsonDocument rawReply, final Decoder<?> decoder) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(rawReply.getByteBuffer().array()))) {
+            BsonDocument result = CommandResultDocumentCodec.create(decoder, "firstBatch").decode(reader, DecoderContext.builder().build());
+            return BsonDocumentWrapperHelper.getSizeInBytes(result.getDocument("cursor"), "firstBatch");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.operation;
+
+import com.mongodb.ServerAddress;
+import org.bson.BsonReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LazyDecodingBatchCursorTest {
+
+    @Test
+    @DisplayName("should decode only the documents that are accessed")
+    void shouldDecodeOnlyTheDocumentsThatAreAccessed() {
+        CountingDecoder decoder = new CountingDecoder();
+        try (LazyDecodingBatchCursor<Document> cursor = new LazyDecodingBatchCursor<>(createRawCursor(), decoder)) {
+            List<Document> batch = cursor.next();
+            assertEquals(3, batch.size());
+            assertEquals(0, decoder.count);
+
+            assertEquals(new Document("_id", 2), batch.get(1));
+            assertEquals(1, decoder.count);
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("should decode each document at most once")
+    void shouldDecodeEachDocumentAtMostOnce() {
+        CountingDecoder decoder = new CountingDecoder();
+        try (LazyDecodingBatchCursor<Document> cursor = new LazyDecodingBatchCursor<>(createRawCursor(), decoder)) {
+            List<Document> batch = cursor.next();
+            Document first = batch.get(0);
+            assertSame(first, batch.get(0));
+            assertEquals(asList(new Document("_id", 1), new Document("_id", 2), null), new ArrayList<>(batch));
+            assertEquals(2, decoder.count);
+        }
+    }
+
+    @Test
+    @DisplayName("should return null from tryNext when the wrapped cursor does")
+    void shouldReturnNullFromTryNextWhenTheWrappedCursorDoes() {
+        try (LazyDecodingBatchCursor<Document> cursor = new LazyDecodingBatchCursor<>(createRawCursor(), new CountingDecoder())) {
+            assertEquals(3, cursor.tryNext().size());
+            assertNull(cursor.tryNext());
+        }
+    }
+
+    private static BatchCursor<RawBsonDocument> createRawCursor() {
+        return new SingleBatchCursor<>(asList(RawBsonDocument.parse("{_id: 1}"), RawBsonDocument.parse("{_id: 2}"), null), 0,
+                new ServerAddress());
+    }
+
+    private static final class CountingDecoder implements Decoder<Document> {
+        private final DocumentCodec wrapped = new DocumentCodec();
+        private int count;
+
+        @Override
+        public Document decode(final BsonReader reader, final DecoderContext decoderContext) {
+            count++;
+            return wrapped.decode(reader, decoderContext);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefetchingBatchCursorTest {
+
+    private static final ServerAddress SERVER_ADDRESS = new ServerAddress();
+
+    private final ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should return all batches in order")
+    void shouldReturnAllBatchesInOrder() {
+        List<List<Integer>> batches = asList(asList(1, 2), asList(3, 4), singletonList(5));
+        try (PrefetchingBatchCursor<Integer> cursor = new PrefetchingBatchCursor<>(new TestBatchCursor(batches), 1, executor)) {
+            assertEquals(SERVER_ADDRESS, cursor.getServerAddress());
+            List<List<Integer>> results = new ArrayList<>();
+            while (cursor.hasNext()) {
+                results.add(cursor.next());
+            }
+            assertEquals(batches, results);
+            assertFalse(cursor.hasNext());
+            assertEquals(0, cursor.available());
+            assertNull(cursor.getServerCursor());
+            assertThrows(NoSuchElementException.class, cursor::next);
+        }
+    }
+
+    @Test
+    @DisplayName("should fetch ahead up to the maximum number of batches")
+    void shouldFetchAheadUpToTheMaximumNumberOfBatches() throws InterruptedException {
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            batches.add(singletonList(i));
+        }
+        TestBatchCursor wrapped = new TestBatchCursor(batches);
+        try (PrefetchingBatchCursor<Integer> cursor = new PrefetchingBatchCursor<>(wrapped, 3, executor)) {
+            assertTrue(wrapped.awaitFetchCount(3));
+            Thread.sleep(100);
+            assertEquals(3, wrapped.fetchCount.get());
+            assertEquals(3, cursor.available());
+
+            assertEquals(singletonList(0), cursor.next());
+            assertTrue(wrapped.awaitFetchCount(4));
+            Thread.sleep(100);
+            assertEquals(4, wrapped.fetchCount.get());
+        }
+    }
+
+    @Test
+    @DisplayName("should rethrow a failure once the batches fetched before it have been consumed")
+    void shouldRethrowFailureAfterPrecedingBatches() {
+        MongoException failure = new MongoException("getMore failed");
+        TestBatchCursor wrapped = new TestBatchCursor(asList(asList(1, 2), singletonList(3), singletonList(4)));
+        wrapped.failAfter(2, failure);
+        try (PrefetchingBatchCursor<Integer> cursor = new PrefetchingBatchCursor<>(wrapped, 2, executor)) {
+            assertEquals(asList(1, 2), cursor.next());
+            assertEquals(singletonList(3), cursor.next());
+            assertSame(failure, assertThrows(MongoException.class, cursor::hasNext));
+            assertSame(failure, assertThrows(MongoException.class, cursor::next));
+        }
+    }
+
+    @Test
+    @DisplayName("should return null from tryNext if the next fetched batch is empty")
+    void shouldReturnNullFromTryNextIfFetchedBatchIsEmpty() {
+        TestBatchCursor wrapped = new TestBatchCursor(asList(singletonList(1), emptyList(), singletonList(2)));
+        try (PrefetchingBatchCursor<Integer> cursor = new PrefetchingBatchCursor<>(wrapped, 1, executor)) {
+            assertEquals(singletonList(1), cursor.tryNext());
+            List<Integer> batch = cursor.tryNext();
+            if (batch == null) {
+                batch = cursor.tryNext();
+            }
+            assertEquals(singletonList(2), batch);
+            assertNull(cursor.tryNext());
+        }
+    }
+
+    @Test
+    @DisplayName("should close the wrapped cursor and fail subsequent operations")
+    void shouldCloseTheWrappedCursor() throws InterruptedException {
+        TestBatchCursor wrapped = new TestBatchCursor(asList(singletonList(1), singletonList(2), singletonList(3)));
+        wrapped.blockFetches();
+        PrefetchingBatchCursor<Integer> cursor = new PrefetchingBatchCursor<>(wrapped, 1, executor);
+        assertTrue(wrapped.fetchStarted.await(10, TimeUnit.SECONDS));
+
+        cursor.close();
+        assertTrue(wrapped.closed);
+        assertThrows(IllegalStateException.class, cursor::hasNext);
+        assertThrows(IllegalStateException.class, cursor::next);
+        assertThrows(IllegalStateException.class, cursor::tryNext);
+        assertEquals(0, cursor.available());
+        wrapped.unblockFetches();
+    }
+
+    @Test
+    @DisplayName("should end the background task while the buffer stays full, and start it again when a batch is taken")
+    void shouldEndTheBackgroundTaskWhileTheBufferStaysFull() throws InterruptedException {
+        List<List<Integer>> batches = asList(singletonList(1), singletonList(2), singletonList(3));
+        TestBatchCursor wrapped = new TestBatchCursor(batches);
+        try (PrefetchingBatchCursor<Integer> cursor = new PrefetchingBatchCursor<>(wrapped, 1, executor, 10, TimeUnit.MILLISECONDS)) {
+            assertTrue(wrapped.awaitFetchCount(1));
+            assertTrue(awaitNoActiveTasks());
+            assertEquals(1, wrapped.fetchCount.get());
+
+            List<List<Integer>> results = new ArrayList<>();
+            while (cursor.hasNext()) {
+                results.add(cursor.next());
+            }
+            assertEquals(batches, results);
+        }
+    }
+
+    @Test
+    @DisplayName("should rethrow the rejection of the background task")
+    void shouldRethrowTheRejectionOfTheBackgroundTask() {
+        executor.shutdown();
+        TestBatchCursor wrapped = new TestBatchCursor(singletonList(singletonList(1)));
+        try (PrefetchingBatchCursor<Integer> cursor = new PrefetchingBatchCursor<>(wrapped, 1, executor)) {
+            assertThrows(RejectedExecutionException.class, cursor::hasNext);
+        }
+        assertTrue(wrapped.closed);
+    }
+
+    private boolean awaitNoActiveTasks() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getActiveCount() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    private static final class TestBatchCursor implements BatchCursor<Integer> {
+        private final Deque<List<Integer>> batches;
+        private final AtomicInteger fetchCount = new AtomicInteger();
+        private final Semaphore fetchPermits = new Semaphore(Integer.MAX_VALUE);
+        private final CountDownLatch fetchStarted = new CountDownLatch(1);
+        private volatile boolean closed;
+        private int failAfter = -1;
+        private RuntimeException failure;
+        private int batchSize;
+
+        TestBatchCursor(final List<List<Integer>> batches) {
+            this.batches = new ArrayDeque<>(batches);
+        }
+
+        void failAfter(final int fetchCount, final RuntimeException failure) {
+            this.failAfter = fetchCount;
+            this.failure = failure;
+        }
+
+        void blockFetches() {
+            fetchPermits.drainPermits();
+        }
+
+        void unblockFetches() {
+            fetchPermits.release(Integer.MAX_VALUE);
+        }
+
+        boolean awaitFetchCount(final int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (fetchCount.get() < expected) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                Thread.sleep(1);
+            }
+            return true;
+        }
+
+        @Override
+        public List<Integer> tryNext() {
+            fetchStarted.countDown();
+            fetchPermits.acquireUninterruptibly();
+            if (fetchCount.get() == failAfter) {
+                throw failure;
+            }
+            fetchCount.incrementAndGet();
+            List<Integer> batch = batches.poll();
+            return batch == null || batch.isEmpty() ? null : batch;
+        }
+
+        @Override
+        public boolean hasNext() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Integer> next() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int available() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return batches.isEmpty() ? null : new ServerCursor(1, SERVER_ADDRESS);
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return SERVER_ADDRESS;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.internal.thread
+
+import com.mongodb.MongoClientException
+import spock.lang.IgnoreIf
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+
+class ThreadModeSpecification extends Specification {
+
+    def 'should create unstarted daemon platform threads'() {
+        given:
+        def latch = new CountDownLatch(1)
+
+        when:
+        def thread = ThreadMode.PLATFORM.newThread({ latch.countDown() }, 'test-thread')
+
+        then:
+        thread.name == 'test-thread'
+        thread.isDaemon()
+        thread.state == Thread.State.NEW
+
+        when:
+        thread.start()
+        latch.await()
+        thread.join()
+
+        then:
+        latch.count == 0
+    }
+
+    @IgnoreIf({ !ThreadMode.isVirtualThreadSupported() })
+    def 'should create unstarted virtual threads'() {
+        given:
+        def latch = new CountDownLatch(1)
+
+        when:
+        def thread = ThreadMode.VIRTUAL.newThread({ latch.countDown() }, 'test-thread')
+
+        then:
+        thread.name == 'test-thread'
+        thread.isDaemon()
+        thread.isVirtual()
+        thread.state == Thread.State.NEW
+
+        when:
+        thread.start()
+        latch.await()
+        thread.join()
+
+        then:
+        latch.count == 0
+    }
+
+    def 'should use the thread mode in the daemon thread factory'() {
+        when:
+        def thread = new DaemonThreadFactory('test', ThreadMode.PLATFORM).newThread { }
+
+        then:
+        thread.name.startsWith('test-')
+        thread.isDaemon()
+    }
+
+    def 'should get the thread mode for the setting'() {
+        expect:
+        ThreadMode.of(false) == ThreadMode.PLATFORM
+    }
+
+    @IgnoreIf({ !ThreadMode.isVirtualThreadSupported() })
+    def 'should get the virtual thread mode when supported'() {
+        expect:
+        ThreadMode.of(true) == ThreadMode.VIRTUAL
+    }
+
+    @IgnoreIf({ ThreadMode.isVirtualThreadSupported() })
+    def 'should fail to get the virtual thread mode when not supported'() {
+        when:
+        ThreadMode.of(true)
+
+        then:
+        thrown(MongoClientException)
+
+        when:
+        ThreadMode.VIRTUAL.newThread({ }, 'test-thread')
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+}
@@ -29,6 +29,10 @@ data class SyncAggregateIterable<T : Any>(val wrapped: AggregateFlow<T>) :
     JAggregateIterable<T>, SyncMongoIterable<T>(wrapped) {
     override fun batchSize(batchSize: Int): SyncAggregateIterable<T> = apply { wrapped.batchSize(batchSize) }
 
+    override fun prefetchBatches(prefetchBatches: Int): SyncAggregateIterable<T> = this
+
+    override fun decodeLazily(decodeLazily: Boolean): SyncAggregateIterable<T> = this
+
     override fun toCollection() = runBlocking { wrapped.toCollection() }
 
     override fun allowDiskUse(allowDiskUse: Boolean?): SyncAggregateIterable<T> = apply {
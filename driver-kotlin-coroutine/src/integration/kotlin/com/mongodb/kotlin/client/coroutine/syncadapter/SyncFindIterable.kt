@@ -28,6 +28,11 @@ import org.bson.conversions.Bson
 
 data class SyncFindIterable<T : Any>(val wrapped: FindFlow<T>) : JFindIterable<T>, SyncMongoIterable<T>(wrapped) {
     override fun batchSize(batchSize: Int): SyncFindIterable<T> = apply { wrapped.batchSize(batchSize) }
+
+    override fun prefetchBatches(prefetchBatches: Int): SyncFindIterable<T> = this
+
+    override fun decodeLazily(decodeLazily: Boolean): SyncFindIterable<T> = this
+
     override fun filter(filter: Bson?): SyncFindIterable<T> = apply { wrapped.filter(filter) }
 
     override fun limit(limit: Int): SyncFindIterable<T> = apply { wrapped.limit(limit) }
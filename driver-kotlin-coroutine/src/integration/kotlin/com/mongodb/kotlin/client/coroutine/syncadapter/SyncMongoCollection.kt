@@ -55,6 +55,7 @@ import com.mongodb.client.result.InsertManyResult
 import com.mongodb.client.result.InsertOneResult
 import com.mongodb.client.result.UpdateResult
 import com.mongodb.kotlin.client.coroutine.MongoCollection
+import java.io.Reader
 import kotlinx.coroutines.flow.toCollection
 import kotlinx.coroutines.runBlocking
 import org.bson.Document
@@ -159,6 +160,18 @@ data class SyncMongoCollection<T : Any>(val wrapped: MongoCollection<T>) : JMong
     override fun <R : Any> find(clientSession: ClientSession, filter: Bson, resultClass: Class<R>): FindIterable<R> =
         SyncFindIterable(wrapped.find(clientSession.unwrapped(), filter, resultClass))
 
+    override fun parallelFind(filter: Bson, partitions: Int): List<FindIterable<T>> = throw UnsupportedOperationException()
+
+    override fun parallelFind(filter: Bson, fieldName: String, partitions: Int): List<FindIterable<T>> =
+        throw UnsupportedOperationException()
+
+    override fun <R : Any> parallelFind(
+        filter: Bson,
+        fieldName: String,
+        partitions: Int,
+        resultClass: Class<R>
+    ): List<FindIterable<R>> = throw UnsupportedOperationException()
+
     override fun aggregate(pipeline: MutableList<out Bson>): AggregateIterable<T> =
         SyncAggregateIterable(wrapped.aggregate(pipeline))
 
@@ -591,6 +604,21 @@ data class SyncMongoCollection<T : Any>(val wrapped: MongoCollection<T>) : JMong
         wrapped.insertMany(documents)
     }
 
+    override fun insertJson(reader: Reader, batchSize: Int): Long = throw UnsupportedOperationException()
+
+    override fun insertJson(reader: Reader, batchSize: Int, options: InsertManyOptions): Long =
+        throw UnsupportedOperationException()
+
+    override fun insertJson(clientSession: ClientSession, reader: Reader, batchSize: Int): Long =
+        throw UnsupportedOperationException()
+
+    override fun insertJson(
+        clientSession: ClientSession,
+        reader: Reader,
+        batchSize: Int,
+        options: InsertManyOptions
+    ): Long = throw UnsupportedOperationException()
+
     override fun insertOne(clientSession: ClientSession, document: T, options: InsertOneOptions): InsertOneResult =
         runBlocking {
             wrapped.insertOne(clientSession.unwrapped(), document, options)
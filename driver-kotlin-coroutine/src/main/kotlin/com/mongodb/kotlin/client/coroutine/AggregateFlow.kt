@@ -45,6 +45,17 @@ public class AggregateFlow<T : Any>(private val wrapped: AggregatePublisher<T>)
      */
     public fun batchSize(batchSize: Int): AggregateFlow<T> = apply { wrapped.batchSize(batchSize) }
 
+    /**
+     * Sets the number of bytes of documents that may be fetched ahead of the demand of the collector.
+     *
+     * With a positive value batches are sized by the demand and grow while the collector keeps up, and one more batch is fetched
+     * ahead once the demand has been met, all within the given budget.
+     *
+     * @param prefetchBytes the number of bytes, or 0, the default, to fetch only for demand
+     * @return this
+     */
+    public fun prefetchBytes(prefetchBytes: Int): AggregateFlow<T> = apply { wrapped.prefetchBytes(prefetchBytes) }
+
     /**
      * Aggregates documents according to the specified aggregation pipeline, which must end with a $out or $merge stage.
      *
@@ -199,5 +210,5 @@ public class AggregateFlow<T : Any>(private val wrapped: AggregatePublisher<T>)
     public suspend inline fun <reified R : Any> explain(verbosity: ExplainVerbosity? = null): R =
         explain(R::class.java, verbosity)
 
-    public override suspend fun collect(collector: FlowCollector<T>): Unit = wrapped.asFlow().collect(collector)
+    public override suspend fun collect(collector: FlowCollector<T>): Unit = wrapped.collectBatches(collector)
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.kotlin.client.coroutine
+
+import com.mongodb.internal.async.SingleResultCallback
+import com.mongodb.reactivestreams.client.internal.BatchCursor
+import com.mongodb.reactivestreams.client.internal.BatchCursorPublisher
+import com.mongodb.reactivestreams.client.internal.PrefetchBatchSizer
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
+import kotlinx.coroutines.flow.FlowCollector
+import kotlinx.coroutines.reactive.asFlow
+import kotlinx.coroutines.suspendCancellableCoroutine
+import org.reactivestreams.Publisher
+
+/**
+ * Collects the results of a publisher into the collector.
+ *
+ * When the publisher is backed by a batch cursor the cursor is driven directly: the collector suspends once per batch,
+ * while the batch is fetched, and then every result of the batch is emitted without any Reactive Streams signalling.
+ * Any other publisher is collected as a flow.
+ *
+ * A flow has no outstanding demand, so when the publisher has a prefetch byte budget every batch after the first is
+ * sized to the budget, using the average encoded size of the documents of the last batch, and capped by any set batch
+ * size.
+ */
+internal suspend fun <T : Any> Publisher<T>.collectBatches(collector: FlowCollector<T>) {
+    if (this !is BatchCursorPublisher<T>) {
+        asFlow().collect(collector)
+        return
+    }
+    val cursor = awaitBatchCursor()
+    val prefetchBatchSizer = if (prefetchBytes > 0) PrefetchBatchSizer(this) else null
+    try {
+        while (!cursor.isClosed) {
+            val results = cursor.awaitNext()
+            for (result in results) {
+                if (result != null) {
+                    collector.emit(result)
+                }
+            }
+            if (prefetchBatchSizer != null && results.isNotEmpty() && !cursor.isClosed) {
+                prefetchBatchSizer.recordBatch(cursor.lastBatchSizeInBytes, results.size, 0)
+                cursor.batchSize = prefetchBatchSizer.calculateBatchSize(0)
+            }
+        }
+    } finally {
+        cursor.close()
+    }
+}
+
+private suspend fun <T : Any> BatchCursorPublisher<T>.awaitBatchCursor(): BatchCursor<T> =
+    suspendCancellableCoroutine { continuation ->
+        batchCursor(batchSize ?: 0) { cursor, t ->
+            when {
+                t != null -> continuation.resumeWithException(t)
+                continuation.isActive -> continuation.resume(cursor)
+                // the collector was cancelled while the operation was executing
+                else -> cursor.close()
+            }
+        }
+    }
+
+private suspend fun <T : Any> BatchCursor<T>.awaitNext(): List<T?> =
+    suspendCancellableCoroutine { continuation ->
+        continuation.invokeOnCancellation { close() }
+        next(
+            SingleResultCallback<List<T>> { results, t ->
+                if (t != null) continuation.resumeWithException(t) else continuation.resume(results)
+            })
+    }
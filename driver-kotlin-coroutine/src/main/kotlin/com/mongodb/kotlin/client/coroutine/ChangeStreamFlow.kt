@@ -174,5 +174,5 @@ public class ChangeStreamFlow<T : Any>(private val wrapped: ChangeStreamPublishe
         wrapped.showExpandedEvents(showExpandedEvents)
     }
     public override suspend fun collect(collector: FlowCollector<ChangeStreamDocument<T>>): Unit =
-        wrapped.asFlow().collect(collector)
+        wrapped.collectBatches(collector)
 }
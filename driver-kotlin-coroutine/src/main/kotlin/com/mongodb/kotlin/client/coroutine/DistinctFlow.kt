@@ -87,5 +87,5 @@ public class DistinctFlow<T : Any>(private val wrapped: DistinctPublisher<T>) :
      */
     public fun comment(comment: BsonValue?): DistinctFlow<T> = apply { wrapped.comment(comment) }
 
-    public override suspend fun collect(collector: FlowCollector<T>): Unit = wrapped.asFlow().collect(collector)
+    public override suspend fun collect(collector: FlowCollector<T>): Unit = wrapped.collectBatches(collector)
 }
@@ -76,5 +76,5 @@ public class ListCollectionsFlow<T : Any>(private val wrapped: ListCollectionsPu
      */
     public fun comment(comment: BsonValue?): ListCollectionsFlow<T> = apply { wrapped.comment(comment) }
 
-    public override suspend fun collect(collector: FlowCollector<T>): Unit = wrapped.asFlow().collect(collector)
+    public override suspend fun collect(collector: FlowCollector<T>): Unit = wrapped.collectBatches(collector)
 }
@@ -94,5 +94,5 @@ public class ListDatabasesFlow<T : Any>(private val wrapped: ListDatabasesPublis
      */
     public fun comment(comment: BsonValue?): ListDatabasesFlow<T> = apply { wrapped.comment(comment) }
 
-    public override suspend fun collect(collector: FlowCollector<T>): Unit = wrapped.asFlow().collect(collector)
+    public override suspend fun collect(collector: FlowCollector<T>): Unit = wrapped.collectBatches(collector)
 }
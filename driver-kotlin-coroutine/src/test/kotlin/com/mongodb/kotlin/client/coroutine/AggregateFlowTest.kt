@@ -71,6 +71,7 @@ class AggregateFlowTest {
         flow.maxAwaitTime(1, TimeUnit.SECONDS)
         flow.maxTime(1)
         flow.maxTime(1, TimeUnit.SECONDS)
+        flow.prefetchBytes(1024)
 
         verify(wrapped).allowDiskUse(true)
         verify(wrapped).batchSize(batchSize)
@@ -84,6 +85,7 @@ class AggregateFlowTest {
         verify(wrapped).maxAwaitTime(1, TimeUnit.SECONDS)
         verify(wrapped).maxTime(1, TimeUnit.MILLISECONDS)
         verify(wrapped).maxTime(1, TimeUnit.SECONDS)
+        verify(wrapped).prefetchBytes(1024)
         verify(wrapped).let(bson)
 
         whenever(wrapped.explain(Document::class.java)).doReturn(Mono.fromCallable { Document() })
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.kotlin.client.coroutine
+
+import com.mongodb.MongoException
+import com.mongodb.internal.async.SingleResultCallback
+import com.mongodb.reactivestreams.client.internal.BatchCursor
+import com.mongodb.reactivestreams.client.internal.BatchCursorPublisher
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.bson.Document
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.*
+
+class BatchCursorFlowTest {
+    private val first = Document("_id", 1)
+    private val second = Document("_id", 2)
+    private val third = Document("_id", 3)
+
+    @Test
+    fun shouldEmitEveryResultOfEveryBatchAndCloseTheCursor() {
+        val cursor = cursorReturning(listOf(first, null, second), listOf(third))
+        val publisher = publisherReturning(cursor)
+
+        val results = runBlocking { flow { publisher.collectBatches(this) }.toList() }
+
+        assertEquals(listOf(first, second, third), results)
+        verify(publisher).batchCursor(eq(0), any())
+        verify(cursor, times(2)).next(any<SingleResultCallback<List<Document>>>())
+        verify(cursor).close()
+    }
+
+    @Test
+    fun shouldUseTheSetBatchSizeForTheInitialOperation() {
+        val cursor = cursorReturning(listOf(first))
+        val publisher = publisherReturning(cursor)
+        whenever(publisher.batchSize).doReturn(10)
+
+        runBlocking { flow { publisher.collectBatches(this) }.toList() }
+
+        verify(publisher).batchCursor(eq(10), any())
+    }
+
+    @Test
+    fun shouldSizeBatchesToThePrefetchBudget() {
+        val cursor = cursorReturning(listOf(first, second), listOf(third), listOf(first))
+        whenever(cursor.lastBatchSizeInBytes).doReturn(100, 25)
+        val publisher = publisherReturning(cursor)
+        whenever(publisher.prefetchBytes).doReturn(1000)
+
+        runBlocking { flow { publisher.collectBatches(this) }.toList() }
+
+        val batchSizes = argumentCaptor<Int>()
+        verify(cursor, times(2)).batchSize = batchSizes.capture()
+        assertEquals(listOf(20, 40), batchSizes.allValues)
+    }
+
+    @Test
+    fun shouldCapThePrefetchBudgetWithTheSetBatchSize() {
+        val cursor = cursorReturning(listOf(first, second), listOf(third))
+        whenever(cursor.lastBatchSizeInBytes).doReturn(100)
+        val publisher = publisherReturning(cursor)
+        whenever(publisher.prefetchBytes).doReturn(1000)
+        whenever(publisher.batchSize).doReturn(10)
+
+        runBlocking { flow { publisher.collectBatches(this) }.toList() }
+
+        verify(cursor).batchSize = 10
+    }
+
+    @Test
+    fun shouldNotSizeBatchesWithoutAPrefetchBudget() {
+        val cursor = cursorReturning(listOf(first, second), listOf(third))
+        val publisher = publisherReturning(cursor)
+
+        runBlocking { flow { publisher.collectBatches(this) }.toList() }
+
+        verify(cursor, never()).batchSize = any()
+    }
+
+    @Test
+    fun shouldCloseTheCursorWhenTheCollectorStopsEarly() {
+        val cursor = cursorReturning(listOf(first, second), listOf(third))
+        val publisher = publisherReturning(cursor)
+
+        val results = runBlocking { flow { publisher.collectBatches(this) }.take(1).toList() }
+
+        assertEquals(listOf(first), results)
+        verify(cursor, times(1)).next(any<SingleResultCallback<List<Document>>>())
+        verify(cursor).close()
+    }
+
+    @Test
+    fun shouldPropagateErrorsAndCloseTheCursor() {
+        val cursor: BatchCursor<Document> = mock()
+        whenever(cursor.isClosed).doReturn(false)
+        doAnswer { it.getArgument<SingleResultCallback<List<Document>>>(0).onResult(null, MongoException("failed")) }
+            .whenever(cursor)
+            .next(any<SingleResultCallback<List<Document>>>())
+        val publisher = publisherReturning(cursor)
+
+        assertFailsWith<MongoException> { runBlocking { flow { publisher.collectBatches(this) }.toList() } }
+        verify(cursor).close()
+    }
+
+    private fun publisherReturning(cursor: BatchCursor<Document>): BatchCursorPublisher<Document> {
+        val publisher: BatchCursorPublisher<Document> = mock()
+        doAnswer { it.getArgument<SingleResultCallback<BatchCursor<Document>>>(1).onResult(cursor, null) }
+            .whenever(publisher)
+            .batchCursor(any(), any<SingleResultCallback<BatchCursor<Document>>>())
+        return publisher
+    }
+
+    private fun cursorReturning(vararg batches: List<Document?>): BatchCursor<Document> {
+        val cursor: BatchCursor<Document> = mock()
+        var remaining = batches.toList()
+        whenever(cursor.isClosed).doAnswer { remaining.isEmpty() }
+        doAnswer {
+                val batch = remaining.first()
+                remaining = remaining.drop(1)
+                it.getArgument<SingleResultCallback<List<Document?>>>(0).onResult(batch, null)
+            }
+            .whenever(cursor)
+            .next(any<SingleResultCallback<List<Document>>>())
+        return cursor
+    }
+}
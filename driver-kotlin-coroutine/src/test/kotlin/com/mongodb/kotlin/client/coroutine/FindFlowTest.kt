@@ -73,6 +73,7 @@ class FindFlowTest {
         flow.min(bson)
         flow.noCursorTimeout(true)
         flow.partial(true)
+        flow.prefetchBytes(1024)
         flow.projection(bson)
         flow.returnKey(true)
         flow.showRecordId(true)
@@ -98,6 +99,7 @@ class FindFlowTest {
         verify(wrapped).min(bson)
         verify(wrapped).noCursorTimeout(true)
         verify(wrapped).partial(true)
+        verify(wrapped).prefetchBytes(1024)
         verify(wrapped).projection(bson)
         verify(wrapped).returnKey(true)
         verify(wrapped).showRecordId(true)
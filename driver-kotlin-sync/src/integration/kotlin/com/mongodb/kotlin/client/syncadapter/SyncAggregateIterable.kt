@@ -28,6 +28,12 @@ internal class SyncAggregateIterable<T : Any>(val wrapped: AggregateIterable<T>)
     JAggregateIterable<T>, SyncMongoIterable<T>(wrapped) {
     override fun batchSize(batchSize: Int): SyncAggregateIterable<T> = apply { wrapped.batchSize(batchSize) }
 
+    override fun prefetchBatches(prefetchBatches: Int): SyncAggregateIterable<T> = apply {
+        wrapped.prefetchBatches(prefetchBatches)
+    }
+
+    override fun decodeLazily(decodeLazily: Boolean): SyncAggregateIterable<T> = apply { wrapped.decodeLazily(decodeLazily) }
+
     override fun toCollection() = wrapped.toCollection()
 
     override fun allowDiskUse(allowDiskUse: Boolean?): SyncAggregateIterable<T> = apply {
@@ -28,6 +28,13 @@ import org.bson.conversions.Bson
 internal class SyncFindIterable<T : Any>(val wrapped: FindIterable<T>) :
     JFindIterable<T>, SyncMongoIterable<T>(wrapped) {
     override fun batchSize(batchSize: Int): SyncFindIterable<T> = apply { wrapped.batchSize(batchSize) }
+
+    override fun prefetchBatches(prefetchBatches: Int): SyncFindIterable<T> = apply {
+        wrapped.prefetchBatches(prefetchBatches)
+    }
+
+    override fun decodeLazily(decodeLazily: Boolean): SyncFindIterable<T> = apply { wrapped.decodeLazily(decodeLazily) }
+
     override fun filter(filter: Bson?): SyncFindIterable<T> = apply { wrapped.filter(filter) }
 
     override fun limit(limit: Int): SyncFindIterable<T> = apply { wrapped.limit(limit) }
@@ -55,6 +55,7 @@ import com.mongodb.client.result.InsertManyResult
 import com.mongodb.client.result.InsertOneResult
 import com.mongodb.client.result.UpdateResult
 import com.mongodb.kotlin.client.MongoCollection
+import java.io.Reader
 import java.lang.UnsupportedOperationException
 import org.bson.Document
 import org.bson.codecs.configuration.CodecRegistry
@@ -151,6 +152,19 @@ internal class SyncMongoCollection<T : Any>(val wrapped: MongoCollection<T>) : J
     override fun <R : Any> find(clientSession: ClientSession, filter: Bson, resultClass: Class<R>): FindIterable<R> =
         SyncFindIterable(wrapped.find(clientSession.unwrapped(), filter, resultClass))
 
+    override fun parallelFind(filter: Bson, partitions: Int): List<FindIterable<T>> =
+        parallelFind(filter, "_id", partitions, wrapped.documentClass)
+
+    override fun parallelFind(filter: Bson, fieldName: String, partitions: Int): List<FindIterable<T>> =
+        parallelFind(filter, fieldName, partitions, wrapped.documentClass)
+
+    override fun <R : Any> parallelFind(
+        filter: Bson,
+        fieldName: String,
+        partitions: Int,
+        resultClass: Class<R>
+    ): List<FindIterable<R>> = wrapped.parallelFind(filter, fieldName, partitions, resultClass).map { SyncFindIterable(it) }
+
     override fun aggregate(pipeline: MutableList<out Bson>): AggregateIterable<T> =
         SyncAggregateIterable(wrapped.aggregate(pipeline))
 
@@ -494,6 +508,21 @@ internal class SyncMongoCollection<T : Any>(val wrapped: MongoCollection<T>) : J
 
     override fun insertMany(documents: MutableList<out T>): InsertManyResult = wrapped.insertMany(documents)
 
+    override fun insertJson(reader: Reader, batchSize: Int): Long = wrapped.insertJson(reader, batchSize)
+
+    override fun insertJson(reader: Reader, batchSize: Int, options: InsertManyOptions): Long =
+        wrapped.insertJson(reader, batchSize, options)
+
+    override fun insertJson(clientSession: ClientSession, reader: Reader, batchSize: Int): Long =
+        wrapped.insertJson(clientSession.unwrapped(), reader, batchSize)
+
+    override fun insertJson(
+        clientSession: ClientSession,
+        reader: Reader,
+        batchSize: Int,
+        options: InsertManyOptions
+    ): Long = wrapped.insertJson(clientSession.unwrapped(), reader, batchSize, options)
+
     override fun insertOne(clientSession: ClientSession, document: T, options: InsertOneOptions): InsertOneResult =
         wrapped.insertOne(clientSession.unwrapped(), document, options)
 
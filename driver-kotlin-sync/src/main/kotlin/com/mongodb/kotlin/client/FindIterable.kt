@@ -40,6 +40,28 @@ public class FindIterable<T : Any>(private val wrapped: JFindIterable<T>) : Mong
      */
     public override fun batchSize(batchSize: Int): FindIterable<T> = apply { wrapped.batchSize(batchSize) }
 
+    /**
+     * Sets the maximum number of batches to fetch from the server ahead of the application.
+     *
+     * If positive, the cursor issues the next `getMore` in the background while the application consumes the current batch, and
+     * buffers up to this many batches. Prefetching is not done for operations executed with a [ClientSession].
+     *
+     * @param prefetchBatches the maximum number of batches to prefetch, or 0 to disable prefetching, which is the default
+     * @return this
+     */
+    public fun prefetchBatches(prefetchBatches: Int): FindIterable<T> = apply { wrapped.prefetchBatches(prefetchBatches) }
+
+    /**
+     * Sets whether to decode each result only when the cursor reaches it, rather than a whole batch as soon as it is received.
+     *
+     * If true, no work is spent decoding results that are never consumed, for example when iteration stops early. A result that can
+     * not be decoded is then reported when it is reached rather than when its batch is received.
+     *
+     * @param decodeLazily whether to decode each result only when it is reached, which defaults to false
+     * @return this
+     */
+    public fun decodeLazily(decodeLazily: Boolean): FindIterable<T> = apply { wrapped.decodeLazily(decodeLazily) }
+
     /**
      * Sets the query filter to apply to the query.
      *
@@ -44,6 +44,7 @@ import com.mongodb.client.result.DeleteResult
 import com.mongodb.client.result.InsertManyResult
 import com.mongodb.client.result.InsertOneResult
 import com.mongodb.client.result.UpdateResult
+import java.io.Reader
 import java.util.concurrent.TimeUnit
 import org.bson.BsonDocument
 import org.bson.Document
@@ -347,6 +348,65 @@ public class MongoCollection<T : Any>(private val wrapped: JMongoCollection<T>)
         filter: Bson = BsonDocument()
     ): FindIterable<R> = find(clientSession, filter, R::class.java)
 
+    /**
+     * Splits a scan of the documents matching the filter into independent finds over contiguous ranges of a field.
+     *
+     * The partition boundaries are computed eagerly by a `$bucketAuto` aggregation, and each returned iterable is bounded by
+     * `min` and `max` on the index of the field. The iterables may be iterated concurrently, each using its own connection.
+     *
+     * @param filter the query filter
+     * @param fieldName the name of the field to partition by, which must have an ascending single-field index
+     * @param partitions the maximum number of partitions, which must be positive
+     * @return one find iterable per partition, in ascending order of the field
+     * @see [$bucketAuto](https://www.mongodb.com/docs/manual/reference/operator/aggregation/bucketAuto/)
+     */
+    @JvmName("parallelFindAsT")
+    public fun parallelFind(
+        filter: Bson = BsonDocument(),
+        fieldName: String = "_id",
+        partitions: Int
+    ): List<FindIterable<T>> = parallelFind(filter, fieldName, partitions, documentClass)
+
+    /**
+     * Splits a scan of the documents matching the filter into independent finds over contiguous ranges of a field.
+     *
+     * The partition boundaries are computed eagerly by a `$bucketAuto` aggregation, and each returned iterable is bounded by
+     * `min` and `max` on the index of the field. The iterables may be iterated concurrently, each using its own connection.
+     *
+     * @param R the class to decode each document into
+     * @param filter the query filter
+     * @param fieldName the name of the field to partition by, which must have an ascending single-field index
+     * @param partitions the maximum number of partitions, which must be positive
+     * @param resultClass the target document type of the iterables.
+     * @return one find iterable per partition, in ascending order of the field
+     * @see [$bucketAuto](https://www.mongodb.com/docs/manual/reference/operator/aggregation/bucketAuto/)
+     */
+    public fun <R : Any> parallelFind(
+        filter: Bson = BsonDocument(),
+        fieldName: String = "_id",
+        partitions: Int,
+        resultClass: Class<R>
+    ): List<FindIterable<R>> = wrapped.parallelFind(filter, fieldName, partitions, resultClass).map { FindIterable(it) }
+
+    /**
+     * Splits a scan of the documents matching the filter into independent finds over contiguous ranges of a field.
+     *
+     * The partition boundaries are computed eagerly by a `$bucketAuto` aggregation, and each returned iterable is bounded by
+     * `min` and `max` on the index of the field. The iterables may be iterated concurrently, each using its own connection.
+     *
+     * @param R the class to decode each document into
+     * @param filter the query filter
+     * @param fieldName the name of the field to partition by, which must have an ascending single-field index
+     * @param partitions the maximum number of partitions, which must be positive
+     * @return one find iterable per partition, in ascending order of the field
+     * @see [$bucketAuto](https://www.mongodb.com/docs/manual/reference/operator/aggregation/bucketAuto/)
+     */
+    public inline fun <reified R : Any> parallelFind(
+        filter: Bson = BsonDocument(),
+        fieldName: String = "_id",
+        partitions: Int
+    ): List<FindIterable<R>> = parallelFind(filter, fieldName, partitions, R::class.java)
+
     /**
      * Aggregates documents according to the specified aggregation pipeline.
      *
@@ -574,6 +634,47 @@ public class MongoCollection<T : Any>(private val wrapped: JMongoCollection<T>)
         options: InsertManyOptions = InsertManyOptions()
     ): InsertManyResult = wrapped.insertMany(clientSession.wrapped, documents, options)
 
+    /**
+     * Inserts the documents read from a sequence of JSON documents, such as a newline-delimited JSON file, in batches.
+     *
+     * Each document is transcoded directly to a [org.bson.RawBsonDocument], so the document class and codec registry of
+     * this collection are not used. Each batch is inserted by a call to `insertMany` before the next batch is read.
+     *
+     * @param reader the reader of the JSON documents, which the application is responsible for closing
+     * @param batchSize the maximum number of documents to insert with each call to `insertMany`, which must be positive
+     * @param options the options to apply to each batch
+     * @return the number of documents inserted
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation of a batch
+     * @throws com.mongodb.MongoCommandException if the write of a batch failed due to a specific command exception
+     * @throws com.mongodb.MongoException if the write of a batch failed due some other failure
+     * @throws org.bson.json.JsonParseException if the JSON is invalid, or contains a value that is not a document
+     */
+    public fun insertJson(reader: Reader, batchSize: Int, options: InsertManyOptions = InsertManyOptions()): Long =
+        wrapped.insertJson(reader, batchSize, options)
+
+    /**
+     * Inserts the documents read from a sequence of JSON documents, such as a newline-delimited JSON file, in batches.
+     *
+     * Each document is transcoded directly to a [org.bson.RawBsonDocument], so the document class and codec registry of
+     * this collection are not used. Each batch is inserted by a call to `insertMany` before the next batch is read.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param reader the reader of the JSON documents, which the application is responsible for closing
+     * @param batchSize the maximum number of documents to insert with each call to `insertMany`, which must be positive
+     * @param options the options to apply to each batch
+     * @return the number of documents inserted
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation of a batch
+     * @throws com.mongodb.MongoCommandException if the write of a batch failed due to a specific command exception
+     * @throws com.mongodb.MongoException if the write of a batch failed due some other failure
+     * @throws org.bson.json.JsonParseException if the JSON is invalid, or contains a value that is not a document
+     */
+    public fun insertJson(
+        clientSession: ClientSession,
+        reader: Reader,
+        batchSize: Int,
+        options: InsertManyOptions = InsertManyOptions()
+    ): Long = wrapped.insertJson(clientSession.wrapped, reader, batchSize, options)
+
     /**
      * Update a single document in the collection according to the specified arguments.
      *
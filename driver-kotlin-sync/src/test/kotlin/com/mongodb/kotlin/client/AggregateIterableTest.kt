@@ -79,6 +79,8 @@ class AggregateIterableTest {
         iterable.maxAwaitTime(1, TimeUnit.SECONDS)
         iterable.maxTime(1)
         iterable.maxTime(1, TimeUnit.SECONDS)
+        iterable.prefetchBatches(2)
+        iterable.decodeLazily(true)
 
         verify(wrapped).allowDiskUse(true)
         verify(wrapped).batchSize(batchSize)
@@ -95,6 +97,8 @@ class AggregateIterableTest {
         verify(wrapped).maxAwaitTime(1, TimeUnit.SECONDS)
         verify(wrapped).maxTime(1, TimeUnit.MILLISECONDS)
         verify(wrapped).maxTime(1, TimeUnit.SECONDS)
+        verify(wrapped).prefetchBatches(2)
+        verify(wrapped).decodeLazily(true)
         verify(wrapped).let(bson)
 
         iterable.toCollection()
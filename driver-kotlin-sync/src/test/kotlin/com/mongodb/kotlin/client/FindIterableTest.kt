@@ -81,6 +81,8 @@ class FindIterableTest {
         iterable.min(bson)
         iterable.noCursorTimeout(true)
         iterable.partial(true)
+        iterable.prefetchBatches(2)
+        iterable.decodeLazily(true)
         iterable.projection(bson)
         iterable.returnKey(true)
         iterable.showRecordId(true)
@@ -109,6 +111,8 @@ class FindIterableTest {
         verify(wrapped).min(bson)
         verify(wrapped).noCursorTimeout(true)
         verify(wrapped).partial(true)
+        verify(wrapped).prefetchBatches(2)
+        verify(wrapped).decodeLazily(true)
         verify(wrapped).projection(bson)
         verify(wrapped).returnKey(true)
         verify(wrapped).showRecordId(true)
@@ -322,6 +322,27 @@ class MongoCollectionTest {
         verifyNoMoreInteractions(wrapped)
     }
 
+    @Test
+    fun shouldCallTheUnderlyingParallelFind() {
+        val mongoCollection = MongoCollection(wrapped)
+
+        whenever(wrapped.documentClass).doReturn(Document::class.java)
+        whenever(wrapped.parallelFind(defaultFilter, "_id", 4, Document::class.java)).doReturn(listOf(mock(), mock()))
+        whenever(wrapped.parallelFind(filter, "a", 4, Document::class.java)).doReturn(listOf(mock()))
+        whenever(wrapped.parallelFind(filter, "_id", 4, BsonDocument::class.java)).doReturn(listOf(mock()))
+
+        assertEquals(2, mongoCollection.parallelFind(partitions = 4).size)
+        mongoCollection.parallelFind(filter, "a", 4)
+        mongoCollection.parallelFind(filter, "a", 4, Document::class.java)
+        mongoCollection.parallelFind<BsonDocument>(filter, partitions = 4)
+
+        verify(wrapped, times(2)).documentClass
+        verify(wrapped, times(1)).parallelFind(defaultFilter, "_id", 4, Document::class.java)
+        verify(wrapped, times(2)).parallelFind(filter, "a", 4, Document::class.java)
+        verify(wrapped, times(1)).parallelFind(filter, "_id", 4, BsonDocument::class.java)
+        verifyNoMoreInteractions(wrapped)
+    }
+
     @Test
     fun shouldCallTheUnderlyingAggregate() {
         val mongoCollection = MongoCollection(wrapped)
@@ -256,6 +256,26 @@ public interface FindPublisher<TResult> extends Publisher<TResult> {
      */
     FindPublisher<TResult> batchSize(int batchSize);
 
+    /**
+     * Sets the number of bytes of documents that may be fetched ahead of the demand of the subscriber.
+     *
+     * <p>By default each batch is sized by the {@link org.reactivestreams.Subscription#request(long)} demand, and the next batch is not
+     * requested until there is more demand.  With a positive value batches are instead sized as follows, converting the budget into a
+     * number of documents by the average encoded size of the documents of the previous batch:</p>
+     * <ul>
+     *     <li>batches fetched for demand are capped by the demand, and by the batch size if one is set, and grow beyond it while
+     *     the subscriber consumes results faster than they are fetched, but by no more than the budget.</li>
+     *     <li>once the demand has been met, one more batch of at most the budget is fetched and buffered, so that the next request does
+     *     not wait for the server.</li>
+     * </ul>
+     * <p>The memory used by buffered documents is therefore bounded by roughly the budget.</p>
+     *
+     * @param prefetchBytes the number of bytes, or 0, the default, to fetch only for demand
+     * @return this
+     * @since 5.2
+     */
+    FindPublisher<TResult> prefetchBytes(int prefetchBytes);
+
     /**
      * Enables writing to temporary files on the server. When set to true, the server
      * can write temporary data to disk while executing the find operation.
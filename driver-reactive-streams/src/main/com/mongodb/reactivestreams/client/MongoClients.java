@@ -28,6 +28,7 @@ import com.mongodb.internal.connection.InternalConnectionPoolSettings;
 import com.mongodb.internal.connection.StreamFactory;
 import com.mongodb.internal.connection.StreamFactoryFactory;
 import com.mongodb.internal.connection.TlsChannelStreamFactoryFactory;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.lang.Nullable;
 import com.mongodb.reactivestreams.client.internal.MongoClientImpl;
 import com.mongodb.spi.dns.InetAddressResolver;
@@ -152,7 +153,8 @@ public final class MongoClients {
                 InternalConnectionPoolSettings.builder().prestartAsyncWorkManager(true).build(),
                 streamFactory, heartbeatStreamFactory, settings.getCredential(), settings.getLoggerSettings(),
                 getCommandListener(settings.getCommandListeners()), settings.getApplicationName(), mongoDriverInformation,
-                settings.getCompressorList(), settings.getServerApi(), settings.getDnsClient());
+                settings.getCompressorList(), settings.getServerApi(), settings.getDnsClient(), settings.getFieldNameCache(),
+                settings.getCompressionPolicy(), ThreadMode.of(settings.isVirtualThreads()));
     }
 
     private static MongoDriverInformation wrapMongoDriverInformation(@Nullable final MongoDriverInformation mongoDriverInformation) {
@@ -74,6 +74,12 @@ final class AggregatePublisherImpl<T> extends BatchCursorPublisher<T> implements
         return this;
     }
 
+    @Override
+    public AggregatePublisher<T> prefetchBytes(final int prefetchBytes) {
+        super.prefetchBytes(prefetchBytes);
+        return this;
+    }
+
     @Override
     public AggregatePublisher<T> maxTime(final long maxTime, final TimeUnit timeUnit) {
         notNull("timeUnit", timeUnit);
@@ -16,6 +16,7 @@
 package com.mongodb.reactivestreams.client.internal;
 
 import com.mongodb.internal.async.AsyncBatchCursor;
+import com.mongodb.internal.async.SingleResultCallback;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
@@ -51,6 +52,15 @@ public class BatchCursor<T> implements AutoCloseable {
                 }));
     }
 
+    /**
+     * Fetches the next batch of results without going through a {@link Publisher}, for callers that do their own signalling.
+     *
+     * @param callback the callback to receive the next batch of results
+     */
+    public void next(final SingleResultCallback<List<T>> callback) {
+        wrapped.next(callback);
+    }
+
     public void setBatchSize(final int batchSize) {
         wrapped.setBatchSize(batchSize);
     }
@@ -59,6 +69,10 @@ public class BatchCursor<T> implements AutoCloseable {
         return wrapped.getBatchSize();
     }
 
+    public int getLastBatchSizeInBytes() {
+        return wrapped.getLastBatchSizeInBytes();
+    }
+
     public boolean isClosed() {
         return wrapped.isClosed();
     }
@@ -24,13 +24,29 @@ import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Emits the results of a batch cursor, fetching batches as the subscriber requests them.
+ *
+ * <p>By default the size of each batch is the outstanding demand, unless a batch size has been set.  If a prefetch byte budget has been
+ * set, batches are instead sized as follows, using the average encoded size of the documents of the last batch to convert the budget
+ * into a number of documents:</p>
+ * <ul>
+ *     <li>a batch fetched for outstanding demand is the demand, capped by any set batch size.  While batches keep leaving demand
+ *     outstanding, that is while the subscriber is waiting on the cursor, the demand is multiplied by a factor that doubles up to
+ *     {@value PrefetchBatchSizer#MAX_GROWTH_FACTOR}, and the factor is halved again whenever a batch exceeds the demand.  Documents
+ *     fetched beyond the demand never exceed the budget.</li>
+ *     <li>once the demand has been met, one more batch, of at most the budget, is prefetched and buffered, so that the next request
+ *     does not wait for a round trip.</li>
+ * </ul>
+ */
 class BatchCursorFlux<T> implements Publisher<T> {
-
     private final BatchCursorPublisher<T> batchCursorPublisher;
+    private final PrefetchBatchSizer prefetchBatchSizer;
     private final AtomicBoolean inProgress = new AtomicBoolean(false);
     private final AtomicLong demandDelta = new AtomicLong(0);
     private volatile BatchCursor<T> batchCursor;
@@ -38,6 +54,7 @@ class BatchCursorFlux<T> implements Publisher<T> {
 
     BatchCursorFlux(final BatchCursorPublisher<T> batchCursorPublisher) {
         this.batchCursorPublisher = batchCursorPublisher;
+        this.prefetchBatchSizer = new PrefetchBatchSizer(batchCursorPublisher);
     }
 
     @Override
@@ -45,9 +62,10 @@ class BatchCursorFlux<T> implements Publisher<T> {
         Flux.<T>create(sink -> {
             this.sink = sink;
             sink.onRequest(demand -> {
-                if (calculateDemand(demand) > 0 && inProgress.compareAndSet(false, true)) {
+                if ((calculateDemand(demand) > 0 || canPrefetch()) && inProgress.compareAndSet(false, true)) {
                     if (batchCursor == null) {
-                        int batchSize = calculateBatchSize(sink.requestedFromDownstream());
+                        int batchSize = isPrefetching() ? calculatePrefetchingBatchSize(demandDelta.get())
+                                : calculateBatchSize(sink.requestedFromDownstream());
                         Context initialContext =  subscriber instanceof CoreSubscriber<?>
                                 ? ((CoreSubscriber<?>) subscriber).currentContext() : null;
                         batchCursorPublisher.batchCursor(batchSize).subscribe(bc -> {
@@ -80,11 +98,12 @@ class BatchCursorFlux<T> implements Publisher<T> {
     }
 
     private void recurseCursor(){
-        if (!sink.isCancelled() && sink.requestedFromDownstream() > 0 && inProgress.compareAndSet(false, true)) {
+        if (!sink.isCancelled() && hasDemandToFetchFor() && inProgress.compareAndSet(false, true)) {
             if (batchCursor.isClosed()) {
                 sink.complete();
             } else {
-                batchCursor.setBatchSize(calculateBatchSize(sink.requestedFromDownstream()));
+                batchCursor.setBatchSize(isPrefetching() ? calculatePrefetchingBatchSize(demandDelta.get())
+                        : calculateBatchSize(sink.requestedFromDownstream()));
                 Mono.from(batchCursor.next(() -> sink.isCancelled()))
                         .doOnCancel(this::closeCursor)
                         .subscribe(results -> {
@@ -93,7 +112,10 @@ class BatchCursorFlux<T> implements Publisher<T> {
                                                 .stream()
                                                 .filter(Objects::nonNull)
                                                 .forEach(sink::next);
-                                        calculateDemand(-results.size());
+                                        long remainingDemand = calculateDemand(-results.size());
+                                        if (isPrefetching()) {
+                                            recordBatch(results, remainingDemand);
+                                        }
                                     }
                                     if (batchCursor.isClosed()) {
                                         sink.complete();
@@ -113,6 +135,35 @@ class BatchCursorFlux<T> implements Publisher<T> {
         }
     }
 
+    private boolean isPrefetching() {
+        return batchCursorPublisher.getPrefetchBytes() > 0;
+    }
+
+    private boolean hasDemandToFetchFor() {
+        if (isPrefetching()) {
+            return demandDelta.get() > 0 || canPrefetch();
+        }
+        return sink.requestedFromDownstream() > 0;
+    }
+
+    /**
+     * Returns whether the demand has been met exactly, so that nothing is buffered, and a batch may be prefetched within the budget.
+     */
+    private boolean canPrefetch() {
+        return isPrefetching() && demandDelta.get() == 0 && getPrefetchBudget() > 0;
+    }
+
+    private void recordBatch(final List<T> results, final long remainingDemand) {
+        prefetchBatchSizer.recordBatch(batchCursor.getLastBatchSizeInBytes(), results.size(), remainingDemand);
+    }
+
+    /**
+     * @return the number of documents that fit in the prefetch budget, or 0 if the size of the documents is not yet known
+     */
+    int getPrefetchBudget() {
+        return prefetchBatchSizer.getPrefetchBudget();
+    }
+
     long calculateDemand(final long demand) {
         return demandDelta.accumulateAndGet(demand, (originalValue, update) -> {
             long newValue = originalValue + update;
@@ -130,4 +181,8 @@ class BatchCursorFlux<T> implements Publisher<T> {
         return Math.max(2, (int) demand);
     }
 
+    int calculatePrefetchingBatchSize(final long demand) {
+        return prefetchBatchSizer.calculateBatchSize(demand);
+    }
+
 }
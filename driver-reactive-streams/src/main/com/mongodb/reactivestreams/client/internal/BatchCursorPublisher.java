@@ -20,6 +20,7 @@ import com.mongodb.MongoNamespace;
 import com.mongodb.ReadPreference;
 import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.async.AsyncBatchCursor;
+import com.mongodb.internal.async.SingleResultCallback;
 import com.mongodb.internal.operation.AsyncOperations;
 import com.mongodb.internal.operation.AsyncReadOperation;
 import com.mongodb.lang.Nullable;
@@ -32,6 +33,7 @@ import reactor.core.publisher.Mono;
 import java.util.function.Supplier;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PROTECTED)
@@ -39,6 +41,7 @@ public abstract class BatchCursorPublisher<T> implements Publisher<T> {
     private final ClientSession clientSession;
     private final MongoOperationPublisher<T> mongoOperationPublisher;
     private Integer batchSize;
+    private int prefetchBytes;
 
     BatchCursorPublisher(@Nullable final ClientSession clientSession, final MongoOperationPublisher<T> mongoOperationPublisher) {
         this(clientSession, mongoOperationPublisher, null);
@@ -101,6 +104,16 @@ public abstract class BatchCursorPublisher<T> implements Publisher<T> {
         return this;
     }
 
+    public int getPrefetchBytes() {
+        return prefetchBytes;
+    }
+
+    public Publisher<T> prefetchBytes(final int prefetchBytes) {
+        isTrueArgument("prefetchBytes >= 0", prefetchBytes >= 0);
+        this.prefetchBytes = prefetchBytes;
+        return this;
+    }
+
     public Publisher<T> first() {
         return batchCursor(this::asAsyncFirstReadOperation)
                 .flatMap(batchCursor -> Mono.create(sink -> {
@@ -129,6 +142,16 @@ public abstract class BatchCursorPublisher<T> implements Publisher<T> {
         return batchCursor(() -> asAsyncReadOperation(initialBatchSize));
     }
 
+    /**
+     * Executes the operation and passes the resulting cursor to the callback, for callers that do not use Project Reactor.
+     *
+     * @param initialBatchSize the batch size of the initial operation
+     * @param callback the callback to receive the cursor, which the caller must close
+     */
+    public void batchCursor(final int initialBatchSize, final SingleResultCallback<BatchCursor<T>> callback) {
+        batchCursor(initialBatchSize).subscribe(batchCursor -> callback.onResult(batchCursor, null), t -> callback.onResult(null, t));
+    }
+
     Mono<BatchCursor<T>> batchCursor(final Supplier<AsyncReadOperation<AsyncBatchCursor<T>>> supplier) {
         return mongoOperationPublisher.createReadOperationMono(supplier, clientSession).map(BatchCursor::new);
     }
@@ -86,6 +86,12 @@ final class FindPublisherImpl<T> extends BatchCursorPublisher<T> implements Find
         return this;
     }
 
+    @Override
+    public FindPublisher<T> prefetchBytes(final int prefetchBytes) {
+        super.prefetchBytes(prefetchBytes);
+        return this;
+    }
+
     @Override
     public FindPublisher<T> collation(@Nullable final Collation collation) {
         findOptions.collation(collation);
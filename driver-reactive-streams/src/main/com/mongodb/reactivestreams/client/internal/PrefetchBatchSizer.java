@@ -0,0 +1,88 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.reactivestreams.client.internal;
+
+/**
+ * Sizes the batches of a cursor whose publisher has a prefetch byte budget, using the average encoded size of the documents of the
+ * last batch to convert the budget into a number of documents.
+ *
+ * <p>A batch fetched for outstanding demand is the demand, multiplied by a growth factor while batches keep leaving demand
+ * outstanding, and never exceeds the demand by more than the budget.  A batch fetched without outstanding demand is the budget.  See
+ * {@link BatchCursorFlux} for how the growth factor changes.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class PrefetchBatchSizer {
+    static final int MAX_GROWTH_FACTOR = 8;
+
+    private final BatchCursorPublisher<?> batchCursorPublisher;
+    private volatile int averageDocumentSize;
+    private volatile int growthFactor = 1;
+
+    public PrefetchBatchSizer(final BatchCursorPublisher<?> batchCursorPublisher) {
+        this.batchCursorPublisher = batchCursorPublisher;
+    }
+
+    /**
+     * Records the size of the last batch.
+     *
+     * @param batchSizeInBytes the encoded size of the batch, or 0 if it is not known
+     * @param documentCount the number of documents in the batch, which must be positive
+     * @param remainingDemand the demand outstanding after the batch, which is negative if the batch exceeded the demand
+     */
+    public void recordBatch(final int batchSizeInBytes, final int documentCount, final long remainingDemand) {
+        if (batchSizeInBytes > 0) {
+            averageDocumentSize = Math.max(1, batchSizeInBytes / documentCount);
+        }
+        if (remainingDemand > 0) {
+            growthFactor = Math.min(MAX_GROWTH_FACTOR, growthFactor * 2);
+        } else if (remainingDemand < 0 && remainingDemand + documentCount > 0) {
+            // only a batch fetched for demand can exceed it, a prefetched batch is meant to
+            growthFactor = Math.max(1, growthFactor / 2);
+        }
+    }
+
+    /**
+     * @return the number of documents that fit in the prefetch budget, or 0 if the size of the documents is not yet known
+     */
+    public int getPrefetchBudget() {
+        int localAverageDocumentSize = averageDocumentSize;
+        return localAverageDocumentSize == 0 ? 0 : Math.max(1, batchCursorPublisher.getPrefetchBytes() / localAverageDocumentSize);
+    }
+
+    /**
+     * @param demand the outstanding demand, or 0 to prefetch a batch of at most the budget
+     * @return the size of the next batch, capped by any set batch size
+     */
+    public int calculateBatchSize(final long demand) {
+        long batchSize;
+        if (demand > 0) {
+            long grownDemand = demand > Long.MAX_VALUE / growthFactor ? Long.MAX_VALUE : demand * growthFactor;
+            batchSize = Math.min(grownDemand, demand + getPrefetchBudget());
+            if (batchSize < 0) {
+                batchSize = Long.MAX_VALUE;
+            }
+        } else {
+            batchSize = getPrefetchBudget();
+        }
+        Integer setBatchSize = batchCursorPublisher.getBatchSize();
+        if (setBatchSize != null && setBatchSize > 0) {
+            batchSize = Math.min(batchSize, setBatchSize);
+        }
+        return (int) Math.max(2, Math.min(batchSize, Integer.MAX_VALUE));
+    }
+}
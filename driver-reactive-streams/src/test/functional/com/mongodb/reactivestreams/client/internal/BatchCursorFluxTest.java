@@ -252,6 +252,25 @@ public class BatchCursorFluxTest {
         assertCommandNames(singletonList("find"));
     }
 
+    @Test
+    public void testBatchCursorPrefetchesWithinTheBudget() {
+        List<Document> docs = createDocs(200);
+        Mono.from(collection.insertMany(docs)).block(TIMEOUT_DURATION);
+
+        TestSubscriber<Document> subscriber = new TestSubscriber<>();
+        collection.find().prefetchBytes(1 << 20).subscribe(subscriber);
+        assertCommandNames(emptyList());
+
+        for (int i = 1; i <= 10; i++) {
+            subscriber.requestMore(20);
+            subscriber.assertReceivedOnNext(docs.subList(0, i * 20));
+        }
+        subscriber.requestMore(1);
+        subscriber.assertNoErrors();
+        subscriber.assertTerminalEvent();
+        assertCommandNames(asList("find", "getMore"));
+    }
+
     @Test
     public void testCalculateDemand() {
         BatchCursorFlux<Document> batchCursorFlux = new BatchCursorFlux<>(batchCursorPublisher);
@@ -289,6 +308,25 @@ public class BatchCursorFluxTest {
 
     }
 
+    @Test
+    public void testCalculatePrefetchingBatchSize() {
+        BatchCursorFlux<Document> batchCursorFlux = new BatchCursorFlux<>(batchCursorPublisher);
+
+        when(batchCursorPublisher.getBatchSize()).thenReturn(null);
+        assertAll("Calculating prefetching batch size with dynamic batch size",
+                () -> assertEquals(2, batchCursorFlux.calculatePrefetchingBatchSize(1)),
+                () -> assertEquals(1000, batchCursorFlux.calculatePrefetchingBatchSize(1000)),
+                () -> assertEquals(Integer.MAX_VALUE, batchCursorFlux.calculatePrefetchingBatchSize(Long.MAX_VALUE))
+        );
+
+        when(batchCursorPublisher.getBatchSize()).thenReturn(10);
+        assertAll("Calculating prefetching batch size with set batch size",
+                () -> assertEquals(10, batchCursorFlux.calculatePrefetchingBatchSize(100)),
+                () -> assertEquals(10, batchCursorFlux.calculatePrefetchingBatchSize(Long.MAX_VALUE)),
+                () -> assertEquals(5, batchCursorFlux.calculatePrefetchingBatchSize(5))
+        );
+    }
+
     @Test
     @DisplayName("ChangeStreamPublisher for a collection must complete after dropping the collection")
     void changeStreamPublisherCompletesAfterDroppingCollection() {
@@ -57,6 +57,18 @@ class SyncAggregateIterable<T> extends SyncMongoIterable<T> implements Aggregate
         return this;
     }
 
+    @Override
+    public AggregateIterable<T> prefetchBatches(final int prefetchBatches) {
+        // the reactive streams driver requests batches according to demand, so there is nothing to prefetch
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<T> decodeLazily(final boolean decodeLazily) {
+        // the reactive streams driver does not support decoding lazily
+        return this;
+    }
+
     @Override
     public AggregateIterable<T> maxTime(final long maxTime, final TimeUnit timeUnit) {
         wrapped.maxTime(maxTime, timeUnit);
@@ -108,6 +108,18 @@ class SyncFindIterable<T> extends SyncMongoIterable<T> implements FindIterable<T
         return this;
     }
 
+    @Override
+    public FindIterable<T> prefetchBatches(final int prefetchBatches) {
+        // the reactive streams driver requests batches according to demand, so there is nothing to prefetch
+        return this;
+    }
+
+    @Override
+    public FindIterable<T> decodeLazily(final boolean decodeLazily) {
+        // the reactive streams driver does not support decoding lazily
+        return this;
+    }
+
     @Override
     public FindIterable<T> collation(@Nullable final Collation collation) {
         wrapped.collation(collation);
@@ -58,6 +58,7 @@ import org.bson.conversions.Bson;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.Reader;
 import java.util.List;
 
 import static com.mongodb.ClusterFixture.TIMEOUT_DURATION;
@@ -231,6 +232,22 @@ class SyncMongoCollection<T> implements MongoCollection<T> {
         return new SyncFindIterable<>(wrapped.find(unwrap(clientSession), filter, resultClass));
     }
 
+    @Override
+    public List<FindIterable<T>> parallelFind(final Bson filter, final int partitions) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<FindIterable<T>> parallelFind(final Bson filter, final String fieldName, final int partitions) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <TResult> List<FindIterable<TResult>> parallelFind(final Bson filter, final String fieldName, final int partitions,
+            final Class<TResult> resultClass) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public AggregateIterable<T> aggregate(final List<? extends Bson> pipeline) {
         return new SyncAggregateIterable<>(wrapped.aggregate(pipeline, wrapped.getDocumentClass()));
@@ -390,6 +407,27 @@ class SyncMongoCollection<T> implements MongoCollection<T> {
         return requireNonNull(Mono.from(wrapped.insertMany(unwrap(clientSession), documents, options)).contextWrite(CONTEXT).block(TIMEOUT_DURATION));
     }
 
+    @Override
+    public long insertJson(final Reader reader, final int batchSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long insertJson(final Reader reader, final int batchSize, final InsertManyOptions options) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long insertJson(final ClientSession clientSession, final Reader reader, final int batchSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long insertJson(final ClientSession clientSession, final Reader reader, final int batchSize,
+            final InsertManyOptions options) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public DeleteResult deleteOne(final Bson filter) {
         return requireNonNull(Mono.from(wrapped.deleteOne(filter)).contextWrite(CONTEXT).block(TIMEOUT_DURATION));
@@ -42,6 +42,10 @@ case class SyncAggregateIterable[T](wrapped: AggregateObservable[T])
     this
   }
 
+  override def prefetchBatches(prefetchBatches: Int): AggregateIterable[T] = this
+
+  override def decodeLazily(decodeLazily: Boolean): AggregateIterable[T] = this
+
   override def maxTime(maxTime: Long, timeUnit: TimeUnit): AggregateIterable[T] = {
     wrapped.maxTime(maxTime, timeUnit)
     this
@@ -84,6 +84,10 @@ case class SyncFindIterable[T](wrapped: FindObservable[T]) extends SyncMongoIter
     this
   }
 
+  override def prefetchBatches(prefetchBatches: Int): FindIterable[T] = this
+
+  override def decodeLazily(decodeLazily: Boolean): FindIterable[T] = this
+
   override def collation(collation: Collation): FindIterable[T] = {
     wrapped.collation(collation)
     this
@@ -33,6 +33,7 @@ import org.mongodb.scala.MongoCollection
 import org.mongodb.scala.bson.DefaultHelper.DefaultsTo
 import org.mongodb.scala.result.{ InsertManyResult, InsertOneResult }
 
+import java.io.Reader
 import java.util
 import scala.collection.JavaConverters._
 import scala.reflect.ClassTag
@@ -145,6 +146,13 @@ case class SyncMongoCollection[T](wrapped: MongoCollection[T]) extends JMongoCol
         .find[TResult](unwrap(clientSession), filter)(DefaultsTo.overrideDefault[TResult, T], ClassTag(resultClass))
     )
 
+  override def parallelFind(filter: Bson, partitions: Int) = throw new UnsupportedOperationException
+
+  override def parallelFind(filter: Bson, fieldName: String, partitions: Int) = throw new UnsupportedOperationException
+
+  override def parallelFind[TResult](filter: Bson, fieldName: String, partitions: Int, resultClass: Class[TResult]) =
+    throw new UnsupportedOperationException
+
   override def aggregate(pipeline: java.util.List[_ <: Bson]) =
     SyncAggregateIterable[T](
       wrapped.aggregate(pipeline.asScala.toSeq)(DefaultsTo.default[T], ClassTag(getDocumentClass))
@@ -298,6 +306,15 @@ case class SyncMongoCollection[T](wrapped: MongoCollection[T]) extends JMongoCol
   ): InsertManyResult =
     wrapped.insertMany(unwrap(clientSession), documents.asScala.toSeq, options).toFuture().get()
 
+  override def insertJson(reader: Reader, batchSize: Int) = throw new UnsupportedOperationException
+
+  override def insertJson(reader: Reader, batchSize: Int, options: InsertManyOptions) = throw new UnsupportedOperationException
+
+  override def insertJson(clientSession: ClientSession, reader: Reader, batchSize: Int) = throw new UnsupportedOperationException
+
+  override def insertJson(clientSession: ClientSession, reader: Reader, batchSize: Int, options: InsertManyOptions) =
+    throw new UnsupportedOperationException
+
   override def deleteOne(filter: Bson): DeleteResult =
     wrapped.deleteOne(filter).toFuture().get()
 
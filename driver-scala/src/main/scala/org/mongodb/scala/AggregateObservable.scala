@@ -190,6 +190,21 @@ case class AggregateObservable[TResult](private val wrapped: AggregatePublisher[
     this
   }
 
+  /**
+   * Sets the number of bytes of documents that may be fetched ahead of the demand of the subscriber.
+   *
+   * With a positive value batches are sized by the demand and grow while the subscriber keeps up, and one more batch is fetched
+   * ahead once the demand has been met, all within the given budget.
+   *
+   * @param prefetchBytes the number of bytes, or 0, the default, to fetch only for demand
+   * @return this
+   * @since 5.2
+   */
+  def prefetchBytes(prefetchBytes: Int): AggregateObservable[TResult] = {
+    wrapped.prefetchBytes(prefetchBytes)
+    this
+  }
+
   /**
    * Aggregates documents according to the specified aggregation pipeline, which must end with a `\$out` stage.
    *
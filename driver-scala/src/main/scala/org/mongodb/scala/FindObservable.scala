@@ -315,6 +315,21 @@ case class FindObservable[TResult](private val wrapped: FindPublisher[TResult])
     this
   }
 
+  /**
+   * Sets the number of bytes of documents that may be fetched ahead of the demand of the subscriber.
+   *
+   * With a positive value batches are sized by the demand and grow while the subscriber keeps up, and one more batch is fetched
+   * ahead once the demand has been met, all within the given budget.
+   *
+   * @param prefetchBytes the number of bytes, or 0, the default, to fetch only for demand
+   * @return this
+   * @since 5.2
+   */
+  def prefetchBytes(prefetchBytes: Int): FindObservable[TResult] = {
+    wrapped.prefetchBytes(prefetchBytes)
+    this
+  }
+
   /**
    * Enables writing to temporary files on the server. When set to true, the server
    * can write temporary data to disk while executing the find operation.
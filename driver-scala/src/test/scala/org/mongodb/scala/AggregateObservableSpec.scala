@@ -57,6 +57,7 @@ class AggregateObservableSpec extends BaseSpec with MockitoSugar {
     observable.comment("comment")
     observable.hint(hint)
     observable.batchSize(batchSize)
+    observable.prefetchBytes(1024)
     observable.explain[Document]()
     observable.explain[Document](verbosity)
 
@@ -68,6 +69,7 @@ class AggregateObservableSpec extends BaseSpec with MockitoSugar {
     verify(wrapper).comment("comment")
     verify(wrapper).hint(hint)
     verify(wrapper).batchSize(batchSize)
+    verify(wrapper).prefetchBytes(1024)
     verify(wrapper).explain(ct)
     verify(wrapper).explain(ct, verbosity)
 
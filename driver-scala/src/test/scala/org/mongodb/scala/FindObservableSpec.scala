@@ -72,6 +72,7 @@ class FindObservableSpec extends BaseSpec with MockitoSugar {
     observable.skip(1)
     observable.sort(sort)
     observable.batchSize(batchSize)
+    observable.prefetchBytes(1024)
     observable.allowDiskUse(true)
     observable.explain[Document]()
     observable.explain[Document](verbosity)
@@ -90,6 +91,7 @@ class FindObservableSpec extends BaseSpec with MockitoSugar {
     verify(wrapper).skip(1)
     verify(wrapper).sort(sort)
     verify(wrapper).batchSize(batchSize)
+    verify(wrapper).prefetchBytes(1024)
     verify(wrapper).allowDiskUse(true)
     verify(wrapper).explain(ct)
     verify(wrapper).explain(ct, verbosity)
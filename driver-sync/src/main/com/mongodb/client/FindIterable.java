@@ -145,6 +145,38 @@ public interface FindIterable<TResult> extends MongoIterable<TResult> {
     @Override
     FindIterable<TResult> batchSize(int batchSize);
 
+    /**
+     * Sets the maximum number of batches to fetch from the server ahead of the application.
+     *
+     * <p>If positive, the cursor issues the next {@code getMore} in the background while the application consumes the current batch,
+     * and buffers up to this many batches, so that the application does not wait for a round trip at every batch boundary.  Use
+     * {@link #batchSize(int)} to bound the memory used by the buffered batches.  Prefetching is not done for operations executed
+     * with a {@link ClientSession}, as a session must not be used by more than one thread at a time.</p>
+     *
+     * <p>Default is 0, which disables prefetching.</p>
+     *
+     * @param prefetchBatches the maximum number of batches to prefetch, which must not be negative
+     * @return this
+     * @since 5.2
+     */
+    FindIterable<TResult> prefetchBatches(int prefetchBatches);
+
+    /**
+     * Sets whether to decode each result only when the cursor reaches it, rather than a whole batch as soon as it is received.
+     *
+     * <p>If true, each batch is kept in its encoded form and a result is decoded when it is first returned, so that no work is spent
+     * decoding results that are never consumed, for example when the application stops iterating early or skips results on the
+     * client.  A result that can not be decoded is then reported when it is reached rather than when its batch is received.  This has
+     * no effect if the results are {@link org.bson.RawBsonDocument}s, which are never decoded.</p>
+     *
+     * <p>Default is false.</p>
+     *
+     * @param decodeLazily whether to decode each result only when it is reached
+     * @return this
+     * @since 5.2
+     */
+    FindIterable<TResult> decodeLazily(boolean decodeLazily);
+
     /**
      * Sets the collation options
      *
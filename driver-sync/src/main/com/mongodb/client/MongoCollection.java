@@ -50,6 +50,7 @@ import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
+import java.io.Reader;
 import java.util.List;
 
 /**
@@ -491,6 +492,59 @@ public interface MongoCollection<TDocument> {
      */
     <TResult> FindIterable<TResult> find(ClientSession clientSession, Bson filter, Class<TResult> resultClass);
 
+    /**
+     * Splits a scan of the documents matching the filter into independent finds over contiguous ranges of {@code _id}.
+     *
+     * <p>The returned iterables together find each matching document exactly once, and may be iterated concurrently, in which case
+     * each uses its own connection.  See {@link #parallelFind(Bson, String, int, Class)} for details.</p>
+     *
+     * @param filter the query filter
+     * @param partitions the maximum number of partitions, which must be positive
+     * @return one find iterable per partition, in ascending order of {@code _id}
+     * @since 5.2
+     * @mongodb.driver.manual reference/operator/aggregation/bucketAuto/ $bucketAuto
+     */
+    List<FindIterable<TDocument>> parallelFind(Bson filter, int partitions);
+
+    /**
+     * Splits a scan of the documents matching the filter into independent finds over contiguous ranges of the given field.
+     *
+     * <p>See {@link #parallelFind(Bson, String, int, Class)} for details.</p>
+     *
+     * @param filter the query filter
+     * @param fieldName the name of the field to partition by, which must have an ascending single-field index
+     * @param partitions the maximum number of partitions, which must be positive
+     * @return one find iterable per partition, in ascending order of the field
+     * @since 5.2
+     * @mongodb.driver.manual reference/operator/aggregation/bucketAuto/ $bucketAuto
+     */
+    List<FindIterable<TDocument>> parallelFind(Bson filter, String fieldName, int partitions);
+
+    /**
+     * Splits a scan of the documents matching the filter into independent finds over contiguous ranges of the given field.
+     *
+     * <p>The partition boundaries are computed eagerly by a {@code $bucketAuto} aggregation over the matching values of the field,
+     * which reads only the index on the field if the filter is covered by it.  Each returned iterable is a find with the filter, a
+     * {@link FindIterable#hint(Bson) hint} of the index on the field, and {@link FindIterable#min(Bson) min} and
+     * {@link FindIterable#max(Bson) max} index bounds, so the partitions follow the index order, which is defined across BSON
+     * types.  The first partition has no lower bound and the last has no upper bound.  Fewer partitions are returned if there are
+     * fewer distinct values, and a single partition with no bounds if no documents match.</p>
+     *
+     * <p>The iterables may be iterated concurrently, in which case each uses its own connection.  For this reason there is no variant
+     * that takes a {@link ClientSession}, which must not be used concurrently.  Documents written during the scan may or may not be
+     * found.</p>
+     *
+     * @param filter the query filter
+     * @param fieldName the name of the field to partition by, which must have an ascending single-field index
+     * @param partitions the maximum number of partitions, which must be positive
+     * @param resultClass the class to decode each document into
+     * @param <TResult> the target document type of the iterables.
+     * @return one find iterable per partition, in ascending order of the field
+     * @since 5.2
+     * @mongodb.driver.manual reference/operator/aggregation/bucketAuto/ $bucketAuto
+     */
+    <TResult> List<FindIterable<TResult>> parallelFind(Bson filter, String fieldName, int partitions, Class<TResult> resultClass);
+
     /**
      * Aggregates documents according to the specified aggregation pipeline.
      *
@@ -874,6 +928,85 @@ public interface MongoCollection<TDocument> {
      */
     InsertManyResult insertMany(ClientSession clientSession, List<? extends TDocument> documents, InsertManyOptions options);
 
+    /**
+     * Inserts the documents read from a sequence of JSON documents, such as a newline-delimited JSON file, in batches.
+     *
+     * <p>See {@link #insertJson(ClientSession, Reader, int, InsertManyOptions)} for details.</p>
+     *
+     * @param reader the reader of the JSON documents, which the application is responsible for closing
+     * @param batchSize the maximum number of documents to insert with each call to {@code insertMany}, which must be positive
+     * @return the number of documents inserted
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation of a batch
+     * @throws com.mongodb.MongoCommandException   if the write of a batch failed due to a specific command exception
+     * @throws com.mongodb.MongoException          if the write of a batch failed due some other failure
+     * @throws org.bson.json.JsonParseException    if the JSON is invalid, or contains a value that is not a document
+     * @since 5.2
+     */
+    long insertJson(Reader reader, int batchSize);
+
+    /**
+     * Inserts the documents read from a sequence of JSON documents, such as a newline-delimited JSON file, in batches.
+     *
+     * <p>See {@link #insertJson(ClientSession, Reader, int, InsertManyOptions)} for details.</p>
+     *
+     * @param reader the reader of the JSON documents, which the application is responsible for closing
+     * @param batchSize the maximum number of documents to insert with each call to {@code insertMany}, which must be positive
+     * @param options   the options to apply to each batch
+     * @return the number of documents inserted
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation of a batch
+     * @throws com.mongodb.MongoCommandException   if the write of a batch failed due to a specific command exception
+     * @throws com.mongodb.MongoException          if the write of a batch failed due some other failure
+     * @throws org.bson.json.JsonParseException    if the JSON is invalid, or contains a value that is not a document
+     * @since 5.2
+     */
+    long insertJson(Reader reader, int batchSize, InsertManyOptions options);
+
+    /**
+     * Inserts the documents read from a sequence of JSON documents, such as a newline-delimited JSON file, in batches.
+     *
+     * <p>See {@link #insertJson(ClientSession, Reader, int, InsertManyOptions)} for details.</p>
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param reader the reader of the JSON documents, which the application is responsible for closing
+     * @param batchSize the maximum number of documents to insert with each call to {@code insertMany}, which must be positive
+     * @return the number of documents inserted
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation of a batch
+     * @throws com.mongodb.MongoCommandException   if the write of a batch failed due to a specific command exception
+     * @throws com.mongodb.MongoException          if the write of a batch failed due some other failure
+     * @throws org.bson.json.JsonParseException    if the JSON is invalid, or contains a value that is not a document
+     * @since 5.2
+     */
+    long insertJson(ClientSession clientSession, Reader reader, int batchSize);
+
+    /**
+     * Inserts the documents read from a sequence of JSON documents, such as a newline-delimited JSON file, in batches.
+     *
+     * <p>The documents are read in MongoDB Extended JSON format, and may be separated by any whitespace.  Each document is transcoded
+     * directly to a {@link org.bson.RawBsonDocument} by a {@link org.bson.json.JsonTranscoder}, so the document class and codec
+     * registry of this collection are not used, and no document tree is built.  Each batch is inserted by a call to
+     * {@code insertMany} before the next batch is read, so at most one batch is held in memory.  For example:</p>
+     * <pre>
+     * try (BufferedReader reader = Files.newBufferedReader(path)) {
+     *     collection.insertJson(reader, 1000, new InsertManyOptions().ordered(false));
+     * }
+     * </pre>
+     *
+     * <p>If the insert of a batch fails, the exception is thrown and no further documents are read.  The documents of any earlier
+     * batches remain inserted.</p>
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param reader the reader of the JSON documents, which the application is responsible for closing
+     * @param batchSize the maximum number of documents to insert with each call to {@code insertMany}, which must be positive
+     * @param options   the options to apply to each batch
+     * @return the number of documents inserted
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation of a batch
+     * @throws com.mongodb.MongoCommandException   if the write of a batch failed due to a specific command exception
+     * @throws com.mongodb.MongoException          if the write of a batch failed due some other failure
+     * @throws org.bson.json.JsonParseException    if the JSON is invalid, or contains a value that is not a document
+     * @since 5.2
+     */
+    long insertJson(ClientSession clientSession, Reader reader, int batchSize, InsertManyOptions options);
+
     /**
      * Removes at most one document from the collection that matches the given filter.  If no documents match, the collection is not
      * modified.
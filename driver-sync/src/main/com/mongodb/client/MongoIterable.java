@@ -20,6 +20,8 @@ import com.mongodb.Function;
 import com.mongodb.lang.Nullable;
 
 import java.util.Collection;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *The MongoIterable is the results from an operation, such as a query.
@@ -74,4 +76,20 @@ public interface MongoIterable<TResult> extends Iterable<TResult> {
      * @mongodb.driver.manual reference/method/cursor.batchSize/#cursor.batchSize Batch Size
      */
     MongoIterable<TResult> batchSize(int batchSize);
+
+    /**
+     * Creates a sequential {@link java.util.stream.Stream} of the results, which may be made parallel with
+     * {@link java.util.stream.Stream#parallel()}.
+     *
+     * <p>The query is executed when the stream is first used.  The iterables returned by the driver split off the results that have
+     * already been fetched, that is whole batches, so that in a parallel stream the results of a batch are processed by several
+     * threads while the next batch is fetched.  The cursor is closed once all the results have been consumed.  If the stream is not
+     * fully consumed it must be closed, for example with a try-with-resources statement, to close the cursor.</p>
+     *
+     * @return the stream
+     * @since 5.2
+     */
+    default Stream<TResult> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
@@ -26,8 +26,10 @@ import com.mongodb.lang.Nullable;
 import org.bson.conversions.Bson;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 class GridFSFindIterableImpl implements GridFSFindIterable {
     private final FindIterable<GridFSFile> underlying;
@@ -100,6 +102,16 @@ class GridFSFindIterableImpl implements GridFSFindIterable {
         return underlying.first();
     }
 
+    @Override
+    public Spliterator<GridFSFile> spliterator() {
+        return underlying.spliterator();
+    }
+
+    @Override
+    public Stream<GridFSFile> stream() {
+        return underlying.stream();
+    }
+
     @Override
     public <U> MongoIterable<U> map(final Function<GridFSFile, U> mapper) {
         return underlying.map(mapper);
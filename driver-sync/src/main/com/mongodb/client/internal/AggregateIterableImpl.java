@@ -35,6 +35,8 @@ import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
@@ -116,6 +118,18 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
         return this;
     }
 
+    @Override
+    public AggregateIterable<TResult> prefetchBatches(final int prefetchBatches) {
+        setPrefetchBatches(prefetchBatches);
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<TResult> decodeLazily(final boolean decodeLazily) {
+        setDecodeLazily(decodeLazily);
+        return this;
+    }
+
     @Override
     public AggregateIterable<TResult> maxTime(final long maxTime, final TimeUnit timeUnit) {
         notNull("timeUnit", timeUnit);
@@ -216,6 +230,21 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
         }
     }
 
+    @Override
+    ReadOperation<BatchCursor<RawBsonDocument>> asRawReadOperation() {
+        return operations.aggregateRaw(pipeline, maxTimeMS, maxAwaitTimeMS, getBatchSize(), collation, hint, hintString, comment,
+                variables, allowDiskUse, aggregationLevel);
+    }
+
+    /**
+     * The results of a pipeline that ends with $out or $merge are read by a separate find, so they are decoded by that find.
+     */
+    @Nullable
+    @Override
+    Decoder<TResult> getResultDecoder() {
+        return getOutNamespace() == null ? getSeparateDecoder(codecRegistry, resultClass) : null;
+    }
+
     private ExplainableReadOperation<BatchCursor<TResult>> asAggregateOperation() {
         return operations.aggregate(pipeline, resultClass, maxTimeMS, maxAwaitTimeMS, getBatchSize(), collation,
                 hint, hintString, comment, variables, allowDiskUse, aggregationLevel);
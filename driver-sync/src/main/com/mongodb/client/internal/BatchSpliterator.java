@@ -0,0 +1,190 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A late-binding {@link Spliterator} over the results of a {@link MongoCursor}, which splits off all the results that are available
+ * without blocking, that is whole fetched batches.  In a parallel stream the split off batches are processed by other threads while
+ * the thread that owns this spliterator fetches the next batch.
+ *
+ * <p>Each result is converted when it is consumed rather than when it is fetched, so that the conversion, typically decoding, runs on
+ * the thread that processes the result.  The cursor is closed once it is exhausted, or by {@link #close()}.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ *
+ * @param <S> the type of the results of the cursor
+ * @param <T> the type of the elements of this spliterator
+ */
+public final class BatchSpliterator<S, T> implements Spliterator<T> {
+    private final Supplier<? extends MongoCursor<S>> cursorSupplier;
+    private final Function<? super S, ? extends T> converter;
+    @Nullable
+    private MongoCursor<S> cursor;
+    private boolean closed;
+
+    /**
+     * @param cursorSupplier supplies the cursor when this spliterator is first used
+     * @param converter converts each result of the cursor into an element of this spliterator
+     */
+    public BatchSpliterator(final Supplier<? extends MongoCursor<S>> cursorSupplier, final Function<? super S, ? extends T> converter) {
+        this.cursorSupplier = notNull("cursorSupplier", cursorSupplier);
+        this.converter = notNull("converter", converter);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        MongoCursor<S> localCursor = nextOrClose();
+        if (localCursor == null) {
+            return false;
+        }
+        action.accept(converter.apply(localCursor.next()));
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public Spliterator<T> trySplit() {
+        MongoCursor<S> localCursor = nextOrClose();
+        if (localCursor == null) {
+            return null;
+        }
+        int size = Math.max(1, localCursor.available());
+        Object[] results = new Object[size];
+        for (int i = 0; i < size; i++) {
+            results[i] = localCursor.next();
+        }
+        return new Batch<>(results, 0, size, converter);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * @return a sequential stream of the elements of this spliterator, which closes the cursor when the stream is closed
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this, false).onClose(this::close);
+    }
+
+    /**
+     * Closes the cursor, if it has been created and is not yet exhausted.
+     */
+    public void close() {
+        closed = true;
+        if (cursor != null) {
+            cursor.close();
+            cursor = null;
+        }
+    }
+
+    /**
+     * @return the cursor if it has a next result, otherwise {@code null}, in which case the cursor has been closed.
+     */
+    @Nullable
+    private MongoCursor<S> nextOrClose() {
+        if (closed) {
+            return null;
+        }
+        if (cursor == null) {
+            cursor = cursorSupplier.get();
+        }
+        if (cursor.hasNext()) {
+            return cursor;
+        }
+        close();
+        return null;
+    }
+
+    private static final class Batch<S, T> implements Spliterator<T> {
+        private final Object[] results;
+        private final Function<? super S, ? extends T> converter;
+        private int position;
+        private final int end;
+
+        Batch(final Object[] results, final int position, final int end, final Function<? super S, ? extends T> converter) {
+            this.results = results;
+            this.position = position;
+            this.end = end;
+            this.converter = converter;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (position >= end) {
+                return false;
+            }
+            action.accept(convert(position++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            while (position < end) {
+                action.accept(convert(position++));
+            }
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (position + end) >>> 1;
+            if (middle <= position) {
+                return null;
+            }
+            Spliterator<T> prefix = new Batch<>(results, position, middle, converter);
+            position = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | SIZED | SUBSIZED;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T convert(final int index) {
+            S result = (S) results[index];
+            // release the result for garbage collection as soon as it has been converted
+            results[index] = null;
+            return converter.apply(result);
+        }
+    }
+}
@@ -27,10 +27,13 @@ import com.mongodb.client.model.Collation;
 import com.mongodb.internal.client.model.FindOptions;
 import com.mongodb.internal.operation.BatchCursor;
 import com.mongodb.internal.operation.ExplainableReadOperation;
+import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.SyncOperations;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
@@ -104,6 +107,18 @@ class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> im
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> prefetchBatches(final int prefetchBatches) {
+        setPrefetchBatches(prefetchBatches);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> decodeLazily(final boolean decodeLazily) {
+        setDecodeLazily(decodeLazily);
+        return this;
+    }
+
     @Override
     public FindIterable<TResult> collation(@Nullable final Collation collation) {
         findOptions.collation(collation);
@@ -239,4 +254,15 @@ class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> im
         return operations.find(filter, resultClass, findOptions);
     }
 
+    @Override
+    ReadOperation<BatchCursor<RawBsonDocument>> asRawReadOperation() {
+        return operations.findRaw(filter, findOptions);
+    }
+
+    @Nullable
+    @Override
+    Decoder<TResult> getResultDecoder() {
+        return getSeparateDecoder(codecRegistry, resultClass);
+    }
+
 }
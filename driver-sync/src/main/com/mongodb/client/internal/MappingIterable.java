@@ -22,7 +22,9 @@ import com.mongodb.client.MongoIterable;
 import com.mongodb.lang.Nullable;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
@@ -68,6 +70,16 @@ public class MappingIterable<U, V> implements MongoIterable<V> {
         return target;
     }
 
+    @Override
+    public Spliterator<V> spliterator() {
+        return new BatchSpliterator<>(iterable::iterator, mapper::apply);
+    }
+
+    @Override
+    public Stream<V> stream() {
+        return new BatchSpliterator<>(iterable::iterator, mapper::apply).stream();
+    }
+
     @Override
     public MappingIterable<U, V> batchSize(final int batchSize) {
         iterable.batchSize(batchSize);
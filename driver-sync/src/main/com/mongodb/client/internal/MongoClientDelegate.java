@@ -41,9 +41,13 @@ import com.mongodb.internal.connection.Cluster;
 import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.WriteOperation;
 import com.mongodb.internal.session.ServerSessionPool;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.lang.Nullable;
 import org.bson.codecs.configuration.CodecRegistry;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.mongodb.MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL;
@@ -57,6 +61,7 @@ final class MongoClientDelegate {
     private final ServerSessionPool serverSessionPool;
     private final Object originator;
     private final OperationExecutor operationExecutor;
+    private final ExecutorService backgroundExecutor;
     private final Crypt crypt;
     @Nullable
     private final ServerApi serverApi;
@@ -68,13 +73,14 @@ final class MongoClientDelegate {
     MongoClientDelegate(final Cluster cluster, final CodecRegistry codecRegistry,
                         final Object originator, @Nullable final OperationExecutor operationExecutor,
                         @Nullable final Crypt crypt, @Nullable final ServerApi serverApi,
-                        @Nullable final SynchronousContextProvider contextProvider) {
+                        @Nullable final SynchronousContextProvider contextProvider, final ThreadMode threadMode) {
         this.cluster = cluster;
         this.codecRegistry = codecRegistry;
         this.contextProvider = contextProvider;
         this.serverSessionPool = new ServerSessionPool(cluster, serverApi);
         this.originator = originator;
         this.operationExecutor = operationExecutor == null ? new DelegateOperationExecutor() : operationExecutor;
+        this.backgroundExecutor = Executors.newCachedThreadPool(new DaemonThreadFactory("MongoClientBackgroundTask", threadMode));
         this.crypt = crypt;
         this.serverApi = serverApi;
         this.closed = new AtomicBoolean();
@@ -105,6 +111,7 @@ final class MongoClientDelegate {
 
     public void close() {
         if (!closed.getAndSet(true)) {
+            backgroundExecutor.shutdownNow();
             if (crypt != null) {
                 crypt.close();
             }
@@ -136,6 +143,11 @@ final class MongoClientDelegate {
             return execute(operation, readConcern, null);
         }
 
+        @Override
+        public ExecutorService getBackgroundExecutor() {
+            return backgroundExecutor;
+        }
+
         @Override
         public <T> T execute(final ReadOperation<T> operation, final ReadPreference readPreference, final ReadConcern readConcern,
                              @Nullable final ClientSession session) {
@@ -41,6 +41,7 @@ import com.mongodb.internal.connection.StreamFactory;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.session.ServerSessionPool;
+import com.mongodb.internal.thread.ThreadMode;
 import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 import org.bson.BsonDocument;
@@ -87,7 +88,7 @@ public final class MongoClientImpl implements MongoClient {
         this.delegate = new MongoClientDelegate(notNull("cluster", cluster),
                 withUuidRepresentation(settings.getCodecRegistry(), settings.getUuidRepresentation()), this, operationExecutor,
                 autoEncryptionSettings == null ? null : createCrypt(this, autoEncryptionSettings), settings.getServerApi(),
-                (SynchronousContextProvider) settings.getContextProvider());
+                (SynchronousContextProvider) settings.getContextProvider(), ThreadMode.of(settings.isVirtualThreads()));
         BsonDocument clientMetadataDocument = createClientMetadataDocument(settings.getApplicationName(), mongoDriverInformation);
         LOGGER.info(format("MongoClient with metadata %s created with settings %s", clientMetadataDocument.toJson(), settings));
     }
@@ -224,7 +225,8 @@ public final class MongoClientImpl implements MongoClient {
                 getStreamFactory(settings, false), getStreamFactory(settings, true),
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
                 settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getDnsClient(), settings.getFieldNameCache(), settings.getCompressionPolicy(),
+                ThreadMode.of(settings.isVirtualThreads()));
     }
 
     private static StreamFactory getStreamFactory(final MongoClientSettings settings, final boolean isHeartbeat) {
@@ -36,6 +36,7 @@ import com.mongodb.client.FindIterable;
 import com.mongodb.client.ListIndexesIterable;
 import com.mongodb.client.ListSearchIndexesIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.CreateIndexOptions;
@@ -68,22 +69,29 @@ import com.mongodb.internal.operation.SyncOperations;
 import com.mongodb.internal.operation.WriteOperation;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.UuidRepresentation;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.bson.json.JsonTranscoder;
 
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.assertions.Assertions.notNullElements;
 import static com.mongodb.internal.bulk.WriteRequest.Type.DELETE;
 import static com.mongodb.internal.bulk.WriteRequest.Type.INSERT;
 import static com.mongodb.internal.bulk.WriteRequest.Type.REPLACE;
 import static com.mongodb.internal.bulk.WriteRequest.Type.UPDATE;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.bson.codecs.configuration.CodecRegistries.withUuidRepresentation;
 
@@ -300,6 +308,53 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         return createFindIterable(clientSession, filter, resultClass);
     }
 
+    @Override
+    public List<FindIterable<TDocument>> parallelFind(final Bson filter, final int partitions) {
+        return parallelFind(filter, "_id", partitions);
+    }
+
+    @Override
+    public List<FindIterable<TDocument>> parallelFind(final Bson filter, final String fieldName, final int partitions) {
+        return parallelFind(filter, fieldName, partitions, documentClass);
+    }
+
+    @Override
+    public <TResult> List<FindIterable<TResult>> parallelFind(final Bson filter, final String fieldName, final int partitions,
+                                                            final Class<TResult> resultClass) {
+        notNull("filter", filter);
+        notNull("fieldName", fieldName);
+        isTrueArgument("partitions > 0", partitions > 0);
+        notNull("resultClass", resultClass);
+        BsonDocument index = new BsonDocument(fieldName, new BsonInt32(1));
+        List<BsonValue> boundaries = new ArrayList<>();
+        if (partitions > 1) {
+            boolean firstBucket = true;
+            for (BsonDocument bucket : aggregate(asList(Aggregates.match(filter), Aggregates.bucketAuto("$" + fieldName, partitions)),
+                    BsonDocument.class).hint(index).allowDiskUse(true)) {
+                // the lower bound of each bucket but the first is the boundary between two partitions
+                if (!firstBucket) {
+                    boundaries.add(bucket.getDocument("_id").get("min"));
+                }
+                firstBucket = false;
+            }
+        }
+        if (boundaries.isEmpty()) {
+            return singletonList(createFindIterable(null, filter, resultClass));
+        }
+        List<FindIterable<TResult>> findIterables = new ArrayList<>(boundaries.size() + 1);
+        for (int i = 0; i <= boundaries.size(); i++) {
+            FindIterable<TResult> findIterable = createFindIterable(null, filter, resultClass).hint(index);
+            if (i > 0) {
+                findIterable.min(new BsonDocument(fieldName, boundaries.get(i - 1)));
+            }
+            if (i < boundaries.size()) {
+                findIterable.max(new BsonDocument(fieldName, boundaries.get(i)));
+            }
+            findIterables.add(findIterable);
+        }
+        return findIterables;
+    }
+
     private <TResult> FindIterable<TResult> createFindIterable(@Nullable final ClientSession clientSession, final Bson filter,
                                                                final Class<TResult> resultClass) {
         return new FindIterableImpl<>(clientSession, namespace, this.documentClass, resultClass, codecRegistry,
@@ -446,6 +501,10 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
                                              final List<? extends WriteModel<? extends TDocument>> requests,
                                              final BulkWriteOptions options) {
         notNull("requests", requests);
+        if (ParallelBulkWrite.isApplicable(clientSession, options.isOrdered(), options.getParallelism(), requests.size())) {
+            return ParallelBulkWrite.execute(executor.getBackgroundExecutor(), requests, options.getParallelism(), writeConcern,
+                    partition -> operations.bulkWrite(partition, options), operation -> executor.execute(operation, readConcern, null));
+        }
         return executor.execute(operations.bulkWrite(requests, options), readConcern, clientSession);
     }
 
@@ -502,9 +561,71 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
 
     private InsertManyResult executeInsertMany(@Nullable final ClientSession clientSession, final List<? extends TDocument> documents,
                                    final InsertManyOptions options) {
+        notNull("documents", documents);
+        if (ParallelBulkWrite.isApplicable(clientSession, options.isOrdered(), options.getParallelism(), documents.size())) {
+            return toInsertManyResult(ParallelBulkWrite.execute(executor.getBackgroundExecutor(), documents, options.getParallelism(),
+                    writeConcern, partition -> operations.insertMany(partition, options),
+                    operation -> executor.execute(operation, readConcern, null)));
+        }
         return toInsertManyResult(executor.execute(operations.insertMany(documents, options), readConcern, clientSession));
     }
 
+    @Override
+    public long insertJson(final Reader reader, final int batchSize) {
+        return insertJson(reader, batchSize, new InsertManyOptions());
+    }
+
+    @Override
+    public long insertJson(final Reader reader, final int batchSize, final InsertManyOptions options) {
+        return executeInsertJson(null, reader, batchSize, options);
+    }
+
+    @Override
+    public long insertJson(final ClientSession clientSession, final Reader reader, final int batchSize) {
+        return insertJson(clientSession, reader, batchSize, new InsertManyOptions());
+    }
+
+    @Override
+    public long insertJson(final ClientSession clientSession, final Reader reader, final int batchSize,
+                           final InsertManyOptions options) {
+        notNull("clientSession", clientSession);
+        return executeInsertJson(clientSession, reader, batchSize, options);
+    }
+
+    private long executeInsertJson(@Nullable final ClientSession clientSession, final Reader reader, final int batchSize,
+                                   final InsertManyOptions options) {
+        notNull("reader", reader);
+        isTrueArgument("batchSize > 0", batchSize > 0);
+        notNull("options", options);
+        MongoCollection<RawBsonDocument> rawCollection = withDocumentClass(RawBsonDocument.class);
+        JsonTranscoder transcoder = new JsonTranscoder(reader);
+        List<RawBsonDocument> batch = new ArrayList<>();
+        long insertedCount = 0;
+        RawBsonDocument document;
+        while ((document = transcoder.nextRawDocument()) != null) {
+            batch.add(document);
+            if (batch.size() == batchSize) {
+                insertedCount += insertBatch(rawCollection, clientSession, batch, options);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertedCount += insertBatch(rawCollection, clientSession, batch, options);
+        }
+        return insertedCount;
+    }
+
+    private static int insertBatch(final MongoCollection<RawBsonDocument> rawCollection, @Nullable final ClientSession clientSession,
+                                   final List<RawBsonDocument> batch, final InsertManyOptions options) {
+        if (clientSession == null) {
+            rawCollection.insertMany(batch, options);
+        } else {
+            rawCollection.insertMany(clientSession, batch, options);
+        }
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
     @Override
     public DeleteResult deleteOne(final Bson filter) {
         return deleteOne(filter, new DeleteOptions());
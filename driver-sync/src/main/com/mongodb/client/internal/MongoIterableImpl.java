@@ -23,12 +23,21 @@ import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoIterable;
 import com.mongodb.internal.operation.BatchCursor;
+import com.mongodb.internal.operation.LazyDecodingBatchCursor;
+import com.mongodb.internal.operation.PrefetchingBatchCursor;
 import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.lang.Nullable;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 /**
@@ -41,6 +50,8 @@ public abstract class MongoIterableImpl<TResult> implements MongoIterable<TResul
     private final ReadPreference readPreference;
     private final boolean retryReads;
     private Integer batchSize;
+    private int prefetchBatches;
+    private boolean decodeLazily;
 
     public MongoIterableImpl(@Nullable final ClientSession clientSession, final OperationExecutor executor, final ReadConcern readConcern,
                              final ReadPreference readPreference, final boolean retryReads) {
@@ -53,6 +64,40 @@ public abstract class MongoIterableImpl<TResult> implements MongoIterable<TResul
 
     public abstract ReadOperation<BatchCursor<TResult>> asReadOperation();
 
+    /**
+     * Subclasses that return a decoder from {@link #getResultDecoder()} must override this to return an operation equivalent to
+     * {@link #asReadOperation()} whose results are not decoded.
+     */
+    ReadOperation<BatchCursor<RawBsonDocument>> asRawReadOperation() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gets the decoder of the results if they may be decoded separately from the operation, in which case {@link #spliterator()}
+     * decodes them on the threads that process them, and they may be decoded lazily.
+     */
+    @Nullable
+    Decoder<TResult> getResultDecoder() {
+        return null;
+    }
+
+    /**
+     * @return the decoder of the result class, or null if decoding the results separately would not help, because they are raw
+     * documents, or is impossible, because the registry has no codec for raw documents
+     */
+    @Nullable
+    static <T> Decoder<T> getSeparateDecoder(final CodecRegistry codecRegistry, final Class<T> resultClass) {
+        if (resultClass == RawBsonDocument.class) {
+            return null;
+        }
+        try {
+            codecRegistry.get(RawBsonDocument.class);
+        } catch (CodecConfigurationException e) {
+            return null;
+        }
+        return codecRegistry.get(resultClass);
+    }
+
     @Nullable
     ClientSession getClientSession() {
         return clientSession;
@@ -79,6 +124,23 @@ public abstract class MongoIterableImpl<TResult> implements MongoIterable<TResul
         return batchSize;
     }
 
+    int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    void setPrefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        this.prefetchBatches = prefetchBatches;
+    }
+
+    boolean isDecodeLazily() {
+        return decodeLazily;
+    }
+
+    void setDecodeLazily(final boolean decodeLazily) {
+        this.decodeLazily = decodeLazily;
+    }
+
     @Override
     public MongoIterable<TResult> batchSize(final int batchSize) {
         this.batchSize = batchSize;
@@ -95,6 +157,24 @@ public abstract class MongoIterableImpl<TResult> implements MongoIterable<TResul
         return iterator();
     }
 
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return batchSpliterator();
+    }
+
+    @Override
+    public Stream<TResult> stream() {
+        return batchSpliterator().stream();
+    }
+
+    private BatchSpliterator<?, TResult> batchSpliterator() {
+        Decoder<TResult> decoder = getResultDecoder();
+        if (decoder == null) {
+            return new BatchSpliterator<>(this::iterator, result -> result);
+        }
+        return new BatchSpliterator<>(() -> new MongoBatchCursorAdapter<>(execute(asRawReadOperation())), raw -> raw.decode(decoder));
+    }
+
     @Nullable
     @Override
     public TResult first() {
@@ -127,6 +207,15 @@ public abstract class MongoIterableImpl<TResult> implements MongoIterable<TResul
     }
 
     private BatchCursor<TResult> execute() {
-        return executor.execute(asReadOperation(), readPreference, readConcern, clientSession);
+        Decoder<TResult> decoder = decodeLazily ? getResultDecoder() : null;
+        return decoder == null ? execute(asReadOperation()) : new LazyDecodingBatchCursor<>(execute(asRawReadOperation()), decoder);
+    }
+
+    private <T> BatchCursor<T> execute(final ReadOperation<BatchCursor<T>> operation) {
+        BatchCursor<T> batchCursor = executor.execute(operation, readPreference, readConcern, clientSession);
+        // A session must not be used by more than one thread at a time, so cursors of explicit sessions are never prefetched
+        return prefetchBatches > 0 && clientSession == null
+                ? new PrefetchingBatchCursor<>(batchCursor, prefetchBatches, executor.getBackgroundExecutor())
+                : batchCursor;
     }
 }
@@ -23,6 +23,8 @@ import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.WriteOperation;
 import com.mongodb.lang.Nullable;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * An interface describing the execution of a read or a write operation.
  *
@@ -73,4 +75,12 @@ public interface OperationExecutor {
      * @return the result of executing the operation.
      */
     <T> T execute(WriteOperation<T> operation, ReadConcern readConcern, @Nullable ClientSession session);
+
+    /**
+     * Gets the executor of the tasks that operations run in the background, such as prefetching the batches of a cursor.  It is owned
+     * by the client, which shuts it down when it is closed.
+     *
+     * @return the executor
+     */
+    ExecutorService getBackgroundExecutor();
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.ClientSession;
+import com.mongodb.internal.connection.BulkWriteBatchCombiner;
+import com.mongodb.internal.connection.IndexMap;
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Executes an unordered bulk write as several operations, one per contiguous partition of the write requests, over separate
+ * connections, and combines their results with a {@link BulkWriteBatchCombiner} as if a single operation had executed all of them.
+ *
+ * <p>Each partition is executed with its own implicit session, because concurrent retryable writes must not share a session.
+ * Consequently each partition is retried independently of the others.</p>
+ */
+final class ParallelBulkWrite {
+    /**
+     * Requests are not split into partitions smaller than this, so that small bulk writes are not slowed down.
+     */
+    static final int MIN_PARTITION_SIZE = 1000;
+
+    static boolean isApplicable(@Nullable final ClientSession clientSession, final boolean ordered, final int parallelism,
+            final int requestCount) {
+        return clientSession == null && !ordered && getPartitionCount(parallelism, requestCount) > 1;
+    }
+
+    /**
+     * All operations are created before any of them is executed, so that invalid requests are reported without writing anything.  The
+     * first partition is executed on the calling thread, and the others on the {@code executor}.
+     *
+     * @param executor the executor of the partitions other than the first, which is owned by the client
+     * @param requests the write requests
+     * @param parallelism the maximum number of partitions to execute concurrently
+     * @param writeConcern the write concern of the operations
+     * @param operationFactory creates an unordered operation for a partition of the requests
+     * @param operationExecutor executes an operation with an implicit session
+     * @return the combined result
+     * @param <T> the type of the requests
+     * @param <O> the type of the operations
+     */
+    static <T, O> BulkWriteResult execute(final ExecutorService executor, final List<T> requests, final int parallelism,
+            final WriteConcern writeConcern, final Function<List<T>, O> operationFactory,
+            final Function<O, BulkWriteResult> operationExecutor) {
+        int partitionCount = getPartitionCount(parallelism, requests.size());
+        isTrueArgument("partitionCount > 1", partitionCount > 1);
+        List<Partition<O>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            int start = (int) ((long) requests.size() * i / partitionCount);
+            int end = (int) ((long) requests.size() * (i + 1) / partitionCount);
+            partitions.add(new Partition<>(start, end - start, operationFactory.apply(requests.subList(start, end))));
+        }
+
+        List<Future<?>> futures = partitions.subList(1, partitionCount).stream()
+                .map(partition -> executor.submit(() -> partition.execute(operationExecutor)))
+                .collect(toList());
+        partitions.get(0).execute(operationExecutor);
+        awaitAll(futures);
+        return combine(partitions, writeConcern);
+    }
+
+    private static void awaitAll(final List<Future<?>> futures) {
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (InterruptedException e) {
+                futures.subList(i, futures.size()).forEach(future -> future.cancel(true));
+                throw interruptAndCreateMongoInterruptedException("Interrupted while waiting for a bulk write to complete", e);
+            } catch (ExecutionException e) {
+                Throwable cause = assertNotNull(e.getCause());
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    private static BulkWriteResult combine(final List<? extends Partition<?>> partitions, final WriteConcern writeConcern) {
+        RuntimeException failure = null;
+        ServerAddress serverAddress = null;
+        for (Partition<?> partition : partitions) {
+            RuntimeException partitionFailure = partition.failure;
+            if (partitionFailure instanceof MongoBulkWriteException) {
+                if (serverAddress == null) {
+                    serverAddress = ((MongoBulkWriteException) partitionFailure).getServerAddress();
+                }
+            } else if (partitionFailure != null) {
+                if (failure == null) {
+                    failure = partitionFailure;
+                } else {
+                    failure.addSuppressed(partitionFailure);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        // The combiner reads the counts of every result, which an unacknowledged result does not have
+        if (!writeConcern.isAcknowledged()) {
+            return BulkWriteResult.unacknowledged();
+        }
+
+        // The server address is only used to report write errors, which are always accompanied by an address
+        BulkWriteBatchCombiner combiner = new BulkWriteBatchCombiner(serverAddress == null ? new ServerAddress() : serverAddress, false,
+                writeConcern);
+        for (Partition<?> partition : partitions) {
+            if (partition.failure != null) {
+                MongoBulkWriteException e = (MongoBulkWriteException) partition.failure;
+                combiner.addErrorResult(new MongoBulkWriteException(partition.offsetIndices(e.getWriteResult()), e.getWriteErrors(),
+                        e.getWriteConcernError(), e.getServerAddress(), e.getErrorLabels()), IndexMap.create(partition.offset,
+                        partition.size));
+            } else {
+                combiner.addResult(partition.offsetIndices(assertNotNull(partition.result)));
+            }
+        }
+        return combiner.getResult();
+    }
+
+    private static int getPartitionCount(final int parallelism, final int requestCount) {
+        return Math.max(1, Math.min(parallelism, requestCount / MIN_PARTITION_SIZE));
+    }
+
+    private static final class Partition<O> {
+        private final int offset;
+        private final int size;
+        private final O operation;
+        @Nullable
+        private volatile BulkWriteResult result;
+        @Nullable
+        private volatile RuntimeException failure;
+
+        Partition(final int offset, final int size, final O operation) {
+            this.offset = offset;
+            this.size = size;
+            this.operation = operation;
+        }
+
+        void execute(final Function<O, BulkWriteResult> operationExecutor) {
+            try {
+                result = operationExecutor.apply(operation);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * The indices in the result of a partition are relative to the partition.
+         */
+        BulkWriteResult offsetIndices(final BulkWriteResult result) {
+            if (!result.wasAcknowledged()) {
+                return result;
+            }
+            return BulkWriteResult.acknowledged(result.getInsertedCount(), result.getMatchedCount(), result.getDeletedCount(),
+                    result.getModifiedCount(),
+                    result.getUpserts().stream().map(upsert -> new BulkWriteUpsert(upsert.getIndex() + offset, upsert.getId()))
+                            .collect(toList()),
+                    result.getInserts().stream().map(insert -> new BulkWriteInsert(insert.getIndex() + offset, insert.getId()))
+                            .collect(toList()));
+        }
+    }
+}
@@ -214,4 +214,19 @@ class MongoClientSpecification extends Specification {
         cleanup:
         client?.close()
     }
+
+    def 'should shut down the background executor when closed'() {
+        given:
+        def client = new MongoClientImpl(Stub(Cluster), null, MongoClientSettings.builder().build(), null)
+        def backgroundExecutor = client.getOperationExecutor().getBackgroundExecutor()
+
+        expect:
+        !backgroundExecutor.isShutdown()
+
+        when:
+        client.close()
+
+        then:
+        backgroundExecutor.isShutdown()
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal
+
+import com.mongodb.ServerAddress
+import com.mongodb.ServerCursor
+import com.mongodb.client.MongoCursor
+import spock.lang.Specification
+
+import java.util.stream.StreamSupport
+
+import static java.util.Spliterator.SIZED
+
+class BatchSpliteratorSpecification extends Specification {
+
+    def 'should not create the cursor until it is used'() {
+        given:
+        def cursor = new BatchedCursor(10, 5)
+        def created = false
+        def spliterator = new BatchSpliterator({ created = true; cursor }, { it })
+
+        expect:
+        !created
+
+        when:
+        spliterator.tryAdvance { }
+
+        then:
+        created
+    }
+
+    def 'should split off the available results'() {
+        given:
+        def cursor = new BatchedCursor(25, 10)
+        def spliterator = new BatchSpliterator({ cursor }, { it })
+
+        when:
+        def batch = spliterator.trySplit()
+
+        then:
+        batch.hasCharacteristics(SIZED)
+        batch.estimateSize() == 10
+        cursor.position == 10
+
+        when:
+        spliterator.tryAdvance { }
+        def secondBatch = spliterator.trySplit()
+
+        then:
+        secondBatch.estimateSize() == 9
+        cursor.position == 20
+    }
+
+    def 'should convert the results when they are consumed'() {
+        given:
+        def converted = []
+        def spliterator = new BatchSpliterator({ new BatchedCursor(10, 10) }, { converted.add(it); it * 2 })
+
+        when:
+        def batch = spliterator.trySplit()
+
+        then:
+        converted.isEmpty()
+
+        when:
+        def elements = []
+        batch.forEachRemaining { elements.add(it) }
+
+        then:
+        converted == (0..<10).collect { it }
+        elements == (0..<10).collect { it * 2 }
+    }
+
+    def 'should close the cursor when it is exhausted'() {
+        given:
+        def cursor = new BatchedCursor(3, 10)
+        def spliterator = new BatchSpliterator({ cursor }, { it })
+
+        when:
+        spliterator.forEachRemaining { }
+
+        then:
+        cursor.closed
+    }
+
+    def 'should close the cursor when closed'() {
+        given:
+        def cursor = new BatchedCursor(30, 10)
+        def spliterator = new BatchSpliterator({ cursor }, { it })
+        spliterator.tryAdvance { }
+
+        when:
+        spliterator.close()
+
+        then:
+        cursor.closed
+        !spliterator.tryAdvance { }
+        spliterator.trySplit() == null
+    }
+
+    def 'should close the cursor when the stream is closed'() {
+        given:
+        def cursor = new BatchedCursor(30, 10)
+        def stream = new BatchSpliterator({ cursor }, { it }).stream()
+
+        when:
+        def first = stream.findFirst()
+        stream.close()
+
+        then:
+        first.get() == 0
+        cursor.closed
+    }
+
+    def 'should stream all the results in order'() {
+        given:
+        def cursor = new BatchedCursor(1000, 101)
+
+        when:
+        def results = StreamSupport.stream(new BatchSpliterator({ cursor }, { it }), parallel).collect()
+
+        then:
+        results == (0..<1000).collect { it }
+        cursor.closed
+
+        where:
+        parallel << [false, true]
+    }
+
+    static class BatchedCursor implements MongoCursor<Integer> {
+        private final int count
+        private final int batchSize
+        int position
+        boolean closed
+
+        BatchedCursor(final int count, final int batchSize) {
+            this.count = count
+            this.batchSize = batchSize
+        }
+
+        @Override
+        void close() {
+            closed = true
+        }
+
+        @Override
+        boolean hasNext() {
+            position < count
+        }
+
+        @Override
+        Integer next() {
+            position++
+        }
+
+        @Override
+        int available() {
+            hasNext() ? Math.min(batchSize - position % batchSize, count - position) : 0
+        }
+
+        @Override
+        Integer tryNext() {
+            hasNext() ? next() : null
+        }
+
+        @Override
+        ServerCursor getServerCursor() {
+            null
+        }
+
+        @Override
+        ServerAddress getServerAddress() {
+            null
+        }
+    }
+}
@@ -65,6 +65,7 @@ import com.mongodb.internal.bulk.InsertRequest
 import com.mongodb.internal.bulk.UpdateRequest
 import com.mongodb.internal.client.model.AggregationLevel
 import com.mongodb.internal.client.model.changestream.ChangeStreamLevel
+import com.mongodb.internal.operation.AggregateOperation
 import com.mongodb.internal.operation.BatchCursor
 import com.mongodb.internal.operation.CountDocumentsOperation
 import com.mongodb.internal.operation.CreateIndexesOperation
@@ -88,6 +89,7 @@ import org.bson.codecs.ValueCodecProvider
 import org.bson.codecs.configuration.CodecConfigurationException
 import org.bson.codecs.configuration.CodecRegistries
 import org.bson.conversions.Bson
+import org.bson.json.JsonParseException
 import spock.lang.Specification
 
 import java.util.concurrent.TimeUnit
@@ -340,6 +342,63 @@ class MongoCollectionSpecification extends Specification {
         session << [null, Stub(ClientSession)]
     }
 
+    def 'should create a FindIterable per partition from the bucket boundaries'() {
+        given:
+        def buckets = [1, 11, 21].collect {
+            new BsonDocument('_id', new BsonDocument('min', new BsonInt32(it)).append('max', new BsonInt32(it + 9)))
+                    .append('count', new BsonInt32(10))
+        }
+        def batchCursor = Stub(BatchCursor) {
+            hasNext() >>> [true, false]
+            next() >> buckets
+        }
+        def executor = new TestOperationExecutor([batchCursor])
+        def collection = new MongoCollectionImpl(namespace, Document, codecRegistry, readPreference, ACKNOWLEDGED,
+                true, true, readConcern, JAVA_LEGACY, null, executor)
+        def filter = new Document('x', 1)
+        def hint = new BsonDocument('a', new BsonInt32(1))
+
+        when:
+        def findIterables = collection.parallelFind(filter, 'a', 3)
+        def operation = executor.getReadOperation() as AggregateOperation
+
+        then:
+        operation.pipeline == [new BsonDocument('$match', new BsonDocument('x', new BsonInt32(1))),
+                               BsonDocument.parse('{$bucketAuto: {groupBy: "$a", buckets: 3}}')]
+        operation.hint == hint
+        operation.allowDiskUse
+        findIterables.size() == 3
+        expect findIterables[0], isTheSameAs(new FindIterableImpl<>(null, namespace, Document, Document, codecRegistry,
+                readPreference, readConcern, executor, filter, true).hint(hint).max(new BsonDocument('a', new BsonInt32(11))))
+        expect findIterables[1], isTheSameAs(new FindIterableImpl<>(null, namespace, Document, Document, codecRegistry,
+                readPreference, readConcern, executor, filter, true).hint(hint).min(new BsonDocument('a', new BsonInt32(11)))
+                .max(new BsonDocument('a', new BsonInt32(21))))
+        expect findIterables[2], isTheSameAs(new FindIterableImpl<>(null, namespace, Document, Document, codecRegistry,
+                readPreference, readConcern, executor, filter, true).hint(hint).min(new BsonDocument('a', new BsonInt32(21))))
+    }
+
+    def 'should create a single unbounded FindIterable if there is a single partition'() {
+        given:
+        def executor = new TestOperationExecutor([])
+        def collection = new MongoCollectionImpl(namespace, Document, codecRegistry, readPreference, ACKNOWLEDGED,
+                true, true, readConcern, JAVA_LEGACY, null, executor)
+
+        when:
+        def findIterables = collection.parallelFind(new Document(), 1)
+
+        then:
+        findIterables.size() == 1
+        expect findIterables[0], isTheSameAs(new FindIterableImpl<>(null, namespace, Document, Document, codecRegistry,
+                readPreference, readConcern, executor, new Document(), true))
+        executor.getReadOperation() == null
+
+        when:
+        collection.parallelFind(new Document(), 0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def 'should create AggregateIterable correctly'() {
         given:
         def executor = new TestOperationExecutor([])
@@ -671,6 +730,68 @@ class MongoCollectionSpecification extends Specification {
         thrown(IllegalArgumentException)
     }
 
+    def 'insertJson should insert the transcoded documents in batches'() {
+        given:
+        def executor = new TestOperationExecutor((1..2).collect {
+            writeConcern.isAcknowledged() ? acknowledged(INSERT, 0, 0, [], []) : unacknowledged()
+        })
+        def collection = new MongoCollectionImpl(namespace, Document, codecRegistry, readPreference, writeConcern,
+                true, true, readConcern, JAVA_LEGACY, null, executor)
+        def json = '{"_id": 1, "a": {"$numberLong": "2"}}\n{"_id": 2}\n\n{"_id": 3, "b": [1, 2]}\n'
+        def expectedOperation = { List<BsonDocument> documents ->
+            new MixedBulkWriteOperation(namespace, documents.collect { new InsertRequest(it) }, false, writeConcern, true)
+        }
+        def insertJsonMethod = collection.&insertJson
+
+        when:
+        def insertedCount = execute(insertJsonMethod, session, new StringReader(json), 2, new InsertManyOptions().ordered(false))
+
+        then:
+        insertedCount == 3
+        expect executor.getWriteOperation(), isTheSameAs(expectedOperation([
+                BsonDocument.parse('{"_id": 1, "a": {"$numberLong": "2"}}'), BsonDocument.parse('{"_id": 2}')]))
+        executor.getClientSession() == session
+        expect executor.getWriteOperation(), isTheSameAs(expectedOperation([BsonDocument.parse('{"_id": 3, "b": [1, 2]}')]))
+        executor.getClientSession() == session
+
+        when:
+        insertedCount = execute(insertJsonMethod, session, new StringReader(' \n'), 2)
+
+        then:
+        insertedCount == 0
+        executor.getWriteOperation() == null
+
+        where:
+        [writeConcern, session] << [
+                [ACKNOWLEDGED, UNACKNOWLEDGED],
+                [null, Stub(ClientSession)]
+        ].combinations()
+    }
+
+    def 'should validate the insertJson arguments correctly'() {
+        given:
+        def collection = new MongoCollectionImpl(namespace, Document, codecRegistry, readPreference, ACKNOWLEDGED,
+                true, true, readConcern, JAVA_LEGACY, null, Stub(OperationExecutor))
+
+        when:
+        collection.insertJson(null, 1)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        collection.insertJson(new StringReader('{}'), 0)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        collection.insertJson(new StringReader('[1]'), 1)
+
+        then:
+        thrown(JsonParseException)
+    }
+
     def 'deleteOne should use MixedBulkWriteOperation correctly'() {
         given:
         def executor = new TestOperationExecutor((1..2).collect {
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal
+
+import com.mongodb.MongoBulkWriteException
+import com.mongodb.MongoSocketException
+import com.mongodb.ServerAddress
+import com.mongodb.WriteConcern
+import com.mongodb.bulk.BulkWriteError
+import com.mongodb.bulk.BulkWriteInsert
+import com.mongodb.bulk.BulkWriteResult
+import com.mongodb.client.ClientSession
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+import static com.mongodb.client.internal.ParallelBulkWrite.MIN_PARTITION_SIZE
+
+class ParallelBulkWriteSpecification extends Specification {
+    private final ExecutorService executor = Executors.newCachedThreadPool()
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    def 'should only apply to large unordered writes without an explicit session'() {
+        expect:
+        ParallelBulkWrite.isApplicable(clientSession, ordered, parallelism, requestCount) == applicable
+
+        where:
+        clientSession       | ordered | parallelism | requestCount           | applicable
+        null                | false   | 4           | 4 * MIN_PARTITION_SIZE | true
+        null                | false   | 4           | 2 * MIN_PARTITION_SIZE | true
+        null                | false   | 4           | MIN_PARTITION_SIZE     | false
+        null                | false   | 1           | 4 * MIN_PARTITION_SIZE | false
+        null                | true    | 4           | 4 * MIN_PARTITION_SIZE | false
+        Stub(ClientSession) | false   | 4           | 4 * MIN_PARTITION_SIZE | false
+    }
+
+    def 'should execute each partition concurrently and combine the results'() {
+        given:
+        def requests = (0..<(3 * MIN_PARTITION_SIZE + 1)).collect { it }
+        def threads = ConcurrentHashMap.newKeySet()
+
+        when:
+        def result = ParallelBulkWrite.execute(executor, requests, 3, WriteConcern.ACKNOWLEDGED, { it }, { List<Integer> partition ->
+            threads.add(Thread.currentThread())
+            insertResult(partition)
+        })
+
+        then:
+        threads.size() == 3
+        result.insertedCount == requests.size()
+        result.inserts*.index == requests
+        result.inserts*.id == requests.collect { new BsonInt32(it) }
+    }
+
+    def 'should create every operation before executing any of them'() {
+        given:
+        def requests = (0..<(2 * MIN_PARTITION_SIZE)).collect { it }
+        def executed = false
+
+        when:
+        ParallelBulkWrite.execute(executor, requests, 2, WriteConcern.ACKNOWLEDGED, { List<Integer> partition ->
+            if (partition.first() != 0) {
+                throw new IllegalArgumentException('invalid request')
+            }
+            partition
+        }, { List<Integer> partition ->
+            executed = true
+            insertResult(partition)
+        })
+
+        then:
+        thrown(IllegalArgumentException)
+        !executed
+    }
+
+    def 'should map the indices of write errors to the original requests'() {
+        given:
+        def requests = (0..<(2 * MIN_PARTITION_SIZE)).collect { it }
+        def serverAddress = new ServerAddress('host', 27018)
+
+        when:
+        ParallelBulkWrite.execute(executor, requests, 2, WriteConcern.ACKNOWLEDGED, { it }, { List<Integer> partition ->
+            if (partition.first() == 0) {
+                return insertResult(partition)
+            }
+            throw new MongoBulkWriteException(insertResult(partition.subList(0, partition.size() - 1)),
+                    [new BulkWriteError(11000, 'duplicate key', new BsonDocument(), 1)], null, serverAddress, [] as Set)
+        })
+
+        then:
+        def e = thrown(MongoBulkWriteException)
+        e.serverAddress == serverAddress
+        e.writeErrors*.index == [MIN_PARTITION_SIZE + 1]
+        e.writeResult.insertedCount == 2 * MIN_PARTITION_SIZE - 1
+    }
+
+    def 'should rethrow the first failure after all partitions have completed'() {
+        given:
+        def requests = (0..<(3 * MIN_PARTITION_SIZE)).collect { it }
+        def completed = ConcurrentHashMap.newKeySet()
+        def failure = new MongoSocketException('failed', new ServerAddress())
+
+        when:
+        ParallelBulkWrite.execute(executor, requests, 3, WriteConcern.ACKNOWLEDGED, { it }, { List<Integer> partition ->
+            if (partition.first() == 0) {
+                throw failure
+            }
+            Thread.sleep(100)
+            completed.add(partition.first())
+            insertResult(partition)
+        })
+
+        then:
+        def e = thrown(MongoSocketException)
+        e.is(failure)
+        completed.size() == 2
+    }
+
+    def 'should return an unacknowledged result for an unacknowledged write concern'() {
+        given:
+        def requests = (0..<(2 * MIN_PARTITION_SIZE)).collect { it }
+
+        when:
+        def result = ParallelBulkWrite.execute(executor, requests, 2, WriteConcern.UNACKNOWLEDGED, { it },
+                { BulkWriteResult.unacknowledged() })
+
+        then:
+        !result.wasAcknowledged()
+    }
+
+    private static BulkWriteResult insertResult(final List<Integer> partition) {
+        BulkWriteResult.acknowledged(partition.size(), 0, 0, 0, [],
+                (0..<partition.size()).collect { new BulkWriteInsert(it, new BsonInt32(partition[it])) })
+    }
+}
@@ -21,13 +21,18 @@ import com.mongodb.ReadPreference;
 import com.mongodb.client.ClientSession;
 import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.WriteOperation;
+import com.mongodb.internal.thread.DaemonThreadFactory;
 import com.mongodb.lang.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @SuppressWarnings("rawtypes")
 public class TestOperationExecutor implements OperationExecutor {
+    private static final ExecutorService BACKGROUND_EXECUTOR = Executors.newCachedThreadPool(
+            new DaemonThreadFactory("TestOperationExecutor"));
 
     private final List<Object> responses;
     private final List<ClientSession> clientSessions = new ArrayList<>();
@@ -68,6 +73,11 @@ public class TestOperationExecutor implements OperationExecutor {
         return getResponse();
     }
 
+    @Override
+    public ExecutorService getBackgroundExecutor() {
+        return BACKGROUND_EXECUTOR;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T getResponse() {
         Object response = responses.remove(0);